@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.hapi.fees.calc;
+
+import com.hedera.node.app.hapi.utils.fee.FeeObject;
+
+/**
+ * The fees estimated for a batch of operations, held in one flat {@code long[]} of (node, network,
+ * service) fee triples; so the batch result is a single array, and totals come from a tight
+ * primitive loop. (The estimate of each operation may still be computed as a {@link FeeObject}
+ * before being {@link #set(int, FeeObject)} here.)
+ */
+public final class FeeEstimates {
+    private static final int FEES_PER_ESTIMATE = 3;
+    private static final int NODE_FEE_OFFSET = 0;
+    private static final int NETWORK_FEE_OFFSET = 1;
+    private static final int SERVICE_FEE_OFFSET = 2;
+
+    private final long[] fees;
+
+    /**
+     * Creates room for the given number of estimates, all initially zero.
+     *
+     * @param n the number of operations in the batch
+     */
+    public FeeEstimates(final int n) {
+        fees = new long[Math.multiplyExact(n, FEES_PER_ESTIMATE)];
+    }
+
+    public int size() {
+        return fees.length / FEES_PER_ESTIMATE;
+    }
+
+    public void set(final int i, final long nodeFee, final long networkFee, final long serviceFee) {
+        final var base = i * FEES_PER_ESTIMATE;
+        fees[base + NODE_FEE_OFFSET] = nodeFee;
+        fees[base + NETWORK_FEE_OFFSET] = networkFee;
+        fees[base + SERVICE_FEE_OFFSET] = serviceFee;
+    }
+
+    public void set(final int i, final FeeObject estimate) {
+        set(i, estimate.getNodeFee(), estimate.getNetworkFee(), estimate.getServiceFee());
+    }
+
+    public long nodeFee(final int i) {
+        return fees[i * FEES_PER_ESTIMATE + NODE_FEE_OFFSET];
+    }
+
+    public long networkFee(final int i) {
+        return fees[i * FEES_PER_ESTIMATE + NETWORK_FEE_OFFSET];
+    }
+
+    public long serviceFee(final int i) {
+        return fees[i * FEES_PER_ESTIMATE + SERVICE_FEE_OFFSET];
+    }
+
+    public long totalFee(final int i) {
+        final var base = i * FEES_PER_ESTIMATE;
+        return fees[base + NODE_FEE_OFFSET]
+                + fees[base + NETWORK_FEE_OFFSET]
+                + fees[base + SERVICE_FEE_OFFSET];
+    }
+
+    /**
+     * Returns the total fee of each operation in the batch.
+     *
+     * @return the total fees, in batch order
+     */
+    public long[] totalFees() {
+        final var totals = new long[size()];
+        for (int i = 0, base = 0; i < totals.length; i++, base += FEES_PER_ESTIMATE) {
+            totals[i] = fees[base] + fees[base + 1] + fees[base + 2];
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the estimate of a single operation as a {@link FeeObject}.
+     *
+     * @param i the index of the operation in the batch
+     * @return its fees
+     */
+    public FeeObject get(final int i) {
+        return new FeeObject(nodeFee(i), networkFee(i), serviceFee(i));
+    }
+}
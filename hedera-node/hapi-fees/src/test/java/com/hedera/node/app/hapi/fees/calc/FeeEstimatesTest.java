@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.hapi.fees.calc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.node.app.hapi.utils.fee.FeeObject;
+import org.junit.jupiter.api.Test;
+
+class FeeEstimatesTest {
+    @Test
+    void holdsFeesOfEachEstimate() {
+        final var subject = new FeeEstimates(2);
+
+        subject.set(0, 1L, 2L, 3L);
+        subject.set(1, new FeeObject(40L, 50L, 60L));
+
+        assertEquals(2, subject.size());
+        assertEquals(1L, subject.nodeFee(0));
+        assertEquals(2L, subject.networkFee(0));
+        assertEquals(3L, subject.serviceFee(0));
+        assertEquals(6L, subject.totalFee(0));
+        assertEquals(40L, subject.get(1).getNodeFee());
+        assertEquals(50L, subject.get(1).getNetworkFee());
+        assertEquals(60L, subject.get(1).getServiceFee());
+        assertEquals(150L, subject.totalFee(1));
+        assertArrayEquals(new long[] {6L, 150L}, subject.totalFees());
+    }
+
+    @Test
+    void startsWithZeroFees() {
+        final var subject = new FeeEstimates(3);
+
+        assertArrayEquals(new long[3], subject.totalFees());
+    }
+}
@@ -15,6 +15,7 @@
  */
 plugins {
     id("com.hedera.hashgraph.conventions")
+    id("com.hedera.hashgraph.benchmark-conventions")
     `java-test-fixtures`
 }
 
@@ -43,4 +44,6 @@ dependencies {
     testCompileOnly(libs.spotbugs.annotations)
 
     testFixturesCompileOnly(libs.spotbugs.annotations)
+
+    jmhCompileOnly(libs.spotbugs.annotations)
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.spi.state;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the three ways the merkle state can serialize a key: through a {@link DataInputStream}
+ * or {@link DataOutputStream}, as when saving state; through the default {@link ByteBuffer}
+ * methods of {@link Serdes}, which adapt the buffer to a stream; and through {@link ByteBuffer}
+ * methods the {@link Serdes} overrides to work on the buffer directly. The {@code fastEquals}
+ * benchmarks compare a key with its serialized form, as a virtual map does for every key in a
+ * bucket it searches.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class SerdesBench {
+    private static final Key KEY = new Key(0, 0, 1_234_567L);
+    private static final Key OTHER_KEY = new Key(0, 0, 1_234_568L);
+
+    private final Serdes<Key> adapted = new StreamKeySerdes();
+    private final Serdes<Key> direct = new DirectKeySerdes();
+
+    private byte[] serialized;
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        buffer = ByteBuffer.allocate(256);
+        direct.write(KEY, buffer);
+        serialized = new byte[buffer.flip().remaining()];
+        buffer.get(serialized);
+    }
+
+    @Benchmark
+    public void streamRoundTrip(final Blackhole blackhole) throws IOException {
+        final var out = new ByteArrayOutputStream(serialized.length);
+        adapted.write(KEY, new DataOutputStream(out));
+        final var in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        blackhole.consume(adapted.parse(in));
+    }
+
+    @Benchmark
+    public void adaptedRoundTrip(final Blackhole blackhole) throws IOException {
+        blackhole.consume(roundTrip(adapted));
+    }
+
+    @Benchmark
+    public void directRoundTrip(final Blackhole blackhole) throws IOException {
+        blackhole.consume(roundTrip(direct));
+    }
+
+    @Benchmark
+    public void adaptedFastEquals(final Blackhole blackhole) {
+        blackhole.consume(adapted.fastEquals(OTHER_KEY, ByteBuffer.wrap(serialized)));
+    }
+
+    @Benchmark
+    public void directFastEquals(final Blackhole blackhole) {
+        blackhole.consume(direct.fastEquals(OTHER_KEY, ByteBuffer.wrap(serialized)));
+    }
+
+    private Key roundTrip(final Serdes<Key> serdes) throws IOException {
+        buffer.clear();
+        serdes.write(KEY, buffer);
+        return serdes.parse(buffer.flip());
+    }
+
+    private record Key(long shard, long realm, long num) {}
+
+    /** A {@link Serdes} that leaves the {@link ByteBuffer} methods to their defaults. */
+    private static class StreamKeySerdes implements Serdes<Key> {
+        @NonNull
+        @Override
+        public Key parse(@NonNull final DataInput input) throws IOException {
+            return new Key(input.readLong(), input.readLong(), input.readLong());
+        }
+
+        @Override
+        public void write(@NonNull final Key item, @NonNull final DataOutput output)
+                throws IOException {
+            output.writeLong(item.shard());
+            output.writeLong(item.realm());
+            output.writeLong(item.num());
+        }
+
+        @Override
+        public int measure(@NonNull final DataInput input) {
+            return Long.BYTES * 3;
+        }
+
+        @Override
+        public int typicalSize() {
+            return Long.BYTES * 3;
+        }
+
+        @Override
+        public boolean fastEquals(@NonNull final Key item, @NonNull final DataInput input) {
+            try {
+                return item.equals(parse(input));
+            } catch (final IOException e) {
+                return false;
+            }
+        }
+    }
+
+    /** A {@link Serdes} that overrides the {@link ByteBuffer} methods. */
+    private static final class DirectKeySerdes extends StreamKeySerdes {
+        @NonNull
+        @Override
+        public Key parse(@NonNull final ByteBuffer buffer) {
+            return new Key(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        @Override
+        public void write(@NonNull final Key item, @NonNull final ByteBuffer buffer) {
+            buffer.putLong(item.shard()).putLong(item.realm()).putLong(item.num());
+        }
+
+        @Override
+        public int measure(@NonNull final ByteBuffer buffer) {
+            return Long.BYTES * 3;
+        }
+
+        @Override
+        public boolean fastEquals(@NonNull final Key item, @NonNull final ByteBuffer buffer) {
+            return buffer.getLong() == item.shard()
+                    && buffer.getLong() == item.realm()
+                    && buffer.getLong() == item.num();
+        }
+    }
+}
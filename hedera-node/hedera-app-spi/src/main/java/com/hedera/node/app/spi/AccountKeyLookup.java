@@ -18,6 +18,7 @@ package com.hedera.node.app.spi;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
 
 /**
  * An interface used for looking up Keys on the account. NOTE: This class can be modified to return
@@ -76,4 +77,14 @@ public interface AccountKeyLookup {
      */
     @NonNull
     KeyOrLookupFailureReason getKeyIfReceiverSigRequired(@NonNull final ContractID idOrAlias);
+
+    /**
+     * Hints that the keys of the given accounts are about to be fetched, so that an implementation
+     * backed by a slow data source can read all the accounts at once. Does nothing by default.
+     *
+     * @param idsOrAliases account ids whose keys will be fetched
+     */
+    default void warm(@NonNull final Collection<AccountID> idsOrAliases) {
+        // No-op by default
+    }
 }
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.hedera.node.app.state.merkle.data;
+package com.hedera.node.app.spi.state;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.DataInput;
@@ -22,15 +22,16 @@ import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
- * An adapter class that adapts a {@link ByteBuffer} to be a {@link DataInput}.
+ * An adapter class that adapts a {@link ByteBuffer} to be a {@link DataInput}. It backs the
+ * default {@link ByteBuffer} methods of {@link Serdes}.
  *
  * <p>NOTE: This class is temporary. It will be removed when we move to the PBJ generated classes,
  * since they have another DataInput type class that we will use instead.
  */
-public class ByteBufferDataInput implements DataInput {
+class ByteBufferDataInput implements DataInput {
     private final ByteBuffer buffer;
 
-    public ByteBufferDataInput(@NonNull final ByteBuffer buffer) {
+    ByteBufferDataInput(@NonNull final ByteBuffer buffer) {
         this.buffer = Objects.requireNonNull(buffer);
     }
 
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.hedera.node.app.state.merkle.data;
+package com.hedera.node.app.spi.state;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.DataOutput;
@@ -21,15 +21,16 @@ import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
- * An adapter class that adapts a {@link ByteBuffer} to be a {@link DataOutput}.
+ * An adapter class that adapts a {@link ByteBuffer} to be a {@link DataOutput}. It backs the
+ * default {@link ByteBuffer} methods of {@link Serdes}.
  *
  * <p>NOTE: This class is temporary. It will be removed when we move to the PBJ generated classes,
  * since they have another DataOutput type class that we will use instead.
  */
-public class ByteBufferDataOutput implements DataOutput {
+class ByteBufferDataOutput implements DataOutput {
     private final ByteBuffer buffer;
 
-    public ByteBufferDataOutput(@NonNull final ByteBuffer buffer) {
+    ByteBufferDataOutput(@NonNull final ByteBuffer buffer) {
         this.buffer = Objects.requireNonNull(buffer);
     }
 
@@ -17,7 +17,10 @@ package com.hedera.node.app.spi.state;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -67,6 +70,39 @@ public interface ReadableKVState<K extends Comparable<K>, V> {
     @Nullable
     V get(@NonNull K key);
 
+    /**
+     * Gets the values associated with all the given keys in a <strong>READ-ONLY</strong> way, as
+     * if by calling {@link #get(Comparable)} for each key; but lets implementations look up the
+     * keys they have not yet read in one batch, possibly in parallel.
+     *
+     * @param keys The keys. Neither the collection nor any key can be null.
+     * @return A map from each key that was found to its value; keys not found are omitted.
+     * @throws NullPointerException if the collection or any key is null.
+     */
+    @NonNull
+    default Map<K, V> getAll(@NonNull final Collection<K> keys) {
+        final Map<K, V> values = new HashMap<>();
+        for (final var key : keys) {
+            final var value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads the values of all the given keys, so that later calls to {@link #get(Comparable)} for
+     * these keys are served from memory. Meant for pre-handle, which knows every key a transaction
+     * will need before it needs them.
+     *
+     * @param keys The keys. Neither the collection nor any key can be null.
+     * @throws NullPointerException if the collection or any key is null.
+     */
+    default void warm(@NonNull final Collection<K> keys) {
+        getAll(keys);
+    }
+
     /**
      * Used during migration ONLY. PLEASE DO NOT COME TO RELY ON THIS METHOD! It will be hopelessly
      * slow on large data sets like on disk!
@@ -17,16 +17,33 @@ package com.hedera.node.app.spi.state;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A base class for implementations of {@link ReadableKVState} and {@link WritableKVState}.
  *
+ * <p>The read cache is safe for concurrent use, so a single {@link ReadableKVStateBase} can be
+ * shared by all the threads running pre-handle. (The modifications buffered by a {@link
+ * WritableKVStateBase} are not; it must still be used from one thread at a time.)
+ *
  * @param <K> The key type
  * @param <V> The value type
  */
 public abstract class ReadableKVStateBase<K extends Comparable<K>, V>
         implements ReadableKVState<K, V> {
+    /** Stands in for a null value in the read cache, which cannot hold nulls */
+    private static final Object NOT_FOUND = new Object();
+
     /** The state key, which cannot be null */
     private final String stateKey;
 
@@ -35,10 +52,10 @@ public abstract class ReadableKVStateBase<K extends Comparable<K>, V>
      * twice, rather than going to the underlying merkle data structures to read the data a second
      * time, we simply return it from the cache. We also keep track of all keys read, which is
      * critical for dealing with validating what we read during pre-handle with what may have
-     * changed before we got to handle transaction. If the value is "null", this means it was NOT
-     * FOUND when we looked it up.
+     * changed before we got to handle transaction. If the value is {@link #NOT_FOUND}, this means
+     * it was NOT FOUND when we looked it up.
      */
-    private final Map<K, V> readCache = new HashMap<>();
+    private final ConcurrentMap<K, Object> readCache = new ConcurrentHashMap<>();
 
     private final Set<K> unmodifiableReadKeys = Collections.unmodifiableSet(readCache.keySet());
 
@@ -65,11 +82,49 @@ public abstract class ReadableKVStateBase<K extends Comparable<K>, V>
         // We need to cache the item because somebody may perform business logic basic on this
         // contains call, even if they never need the value itself!
         Objects.requireNonNull(key);
-        if (!hasBeenRead(key)) {
-            final var value = readFromDataSource(key);
-            markRead(key, value);
+        var cached = readCache.get(key);
+        if (cached == null) {
+            // If another thread read the same key concurrently, both return the value it cached
+            cached = cache(key, readFromDataSource(key));
+        }
+        return valueOf(cached);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Looks up all the keys not already in the read cache with one call to {@link
+     * #readAllFromDataSource(Collection)}.
+     */
+    @Override
+    @NonNull
+    public Map<K, V> getAll(@NonNull final Collection<K> keys) {
+        warm(keys);
+        final Map<K, V> values = new HashMap<>();
+        for (final var key : keys) {
+            final var value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void warm(@NonNull final Collection<K> keys) {
+        final List<K> unread = new ArrayList<>();
+        for (final var key : keys) {
+            if (!hasBeenRead(Objects.requireNonNull(key))) {
+                unread.add(key);
+            }
+        }
+        if (!unread.isEmpty()) {
+            final var values = readAllFromDataSource(unread);
+            for (final var key : unread) {
+                cache(key, values.get(key));
+            }
         }
-        return readCache.get(key);
     }
 
     /**
@@ -104,6 +159,26 @@ public abstract class ReadableKVStateBase<K extends Comparable<K>, V>
      */
     protected abstract V readFromDataSource(@NonNull K key);
 
+    /**
+     * Reads the values of the given keys from the underlying data source. Implementations whose
+     * data source supports it can override this to look up the keys in a batch or in parallel; by
+     * default, each key is read in turn with {@link #readFromDataSource(Comparable)}.
+     *
+     * @param keys keys to read from state, none of which has been read before
+     * @return A map from each key that was found to its value; keys not found may be omitted.
+     */
+    @NonNull
+    protected Map<K, V> readAllFromDataSource(@NonNull final Collection<K> keys) {
+        final Map<K, V> values = new HashMap<>();
+        for (final var key : keys) {
+            final var value = readFromDataSource(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
     /**
      * Gets an iterator from the data source that iterates over all keys.
      *
@@ -121,7 +196,7 @@ public abstract class ReadableKVStateBase<K extends Comparable<K>, V>
      * @param value The value
      */
     protected final void markRead(@NonNull K key, @Nullable V value) {
-        readCache.put(key, value);
+        readCache.put(key, value == null ? NOT_FOUND : value);
     }
 
     /**
@@ -133,4 +208,15 @@ public abstract class ReadableKVStateBase<K extends Comparable<K>, V>
     protected final boolean hasBeenRead(@NonNull K key) {
         return readCache.containsKey(key);
     }
+
+    private Object cache(@NonNull final K key, @Nullable final V value) {
+        final var cached = value == null ? NOT_FOUND : value;
+        final var prior = readCache.putIfAbsent(key, cached);
+        return prior == null ? cached : prior;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueOf(@NonNull final Object cached) {
+        return cached == NOT_FOUND ? null : (V) cached;
+    }
 }
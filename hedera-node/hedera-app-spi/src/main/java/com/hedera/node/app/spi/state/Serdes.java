@@ -19,6 +19,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
 /**
@@ -27,6 +28,13 @@ import java.util.NoSuchElementException;
  * <p>This interface will be moved to PBJ and implementations of this interface will be generated by
  * PBJ for all protobuf schema objects. Until then, the interface will live here.
  *
+ * <p>The {@link ByteBuffer} methods are used by the merkle state whenever it reads, writes, hashes
+ * or compares virtual map keys and values. By default they adapt the buffer to a {@link DataInput}
+ * or {@link DataOutput} and call the stream methods, paying a virtual call per primitive read or
+ * written. Implementations for frequently accessed types should override them to work on the buffer
+ * directly; and should override {@link #fastEquals(Object, ByteBuffer)} to compare an item with its
+ * serialized form without deserializing it.
+ *
  * @param <T> The type of object to serialize and deserialize
  */
 @SuppressWarnings("SpellCheckingInspection")
@@ -82,4 +90,56 @@ public interface Serdes<T> {
      * @return true if the bytes represent the item, false otherwise.
      */
     boolean fastEquals(@NonNull T item, @NonNull DataInput input);
+
+    /**
+     * Parses an object from the {@link ByteBuffer}, starting at its current position, and returns
+     * it. On return the position of the buffer is just past the bytes of the object.
+     *
+     * @param buffer The {@link ByteBuffer} from which to read the data to construct an object
+     * @return The parsed object. It must not return null.
+     * @throws IOException If it is impossible to read from the {@link ByteBuffer}
+     * @throws NoSuchElementException If there is no element of type T that can be parsed from this
+     *     buffer
+     */
+    @NonNull
+    default T parse(@NonNull final ByteBuffer buffer) throws IOException {
+        return parse(new ByteBufferDataInput(buffer));
+    }
+
+    /**
+     * Writes an item to the given {@link ByteBuffer}, starting at its current position. On return
+     * the position of the buffer is just past the bytes written.
+     *
+     * @param item The item to write. Must not be null.
+     * @param buffer The {@link ByteBuffer} to write to.
+     * @throws IOException If the {@link ByteBuffer} cannot be written to.
+     */
+    default void write(@NonNull final T item, @NonNull final ByteBuffer buffer) throws IOException {
+        write(item, new ByteBufferDataOutput(buffer));
+    }
+
+    /**
+     * Reads from the {@link ByteBuffer}, starting at its current position, the length of the data
+     * within it. Like {@link #measure(DataInput)}, this may read all the data or just as much as
+     * it needs to find the length.
+     *
+     * @param buffer The buffer to use
+     * @return The length of the data item in the buffer
+     * @throws IOException If it is impossible to read from the {@link ByteBuffer}
+     */
+    default int measure(@NonNull final ByteBuffer buffer) throws IOException {
+        return measure(new ByteBufferDataInput(buffer));
+    }
+
+    /**
+     * Compares the given item with the bytes in the {@link ByteBuffer}, starting at its current
+     * position, with the same contract as {@link #fastEquals(Object, DataInput)}.
+     *
+     * @param item The item to compare. Cannot be null.
+     * @param buffer The buffer with the bytes to compare
+     * @return true if the bytes represent the item, false otherwise.
+     */
+    default boolean fastEquals(@NonNull final T item, @NonNull final ByteBuffer buffer) {
+        return fastEquals(item, new ByteBufferDataInput(buffer));
+    }
 }
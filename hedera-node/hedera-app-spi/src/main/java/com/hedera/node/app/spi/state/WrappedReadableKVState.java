@@ -16,7 +16,9 @@
 package com.hedera.node.app.spi.state;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Used to wrap a {@link ReadableKVState}, allowing to buffer reads into the {@link
@@ -47,6 +49,12 @@ public class WrappedReadableKVState<K extends Comparable<K>, V> extends Readable
         return delegate.get(key);
     }
 
+    @NonNull
+    @Override
+    protected Map<K, V> readAllFromDataSource(@NonNull final Collection<K> keys) {
+        return delegate.getAll(keys);
+    }
+
     @NonNull
     @Override
     protected Iterator<K> iterateFromDataSource() {
@@ -16,7 +16,9 @@
 package com.hedera.node.app.spi.state;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -67,6 +69,12 @@ public class WrappedWritableKVState<K extends Comparable<K>, V> extends Writable
         return delegate.get(key);
     }
 
+    @NonNull
+    @Override
+    protected Map<K, V> readAllFromDataSource(@NonNull final Collection<K> keys) {
+        return delegate.getAll(keys);
+    }
+
     @NonNull
     @Override
     protected Iterator<K> iterateFromDataSource() {
@@ -81,6 +81,22 @@ public abstract class WritableKVStateBase<K extends Comparable<K>, V>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Keys already put or removed are not read from the data source.
+     */
+    @Override
+    public final void warm(@NonNull final Collection<K> keys) {
+        final List<K> unmodified = new ArrayList<>();
+        for (final var key : keys) {
+            if (!modifications.containsKey(Objects.requireNonNull(key))) {
+                unmodified.add(key);
+            }
+        }
+        super.warm(unmodified);
+    }
+
     /** {@inheritDoc} */
     @Override
     @Nullable
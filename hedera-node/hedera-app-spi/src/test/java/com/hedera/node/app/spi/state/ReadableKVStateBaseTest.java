@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.node.app.spi.fixtures.state.MapReadableKVState;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -142,6 +143,32 @@ class ReadableKVStateBaseTest extends StateTestBase {
         assertThat(state.readKeys()).hasSize(2);
     }
 
+    @Test
+    @DisplayName("`getAll` returns the known items and records all keys as read")
+    void testGetAll() {
+        final var values = state.getAll(List.of(A_KEY, B_KEY, UNKNOWN_KEY));
+
+        assertThat(values)
+                .containsExactlyInAnyOrderEntriesOf(Map.of(A_KEY, APPLE, B_KEY, BANANA));
+        assertThat(state.readKeys()).containsExactlyInAnyOrder(A_KEY, B_KEY, UNKNOWN_KEY);
+    }
+
+    /**
+     * Once warmed, a key is served from the read cache, even if the backing store changes; and a
+     * key that was not found stays not found.
+     */
+    @Test
+    @DisplayName("`get` of a warmed item is served from the read cache")
+    void testWarm() {
+        state.warm(List.of(A_KEY, UNKNOWN_KEY));
+        backingMap.put(A_KEY, ACAI);
+        backingMap.put(UNKNOWN_KEY, APPLE);
+
+        assertThat(state.get(A_KEY)).isEqualTo(APPLE);
+        assertThat(state.get(UNKNOWN_KEY)).isNull();
+        assertThat(state.readKeys()).containsExactlyInAnyOrder(A_KEY, UNKNOWN_KEY);
+    }
+
     @Test
     @DisplayName("Can iterate over all fruit")
     void testIteration() {
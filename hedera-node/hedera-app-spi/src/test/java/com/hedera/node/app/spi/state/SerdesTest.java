@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.spi.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SerdesTest {
+    private final Serdes<String> subject = new StringSerdes();
+
+    @Test
+    @DisplayName("By default an item written to a ByteBuffer parses back from it")
+    void defaultByteBufferRoundTrip() throws IOException {
+        // Given an item written to a buffer through the default method
+        final var buffer = ByteBuffer.allocate(64);
+        subject.write("Apple", buffer);
+
+        // Then the buffer is positioned just past the item's bytes
+        assertThat(buffer.position()).isEqualTo(Integer.BYTES + 5);
+
+        // And when the buffer is read back, the item is parsed with the same position semantics
+        buffer.flip();
+        assertThat(subject.parse(buffer)).isEqualTo("Apple");
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("By default a ByteBuffer is measured and compared through the stream methods")
+    void defaultByteBufferMeasureAndFastEquals() throws IOException {
+        final var buffer = ByteBuffer.allocate(64);
+        subject.write("Banana", buffer);
+        buffer.flip();
+
+        assertThat(subject.measure(buffer.duplicate())).isEqualTo(6);
+        assertThat(subject.fastEquals("Banana", buffer.duplicate())).isTrue();
+        assertThat(subject.fastEquals("Apple", buffer.duplicate())).isFalse();
+    }
+
+    /** A {@link Serdes} that only implements the stream methods. */
+    private static final class StringSerdes implements Serdes<String> {
+        @NonNull
+        @Override
+        public String parse(@NonNull final DataInput input) throws IOException {
+            final var bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(@NonNull final String item, @NonNull final DataOutput output)
+                throws IOException {
+            final var bytes = item.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        @Override
+        public int measure(@NonNull final DataInput input) throws IOException {
+            return input.readInt();
+        }
+
+        @Override
+        public int typicalSize() {
+            return 16;
+        }
+
+        @Override
+        public boolean fastEquals(@NonNull final String item, @NonNull final DataInput input) {
+            try {
+                return item.equals(parse(input));
+            } catch (final IOException e) {
+                return false;
+            }
+        }
+    }
+}
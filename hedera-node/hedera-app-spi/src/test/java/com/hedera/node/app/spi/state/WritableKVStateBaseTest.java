@@ -398,6 +398,27 @@ class WritableKVStateBaseTest extends ReadableKVStateBaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAll")
+    final class GetAllTest {
+        /**
+         * Keys that were put or removed are answered from the modifications, and are neither read
+         * from the backing store nor recorded as read.
+         */
+        @Test
+        @DisplayName("`getAll` reflects puts and removes")
+        void getAllWithModifications() {
+            state.put(A_KEY, ACAI);
+            state.remove(B_KEY);
+
+            final var values = state.getAll(List.of(A_KEY, B_KEY));
+
+            assertThat(values).containsExactlyEntriesOf(Map.of(A_KEY, ACAI));
+            assertThat(state.readKeys()).isEmpty();
+            Mockito.verify(backingMap, Mockito.never()).get(Mockito.any());
+        }
+    }
+
     @Nested
     @DisplayName("remove")
     final class RemoveTest {
@@ -17,8 +17,6 @@ package com.hedera.node.app.state.merkle.disk;
 
 import com.hedera.node.app.spi.state.Serdes;
 import com.hedera.node.app.state.merkle.StateMetadata;
-import com.hedera.node.app.state.merkle.data.ByteBufferDataInput;
-import com.hedera.node.app.state.merkle.data.ByteBufferDataOutput;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.virtualmap.VirtualKey;
@@ -95,12 +93,12 @@ public final class OnDiskKey<K extends Comparable<K>> implements VirtualKey<OnDi
 
     @Override
     public void serialize(@NonNull final ByteBuffer byteBuffer) throws IOException {
-        serdes.write(key, new ByteBufferDataOutput(byteBuffer));
+        serdes.write(key, byteBuffer);
     }
 
     @Override
     public void deserialize(@NonNull final ByteBuffer byteBuffer, int ignored) throws IOException {
-        key = serdes.parse(new ByteBufferDataInput(byteBuffer));
+        key = serdes.parse(byteBuffer);
     }
 
     @Override
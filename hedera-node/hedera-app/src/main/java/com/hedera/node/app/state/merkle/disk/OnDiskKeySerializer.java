@@ -17,7 +17,6 @@ package com.hedera.node.app.state.merkle.disk;
 
 import com.hedera.node.app.spi.state.Serdes;
 import com.hedera.node.app.state.merkle.StateMetadata;
-import com.hedera.node.app.state.merkle.data.ByteBufferDataInput;
 import com.hedera.node.app.state.merkle.data.MeteredOutputStream;
 import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
@@ -108,7 +107,7 @@ public final class OnDiskKeySerializer<K extends Comparable<K>>
     @Override
     public int deserializeKeySize(@NonNull final ByteBuffer byteBuffer) {
         try {
-            return serdes.measure(new ByteBufferDataInput(byteBuffer));
+            return serdes.measure(byteBuffer);
         } catch (IOException e) {
             // Maybe log here?
             return -1;
@@ -118,7 +117,7 @@ public final class OnDiskKeySerializer<K extends Comparable<K>>
     @Override
     public OnDiskKey<K> deserialize(@NonNull final ByteBuffer byteBuffer, final long ignored)
             throws IOException {
-        final var k = serdes.parse(new ByteBufferDataInput(byteBuffer));
+        final var k = serdes.parse(byteBuffer);
         Objects.requireNonNull(k);
         return new OnDiskKey<>(md, k);
     }
@@ -139,12 +138,9 @@ public final class OnDiskKeySerializer<K extends Comparable<K>>
             final int ignored,
             @Nullable final OnDiskKey<K> key)
             throws IOException {
-        // I really don't have a fast path for this. Which is very problematic for performance.
-        // All we can do is serialize one or deserialize the other! It would be nice if PBJ
-        // had a special method for this, but then we'd have to pipe it through all our APIs again
-        // or create some kind of Serdes object with all this stuff on it.
-        final var other = deserialize(byteBuffer, 0);
-        return other.equals(key);
+        // Called for every key compared while looking up a bucket, so let the Serdes decide
+        // from the bytes whether they match, without deserializing a whole key
+        return key != null && serdes.fastEquals(key.getKey(), byteBuffer);
     }
 
     @Override
@@ -20,8 +20,11 @@ import com.hedera.node.app.spi.state.ReadableKVStateBase;
 import com.hedera.node.app.state.merkle.StateMetadata;
 import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An implementation of {@link ReadableKVState} backed by a {@link VirtualMap}, resulting in a state
@@ -32,6 +35,12 @@ import java.util.Objects;
  */
 public final class OnDiskReadableKVState<K extends Comparable<K>, V>
         extends ReadableKVStateBase<K, V> {
+    /**
+     * Batches smaller than this are read on the calling thread, since handing a few lookups that
+     * hit the virtual map's cache to the fork-join pool costs more than it saves.
+     */
+    static final int MIN_PARALLEL_READS = 4;
+
     /** The backing merkle data structure to use */
     private final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> virtualMap;
 
@@ -59,6 +68,30 @@ public final class OnDiskReadableKVState<K extends Comparable<K>, V>
         return v == null ? null : v.getValue();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Looks up the keys in parallel, so the latencies of the reads that miss the virtual map's
+     * cache and go to disk overlap.
+     */
+    @NonNull
+    @Override
+    protected Map<K, V> readAllFromDataSource(@NonNull final Collection<K> keys) {
+        if (keys.size() < MIN_PARALLEL_READS) {
+            return super.readAllFromDataSource(keys);
+        }
+        final Map<K, V> values = new ConcurrentHashMap<>();
+        keys.parallelStream()
+                .forEach(
+                        key -> {
+                            final var value = readFromDataSource(key);
+                            if (value != null) {
+                                values.put(key, value);
+                            }
+                        });
+        return values;
+    }
+
     /** {@inheritDoc} */
     @NonNull
     @Override
@@ -17,8 +17,6 @@ package com.hedera.node.app.state.merkle.disk;
 
 import com.hedera.node.app.spi.state.Serdes;
 import com.hedera.node.app.state.merkle.StateMetadata;
-import com.hedera.node.app.state.merkle.data.ByteBufferDataInput;
-import com.hedera.node.app.state.merkle.data.ByteBufferDataOutput;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.virtualmap.VirtualValue;
@@ -95,8 +93,7 @@ public class OnDiskValue<V> implements VirtualValue {
     /** {@inheritDoc} */
     @Override
     public void serialize(@NonNull final ByteBuffer byteBuffer) throws IOException {
-        final var output = new ByteBufferDataOutput(byteBuffer);
-        serdes.write(value, output);
+        serdes.write(value, byteBuffer);
     }
 
     /** {@inheritDoc} */
@@ -109,8 +106,7 @@ public class OnDiskValue<V> implements VirtualValue {
     /** {@inheritDoc} */
     @Override
     public void deserialize(@NonNull final ByteBuffer byteBuffer, int ignored) throws IOException {
-        final var input = new ByteBufferDataInput(byteBuffer);
-        value = serdes.parse(input);
+        value = serdes.parse(byteBuffer);
     }
 
     /** {@inheritDoc} */
@@ -17,6 +17,7 @@ package com.hedera.node.app.workflows.onset;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.SignatureMap;
@@ -27,11 +28,15 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  * Results of the workflow onset
  *
  * @param txBody the deserialized {@link TransactionBody}
+ * @param bodyBytes the serialized {@link TransactionBody}, exactly as signed
+ * @param errorCode the {@link ResponseCodeEnum}, if a validation failed, {@link ResponseCodeEnum#OK}
+ *     otherwise
  * @param signatureMap the contained {@link SignatureMap}
  * @param functionality the {@link HederaFunctionality} of the transaction
  */
 public record OnsetResult(
         @NonNull TransactionBody txBody,
+        @NonNull ByteString bodyBytes,
         @NonNull ResponseCodeEnum errorCode,
         @NonNull SignatureMap signatureMap,
         @NonNull HederaFunctionality functionality) {
@@ -40,6 +45,7 @@ public record OnsetResult(
      * The constructor of {@code OnsetResult}
      *
      * @param txBody the deserialized {@link TransactionBody}
+     * @param bodyBytes the serialized {@link TransactionBody}, exactly as signed
      * @param errorCode the {@link ResponseCodeEnum}, if a validation failed, {@link
      *     ResponseCodeEnum#OK} otherwise
      * @param signatureMap the contained {@link SignatureMap}
@@ -48,10 +54,12 @@ public record OnsetResult(
      */
     public OnsetResult(
             @NonNull final TransactionBody txBody,
+            @NonNull final ByteString bodyBytes,
             @NonNull final ResponseCodeEnum errorCode,
             @NonNull final SignatureMap signatureMap,
             @NonNull final HederaFunctionality functionality) {
         this.txBody = requireNonNull(txBody);
+        this.bodyBytes = requireNonNull(bodyBytes);
         this.errorCode = requireNonNull(errorCode);
         this.signatureMap = requireNonNull(signatureMap);
         this.functionality = requireNonNull(functionality);
@@ -134,7 +134,7 @@ public class WorkflowOnset {
         }
 
         // 4. return TransactionBody
-        return new OnsetResult(txBody, errorCode, signatureMap, functionality);
+        return new OnsetResult(txBody, bodyBytes, errorCode, signatureMap, functionality);
     }
 
     @FunctionalInterface
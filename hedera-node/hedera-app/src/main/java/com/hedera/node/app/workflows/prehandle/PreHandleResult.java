@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.workflows.prehandle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.spi.meta.TransactionMetadata;
+import com.swirlds.common.crypto.TransactionSignature;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+
+/**
+ * Result of the pre-handle workflow for a single transaction, which is attached to the platform
+ * transaction for use during {@code handleTransaction}.
+ *
+ * @param metadata the {@link TransactionMetadata} collected during pre-handle
+ * @param cryptoSigs the {@link TransactionSignature}s submitted for asynchronous verification; the
+ *     outcome of each is available through its future
+ */
+public record PreHandleResult(
+        @NonNull TransactionMetadata metadata, @NonNull List<TransactionSignature> cryptoSigs) {
+
+    /**
+     * Constructor of {@code PreHandleResult}
+     *
+     * @param metadata the {@link TransactionMetadata} collected during pre-handle
+     * @param cryptoSigs the {@link TransactionSignature}s submitted for verification
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public PreHandleResult {
+        requireNonNull(metadata);
+        requireNonNull(cryptoSigs);
+    }
+
+    /**
+     * Creates a {@code PreHandleResult} without any signatures to verify.
+     *
+     * @param metadata the {@link TransactionMetadata} collected during pre-handle
+     * @return the result
+     */
+    public static PreHandleResult withoutSigs(@NonNull final TransactionMetadata metadata) {
+        return new PreHandleResult(metadata, List.of());
+    }
+}
@@ -19,15 +19,17 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.node.app.SessionContext;
 import com.hedera.node.app.spi.meta.ErrorTransactionMetadata;
-import com.hedera.node.app.spi.meta.TransactionMetadata;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.HederaState;
 import com.hedera.node.app.workflows.dispatcher.Dispatcher;
 import com.hedera.node.app.workflows.onset.WorkflowOnset;
 import com.hederahashgraph.api.proto.java.*;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
@@ -56,6 +58,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
 
     private final WorkflowOnset onset;
     private final Dispatcher dispatcher;
+    private final Cryptography cryptography;
+    private final SignaturePreparer signaturePreparer;
     private final Function<Supplier<?>, CompletableFuture<?>> runner;
 
     /**
@@ -65,16 +69,20 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * @param dispatcher the {@link Dispatcher} that will call transaction-specific {@code
      *     preHandle()}-methods
      * @param onset the {@link WorkflowOnset} that pre-processes the {@link byte[]} of a transaction
+     * @param cryptography the {@link Cryptography} engine that verifies the signatures of an event
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     public PreHandleWorkflowImpl(
             @NonNull final ExecutorService exe,
             @NonNull final Dispatcher dispatcher,
-            @NonNull final WorkflowOnset onset) {
+            @NonNull final WorkflowOnset onset,
+            @NonNull final Cryptography cryptography) {
         requireNonNull(exe);
 
         this.dispatcher = requireNonNull(dispatcher);
         this.onset = requireNonNull(onset);
+        this.cryptography = requireNonNull(cryptography);
+        this.signaturePreparer = new SignaturePreparer();
         this.runner = supplier -> CompletableFuture.supplyAsync(supplier, exe);
     }
 
@@ -82,9 +90,13 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
     PreHandleWorkflowImpl(
             @NonNull final Dispatcher dispatcher,
             @NonNull final WorkflowOnset onset,
+            @NonNull final Cryptography cryptography,
+            @NonNull final SignaturePreparer signaturePreparer,
             @NonNull final Function<Supplier<?>, CompletableFuture<?>> runner) {
         this.dispatcher = requireNonNull(dispatcher);
         this.onset = requireNonNull(onset);
+        this.cryptography = requireNonNull(cryptography);
+        this.signaturePreparer = requireNonNull(signaturePreparer);
         this.runner = requireNonNull(runner);
     }
 
@@ -94,24 +106,59 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         requireNonNull(event);
 
         // Each transaction in the event will go through pre-handle using a background thread
-        // from the executor service. The Future representing that work is stored on the
-        // platform transaction. The HandleTransactionWorkflow will pull this future back
-        // out and use it to block until the pre handle work is done, if needed.
+        // from the executor service.
+        final List<com.swirlds.common.system.transaction.Transaction> platformTxs =
+                new ArrayList<>();
         final ArrayList<CompletableFuture<?>> futures = new ArrayList<>();
         final var itr = event.transactionIterator();
         while (itr.hasNext()) {
             final var platformTx = itr.next();
-            final var future = runner.apply(() -> preHandle(state, platformTx));
-            platformTx.setMetadata(future);
-            futures.add(future);
+            platformTxs.add(platformTx);
+            futures.add(runner.apply(() -> preHandle(state, platformTx)));
         }
 
-        // wait until all transactions were processed before returning
+        // wait until all transactions were processed
         final CompletableFuture<?>[] array = futures.toArray(new CompletableFuture<?>[0]);
         CompletableFuture.allOf(array).join();
+
+        // submit the signatures of all transactions in the event to the engine as a single batch,
+        // so they are verified in parallel instead of one transaction at a time
+        final List<PreHandleResult> results = new ArrayList<>(futures.size());
+        final List<TransactionSignature> sigs = new ArrayList<>();
+        for (final var future : futures) {
+            final var result = (PreHandleResult) future.join();
+            results.add(result);
+            sigs.addAll(result.cryptoSigs());
+        }
+        var sigsSubmitted = true;
+        if (!sigs.isEmpty()) {
+            try {
+                cryptography.verifyAsync(sigs);
+            } catch (Exception ex) {
+                sigsSubmitted = false;
+                LOG.warn(
+                        "Unable to submit signatures, will be verified synchronously in"
+                                + " handleTransaction",
+                        ex);
+            }
+        }
+
+        // Only now store the result on each platform transaction, as a completed Future. The
+        // HandleTransactionWorkflow will pull it back out; so it must never see signatures whose
+        // verification futures were not submitted, and would never complete.
+        for (int i = 0, n = platformTxs.size(); i < n; i++) {
+            final var result = results.get(i);
+            platformTxs
+                    .get(i)
+                    .setMetadata(
+                            CompletableFuture.completedFuture(
+                                    sigsSubmitted
+                                            ? result
+                                            : PreHandleResult.withoutSigs(result.metadata())));
+        }
     }
 
-    private TransactionMetadata preHandle(
+    private PreHandleResult preHandle(
             final HederaState state,
             final com.swirlds.common.system.transaction.Transaction platformTx) {
         TransactionBody txBody = null;
@@ -129,23 +176,25 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             final var metadata = dispatcher.dispatchPreHandle(state, txBody, payerID);
 
             // 3. Prepare signature-data
-            // TODO: Prepare signature-data once this functionality was implemented
+            final var cryptoSigs = signaturePreparer.prepareSignatures(onsetResult, metadata);
 
             // 4. Verify signatures
-            // TODO: Verify signature via the platform once this functionality was implemented
+            // The signatures of all transactions in the event are submitted together in start()
 
-            // 5. Return TransactionMetadata
-            return metadata;
+            // 5. Return PreHandleResult
+            return new PreHandleResult(metadata, cryptoSigs);
 
         } catch (PreCheckException preCheckException) {
-            return new ErrorTransactionMetadata(
-                    txBody, preCheckException.responseCode(), preCheckException);
+            return PreHandleResult.withoutSigs(
+                    new ErrorTransactionMetadata(
+                            txBody, preCheckException.responseCode(), preCheckException));
         } catch (Exception ex) {
             // Some unknown and unexpected failure happened. If this was non-deterministic, I could
             // end up with an ISS. It is critical that I log whatever happened, because we should
             // have caught all legitimate failures in another catch block.
             LOG.error("An unexpected exception was thrown during pre-handle", ex);
-            return new ErrorTransactionMetadata(txBody, ResponseCodeEnum.UNKNOWN, ex);
+            return PreHandleResult.withoutSigs(
+                    new ErrorTransactionMetadata(txBody, ResponseCodeEnum.UNKNOWN, ex));
         }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.workflows.prehandle;
+
+import static com.hedera.node.app.service.mono.sigs.PlatformSigOps.createCryptoSigsFrom;
+import static com.hedera.node.app.service.mono.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.node.app.service.mono.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static com.hedera.node.app.service.mono.sigs.utils.MiscCryptoUtils.decompressSecp256k1;
+import static com.hedera.node.app.service.mono.sigs.utils.MiscCryptoUtils.keccak256DigestOf;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
+import com.hedera.node.app.service.mono.sigs.factories.TxnScopedPlatformSigFactory;
+import com.hedera.node.app.service.mono.sigs.sourcing.PojoSigMapPubKeyToSigBytes;
+import com.hedera.node.app.spi.key.HederaKey;
+import com.hedera.node.app.spi.meta.TransactionMetadata;
+import com.hedera.node.app.workflows.onset.OnsetResult;
+import com.swirlds.common.crypto.TransactionSignature;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prepares the {@link TransactionSignature}s of a transaction, once its required keys are known
+ * from pre-handle, so they can be submitted for asynchronous verification.
+ *
+ * <p>The signatures are created in the same order as during {@code handleTransaction}: first the
+ * payer's, then those of the other required keys, and finally any remaining signatures with a
+ * full public key prefix. If the signatures cannot be created (e.g., because of an ambiguous
+ * prefix), no signatures are returned and the transaction will be verified synchronously in
+ * handle.
+ */
+public class SignaturePreparer {
+    /**
+     * Returns the {@link TransactionSignature}s to verify for the given transaction.
+     *
+     * @param onsetResult the result of parsing the transaction
+     * @param metadata the {@link TransactionMetadata} with the keys required by the transaction
+     * @return the signatures to verify, possibly empty
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    @NonNull
+    public List<TransactionSignature> prepareSignatures(
+            @NonNull final OnsetResult onsetResult, @NonNull final TransactionMetadata metadata) {
+        requireNonNull(onsetResult);
+        requireNonNull(metadata);
+
+        final var requiredKeys = new ArrayList<JKey>();
+        addIfJKey(metadata.payerKey(), requiredKeys);
+        for (final var key : metadata.requiredNonPayerKeys()) {
+            addIfJKey(key, requiredKeys);
+        }
+        if (requiredKeys.isEmpty()) {
+            return List.of();
+        }
+
+        final var pkToSigFn = new PojoSigMapPubKeyToSigBytes(onsetResult.signatureMap());
+        final var sigFactory = new BodySigningFactory(onsetResult.bodyBytes().toByteArray());
+        final var creation = createCryptoSigsFrom(requiredKeys, pkToSigFn, sigFactory);
+        if (creation.hasFailed()) {
+            return List.of();
+        }
+        final var sigs = creation.getPlatformSigs();
+        if (pkToSigFn.hasAtLeastOneUnusedSigWithFullPrefix()) {
+            pkToSigFn.forEachUnusedSigWithFullPrefix(
+                    (type, pubKey, sig) ->
+                            sigs.add(sigFactory.signAppropriately(type, pubKey, sig)));
+        }
+        return sigs;
+    }
+
+    private static void addIfJKey(final HederaKey key, final List<JKey> keys) {
+        if (key instanceof JKey jKey) {
+            keys.add(jKey);
+        }
+    }
+
+    private static class BodySigningFactory implements TxnScopedPlatformSigFactory {
+        private final byte[] bodyBytes;
+        private byte[] keccak256Digest;
+
+        private BodySigningFactory(final byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+        }
+
+        @Override
+        public TransactionSignature signBodyWithEd25519(
+                final byte[] publicKey, final byte[] sigBytes) {
+            return ed25519Sig(publicKey, sigBytes, bodyBytes);
+        }
+
+        @Override
+        public TransactionSignature signKeccak256DigestWithSecp256k1(
+                final byte[] publicKey, final byte[] sigBytes) {
+            if (keccak256Digest == null) {
+                keccak256Digest = keccak256DigestOf(bodyBytes);
+            }
+            return ecdsaSecp256k1Sig(decompressSecp256k1(publicKey), sigBytes, keccak256Digest);
+        }
+    }
+}
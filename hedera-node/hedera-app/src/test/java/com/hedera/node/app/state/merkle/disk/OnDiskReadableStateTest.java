@@ -23,6 +23,8 @@ import com.hedera.node.app.spi.state.StateDefinition;
 import com.hedera.node.app.state.merkle.MerkleTestBase;
 import com.hedera.node.app.state.merkle.StateMetadata;
 import com.swirlds.virtualmap.VirtualMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -94,5 +96,17 @@ class OnDiskReadableStateTest extends MerkleTestBase {
             assertThat(state.get(F_KEY)).isNull();
             assertThat(state.get(G_KEY)).isNull();
         }
+
+        @Test
+        @DisplayName("Get many keys from the virtual map at once")
+        void getAll() {
+            final var values = state.getAll(List.of(A_KEY, B_KEY, C_KEY, D_KEY, E_KEY));
+
+            assertThat(values)
+                    .containsExactlyInAnyOrderEntriesOf(
+                            Map.of(A_KEY, APPLE, B_KEY, BANANA, C_KEY, CHERRY));
+            assertThat(state.readKeys())
+                    .containsExactlyInAnyOrder(A_KEY, B_KEY, C_KEY, D_KEY, E_KEY);
+        }
     }
 }
@@ -35,6 +35,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Set;
@@ -187,6 +188,22 @@ class OnDiskTest extends MerkleTestBase {
         }
     }
 
+    @Test
+    void keySerializerComparesSerializedKeysWithoutDeserializing() throws IOException {
+        final var serializer = new OnDiskKeySerializer<>(md);
+        final var key = new OnDiskKey<>(md, new AccountID(0, 0, 7));
+        final var buffer = ByteBuffer.allocate(serializer.getTypicalSerializedSize());
+        key.serialize(buffer);
+        buffer.flip();
+
+        assertThat(serializer.deserializeKeySize(buffer.duplicate())).isEqualTo(Long.BYTES * 3);
+        assertThat(serializer.deserialize(buffer.duplicate(), 1)).isEqualTo(key);
+        assertThat(serializer.equals(buffer.duplicate(), 1, key)).isTrue();
+        final var otherKey = new OnDiskKey<>(md, new AccountID(0, 0, 8));
+        assertThat(serializer.equals(buffer.duplicate(), 1, otherKey)).isFalse();
+        assertThat(serializer.equals(buffer.duplicate(), 1, null)).isFalse();
+    }
+
     /*****************************************************************************
      * The classes and method below this point are helpers for this test. They
      * include fake objects and serialization methods, emulating what a service
@@ -252,6 +269,33 @@ class OnDiskTest extends MerkleTestBase {
                 return false;
             }
         }
+
+        // Keys are read, written and compared directly on the buffers of the virtual map
+
+        @NonNull
+        @Override
+        public AccountID parse(@NonNull ByteBuffer buffer) {
+            return new AccountID(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        @Override
+        public void write(@NonNull AccountID value, @NonNull ByteBuffer buffer) {
+            buffer.putLong(value.shard);
+            buffer.putLong(value.realm);
+            buffer.putLong(value.num);
+        }
+
+        @Override
+        public int measure(@NonNull ByteBuffer buffer) {
+            return Long.BYTES * 3;
+        }
+
+        @Override
+        public boolean fastEquals(@NonNull AccountID item, @NonNull ByteBuffer buffer) {
+            return buffer.getLong() == item.shard
+                    && buffer.getLong() == item.realm
+                    && buffer.getLong() == item.num;
+        }
     }
 
     private static final class AccountSerdes implements Serdes<Account> {
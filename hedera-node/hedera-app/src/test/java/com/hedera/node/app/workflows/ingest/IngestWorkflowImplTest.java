@@ -76,7 +76,12 @@ class IngestWorkflowImplTest {
     private static final TransactionBody TRANSACTION_BODY = TransactionBody.newBuilder().build();
     private static final SignatureMap SIGNATURE_MAP = SignatureMap.newBuilder().build();
     private static final OnsetResult ONSET_RESULT =
-            new OnsetResult(TRANSACTION_BODY, OK, SIGNATURE_MAP, ConsensusCreateTopic);
+            new OnsetResult(
+                    TRANSACTION_BODY,
+                    TRANSACTION_BODY.toByteString(),
+                    OK,
+                    SIGNATURE_MAP,
+                    ConsensusCreateTopic);
 
     @Mock private NodeInfo nodeInfo;
 
@@ -18,6 +18,7 @@ package com.hedera.node.app.workflows.onset;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.TransactionBody;
@@ -30,17 +31,22 @@ class OnsetResultTest {
     void checkConstructorWithIllegalArguments() {
         // given
         final var txBody = TransactionBody.getDefaultInstance();
+        final var bodyBytes = ByteString.EMPTY;
         final var signatureMap = SignatureMap.getDefaultInstance();
         final var functionality = HederaFunctionality.NONE;
 
         // then
-        assertThatThrownBy(() -> new OnsetResult(null, OK, signatureMap, functionality))
+        assertThatThrownBy(
+                        () -> new OnsetResult(null, bodyBytes, OK, signatureMap, functionality))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new OnsetResult(txBody, null, signatureMap, functionality))
+        assertThatThrownBy(() -> new OnsetResult(txBody, null, OK, signatureMap, functionality))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new OnsetResult(txBody, OK, null, functionality))
+        assertThatThrownBy(
+                        () -> new OnsetResult(txBody, bodyBytes, null, signatureMap, functionality))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new OnsetResult(txBody, OK, signatureMap, null))
+        assertThatThrownBy(() -> new OnsetResult(txBody, bodyBytes, OK, null, functionality))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new OnsetResult(txBody, bodyBytes, OK, signatureMap, null))
                 .isInstanceOf(NullPointerException.class);
     }
 }
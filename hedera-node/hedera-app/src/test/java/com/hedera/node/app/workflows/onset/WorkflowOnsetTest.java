@@ -124,6 +124,7 @@ class WorkflowOnsetTest {
 
         // then
         assertThat(result.txBody()).isEqualTo(txBody);
+        assertThat(result.bodyBytes()).isEqualTo(bodyBytes);
         assertThat(result.errorCode()).isEqualTo(OK);
         assertThat(result.signatureMap()).isEqualTo(signatureMap);
         assertThat(result.functionality()).isEqualTo(HederaFunctionality.ConsensusCreateTopic);
@@ -142,6 +143,7 @@ class WorkflowOnsetTest {
 
         // then
         assertThat(result.txBody()).isEqualTo(txBody);
+        assertThat(result.bodyBytes()).isEqualTo(bodyBytes);
         assertThat(result.errorCode()).isEqualTo(OK);
         assertThat(result.signatureMap()).isEqualTo(signatureMap);
         assertThat(result.functionality()).isEqualTo(HederaFunctionality.ConsensusCreateTopic);
@@ -196,6 +198,7 @@ class WorkflowOnsetTest {
 
         // then
         assertThat(result.txBody()).isEqualTo(localTxBody);
+        assertThat(result.bodyBytes()).isEqualTo(localBodyBytes);
         assertThat(result.errorCode()).isEqualTo(OK);
         assertThat(result.signatureMap()).isEqualTo(signatureMap);
         assertThat(result.functionality()).isEqualTo(HederaFunctionality.ConsensusDeleteTopic);
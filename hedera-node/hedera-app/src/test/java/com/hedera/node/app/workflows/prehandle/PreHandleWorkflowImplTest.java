@@ -36,6 +36,8 @@ import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.system.transaction.Transaction;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
@@ -71,6 +73,13 @@ class PreHandleWorkflowImplTest {
 
     @Mock private HederaState state;
 
+    @Mock private Cryptography cryptography;
+
+    @Mock(strictness = Mock.Strictness.LENIENT)
+    private SignaturePreparer signaturePreparer;
+
+    @Mock private TransactionSignature cryptoSig;
+
     @Mock(strictness = Mock.Strictness.LENIENT)
     private Event event;
 
@@ -93,27 +102,42 @@ class PreHandleWorkflowImplTest {
                         .build();
         final SignatureMap signatureMap = SignatureMap.newBuilder().build();
         final HederaFunctionality functionality = HederaFunctionality.ConsensusCreateTopic;
-        final OnsetResult onsetResult = new OnsetResult(txBody, OK, signatureMap, functionality);
+        final OnsetResult onsetResult =
+                new OnsetResult(
+                        txBody, txBody.toByteString(), OK, signatureMap, functionality);
         when(onset.parseAndCheck(any(), any(byte[].class))).thenReturn(onsetResult);
 
         when(dispatcher.dispatchPreHandle(state, txBody, payerID)).thenReturn(metadata);
+        when(signaturePreparer.prepareSignatures(onsetResult, metadata))
+                .thenReturn(List.of(cryptoSig));
 
         final Iterator<Transaction> iterator = List.of((Transaction) transaction).iterator();
         when(event.transactionIterator()).thenReturn(iterator);
 
         when(transaction.getContents()).thenReturn(new byte[0]);
 
-        workflow = new PreHandleWorkflowImpl(dispatcher, onset, RUN_INSTANTLY);
+        workflow =
+                new PreHandleWorkflowImpl(
+                        dispatcher, onset, cryptography, signaturePreparer, RUN_INSTANTLY);
     }
 
     @SuppressWarnings("ConstantConditions")
     @Test
     void testConstructorWithIllegalParameters(@Mock ExecutorService executorService) {
-        assertThatThrownBy(() -> new PreHandleWorkflowImpl(null, dispatcher, onset))
+        assertThatThrownBy(() -> new PreHandleWorkflowImpl(null, dispatcher, onset, cryptography))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(
+                        () ->
+                                new PreHandleWorkflowImpl(
+                                        executorService, null, onset, cryptography))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new PreHandleWorkflowImpl(executorService, null, onset))
+        assertThatThrownBy(
+                        () ->
+                                new PreHandleWorkflowImpl(
+                                        executorService, dispatcher, null, cryptography))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() -> new PreHandleWorkflowImpl(executorService, dispatcher, null))
+        assertThatThrownBy(
+                        () -> new PreHandleWorkflowImpl(executorService, dispatcher, onset, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -134,6 +158,9 @@ class PreHandleWorkflowImplTest {
 
         // when
         assertThatCode(() -> workflow.start(state, localEvent)).doesNotThrowAnyException();
+
+        // then
+        verify(cryptography, never()).verifyAsync(anyList());
     }
 
     @SuppressWarnings("JUnitMalformedDeclaration")
@@ -151,6 +178,7 @@ class PreHandleWorkflowImplTest {
         // then
         verify(transaction).setMetadata(any());
         verify(transaction2).setMetadata(any());
+        verify(cryptography).verifyAsync(List.of(cryptoSig, cryptoSig));
     }
 
     @SuppressWarnings("unchecked")
@@ -160,10 +188,31 @@ class PreHandleWorkflowImplTest {
         workflow.start(state, event);
 
         // then
-        final ArgumentCaptor<Future<TransactionMetadata>> captor =
+        final ArgumentCaptor<Future<PreHandleResult>> captor =
                 ArgumentCaptor.forClass(Future.class);
         verify(transaction).setMetadata(captor.capture());
-        assertThat(captor.getValue()).succeedsWithin(Duration.ofMillis(100)).isEqualTo(metadata);
+        assertThat(captor.getValue())
+                .succeedsWithin(Duration.ofMillis(100))
+                .isEqualTo(new PreHandleResult(metadata, List.of(cryptoSig)));
+        verify(cryptography).verifyAsync(List.of(cryptoSig));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testPreHandleSurvivesFailedSubmission() {
+        // given
+        doThrow(IllegalStateException.class).when(cryptography).verifyAsync(anyList());
+
+        // when
+        assertThatCode(() -> workflow.start(state, event)).doesNotThrowAnyException();
+
+        // then
+        final ArgumentCaptor<Future<PreHandleResult>> captor =
+                ArgumentCaptor.forClass(Future.class);
+        verify(transaction).setMetadata(captor.capture());
+        assertThat(captor.getValue())
+                .succeedsWithin(Duration.ofMillis(100))
+                .isEqualTo(PreHandleResult.withoutSigs(metadata));
     }
 
     @SuppressWarnings("unchecked")
@@ -173,20 +222,24 @@ class PreHandleWorkflowImplTest {
         // given
         when(localOnset.parseAndCheck(any(), any(byte[].class)))
                 .thenThrow(new PreCheckException(INVALID_TRANSACTION));
-        workflow = new PreHandleWorkflowImpl(dispatcher, localOnset, RUN_INSTANTLY);
+        workflow =
+                new PreHandleWorkflowImpl(
+                        dispatcher, localOnset, cryptography, signaturePreparer, RUN_INSTANTLY);
 
         // when
         workflow.start(state, event);
 
         // then
-        final ArgumentCaptor<Future<TransactionMetadata>> captor =
+        final ArgumentCaptor<Future<PreHandleResult>> captor =
                 ArgumentCaptor.forClass(Future.class);
         verify(transaction).setMetadata(captor.capture());
         assertThat(captor.getValue())
                 .succeedsWithin(Duration.ofMillis(100))
+                .extracting(PreHandleResult::metadata)
                 .isInstanceOf(ErrorTransactionMetadata.class)
                 .hasFieldOrPropertyWithValue("status", INVALID_TRANSACTION);
         verify(dispatcher, never()).dispatchPreHandle(eq(state), any(), any());
+        verify(cryptography, never()).verifyAsync(anyList());
     }
 
     @Test
@@ -205,10 +258,17 @@ class PreHandleWorkflowImplTest {
         final SignatureMap signatureMap = SignatureMap.newBuilder().build();
         final HederaFunctionality functionality = HederaFunctionality.ConsensusCreateTopic;
         final OnsetResult onsetResult =
-                new OnsetResult(txBody, DUPLICATE_TRANSACTION, signatureMap, functionality);
+                new OnsetResult(
+                        txBody,
+                        txBody.toByteString(),
+                        DUPLICATE_TRANSACTION,
+                        signatureMap,
+                        functionality);
         when(localOnset.parseAndCheck(any(), any(byte[].class))).thenReturn(onsetResult);
 
-        workflow = new PreHandleWorkflowImpl(dispatcher, localOnset, RUN_INSTANTLY);
+        workflow =
+                new PreHandleWorkflowImpl(
+                        dispatcher, localOnset, cryptography, signaturePreparer, RUN_INSTANTLY);
 
         // when
         workflow.start(state, event);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.workflows.prehandle;
+
+import static com.hedera.node.app.service.mono.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static com.hedera.node.app.service.mono.sigs.factories.PlatformSigFactory.varyingMaterialEquals;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.hedera.node.app.service.mono.legacy.core.jproto.JEd25519Key;
+import com.hedera.node.app.spi.key.HederaKey;
+import com.hedera.node.app.spi.meta.SigTransactionMetadata;
+import com.hedera.node.app.workflows.onset.OnsetResult;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SignaturePreparerTest {
+    private static final TransactionBody TX_BODY = TransactionBody.getDefaultInstance();
+    private static final ByteString BODY_BYTES = ByteString.copyFromUtf8("bodyBytes");
+    private static final AccountID PAYER = AccountID.newBuilder().setAccountNum(1234L).build();
+    private static final byte[] PAYER_PK = filled('a');
+    private static final byte[] OTHER_PK = filled('b');
+    private static final byte[] EXTRA_PK = filled('c');
+    private static final byte[] PAYER_SIG = filled('A');
+    private static final byte[] OTHER_SIG = filled('B');
+    private static final byte[] EXTRA_SIG = filled('C');
+
+    private final SignaturePreparer subject = new SignaturePreparer();
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void checkIllegalArguments() {
+        final var metadata = metadataWith(null, List.of());
+        final var onsetResult = onsetResultWith(SignatureMap.getDefaultInstance());
+
+        assertThatThrownBy(() -> subject.prepareSignatures(null, metadata))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> subject.prepareSignatures(onsetResult, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void preparesSigsInHandleOrder() {
+        final var sigMap =
+                SignatureMap.newBuilder()
+                        .addSigPair(pair(OTHER_PK, OTHER_SIG))
+                        .addSigPair(pair(EXTRA_PK, EXTRA_SIG))
+                        .addSigPair(pair(PAYER_PK, PAYER_SIG))
+                        .build();
+        final var metadata =
+                metadataWith(new JEd25519Key(PAYER_PK), List.of(new JEd25519Key(OTHER_PK)));
+
+        final var sigs = subject.prepareSignatures(onsetResultWith(sigMap), metadata);
+
+        assertThat(sigs).hasSize(3);
+        assertSameMaterial(sigs.get(0), expectedSig(PAYER_PK, PAYER_SIG));
+        assertSameMaterial(sigs.get(1), expectedSig(OTHER_PK, OTHER_SIG));
+        assertSameMaterial(sigs.get(2), expectedSig(EXTRA_PK, EXTRA_SIG));
+    }
+
+    @Test
+    void preparesNothingWithoutKnownKeys() {
+        final var sigMap = SignatureMap.newBuilder().addSigPair(pair(PAYER_PK, PAYER_SIG)).build();
+        final HederaKey unknownKey = new HederaKey() {};
+
+        final var sigs =
+                subject.prepareSignatures(
+                        onsetResultWith(sigMap), metadataWith(unknownKey, List.of()));
+
+        assertThat(sigs).isEmpty();
+    }
+
+    @Test
+    void preparesNothingForAmbiguousSigMap() {
+        final var sigMap =
+                SignatureMap.newBuilder()
+                        .addSigPair(
+                                SignaturePair.newBuilder()
+                                        .setPubKeyPrefix(ByteString.copyFrom(PAYER_PK, 0, 1))
+                                        .setEd25519(ByteString.copyFrom(PAYER_SIG)))
+                        .addSigPair(
+                                SignaturePair.newBuilder()
+                                        .setPubKeyPrefix(ByteString.copyFrom(PAYER_PK, 0, 2))
+                                        .setEd25519(ByteString.copyFrom(OTHER_SIG)))
+                        .build();
+
+        final var sigs =
+                subject.prepareSignatures(
+                        onsetResultWith(sigMap),
+                        metadataWith(new JEd25519Key(PAYER_PK), List.of()));
+
+        assertThat(sigs).isEmpty();
+    }
+
+    private static void assertSameMaterial(
+            final TransactionSignature actual, final TransactionSignature expected) {
+        assertThat(varyingMaterialEquals(actual, expected)).isTrue();
+    }
+
+    private static TransactionSignature expectedSig(final byte[] pk, final byte[] sig) {
+        return ed25519Sig(pk, sig, BODY_BYTES.toByteArray());
+    }
+
+    private static SignaturePair pair(final byte[] pk, final byte[] sig) {
+        return SignaturePair.newBuilder()
+                .setPubKeyPrefix(ByteString.copyFrom(pk))
+                .setEd25519(ByteString.copyFrom(sig))
+                .build();
+    }
+
+    private static SigTransactionMetadata metadataWith(
+            final HederaKey payerKey, final List<HederaKey> otherKeys) {
+        return new SigTransactionMetadata(TX_BODY, PAYER, OK, payerKey, otherKeys);
+    }
+
+    private static OnsetResult onsetResultWith(final SignatureMap sigMap) {
+        return new OnsetResult(
+                TX_BODY, BODY_BYTES, OK, sigMap, HederaFunctionality.CryptoTransfer);
+    }
+
+    private static byte[] filled(final char c) {
+        final var bytes = new byte[32];
+        Arrays.fill(bytes, (byte) c);
+        return bytes;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.fees.calculation;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+
+import com.hedera.node.app.hapi.utils.fee.FeeBuilder;
+import com.hedera.node.app.hapi.utils.fee.SigValueObj;
+import com.hedera.node.app.service.mono.context.primitives.StateView;
+import com.hedera.node.app.service.mono.fees.BasicHbarCentExchange;
+import com.hedera.node.app.service.mono.fees.calculation.utils.PricedUsageCalculator;
+import com.hedera.node.app.service.mono.fees.congestion.FeeMultiplierSource;
+import com.hedera.node.app.service.mono.legacy.core.jproto.JEd25519Key;
+import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
+import com.hedera.node.app.service.mono.txns.crypto.AutoCreationLogic;
+import com.hedera.node.app.service.mono.utils.accessors.SignedTxnAccessor;
+import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.ExchangeRateSet;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.FeeSchedule;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.SubType;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TimestampSeconds;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares estimating the fees of a large batch of prepared transactions one at a time with {@link
+ * UsageBasedFeeCalculator#estimateFee(TxnAccessor, JKey, StateView, Timestamp)}, against estimating
+ * them all at once with {@link UsageBasedFeeCalculator#estimateFees(List, List, StateView,
+ * Timestamp)}. The transactions are transfers whose memos have one of a hundred lengths, so their
+ * usage vectors repeat as they would in a batch from a submission tool.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class BulkFeeEstimationBench {
+    private static final int NUM_MEMO_LENGTHS = 100;
+    private static final long FAR_FUTURE_SECS = 4_000_000_000L;
+    private static final Timestamp AT = Timestamp.newBuilder().setSeconds(1_234_567L).build();
+
+    @Param("100000")
+    private int batchSize;
+
+    private UsageBasedFeeCalculator subject;
+    private List<TxnAccessor> accessors;
+    private List<JKey> payerKeys;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final var exchange = new BasicHbarCentExchange();
+        exchange.updateRates(
+                ExchangeRateSet.newBuilder()
+                        .setCurrentRate(rateExpiringAt(FAR_FUTURE_SECS))
+                        .setNextRate(rateExpiringAt(FAR_FUTURE_SECS + 1))
+                        .build());
+        final var usagePrices = new BasicFcfsUsagePrices(null, null);
+        usagePrices.setFeeSchedules(
+                CurrentAndNextFeeSchedule.newBuilder()
+                        .setCurrentFeeSchedule(transferScheduleExpiringAt(FAR_FUTURE_SECS))
+                        .setNextFeeSchedule(transferScheduleExpiringAt(FAR_FUTURE_SECS + 1))
+                        .build());
+        final var speedometers =
+                new MiscSpeedometers(1.0) {
+                    @Override
+                    public void cycleFeesComputed() {
+                        // Not registered with a platform
+                    }
+                };
+        final var onlyEstimators =
+                new PricedUsageCalculator(null, null, null, null) {
+                    @Override
+                    public boolean supports(final HederaFunctionality function) {
+                        return false;
+                    }
+                };
+        subject =
+                new UsageBasedFeeCalculator(
+                        null,
+                        exchange,
+                        new AutoCreationLogic(null, null, null, null, null, null, null, null, null),
+                        usagePrices,
+                        new UnitMultiplierSource(),
+                        onlyEstimators,
+                        speedometers,
+                        Set.of(),
+                        Map.of(CryptoTransfer, List.of(new SizeBasedEstimator())));
+
+        accessors = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            accessors.add(transferWithMemoLength(i % NUM_MEMO_LENGTHS));
+        }
+        payerKeys = Collections.nCopies(batchSize, new JEd25519Key(new byte[32]));
+    }
+
+    @Benchmark
+    public void oneAtATime(final Blackhole blackhole) {
+        for (int i = 0; i < batchSize; i++) {
+            blackhole.consume(subject.estimateFee(accessors.get(i), payerKeys.get(i), null, AT));
+        }
+    }
+
+    @Benchmark
+    public void batched(final Blackhole blackhole) {
+        blackhole.consume(subject.estimateFees(accessors, payerKeys, null, AT).totalFees());
+    }
+
+    private static TxnAccessor transferWithMemoLength(final int memoLength) throws Exception {
+        final var payer = AccountID.newBuilder().setAccountNum(2L).build();
+        final var body =
+                TransactionBody.newBuilder()
+                        .setTransactionID(TransactionID.newBuilder().setAccountID(payer))
+                        .setMemo("m".repeat(memoLength))
+                        .setCryptoTransfer(CryptoTransferTransactionBody.getDefaultInstance())
+                        .build();
+        final var signedTxn =
+                Transaction.newBuilder()
+                        .setSignedTransactionBytes(
+                                SignedTransaction.newBuilder()
+                                        .setBodyBytes(body.toByteString())
+                                        .build()
+                                        .toByteString())
+                        .build();
+        return SignedTxnAccessor.from(signedTxn.toByteArray());
+    }
+
+    private static ExchangeRate rateExpiringAt(final long seconds) {
+        return ExchangeRate.newBuilder()
+                .setHbarEquiv(1)
+                .setCentEquiv(12)
+                .setExpirationTime(TimestampSeconds.newBuilder().setSeconds(seconds))
+                .build();
+    }
+
+    private static FeeSchedule transferScheduleExpiringAt(final long seconds) {
+        final var components =
+                FeeComponents.newBuilder()
+                        .setMin(0L)
+                        .setMax(1_000_000_000_000L)
+                        .setConstant(10_000L)
+                        .setBpt(100L)
+                        .setVpt(1_000L)
+                        .setRbh(10L)
+                        .build();
+        final var prices =
+                FeeData.newBuilder()
+                        .setSubType(SubType.DEFAULT)
+                        .setNodedata(components)
+                        .setNetworkdata(components)
+                        .setServicedata(components)
+                        .build();
+        return FeeSchedule.newBuilder()
+                .addTransactionFeeSchedule(
+                        TransactionFeeSchedule.newBuilder()
+                                .setHederaFunctionality(CryptoTransfer)
+                                .addFees(prices))
+                .setExpiryTime(TimestampSeconds.newBuilder().setSeconds(seconds))
+                .build();
+    }
+
+    private static class SizeBasedEstimator implements TxnResourceUsageEstimator {
+        @Override
+        public boolean applicableTo(final TransactionBody txn) {
+            return true;
+        }
+
+        @Override
+        public FeeData usageGiven(
+                final TransactionBody txn, final SigValueObj sigUsage, final StateView view) {
+            final var bpt =
+                    FeeBuilder.BASIC_TX_BODY_SIZE
+                            + txn.getMemoBytes().size()
+                            + sigUsage.getSignatureSize();
+            final var usage =
+                    FeeComponents.newBuilder()
+                            .setConstant(1L)
+                            .setBpt(bpt)
+                            .setVpt(sigUsage.getTotalSigCount())
+                            .setRbh(bpt)
+                            .build();
+            return FeeData.newBuilder()
+                    .setNodedata(usage)
+                    .setNetworkdata(usage)
+                    .setServicedata(usage)
+                    .build();
+        }
+    }
+
+    private static class UnitMultiplierSource implements FeeMultiplierSource {
+        @Override
+        public void updateMultiplier(final TxnAccessor accessor, final Instant consensusNow) {
+            // Always one
+        }
+
+        @Override
+        public long currentMultiplier(final TxnAccessor accessor) {
+            return 1L;
+        }
+
+        @Override
+        public void resetExpectations() {
+            // Always one
+        }
+
+        @Override
+        public void resetCongestionLevelStarts(final Instant[] savedStartTimes) {
+            // Always one
+        }
+
+        @Override
+        public Instant[] congestionLevelStarts() {
+            return new Instant[0];
+        }
+    }
+}
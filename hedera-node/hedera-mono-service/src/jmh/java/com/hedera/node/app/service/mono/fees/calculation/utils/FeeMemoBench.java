@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.fees.calculation.utils;
+
+import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.getFeeObject;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.node.app.hapi.utils.fee.FeeObject;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares computing the fees for a usage vector with {@link
+ * com.hedera.node.app.hapi.utils.fee.FeeBuilder#getFeeObject(FeeData, FeeData, ExchangeRate,
+ * long)} against looking them up in a bounded memo keyed by the usage, prices, exchange rate and
+ * multiplier. The usage vectors are shaped like those of transfers and topic submits, and take one
+ * of {@code numDistinctSizes} transaction sizes; each is built fresh per operation, as the usage
+ * estimators do.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class FeeMemoBench {
+    private static final int MAX_MEMOIZED_FEES = 10_000;
+
+    @Param({"transfer", "topicSubmit"})
+    private String usageVector;
+
+    @Param("100")
+    private int numDistinctSizes;
+
+    private int i;
+    private FeeData prices;
+    private ExchangeRate rate;
+    private Cache<UsageKey, FeeObject> memo;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var components =
+                FeeComponents.newBuilder()
+                        .setMin(0L)
+                        .setMax(1_000_000_000_000L)
+                        .setConstant(10_000L)
+                        .setBpt(100L)
+                        .setVpt(1_000L)
+                        .setRbh(10L)
+                        .setSbh(1L)
+                        .setBpr(5L)
+                        .build();
+        prices =
+                FeeData.newBuilder()
+                        .setNodedata(components)
+                        .setNetworkdata(components)
+                        .setServicedata(components)
+                        .build();
+        rate = ExchangeRate.newBuilder().setHbarEquiv(1).setCentEquiv(12).build();
+        memo = CacheBuilder.newBuilder().maximumSize(MAX_MEMOIZED_FEES).build();
+    }
+
+    @Benchmark
+    public void direct(final Blackhole blackhole) {
+        final var usage = nextUsage();
+        blackhole.consume(getFeeObject(prices, usage, rate, 1L));
+    }
+
+    @Benchmark
+    public void memoized(final Blackhole blackhole) {
+        final var usage = nextUsage();
+        final var key = new UsageKey(usage, prices, rate, 1L);
+        var fees = memo.getIfPresent(key);
+        if (fees == null) {
+            fees = getFeeObject(prices, usage, rate, 1L);
+            memo.put(key, fees);
+        }
+        blackhole.consume(fees);
+    }
+
+    private FeeData nextUsage() {
+        final var size = 100L + (i++ % numDistinctSizes);
+        return "transfer".equals(usageVector) ? transferUsage(size) : topicSubmitUsage(size);
+    }
+
+    private static FeeData transferUsage(final long bpt) {
+        return FeeData.newBuilder()
+                .setNodedata(
+                        FeeComponents.newBuilder().setConstant(1).setBpt(bpt).setVpt(1).setBpr(4))
+                .setNetworkdata(
+                        FeeComponents.newBuilder().setConstant(1).setBpt(bpt).setVpt(1).setRbh(3))
+                .setServicedata(FeeComponents.newBuilder().setConstant(1).setRbh(528))
+                .build();
+    }
+
+    private static FeeData topicSubmitUsage(final long bpt) {
+        return FeeData.newBuilder()
+                .setNodedata(
+                        FeeComponents.newBuilder().setConstant(1).setBpt(bpt).setVpt(1).setBpr(4))
+                .setNetworkdata(
+                        FeeComponents.newBuilder().setConstant(1).setBpt(bpt).setVpt(1).setRbh(3))
+                .setServicedata(
+                        FeeComponents.newBuilder().setConstant(1).setRbh(bpt * 90).setSbh(1))
+                .build();
+    }
+
+    private record UsageKey(FeeData usage, FeeData prices, ExchangeRate rate, long multiplier) {}
+}
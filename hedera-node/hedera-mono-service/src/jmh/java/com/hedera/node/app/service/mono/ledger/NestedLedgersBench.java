@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.ledger;
+
+import static com.hedera.node.app.service.mono.ledger.TransactionalLedger.activeLedgerWrapping;
+import static com.hedera.node.app.service.mono.ledger.properties.AccountProperty.BALANCE;
+
+import com.hedera.node.app.service.mono.ledger.backing.BackingStore;
+import com.hedera.node.app.service.mono.ledger.properties.AccountProperty;
+import com.hedera.node.app.service.mono.ledger.properties.ChangeSummaryManager;
+import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
+import com.hedera.node.app.service.mono.state.migration.HederaAccount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulates the accounts ledgers of a deeply nested EVM call; each frame wraps its parent's
+ * ledger, moves a little hbar between a few accounts, and commits into its parent.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class NestedLedgersBench {
+    private static final int NUM_ACCOUNTS = 8;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+
+    @Param("64")
+    private int depth;
+
+    private AccountID[] accountIds;
+    private TransactionalLedger<AccountID, AccountProperty, HederaAccount> ledger;
+
+    @Setup(Level.Trial)
+    public void setupLedger() {
+        final var backingAccounts = new HashMapBackingAccounts();
+        accountIds = new AccountID[NUM_ACCOUNTS];
+        for (int i = 0; i < NUM_ACCOUNTS; i++) {
+            accountIds[i] = AccountID.newBuilder().setAccountNum(1_001L + i).build();
+            final var account = new MerkleAccount();
+            account.setBalanceUnchecked(INITIAL_BALANCE);
+            backingAccounts.put(accountIds[i], account);
+        }
+        ledger =
+                new TransactionalLedger<>(
+                        AccountProperty.class,
+                        MerkleAccount::new,
+                        backingAccounts,
+                        new ChangeSummaryManager<>());
+    }
+
+    @Benchmark
+    public void nestedFramesCommit() {
+        ledger.begin();
+        final List<TransactionalLedger<AccountID, AccountProperty, HederaAccount>> frames =
+                new ArrayList<>(depth);
+        var parent = ledger;
+        for (int i = 0; i < depth; i++) {
+            final var frame = activeLedgerWrapping(parent);
+            final var from = accountIds[i % NUM_ACCOUNTS];
+            final var to = accountIds[(i + 1) % NUM_ACCOUNTS];
+            frame.set(from, BALANCE, (long) frame.get(from, BALANCE) - 1);
+            frame.set(to, BALANCE, (long) frame.get(to, BALANCE) + 1);
+            frames.add(frame);
+            parent = frame;
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            frames.get(i).commit();
+        }
+        ledger.rollback();
+    }
+
+    private static class HashMapBackingAccounts implements BackingStore<AccountID, HederaAccount> {
+        private final Map<AccountID, HederaAccount> accounts = new HashMap<>();
+
+        @Override
+        public HederaAccount getRef(final AccountID id) {
+            return accounts.get(id);
+        }
+
+        @Override
+        public HederaAccount getImmutableRef(final AccountID id) {
+            return accounts.get(id);
+        }
+
+        @Override
+        public void put(final AccountID id, final HederaAccount account) {
+            accounts.put(id, account);
+        }
+
+        @Override
+        public void remove(final AccountID id) {
+            accounts.remove(id);
+        }
+
+        @Override
+        public boolean contains(final AccountID id) {
+            return accounts.containsKey(id);
+        }
+
+        @Override
+        public Set<AccountID> idSet() {
+            return accounts.keySet();
+        }
+
+        @Override
+        public long size() {
+            return accounts.size();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.ledger;
+
+import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
+import java.time.Instant;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Drives a {@link SigImpactHistorian} the way {@code handleTransaction} does at 10k TPS; each
+ * transaction sets the change time, purges, checks a few linked entities, and marks a few entities
+ * changed. Run with {@code -prof gc} to see the allocations per transaction.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class SigImpactHistorianBench {
+    private static final int MEMORY_SECS = 180;
+    private static final int ENTITIES_PER_TXN = 3;
+    private static final long NANOS_PER_TXN = 100_000L;
+
+    @Param("1000000")
+    private int numEntities;
+
+    private Instant now;
+    private Instant linkedRefsSignedAt;
+    private SplittableRandom random;
+    private SigImpactHistorian subject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new SplittableRandom(1_234_567L);
+        subject = new SigImpactHistorian(new FixedMemoryProperties());
+        now = Instant.ofEpochSecond(1_234_567L);
+        // Fill a full window of changes before measuring
+        final var txnsPerWindow = (MEMORY_SECS + 1) * 1_000_000_000L / NANOS_PER_TXN;
+        for (long i = 0; i < txnsPerWindow; i++) {
+            handleTxn(null);
+        }
+    }
+
+    @Benchmark
+    public void handleTxn(final Blackhole blackhole) {
+        linkedRefsSignedAt = now.minusSeconds(1);
+        now = now.plusNanos(NANOS_PER_TXN);
+        subject.setChangeTime(now);
+        subject.purge();
+        for (int i = 0; i < ENTITIES_PER_TXN; i++) {
+            final var status =
+                    subject.entityStatusSince(linkedRefsSignedAt, random.nextLong(1, numEntities));
+            if (blackhole != null) {
+                blackhole.consume(status);
+            }
+        }
+        for (int i = 0; i < ENTITIES_PER_TXN; i++) {
+            subject.markEntityChanged(random.nextLong(1, numEntities));
+        }
+    }
+
+    private static class FixedMemoryProperties extends GlobalDynamicProperties {
+        FixedMemoryProperties() {
+            super(null, null);
+        }
+
+        @Override
+        public void reload() {
+            /* No-op */
+        }
+
+        @Override
+        public int changeHistorianMemorySecs() {
+            return MEMORY_SECS;
+        }
+    }
+}
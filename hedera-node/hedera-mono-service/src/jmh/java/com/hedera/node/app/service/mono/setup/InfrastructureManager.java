@@ -18,6 +18,7 @@ package com.hedera.node.app.service.mono.setup;
 import static com.hedera.node.app.service.mono.setup.InfrastructureBundle.allImplied;
 import static com.hedera.node.app.service.mono.setup.InfrastructureInitializer.initializeBundle;
 
+import com.hedera.node.app.service.mono.context.properties.BootstrapProperties;
 import com.hedera.node.app.service.mono.state.virtual.VirtualMapFactory;
 import com.hedera.node.app.service.mono.state.virtual.VirtualMapFactory.JasperDbBuilderFactory;
 import com.swirlds.jasperdb.JasperDbBuilder;
@@ -104,7 +105,7 @@ public class InfrastructureManager {
                         return new JasperDbBuilder().storageDir(Paths.get(storageLoc));
                     }
                 };
-        return new VirtualMapFactory(jdbBuilderFactory);
+        return new VirtualMapFactory(jdbBuilderFactory, new BootstrapProperties());
     }
 
     private static String bundleDirFor(
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.submerkle;
+
+import com.hedera.node.app.service.mono.legacy.core.jproto.TxnReceipt;
+import com.hedera.node.app.service.mono.records.GrpcRecordCache;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the ways a {@code GetAccountRecords} answer can get the gRPC form of a payer's records.
+ * {@code rebuiltGrpc} converts every record on every query; {@code cachedGrpc} reuses the forms
+ * kept by the {@link GrpcRecordCache}; and {@code deserializedGrpc} first reads each record from
+ * its saved-state form, as after a restart.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class ExpirableTxnRecordBench {
+    @Param("180")
+    private int numRecords;
+
+    private final GrpcRecordCache grpcRecordCache = new GrpcRecordCache();
+    private List<ExpirableTxnRecord> records;
+    private List<byte[]> serializedRecords;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        records = new ArrayList<>(numRecords);
+        serializedRecords = new ArrayList<>(numRecords);
+        for (int i = 0; i < numRecords; i++) {
+            final var record = transferRecord(i);
+            records.add(record);
+            serializedRecords.add(serialized(record));
+        }
+    }
+
+    @Benchmark
+    public void rebuiltGrpc(final Blackhole blackhole) {
+        for (final var record : records) {
+            blackhole.consume(record.asGrpc().getSerializedSize());
+        }
+    }
+
+    @Benchmark
+    public void cachedGrpc(final Blackhole blackhole) {
+        for (final var record : records) {
+            blackhole.consume(grpcRecordCache.grpcFormOf(record).getSerializedSize());
+        }
+    }
+
+    @Benchmark
+    public void deserializedGrpc(final Blackhole blackhole) throws IOException {
+        for (final var serialized : serializedRecords) {
+            final var in = new SerializableDataInputStream(new ByteArrayInputStream(serialized));
+            final var record = new ExpirableTxnRecord();
+            record.deserialize(in, ExpirableTxnRecord.CURRENT_VERSION);
+            blackhole.consume(record.asGrpc().getSerializedSize());
+        }
+    }
+
+    private static ExpirableTxnRecord transferRecord(final int i) {
+        final var payer = AccountID.newBuilder().setAccountNum(1_001L + i).build();
+        final var validStart = Timestamp.newBuilder().setSeconds(1_234_567L).setNanos(i).build();
+        final var txnId =
+                TxnId.fromGrpc(
+                        TransactionID.newBuilder()
+                                .setAccountID(payer)
+                                .setTransactionValidStart(validStart)
+                                .build());
+        return ExpirableTxnRecord.newBuilder()
+                .setTxnId(txnId)
+                .setReceipt(TxnReceipt.newBuilder().setStatus("SUCCESS").build())
+                .setTxnHash(new byte[48])
+                .setConsensusTime(new RichInstant(1_234_568L, i))
+                .setMemo("Transfer #" + i)
+                .setFee(100_000L)
+                .setHbarAdjustments(
+                        new CurrencyAdjustments(
+                                new long[] {-100_002L, 1L, 100_001L},
+                                new long[] {3L, 98L, 1_001L + i}))
+                .setTokens(List.of(EntityId.fromNum(5_001L)))
+                .setTokenAdjustments(
+                        List.of(
+                                new CurrencyAdjustments(
+                                        new long[] {-1L, 1L}, new long[] {1_001L + i, 2_001L})))
+                .build();
+    }
+
+    private static byte[] serialized(final ExpirableTxnRecord record) throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        try (final var out = new SerializableDataOutputStream(baos)) {
+            record.serialize(out);
+        }
+        return baos.toByteArray();
+    }
+}
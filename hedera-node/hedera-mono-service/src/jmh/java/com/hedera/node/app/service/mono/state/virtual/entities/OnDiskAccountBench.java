@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.virtual.entities;
+
+import com.google.protobuf.ByteString;
+import com.hedera.node.app.service.mono.legacy.core.jproto.JEd25519Key;
+import com.hedera.node.app.service.mono.state.submerkle.FcTokenAllowanceId;
+import com.hedera.node.app.service.mono.utils.EntityNum;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading an {@link OnDiskAccount} the way a crypto transfer does, with its
+ * variable-length part decoded lazily, against forcing that part to decode as every read did
+ * before. The {@code get} benchmarks deserialize an account and read its balance and expiry; the
+ * {@code getForModify} benchmarks also copy it, change its balance and serialize it back. Run with
+ * {@code -prof gc} to compare the bytes allocated per access.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class OnDiskAccountBench {
+    private static final int NUM_ALLOWANCES = 5;
+
+    private ByteBuffer serialized;
+    private ByteBuffer out;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final var account = new OnDiskAccount();
+        account.setAccountNumber(1_234_567L);
+        account.setHbarBalance(100_000_000L);
+        account.setExpiry(1_234_567_890L);
+        account.setKey(new JEd25519Key(new byte[32]));
+        account.setMemo("A memo of typical length for a transfer-heavy account");
+        account.setAlias(ByteString.copyFrom(new byte[20]));
+        final var hbarAllowances = new TreeMap<EntityNum, Long>();
+        final var fungibleAllowances = new TreeMap<FcTokenAllowanceId, Long>();
+        final var nftOperatorApprovals = new TreeSet<FcTokenAllowanceId>();
+        for (int i = 1; i <= NUM_ALLOWANCES; i++) {
+            final var allowanceId =
+                    FcTokenAllowanceId.from(EntityNum.fromLong(1000L + i), EntityNum.fromLong(i));
+            hbarAllowances.put(EntityNum.fromLong(i), (long) i);
+            fungibleAllowances.put(allowanceId, (long) i);
+            nftOperatorApprovals.add(allowanceId);
+        }
+        account.setHbarAllowances(hbarAllowances);
+        account.setFungibleAllowances(fungibleAllowances);
+        account.setNftOperatorApprovals(nftOperatorApprovals);
+
+        serialized = ByteBuffer.allocate(4096);
+        account.serialize(serialized);
+        serialized.flip();
+        out = ByteBuffer.allocate(4096);
+    }
+
+    @Benchmark
+    public void eagerGet(final Blackhole blackhole) throws IOException {
+        final var account = read();
+        blackhole.consume(account.getKey());
+        blackhole.consume(account.getHbarBalance());
+        blackhole.consume(account.getExpiry());
+    }
+
+    @Benchmark
+    public void lazyGet(final Blackhole blackhole) throws IOException {
+        final var account = read();
+        blackhole.consume(account.getHbarBalance());
+        blackhole.consume(account.getExpiry());
+    }
+
+    @Benchmark
+    public void eagerGetForModify(final Blackhole blackhole) throws IOException {
+        final var account = read();
+        blackhole.consume(account.getKey());
+        modifyAndWrite(account, blackhole);
+    }
+
+    @Benchmark
+    public void lazyGetForModify(final Blackhole blackhole) throws IOException {
+        modifyAndWrite(read(), blackhole);
+    }
+
+    private OnDiskAccount read() throws IOException {
+        final var account = new OnDiskAccount();
+        account.deserialize(serialized.duplicate(), account.getVersion());
+        return account;
+    }
+
+    private void modifyAndWrite(final OnDiskAccount account, final Blackhole blackhole)
+            throws IOException {
+        final var mutable = account.copy();
+        mutable.setHbarBalance(mutable.getHbarBalance() - 1);
+        out.clear();
+        mutable.serialize(out);
+        blackhole.consume(out.position());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.txns.span;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+
+import com.hedera.node.app.service.mono.sigs.order.LinkedRefs;
+import com.hedera.node.app.service.mono.utils.accessors.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares rationalizing and then reading an Ethereum span through the typed {@link SpanMap}
+ * against the string-keyed {@code Map<String, Object>} it replaced. Run with {@code -prof gc} to
+ * compare the bytes allocated per rationalization.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class SpanMapBench {
+    private static final String ETH_TX_BODY_META_KEY = "ethTxBodyMeta";
+    private static final String ETH_TX_EXPANSION_KEY = "ethTxExpansion";
+    private static final String FEE_SCHEDULES_GENERATION_KEY = "feeSchedulesGeneration";
+
+    private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+
+    private long generation;
+    private TransactionBody synthBody;
+    private EthTxExpansion expansion;
+    private SignedTxnAccessor accessor;
+    private Map<String, Object> legacySpanMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        synthBody = TransactionBody.getDefaultInstance();
+        expansion = new EthTxExpansion(new LinkedRefs(), OK);
+        accessor = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
+    }
+
+    @Benchmark
+    public void stringKeyedSpan(final Blackhole blackhole) {
+        final Map<String, Object> spanMap = new HashMap<>();
+        spanMap.put(FEE_SCHEDULES_GENERATION_KEY, ++generation);
+        spanMap.put(ETH_TX_BODY_META_KEY, synthBody);
+        spanMap.put(ETH_TX_EXPANSION_KEY, expansion);
+        legacySpanMap = Collections.unmodifiableMap(spanMap);
+
+        blackhole.consume((Long) legacySpanMap.get(FEE_SCHEDULES_GENERATION_KEY));
+        blackhole.consume((TransactionBody) legacySpanMap.get(ETH_TX_BODY_META_KEY));
+        blackhole.consume((EthTxExpansion) legacySpanMap.get(ETH_TX_EXPANSION_KEY));
+    }
+
+    @Benchmark
+    public void typedSpan(final Blackhole blackhole) {
+        final var spanMap = new SpanMap();
+        spanMap.setFeeSchedulesGeneration(++generation);
+        spanMapAccessor.setEthTxBodyMeta(spanMap, synthBody);
+        spanMapAccessor.setEthTxExpansion(spanMap, expansion);
+        accessor.setRationalizedSpanMap(spanMap);
+
+        blackhole.consume(spanMapAccessor.getFeeSchedulesGeneration(accessor));
+        blackhole.consume(spanMapAccessor.getEthTxBodyMeta(accessor));
+        blackhole.consume(spanMapAccessor.getEthTxExpansion(accessor));
+    }
+}
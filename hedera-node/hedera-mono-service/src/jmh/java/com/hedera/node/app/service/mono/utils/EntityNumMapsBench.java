@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares node-local indices keyed by entity number as boxed {@code HashMap}s against the
+ * primitive {@link LongLongHashMap} now used for them. Run with {@code -prof gc} to also compare
+ * the allocation rates that drive GC pauses.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class EntityNumMapsBench {
+    private static final int OPS_PER_INVOCATION = 10_000;
+
+    @Param("1000000")
+    private int numKeys;
+
+    private long[] keys;
+    private Map<EntityNum, Long> boxedEntityNumMap;
+    private Map<Long, Long> boxedLongMap;
+    private LongLongHashMap primitiveMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new SplittableRandom(1_234_567L);
+        keys = new long[OPS_PER_INVOCATION];
+        for (int i = 0; i < OPS_PER_INVOCATION; i++) {
+            keys[i] = random.nextLong(1, numKeys);
+        }
+        boxedEntityNumMap = new HashMap<>();
+        boxedLongMap = new HashMap<>();
+        primitiveMap = new LongLongHashMap();
+        for (long num = 1; num <= numKeys; num++) {
+            boxedEntityNumMap.put(EntityNum.fromLong(num), num);
+            boxedLongMap.put(num, num);
+            primitiveMap.put(num, num);
+        }
+    }
+
+    @Benchmark
+    public void boxedEntityNumMerge() {
+        for (final var key : keys) {
+            boxedEntityNumMap.merge(EntityNum.fromLong(key), 1L, Long::sum);
+        }
+    }
+
+    @Benchmark
+    public void primitiveAddToValue() {
+        for (final var key : keys) {
+            primitiveMap.addToValue(key, 1L);
+        }
+    }
+
+    @Benchmark
+    public void boxedLongLookup(final Blackhole blackhole) {
+        for (final var key : keys) {
+            blackhole.consume(boxedLongMap.getOrDefault(key, 0L));
+        }
+    }
+
+    @Benchmark
+    public void primitiveLookup(final Blackhole blackhole) {
+        for (final var key : keys) {
+            blackhole.consume(primitiveMap.getIfAbsent(key, 0L));
+        }
+    }
+}
@@ -51,6 +51,7 @@ import com.hedera.node.app.service.mono.state.forensics.HashLogger;
 import com.hedera.node.app.service.mono.state.initialization.SystemAccountsCreator;
 import com.hedera.node.app.service.mono.state.initialization.SystemFilesManager;
 import com.hedera.node.app.service.mono.state.initialization.TreasuryCloner;
+import com.hedera.node.app.service.mono.state.logic.InMemoryChildHashing;
 import com.hedera.node.app.service.mono.state.logic.NetworkCtxManager;
 import com.hedera.node.app.service.mono.state.migration.HederaAccount;
 import com.hedera.node.app.service.mono.state.migration.MigrationRecordsManager;
@@ -120,6 +121,8 @@ public interface ServicesApp {
 
     ProcessLogic logic();
 
+    InMemoryChildHashing inMemoryChildHashing();
+
     EventExpansion eventExpansion();
 
     ServicesInitFlow initializationFlow();
@@ -36,6 +36,7 @@ import static com.swirlds.common.system.InitTrigger.RESTART;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
 import com.hedera.node.app.service.mono.context.properties.BootstrapProperties;
+import com.hedera.node.app.service.mono.context.properties.PropertySource;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccountState;
 import com.hedera.node.app.service.mono.state.merkle.MerkleNetworkContext;
@@ -75,6 +76,7 @@ import com.hedera.node.app.service.mono.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.ImmutableHash;
 import com.swirlds.common.crypto.RunningHash;
 import com.swirlds.common.merkle.MerkleInternal;
@@ -103,6 +105,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -123,6 +126,9 @@ public class ServicesState extends PartialNaryMerkleInternal
     private int deserializedStateVersion = CURRENT_VERSION;
     // All of the state that is not itself hashed or serialized, but only derived from such state
     private StateMetadata metadata;
+    /* The System.nanoTime() at which this state was made immutable by a copy, if not yet hashed;
+     * volatile because the platform sets the hash from one of its own threads */
+    private volatile long immutableSinceNanos = 0L;
     /* Set to true if virtual NFTs are enabled. */
     private boolean enabledVirtualNft;
     private boolean enableVirtualAccounts;
@@ -240,17 +246,22 @@ public class ServicesState extends PartialNaryMerkleInternal
             // Because the flags below can be toggled without a software upgrade, we need to
             // check for migration regardless of versioning. This should be done after any
             // other migrations are complete.
-            if (shouldMigrateNfts()) {
-                migrateFromUniqueTokenMerkleMap(this);
-            }
-            if (shouldMigrateSomethingToDisk()) {
-                mapToDiskMigration.migrateToDiskAsApropos(
-                        INSERTIONS_PER_COPY,
-                        this,
-                        new ToDiskMigrations(enableVirtualAccounts, enableVirtualTokenRels),
-                        vmFactory.apply(JasperDbBuilder::new),
-                        accountMigrator,
-                        tokenRelMigrator);
+            if (shouldMigrateNfts() || shouldMigrateSomethingToDisk()) {
+                final var virtualMapFactory =
+                        vmFactory.apply(JasperDbBuilder::new, getBootstrapProperties());
+                virtualMapFactory.logTuningReport();
+                if (shouldMigrateNfts()) {
+                    migrateFromUniqueTokenMerkleMap(this, virtualMapFactory);
+                }
+                if (shouldMigrateSomethingToDisk()) {
+                    mapToDiskMigration.migrateToDiskAsApropos(
+                            INSERTIONS_PER_COPY,
+                            this,
+                            new ToDiskMigrations(enableVirtualAccounts, enableVirtualTokenRels),
+                            virtualMapFactory,
+                            accountMigrator,
+                            tokenRelMigrator);
+                }
             }
         }
     }
@@ -261,6 +272,7 @@ public class ServicesState extends PartialNaryMerkleInternal
         final var app = metadata.app();
         app.dualStateAccessor().setDualState(dualState);
         app.logic().incorporateConsensus(round);
+        app.inMemoryChildHashing().finishRound(this);
     }
 
     @Override
@@ -406,6 +418,7 @@ public class ServicesState extends PartialNaryMerkleInternal
     @Override
     public synchronized ServicesState copy() {
         setImmutable(true);
+        immutableSinceNanos = System.nanoTime();
 
         final var that = new ServicesState(this);
         if (metadata != null) {
@@ -415,6 +428,15 @@ public class ServicesState extends PartialNaryMerkleInternal
         return that;
     }
 
+    @Override
+    public void setHash(final Hash hash) {
+        super.setHash(hash);
+        if (hash != null && immutableSinceNanos != 0L && metadata != null) {
+            metadata.app().inMemoryChildHashing().recordStateHashed(immutableSinceNanos);
+            immutableSinceNanos = 0L;
+        }
+    }
+
     /* --- Archivable --- */
     @Override
     public synchronized void archive() {
@@ -608,7 +630,9 @@ public class ServicesState extends PartialNaryMerkleInternal
             final AddressBook addressBook,
             final long seqStart,
             final BootstrapProperties bootstrapProperties) {
-        final var virtualMapFactory = new VirtualMapFactory(JasperDbBuilder::new);
+        final var virtualMapFactory =
+                new VirtualMapFactory(JasperDbBuilder::new, bootstrapProperties);
+        virtualMapFactory.logTuningReport();
 
         if (enabledVirtualNft) {
             setChild(
@@ -659,8 +683,8 @@ public class ServicesState extends PartialNaryMerkleInternal
 
     private static StakingInfoBuilder stakingInfoBuilder =
             StakingInfoMapBuilder::buildStakingInfoMap;
-    private static Function<JasperDbBuilderFactory, VirtualMapFactory> vmFactory =
-            VirtualMapFactory::new;
+    private static BiFunction<JasperDbBuilderFactory, PropertySource, VirtualMapFactory>
+            vmFactory = VirtualMapFactory::new;
     private static Supplier<ServicesApp.Builder> appBuilder = DaggerServicesApp::builder;
     private static MapToDiskMigration mapToDiskMigration =
             MapMigrationToDisk::migrateToDiskAsApropos;
@@ -856,7 +880,8 @@ public class ServicesState extends PartialNaryMerkleInternal
     }
 
     @VisibleForTesting
-    static void setVmFactory(final Function<JasperDbBuilderFactory, VirtualMapFactory> vmFactory) {
+    static void setVmFactory(
+            final BiFunction<JasperDbBuilderFactory, PropertySource, VirtualMapFactory> vmFactory) {
         ServicesState.vmFactory = vmFactory;
     }
 
@@ -18,6 +18,7 @@ package com.hedera.node.app.service.mono.context.init;
 import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
 import com.hedera.node.app.service.mono.state.expiry.ExpiryManager;
 import com.hedera.node.app.service.mono.state.logic.NetworkCtxManager;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -30,14 +31,17 @@ public class EntitiesInitializationFlow {
     private final ExpiryManager expiries;
     private final NetworkCtxManager networkCtxManager;
     private final SigImpactHistorian sigImpactHistorian;
+    private final CustomFeeScheduleVersions feeScheduleVersions;
 
     @Inject
     public EntitiesInitializationFlow(
             final ExpiryManager expiries,
             final SigImpactHistorian sigImpactHistorian,
+            final CustomFeeScheduleVersions feeScheduleVersions,
             final NetworkCtxManager networkCtxManager) {
         this.expiries = expiries;
         this.sigImpactHistorian = sigImpactHistorian;
+        this.feeScheduleVersions = feeScheduleVersions;
         this.networkCtxManager = networkCtxManager;
     }
 
@@ -50,6 +54,8 @@ public class EntitiesInitializationFlow {
 
         sigImpactHistorian.invalidateCurrentWindow();
         log.info("Signature impact history invalidated");
+        feeScheduleVersions.invalidate();
+        log.info("Custom fee schedule versions invalidated");
 
         // Re-initialize the "observable" system files; that is, the files which have
         // associated callbacks managed by the SysFilesCallback object. We explicitly
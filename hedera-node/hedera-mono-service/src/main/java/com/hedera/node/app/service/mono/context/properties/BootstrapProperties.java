@@ -346,6 +346,11 @@ public final class BootstrapProperties implements PropertySource {
                     GRPC_TLS_PORT,
                     HEDERA_ACCOUNTS_EXPORT_PATH,
                     HEDERA_EXPORT_ACCOUNTS_ON_STARTUP,
+                    HEDERA_LOCAL_CALL_MAX_CONCURRENT,
+                    HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE,
+                    HEDERA_SIGS_LOOK_AHEAD_TXNS,
+                    HEDERA_ETH_TX_SIGS_CACHE_SIZE,
+                    HEDERA_GAS_ESTIMATES_MIN_USED_RATIO,
                     HEDERA_PREFETCH_QUEUE_CAPACITY,
                     HEDERA_PREFETCH_THREAD_POOL_SIZE,
                     HEDERA_PREFETCH_CODE_CACHE_TTL_SECS,
@@ -377,7 +382,33 @@ public final class BootstrapProperties implements PropertySource {
                     STATS_HAPI_OPS_SPEEDOMETER_UPDATE_INTERVAL_MS,
                     STATS_THROTTLE_UTILS_GAUGE_UPDATE_INTERVAL_MS,
                     STATS_RUNNING_AVG_HALF_LIFE_SECS,
-                    STATS_SPEEDOMETER_HALF_LIFE_SECS);
+                    STATS_SPEEDOMETER_HALF_LIFE_SECS,
+                    STATS_EVM_PROFILING_SAMPLE_ONE_IN_N,
+                    STATS_EVM_PROFILING_DUMP_INTERVAL_SECS,
+                    VIRTUAL_MAPS_BLOBS_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_BLOBS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_BLOBS_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_CONTRACT_STORAGE_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_CONTRACT_STORAGE_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_CONTRACT_STORAGE_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_SCHEDULE_LIST_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_SCHEDULE_LIST_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_SCHEDULE_LIST_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_SCHEDULE_TEMPORAL_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_SCHEDULE_TEMPORAL_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_SCHEDULE_TEMPORAL_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_SCHEDULE_EQUALITY_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_SCHEDULE_EQUALITY_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_SCHEDULE_EQUALITY_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_ACCOUNTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_ACCOUNTS_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_TOKEN_RELS_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_TOKEN_RELS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_TOKEN_RELS_PREFER_DISK_BASED_INDEXES,
+                    VIRTUAL_MAPS_NFTS_MAX_NUM_OF_KEYS,
+                    VIRTUAL_MAPS_NFTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                    VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES);
 
     public static final Set<String> BOOTSTRAP_PROP_NAMES =
             unmodifiableSet(
@@ -432,6 +463,11 @@ public final class BootstrapProperties implements PropertySource {
                     entry(GRPC_TLS_PORT, AS_INT),
                     entry(HEDERA_EXPORT_ACCOUNTS_ON_STARTUP, AS_BOOLEAN),
                     entry(HEDERA_FIRST_USER_ENTITY, AS_LONG),
+                    entry(HEDERA_LOCAL_CALL_MAX_CONCURRENT, AS_INT),
+                    entry(HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE, AS_INT),
+                    entry(HEDERA_SIGS_LOOK_AHEAD_TXNS, AS_INT),
+                    entry(HEDERA_ETH_TX_SIGS_CACHE_SIZE, AS_INT),
+                    entry(HEDERA_GAS_ESTIMATES_MIN_USED_RATIO, AS_DOUBLE),
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, AS_INT),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, AS_INT),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, AS_INT),
@@ -581,11 +617,37 @@ public final class BootstrapProperties implements PropertySource {
                     entry(STATS_CONS_THROTTLES_TO_SAMPLE, AS_CS_STRINGS),
                     entry(STATS_HAPI_THROTTLES_TO_SAMPLE, AS_CS_STRINGS),
                     entry(STATS_EXECUTION_TIMES_TO_TRACK, AS_INT),
+                    entry(STATS_EVM_PROFILING_SAMPLE_ONE_IN_N, AS_INT),
+                    entry(STATS_EVM_PROFILING_DUMP_INTERVAL_SECS, AS_INT),
                     entry(HEDERA_ALLOWANCES_MAX_TXN_LIMIT, AS_INT),
                     entry(HEDERA_ALLOWANCES_MAX_ACCOUNT_LIMIT, AS_INT),
                     entry(HEDERA_ALLOWANCES_IS_ENABLED, AS_BOOLEAN),
                     entry(ENTITIES_LIMIT_TOKEN_ASSOCIATIONS, AS_BOOLEAN),
                     entry(UTIL_PRNG_IS_ENABLED, AS_BOOLEAN),
                     entry(TOKENS_AUTO_CREATIONS_ENABLED, AS_BOOLEAN),
-                    entry(WORKFLOWS_ENABLED, AS_BOOLEAN));
+                    entry(WORKFLOWS_ENABLED, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_BLOBS_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_BLOBS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_BLOBS_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_CONTRACT_STORAGE_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_CONTRACT_STORAGE_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_CONTRACT_STORAGE_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_SCHEDULE_LIST_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_SCHEDULE_LIST_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_SCHEDULE_LIST_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_SCHEDULE_TEMPORAL_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_SCHEDULE_TEMPORAL_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_SCHEDULE_TEMPORAL_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_SCHEDULE_EQUALITY_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_SCHEDULE_EQUALITY_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_SCHEDULE_EQUALITY_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_ACCOUNTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_ACCOUNTS_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_TOKEN_RELS_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_TOKEN_RELS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_TOKEN_RELS_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN),
+                    entry(VIRTUAL_MAPS_NFTS_MAX_NUM_OF_KEYS, AS_LONG),
+                    entry(VIRTUAL_MAPS_NFTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, AS_LONG),
+                    entry(VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES, AS_BOOLEAN));
 }
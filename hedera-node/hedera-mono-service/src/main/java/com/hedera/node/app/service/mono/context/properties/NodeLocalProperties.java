@@ -20,7 +20,11 @@ import static com.hedera.node.app.service.mono.context.properties.PropertyNames.
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_ETH_TX_SIGS_CACHE_SIZE;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_GAS_ESTIMATES_MIN_USED_RATIO;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_LOCAL_CALL_MAX_CONCURRENT;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
@@ -30,6 +34,7 @@ import static com.hedera.node.app.service.mono.context.properties.PropertyNames.
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_PERIOD;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_RECORD_STREAM_QUEUE_CAPACITY;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_RECORD_STREAM_SIDE_CAR_DIR;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_SIGS_LOOK_AHEAD_TXNS;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.ISS_RESET_PERIOD;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.ISS_ROUNDS_TO_LOG;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.NETTY_MODE;
@@ -47,6 +52,8 @@ import static com.hedera.node.app.service.mono.context.properties.PropertyNames.
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.QUERIES_BLOB_LOOK_UP_RETRIES;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_CONS_THROTTLES_TO_SAMPLE;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_ENTITY_UTILS_GAUGE_UPDATE_INTERVAL_MS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_EVM_PROFILING_DUMP_INTERVAL_SECS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_EVM_PROFILING_SAMPLE_ONE_IN_N;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_EXECUTION_TIMES_TO_TRACK;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_HAPI_OPS_SPEEDOMETER_UPDATE_INTERVAL_MS;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_HAPI_THROTTLES_TO_SAMPLE;
@@ -98,6 +105,13 @@ public class NodeLocalProperties {
     private int prefetchQueueCapacity;
     private int prefetchThreadPoolSize;
     private int prefetchCodeCacheTtlSecs;
+    private int localCallMaxConcurrent;
+    private int localCallResultCacheSize;
+    private int sigsLookAheadTxns;
+    private int ethTxSigsCacheSize;
+    private double gasEstimatesMinUsedRatio;
+    private int evmProfilingSampleOneInN;
+    private int evmProfilingDumpIntervalSecs;
     private List<String> consThrottlesToSample;
     private List<String> hapiThrottlesToSample;
     private String sidecarDir;
@@ -148,6 +162,15 @@ public class NodeLocalProperties {
         prefetchQueueCapacity = properties.getIntProperty(HEDERA_PREFETCH_QUEUE_CAPACITY);
         prefetchThreadPoolSize = properties.getIntProperty(HEDERA_PREFETCH_THREAD_POOL_SIZE);
         prefetchCodeCacheTtlSecs = properties.getIntProperty(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS);
+        localCallMaxConcurrent = properties.getIntProperty(HEDERA_LOCAL_CALL_MAX_CONCURRENT);
+        localCallResultCacheSize = properties.getIntProperty(HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE);
+        sigsLookAheadTxns = properties.getIntProperty(HEDERA_SIGS_LOOK_AHEAD_TXNS);
+        ethTxSigsCacheSize = properties.getIntProperty(HEDERA_ETH_TX_SIGS_CACHE_SIZE);
+        gasEstimatesMinUsedRatio =
+                properties.getDoubleProperty(HEDERA_GAS_ESTIMATES_MIN_USED_RATIO);
+        evmProfilingSampleOneInN = properties.getIntProperty(STATS_EVM_PROFILING_SAMPLE_ONE_IN_N);
+        evmProfilingDumpIntervalSecs =
+                properties.getIntProperty(STATS_EVM_PROFILING_DUMP_INTERVAL_SECS);
         consThrottlesToSample = properties.getStringsProperty(STATS_CONS_THROTTLES_TO_SAMPLE);
         hapiThrottlesToSample = properties.getStringsProperty(STATS_HAPI_THROTTLES_TO_SAMPLE);
         entityUtilStatsUpdateIntervalMs =
@@ -292,6 +315,34 @@ public class NodeLocalProperties {
         return prefetchCodeCacheTtlSecs;
     }
 
+    public int localCallMaxConcurrent() {
+        return localCallMaxConcurrent;
+    }
+
+    public int localCallResultCacheSize() {
+        return localCallResultCacheSize;
+    }
+
+    public int sigsLookAheadTxns() {
+        return sigsLookAheadTxns;
+    }
+
+    public int ethTxSigsCacheSize() {
+        return ethTxSigsCacheSize;
+    }
+
+    public double gasEstimatesMinUsedRatio() {
+        return gasEstimatesMinUsedRatio;
+    }
+
+    public int evmProfilingSampleOneInN() {
+        return evmProfilingSampleOneInN;
+    }
+
+    public int evmProfilingDumpIntervalSecs() {
+        return evmProfilingDumpIntervalSecs;
+    }
+
     public List<String> consThrottlesToSample() {
         return consThrottlesToSample;
     }
@@ -270,6 +270,13 @@ public class PropertyNames {
     public static final String GRPC_TLS_PORT = "grpc.tlsPort";
     public static final String HEDERA_ACCOUNTS_EXPORT_PATH = "hedera.accountsExportPath";
     public static final String HEDERA_EXPORT_ACCOUNTS_ON_STARTUP = "hedera.exportAccountsOnStartup";
+    public static final String HEDERA_LOCAL_CALL_MAX_CONCURRENT = "hedera.localCall.maxConcurrent";
+    public static final String HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE =
+            "hedera.localCall.resultCacheSize";
+    public static final String HEDERA_SIGS_LOOK_AHEAD_TXNS = "hedera.sigs.lookAheadTxns";
+    public static final String HEDERA_ETH_TX_SIGS_CACHE_SIZE = "hedera.ethTxSigs.cacheSize";
+    public static final String HEDERA_GAS_ESTIMATES_MIN_USED_RATIO =
+            "hedera.gasEstimates.minUsedRatio";
     public static final String HEDERA_PREFETCH_QUEUE_CAPACITY = "hedera.prefetch.queueCapacity";
     public static final String HEDERA_PREFETCH_THREAD_POOL_SIZE = "hedera.prefetch.threadPoolSize";
     public static final String HEDERA_PREFETCH_CODE_CACHE_TTL_SECS =
@@ -310,5 +317,56 @@ public class PropertyNames {
             "stats.throttleUtils.gaugeUpdateIntervalMs";
     public static final String STATS_RUNNING_AVG_HALF_LIFE_SECS = "stats.runningAvgHalfLifeSecs";
     public static final String STATS_SPEEDOMETER_HALF_LIFE_SECS = "stats.speedometerHalfLifeSecs";
+    public static final String STATS_EVM_PROFILING_SAMPLE_ONE_IN_N =
+            "stats.evmProfiling.sampleOneInN";
+    public static final String STATS_EVM_PROFILING_DUMP_INTERVAL_SECS =
+            "stats.evmProfiling.dumpIntervalSecs";
     public static final String WORKFLOWS_ENABLED = "hedera.workflows.enabled";
+    public static final String VIRTUAL_MAPS_BLOBS_MAX_NUM_OF_KEYS =
+            "virtualMaps.blobs.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_BLOBS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.blobs.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_BLOBS_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.blobs.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_CONTRACT_STORAGE_MAX_NUM_OF_KEYS =
+            "virtualMaps.contractStorage.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_CONTRACT_STORAGE_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.contractStorage.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_CONTRACT_STORAGE_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.contractStorage.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_SCHEDULE_LIST_MAX_NUM_OF_KEYS =
+            "virtualMaps.scheduleList.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_SCHEDULE_LIST_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.scheduleList.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_SCHEDULE_LIST_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.scheduleList.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_SCHEDULE_TEMPORAL_MAX_NUM_OF_KEYS =
+            "virtualMaps.scheduleTemporal.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_SCHEDULE_TEMPORAL_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.scheduleTemporal.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_SCHEDULE_TEMPORAL_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.scheduleTemporal.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_SCHEDULE_EQUALITY_MAX_NUM_OF_KEYS =
+            "virtualMaps.scheduleEquality.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_SCHEDULE_EQUALITY_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.scheduleEquality.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_SCHEDULE_EQUALITY_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.scheduleEquality.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS =
+            "virtualMaps.accounts.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_ACCOUNTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.accounts.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_ACCOUNTS_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.accounts.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_TOKEN_RELS_MAX_NUM_OF_KEYS =
+            "virtualMaps.tokenRels.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_TOKEN_RELS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.tokenRels.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_TOKEN_RELS_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.tokenRels.preferDiskBasedIndexes";
+    public static final String VIRTUAL_MAPS_NFTS_MAX_NUM_OF_KEYS = "virtualMaps.nfts.maxNumOfKeys";
+    public static final String VIRTUAL_MAPS_NFTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD =
+            "virtualMaps.nfts.internalHashesRamToDiskThreshold";
+    public static final String VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES =
+            "virtualMaps.nfts.preferDiskBasedIndexes";
 }
@@ -20,6 +20,7 @@ import static com.hedera.node.app.service.mono.contracts.ContractsV_0_30Module.E
 
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
+import com.hedera.node.app.service.mono.stats.EvmProfiler;
 import com.hedera.node.app.service.mono.store.contracts.CodeCache;
 import com.hedera.node.app.service.mono.store.contracts.HederaMutableWorldState;
 import com.hedera.node.app.service.mono.store.models.Account;
@@ -55,7 +56,8 @@ public class CallEvmTxProcessor extends EvmTxProcessor {
             final Map<String, Provider<MessageCallProcessor>> mcps,
             final Map<String, Provider<ContractCreationProcessor>> ccps,
             final AliasManager aliasManager,
-            final InHandleBlockMetaSource blockMetaSource) {
+            final InHandleBlockMetaSource blockMetaSource,
+            final EvmProfiler profiler) {
         super(
                 worldState,
                 livePricesSource,
@@ -63,7 +65,8 @@ public class CallEvmTxProcessor extends EvmTxProcessor {
                 gasCalculator,
                 mcps,
                 ccps,
-                blockMetaSource);
+                blockMetaSource,
+                profiler);
         this.codeCache = codeCache;
         this.aliasManager = aliasManager;
     }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.contracts.execution;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import com.hedera.node.app.service.mono.context.primitives.StateView;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
+import com.hedera.node.app.service.mono.utils.accessors.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.ContractID;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Admits {@link ContractCallLocalQuery} executions on behalf of {@link CallLocalExecutor} callers.
+ *
+ * <p>At most {@code hedera.localCall.maxConcurrent} static EVM calls may run at once on a node;
+ * any call beyond that fails with a {@code BUSY} {@link ResourceLimitException} so the client can
+ * retry elsewhere, instead of tying up another gRPC thread. Since the paid query flow runs the call
+ * while computing its fee, this rejection happens before any query payment is submitted. (The
+ * query gas throttle has already been applied by the time a call gets here, so this bound only
+ * protects the node's own CPU.)
+ *
+ * <p>Because a static call is a pure function of the state it runs against, responses are also
+ * cached by the consensus time of the last transaction handled in that state, the target contract,
+ * the calldata, the sender and the gas limit; so identical {@code view} calls against the same
+ * state are answered without re-running the EVM. Setting {@code hedera.localCall.resultCacheSize}
+ * to zero disables the cache.
+ */
+@Singleton
+public class CallLocalGateway {
+    private static final Logger log = LogManager.getLogger(CallLocalGateway.class);
+
+    @Nullable private final Semaphore permits;
+    @Nullable private final Cache<CallKey, ContractCallLocalResponse> results;
+
+    @Inject
+    public CallLocalGateway(final NodeLocalProperties properties) {
+        final var maxConcurrent = properties.localCallMaxConcurrent();
+        permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+        final var cacheSize = properties.localCallResultCacheSize();
+        if (cacheSize > 0) {
+            results = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+            log.info("Caching the last {} ContractCallLocal responses", cacheSize);
+        } else {
+            results = null;
+        }
+    }
+
+    /**
+     * Returns the response to the given query against the given state, either from the result
+     * cache or by running the given execution if a permit is available.
+     *
+     * @param op the query to answer
+     * @param view the state the query is answered against
+     * @param execution the static EVM call answering the query
+     * @return the (possibly cached) response
+     * @throws ResourceLimitException with {@code BUSY} if no permit was available
+     */
+    public ContractCallLocalResponse execute(
+            final ContractCallLocalQuery op,
+            final StateView view,
+            final Supplier<ContractCallLocalResponse> execution) {
+        final CallKey key = results == null ? null : keyFor(op, view);
+        if (key != null) {
+            final var cached = results.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        if (permits != null && !permits.tryAcquire()) {
+            throw new ResourceLimitException(BUSY);
+        }
+        try {
+            final var response = execution.get();
+            if (key != null) {
+                results.put(key, response);
+            }
+            return response;
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    @Nullable
+    private static CallKey keyFor(final ContractCallLocalQuery op, final StateView view) {
+        final var networkCtx = view.networkCtx();
+        final Instant lastHandledTime =
+                networkCtx == null ? null : networkCtx.consensusTimeOfLastHandledTxn();
+        if (lastHandledTime == null) {
+            return null;
+        }
+        final var sender =
+                op.hasSenderId()
+                        ? op.getSenderId()
+                        : SignedTxnAccessor.uncheckedFrom(op.getHeader().getPayment())
+                                .getTxn()
+                                .getTransactionID()
+                                .getAccountID();
+        return new CallKey(
+                lastHandledTime,
+                op.getContractID(),
+                op.getFunctionParameters(),
+                sender,
+                op.getGas());
+    }
+
+    // The protobuf ByteString caches its hash, so the calldata is hashed at most once per query
+    private record CallKey(
+            Instant lastHandledTime,
+            ContractID contractId,
+            ByteString callData,
+            AccountID sender,
+            long gas) {}
+
+    @VisibleForTesting
+    int availablePermits() {
+        return permits == null ? Integer.MAX_VALUE : permits.availablePermits();
+    }
+}
@@ -25,8 +25,12 @@ import com.hedera.node.app.service.evm.contracts.execution.BlockMetaSource;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTxProcessor;
 import com.hedera.node.app.service.evm.exceptions.InvalidTransactionException;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.HederaOperationTracer;
 import com.hedera.node.app.service.mono.contracts.execution.traceability.HederaTracer;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.ProfilingTracer;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.StreamedActions;
 import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
+import com.hedera.node.app.service.mono.stats.EvmProfiler;
 import com.hedera.node.app.service.mono.store.contracts.HederaMutableWorldState;
 import com.hedera.node.app.service.mono.store.contracts.HederaWorldState;
 import com.hedera.node.app.service.mono.store.models.Account;
@@ -56,6 +60,7 @@ import org.hyperledger.besu.evm.processor.MessageCallProcessor;
  * execution of an EVM transaction.
  */
 abstract class EvmTxProcessor extends HederaEvmTxProcessor {
+    @Nullable private final EvmProfiler profiler;
 
     protected EvmTxProcessor(
             final LivePricesSource livePricesSource,
@@ -63,7 +68,7 @@ abstract class EvmTxProcessor extends HederaEvmTxProcessor {
             final GasCalculator gasCalculator,
             final Map<String, Provider<MessageCallProcessor>> mcps,
             final Map<String, Provider<ContractCreationProcessor>> ccps) {
-        this(null, livePricesSource, dynamicProperties, gasCalculator, mcps, ccps, null);
+        this(null, livePricesSource, dynamicProperties, gasCalculator, mcps, ccps, null, null);
     }
 
     protected EvmTxProcessor(
@@ -73,7 +78,8 @@ abstract class EvmTxProcessor extends HederaEvmTxProcessor {
             final GasCalculator gasCalculator,
             final Map<String, Provider<MessageCallProcessor>> mcps,
             final Map<String, Provider<ContractCreationProcessor>> ccps,
-            final BlockMetaSource blockMetaSource) {
+            final BlockMetaSource blockMetaSource,
+            @Nullable final EvmProfiler profiler) {
         super(
                 worldState,
                 livePricesSource,
@@ -82,6 +88,7 @@ abstract class EvmTxProcessor extends HederaEvmTxProcessor {
                 mcps,
                 ccps,
                 blockMetaSource);
+        this.profiler = profiler;
     }
 
     /**
@@ -137,10 +144,14 @@ abstract class EvmTxProcessor extends HederaEvmTxProcessor {
                         (HederaWorldState.Updater) updater);
 
         // Enable tracing of contract actions if action sidecars are enabled and this is not a
-        // static call
+        // static call; and release each action into its encoded form as soon as it is final
+        final var areActionSidecarsEnabled =
+                !isStatic && isSideCarTypeEnabled(SidecarType.CONTRACT_ACTION);
         final HederaTracer hederaTracer =
-                new HederaTracer(!isStatic && isSideCarTypeEnabled(SidecarType.CONTRACT_ACTION));
-        super.setOperationTracer(hederaTracer);
+                new HederaTracer(
+                        areActionSidecarsEnabled,
+                        areActionSidecarsEnabled ? new StreamedActions() : null);
+        super.setOperationTracer(profiledIfSampled(hederaTracer));
 
         try {
             super.execute(
@@ -237,6 +248,13 @@ abstract class EvmTxProcessor extends HederaEvmTxProcessor {
         }
     }
 
+    private HederaOperationTracer profiledIfSampled(final HederaTracer hederaTracer) {
+        if (profiler != null && profiler.shouldProfileNext()) {
+            return new ProfilingTracer(hederaTracer, profiler);
+        }
+        return hederaTracer;
+    }
+
     private boolean isSideCarTypeEnabled(final SidecarType sidecarType) {
         return ((GlobalDynamicProperties) dynamicProperties)
                 .enabledSidecars()
@@ -29,6 +29,7 @@ import static org.hyperledger.besu.evm.frame.MessageFrame.Type.CONTRACT_CREATION
 
 import com.hedera.node.app.service.mono.state.submerkle.EntityId;
 import com.hedera.node.app.service.mono.store.contracts.HederaStackedWorldStateUpdater;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.evm.code.CodeV0;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
@@ -46,11 +48,22 @@ import org.hyperledger.besu.evm.frame.MessageFrame.Type;
 import org.hyperledger.besu.evm.internal.Words;
 import org.hyperledger.besu.evm.operation.Operation.OperationResult;
 
+/**
+ * Traces the {@link SolidityAction}s of an EVM transaction for its contract actions sidecar.
+ *
+ * <p>If created with {@link StreamedActions}, each action is released into its encoded form as
+ * soon as it can no longer change; that is, once it has been popped from the stack of executing
+ * actions and finalized, and is not the last action traced (which an account creation result may
+ * still finalize again).
+ */
 public class HederaTracer implements HederaOperationTracer {
 
     private final List<SolidityAction> allActions;
     private final Deque<SolidityAction> currentActionsStack;
+    private final IntArrayList currentActionIndices;
     private final boolean areActionSidecarsEnabled;
+    private final StreamedActions streamedActions;
+    private int unreleasedLastIndex = -1;
 
     private static final int OP_CODE_CREATE = 0xF0;
     private static final int OP_CODE_CALL = 0xF1;
@@ -60,9 +73,17 @@ public class HederaTracer implements HederaOperationTracer {
     private static final int OP_CODE_STATICCALL = 0xFA;
 
     public HederaTracer(final boolean areActionSidecarsEnabled) {
+        this(areActionSidecarsEnabled, null);
+    }
+
+    public HederaTracer(
+            final boolean areActionSidecarsEnabled,
+            @Nullable final StreamedActions streamedActions) {
         this.currentActionsStack = new ArrayDeque<>();
-        this.allActions = new ArrayList<>();
+        this.currentActionIndices = new IntArrayList();
+        this.allActions = streamedActions != null ? streamedActions : new ArrayList<>();
         this.areActionSidecarsEnabled = areActionSidecarsEnabled;
+        this.streamedActions = streamedActions;
     }
 
     @Override
@@ -82,7 +103,10 @@ public class HederaTracer implements HederaOperationTracer {
                     final var nextFrame = currentFrame.getMessageFrameStack().peek();
                     trackInnerActionFor(nextFrame, currentFrame);
                 } else {
-                    finalizeActionFor(currentActionsStack.pop(), currentFrame, frameState);
+                    final var action = currentActionsStack.pop();
+                    final var index = currentActionIndices.removeAtIndex(lastStackIndex());
+                    finalizeActionFor(action, currentFrame, frameState);
+                    releaseIfFinal(index);
                 }
             }
         }
@@ -139,10 +163,34 @@ public class HederaTracer implements HederaOperationTracer {
         }
         actionConfig.accept(action);
 
-        allActions.add(action);
+        addAction(action);
+        currentActionIndices.add(allActions.size() - 1);
         currentActionsStack.push(action);
     }
 
+    private void addAction(final SolidityAction action) {
+        if (unreleasedLastIndex != -1) {
+            streamedActions.release(unreleasedLastIndex);
+            unreleasedLastIndex = -1;
+        }
+        allActions.add(action);
+    }
+
+    private void releaseIfFinal(final int index) {
+        if (streamedActions == null) {
+            return;
+        }
+        if (index == allActions.size() - 1) {
+            unreleasedLastIndex = index;
+        } else {
+            streamedActions.release(index);
+        }
+    }
+
+    private int lastStackIndex() {
+        return currentActionIndices.size() - 1;
+    }
+
     private void finalizeActionFor(
             final SolidityAction action, final MessageFrame frame, final State frameState) {
         if (frameState == State.CODE_SUCCESS || frameState == State.COMPLETED_SUCCESS) {
@@ -206,7 +254,8 @@ public class HederaTracer implements HederaOperationTracer {
                             INVALID_SOLIDITY_ADDRESS.name().getBytes(StandardCharsets.UTF_8));
                     syntheticInvalidAction.setCallOperationType(
                             toCallOperationType(frame.getCurrentOperation().getOpcode()));
-                    allActions.add(syntheticInvalidAction);
+                    addAction(syntheticInvalidAction);
+                    releaseIfFinal(allActions.size() - 1);
                 }
             } else {
                 action.setError(new byte[0]);
@@ -221,11 +270,13 @@ public class HederaTracer implements HederaOperationTracer {
     public void tracePrecompileResult(final MessageFrame frame, final ContractActionType type) {
         if (areActionSidecarsEnabled) {
             final var lastAction = currentActionsStack.pop();
+            final var index = currentActionIndices.removeAtIndex(lastStackIndex());
             lastAction.setCallType(type);
             lastAction.setRecipientAccount(null);
             lastAction.setTargetedAddress(null);
             lastAction.setRecipientContract(EntityId.fromAddress(frame.getContractAddress()));
             finalizeActionFor(lastAction, frame, frame.getState());
+            releaseIfFinal(index);
         }
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.contracts.execution.traceability;
+
+import com.hedera.node.app.service.mono.stats.EvmProfiler;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.frame.MessageFrame.State;
+import org.hyperledger.besu.evm.operation.Operation.OperationResult;
+
+/**
+ * Wraps the {@link HederaOperationTracer} of a sampled EVM transaction to time each of its
+ * operations, storage accesses, and precompile calls for the {@link EvmProfiler}.
+ *
+ * <p>A storage access is cold if it is the first access to its slot in the transaction, as in
+ * EIP-2929; this is tracked here instead of asking the frame, since warming a slot is the only
+ * query the frame offers. A precompile call is timed from the moment its calling frame (or the
+ * initial frame) is suspended until its result is traced, and is keyed by address; plus the
+ * function selector for Hedera system contracts, so e.g. each HTS precompile gets its own timing.
+ */
+public class ProfilingTracer implements HederaOperationTracer {
+    private static final int OP_CODE_SLOAD = 0x54;
+    private static final int OP_CODE_SSTORE = 0x55;
+    private static final int SELECTOR_LEN = 4;
+
+    private final EvmProfiler profiler;
+    private final HederaOperationTracer delegate;
+    private final Map<Address, Set<Bytes32>> accessedSlots = new HashMap<>();
+
+    private int opCode;
+    private boolean isColdAccess;
+    private long opStartNanos;
+    private long precompileStartNanos;
+
+    public ProfilingTracer(final HederaOperationTracer delegate, final EvmProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void init(final MessageFrame initialFrame) {
+        delegate.init(initialFrame);
+        precompileStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void tracePreExecution(final MessageFrame frame) {
+        delegate.tracePreExecution(frame);
+        opCode = frame.getCurrentOperation().getOpcode();
+        if (isStorageAccess(opCode) && frame.stackSize() > 0) {
+            final var slots =
+                    accessedSlots.computeIfAbsent(
+                            frame.getRecipientAddress(), ignore -> new HashSet<>());
+            isColdAccess = slots.add(Bytes32.leftPad(frame.getStackItem(0)));
+        }
+        opStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void tracePostExecution(
+            final MessageFrame frame, final OperationResult operationResult) {
+        final var elapsed = System.nanoTime() - opStartNanos;
+        profiler.recordOp(opCode, elapsed);
+        if (isStorageAccess(opCode)) {
+            profiler.recordStorageAccess(opCode == OP_CODE_SSTORE, isColdAccess, elapsed);
+        }
+        delegate.tracePostExecution(frame, operationResult);
+        if (frame.getState() == State.CODE_SUSPENDED) {
+            precompileStartNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void tracePrecompileCall(
+            final MessageFrame frame, final long gasRequirement, final Bytes output) {
+        delegate.tracePrecompileCall(frame, gasRequirement, output);
+    }
+
+    @Override
+    public void tracePrecompileResult(final MessageFrame frame, final ContractActionType type) {
+        profiler.recordPrecompile(
+                precompileNameOf(frame, type), System.nanoTime() - precompileStartNanos);
+        delegate.tracePrecompileResult(frame, type);
+    }
+
+    @Override
+    public void traceAccountCreationResult(
+            final MessageFrame frame, final Optional<ExceptionalHaltReason> haltReason) {
+        delegate.traceAccountCreationResult(frame, haltReason);
+    }
+
+    static String precompileNameOf(final MessageFrame frame, final ContractActionType type) {
+        final var address = frame.getContractAddress().toShortHexString();
+        final var input = frame.getInputData();
+        if (type == ContractActionType.SYSTEM && input.size() >= SELECTOR_LEN) {
+            return address + ":" + input.slice(0, SELECTOR_LEN).toUnprefixedHexString();
+        }
+        return address;
+    }
+
+    private static boolean isStorageAccess(final int opCode) {
+        return opCode == OP_CODE_SLOAD || opCode == OP_CODE_SSTORE;
+    }
+}
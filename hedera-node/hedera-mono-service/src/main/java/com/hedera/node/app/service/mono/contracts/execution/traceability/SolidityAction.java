@@ -155,6 +155,48 @@ public class SolidityAction {
         return callOperationType;
     }
 
+    public static SolidityAction fromGrpc(final ContractAction grpc) {
+        final var action =
+                new SolidityAction(
+                        ContractActionType.values()[grpc.getCallTypeValue()],
+                        grpc.getGas(),
+                        grpc.getInput().toByteArray(),
+                        grpc.getValue(),
+                        grpc.getCallDepth());
+        switch (grpc.getCallerCase()) {
+            case CALLING_ACCOUNT -> action.setCallingAccount(
+                    EntityId.fromGrpcAccountId(grpc.getCallingAccount()));
+            case CALLING_CONTRACT -> action.setCallingContract(
+                    EntityId.fromGrpcContractId(grpc.getCallingContract()));
+            default -> {
+                // no caller to set
+            }
+        }
+        switch (grpc.getRecipientCase()) {
+            case RECIPIENT_ACCOUNT -> action.setRecipientAccount(
+                    EntityId.fromGrpcAccountId(grpc.getRecipientAccount()));
+            case RECIPIENT_CONTRACT -> action.setRecipientContract(
+                    EntityId.fromGrpcContractId(grpc.getRecipientContract()));
+            case TARGETED_ADDRESS -> action.setTargetedAddress(
+                    grpc.getTargetedAddress().toByteArray());
+            default -> {
+                // no recipient to set
+            }
+        }
+        action.setGasUsed(grpc.getGasUsed());
+        switch (grpc.getResultDataCase()) {
+            case OUTPUT -> action.setOutput(grpc.getOutput().toByteArray());
+            case REVERT_REASON -> action.setRevertReason(grpc.getRevertReason().toByteArray());
+            case ERROR -> action.setError(grpc.getError().toByteArray());
+            default -> {
+                // no result data to set
+            }
+        }
+        action.setCallOperationType(
+                CallOperationType.values()[grpc.getCallOperationTypeValue()]);
+        return action;
+    }
+
     public ContractAction toGrpc() {
         final var grpc = ContractAction.newBuilder();
         grpc.setCallType(
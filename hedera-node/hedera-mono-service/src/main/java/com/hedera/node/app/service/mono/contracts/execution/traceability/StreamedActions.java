@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.contracts.execution.traceability;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.stream.proto.ContractAction;
+import com.hedera.services.stream.proto.ContractActions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The {@link SolidityAction}s of a single EVM transaction, in creation order, where each action
+ * can be released as soon as it is final by encoding it as a {@link ContractAction} into one
+ * growable buffer. This keeps the memory of a long-running call with many inner actions close to
+ * the size of its eventual sidecar, instead of holding every action's object graph until the
+ * transaction completes.
+ *
+ * <p>Since a parent action is only final after all its children, actions are released out of
+ * order; so a primitive index records the offset and length of each released action's encoding
+ * by its creation index, and {@link #toGrpc()} reassembles the sidecar in creation order.
+ */
+public class StreamedActions extends AbstractList<SolidityAction> implements RandomAccess {
+    private static final int NOT_RELEASED = -1;
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    private static final int INITIAL_INDEX_SIZE = 64;
+
+    private final List<SolidityAction> unreleased = new ArrayList<>();
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int bufferSize = 0;
+    private int[] offsets = newIndex(INITIAL_INDEX_SIZE);
+    private int[] lengths = new int[INITIAL_INDEX_SIZE];
+
+    @Override
+    public boolean add(final SolidityAction action) {
+        unreleased.add(action);
+        return true;
+    }
+
+    /**
+     * Returns the action with the given creation index; if it was already released, this is a
+     * new {@link SolidityAction} decoded from its encoding.
+     *
+     * @param index the creation index of the action
+     * @return the action
+     */
+    @Override
+    public SolidityAction get(final int index) {
+        final var action = unreleased.get(index);
+        return action != null ? action : SolidityAction.fromGrpc(releasedGrpc(index));
+    }
+
+    @Override
+    public int size() {
+        return unreleased.size();
+    }
+
+    /**
+     * Encodes the action with the given creation index and drops the reference to it. Must only
+     * be called once the action can no longer change.
+     *
+     * @param index the creation index of the action to release
+     */
+    public void release(final int index) {
+        final var action = unreleased.get(index);
+        if (action == null) {
+            return;
+        }
+        final var grpc = action.toGrpc();
+        final var length = grpc.getSerializedSize();
+        ensureBufferCapacity(length);
+        ensureIndexCapacity(index);
+        try {
+            final var out = CodedOutputStream.newInstance(buffer, bufferSize, length);
+            grpc.writeTo(out);
+            out.checkNoSpaceLeft();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        offsets[index] = bufferSize;
+        lengths[index] = length;
+        bufferSize += length;
+        unreleased.set(index, null);
+    }
+
+    public boolean isReleased(final int index) {
+        return index < offsets.length && offsets[index] != NOT_RELEASED;
+    }
+
+    public int encodedSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Builds the contract actions sidecar from all actions in creation order, released or not.
+     *
+     * @return the gRPC contract actions
+     */
+    public ContractActions toGrpc() {
+        final var grpc = ContractActions.newBuilder();
+        for (int i = 0, n = unreleased.size(); i < n; i++) {
+            final var action = unreleased.get(i);
+            grpc.addContractActions(action != null ? action.toGrpc() : releasedGrpc(i));
+        }
+        return grpc.build();
+    }
+
+    private ContractAction releasedGrpc(final int index) {
+        try {
+            return ContractAction.parser().parseFrom(buffer, offsets[index], lengths[index]);
+        } catch (final InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Released action #" + index + " is unreadable", e);
+        }
+    }
+
+    private void ensureBufferCapacity(final int length) {
+        final var required = bufferSize + length;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, 2 * buffer.length));
+        }
+    }
+
+    private void ensureIndexCapacity(final int index) {
+        if (index >= offsets.length) {
+            final var capacity = Math.max(index + 1, 2 * offsets.length);
+            final var grownOffsets = newIndex(capacity);
+            System.arraycopy(offsets, 0, grownOffsets, 0, offsets.length);
+            offsets = grownOffsets;
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+    }
+
+    private static int[] newIndex(final int capacity) {
+        final var index = new int[capacity];
+        Arrays.fill(index, NOT_RELEASED);
+        return index;
+    }
+}
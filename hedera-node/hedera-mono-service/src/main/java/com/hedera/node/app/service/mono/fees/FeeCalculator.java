@@ -15,6 +15,7 @@
  */
 package com.hedera.node.app.service.mono.fees;
 
+import com.hedera.node.app.hapi.fees.calc.FeeEstimates;
 import com.hedera.node.app.hapi.utils.fee.FeeObject;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.fees.calculation.RenewAssessment;
@@ -27,6 +28,7 @@ import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.ResponseType;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +46,34 @@ public interface FeeCalculator {
 
     FeeObject estimateFee(TxnAccessor accessor, JKey payerKey, StateView view, Timestamp at);
 
+    /**
+     * Estimates the fees of a batch of transactions at once, each exactly as {@link
+     * #estimateFee(TxnAccessor, JKey, StateView, Timestamp)} would.
+     *
+     * <p>Nothing in the node calls this yet; it is the entry point for a future SDK-facing fee
+     * estimation gateway. Each transaction's fees are still computed on the single-transaction
+     * path, so a batch only saves the repeated resolution of prices and exchange rates.
+     *
+     * @param accessors the transactions to estimate
+     * @param payerKeys the key of each transaction's payer, in the same order
+     * @param view the state to estimate against
+     * @param at the expected consensus time of the transactions
+     * @return the estimated fees, in batch order
+     * @throws IllegalArgumentException if there is not exactly one payer key per transaction
+     */
+    default FeeEstimates estimateFees(
+            final List<TxnAccessor> accessors,
+            final List<JKey> payerKeys,
+            final StateView view,
+            final Timestamp at) {
+        final var n = requireOneKeyPerTxn(accessors, payerKeys);
+        final var estimates = new FeeEstimates(n);
+        for (int i = 0; i < n; i++) {
+            estimates.set(i, estimateFee(accessors.get(i), payerKeys.get(i), view, at));
+        }
+        return estimates;
+    }
+
     FeeObject estimatePayment(
             Query query, FeeData usagePrices, StateView view, Timestamp at, ResponseType type);
 
@@ -73,4 +103,16 @@ public interface FeeCalculator {
      */
     RenewAssessment assessCryptoAutoRenewal(
             HederaAccount expiredAccount, long requestedRenewal, Instant now, HederaAccount payer);
+
+    static int requireOneKeyPerTxn(final List<TxnAccessor> accessors, final List<JKey> payerKeys) {
+        if (accessors.size() != payerKeys.size()) {
+            throw new IllegalArgumentException(
+                    "Got "
+                            + payerKeys.size()
+                            + " payer keys for "
+                            + accessors.size()
+                            + " transactions");
+        }
+        return accessors.size();
+    }
 }
@@ -30,12 +30,10 @@ import com.hederahashgraph.api.proto.java.FeeSchedule;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Timestamp;
-import com.hederahashgraph.api.proto.java.TimestampSeconds;
 import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
 import java.time.Instant;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -46,6 +44,9 @@ import org.apache.logging.log4j.Logger;
 /**
  * Implements a {@link UsagePricesProvider} by loading the required fee schedules from the Hedera
  * "file system".
+ *
+ * <p>Each load compiles the schedules into an immutable {@link CompiledFeeSchedules} snapshot that
+ * is published with one volatile write, so queries never see a mix of old and new prices.
  */
 @Singleton
 public class BasicFcfsUsagePrices implements UsagePricesProvider {
@@ -80,11 +81,7 @@ public class BasicFcfsUsagePrices implements UsagePricesProvider {
 
     CurrentAndNextFeeSchedule feeSchedules;
 
-    private Timestamp currFunctionUsagePricesExpiry;
-    private Timestamp nextFunctionUsagePricesExpiry;
-
-    private EnumMap<HederaFunctionality, Map<SubType, FeeData>> currFunctionUsagePrices;
-    private EnumMap<HederaFunctionality, Map<SubType, FeeData>> nextFunctionUsagePrices;
+    private volatile CompiledFeeSchedules compiledSchedules;
 
     @Inject
     public BasicFcfsUsagePrices(final HederaFs hfs, final FileNumbers fileNumbers) {
@@ -130,66 +127,73 @@ public class BasicFcfsUsagePrices implements UsagePricesProvider {
     @Override
     public Map<SubType, FeeData> pricesGiven(
             final HederaFunctionality function, final Timestamp at) {
-        try {
-            final Map<HederaFunctionality, Map<SubType, FeeData>> functionUsagePrices =
-                    applicableUsagePrices(at);
-            final Map<SubType, FeeData> usagePrices = functionUsagePrices.get(function);
-            Objects.requireNonNull(usagePrices);
-            return usagePrices;
-        } catch (final Exception e) {
+        final var schedules = compiledSchedules;
+        if (schedules != null) {
+            final var usagePrices = schedules.pricesAt(function, at.getSeconds());
+            if (usagePrices != null) {
+                return usagePrices;
+            }
+        }
+        log.debug(
+                "Default usage price will be used, no specific usage prices available for"
+                        + " function {} @ {}!",
+                function,
+                Instant.ofEpochSecond(at.getSeconds(), at.getNanos()));
+        return DEFAULT_RESOURCE_PRICES;
+    }
+
+    @Override
+    public Map<HederaFunctionality, Map<SubType, FeeData>> pricesGiven(
+            final Set<HederaFunctionality> functions, final Timestamp at) {
+        final var schedules = compiledSchedules;
+        if (schedules == null) {
             log.debug(
-                    "Default usage price will be used, no specific usage prices available for"
-                            + " function {} @ {}!",
-                    function,
+                    "Default usage prices will be used, no usage prices available @ {}!",
                     Instant.ofEpochSecond(at.getSeconds(), at.getNanos()));
         }
-        return DEFAULT_RESOURCE_PRICES;
+        final var atSecs = at.getSeconds();
+        final Map<HederaFunctionality, Map<SubType, FeeData>> prices =
+                new EnumMap<>(HederaFunctionality.class);
+        for (final var function : functions) {
+            final var usagePrices = schedules == null ? null : schedules.pricesAt(function, atSecs);
+            prices.put(function, usagePrices != null ? usagePrices : DEFAULT_RESOURCE_PRICES);
+        }
+        return prices;
     }
 
     @Override
     public FeeData defaultPricesGiven(final HederaFunctionality function, final Timestamp at) {
+        final var schedules = compiledSchedules;
+        if (schedules != null && schedules.pricesAt(function, at.getSeconds()) != null) {
+            return schedules.defaultPricesAt(function, at.getSeconds());
+        }
         return pricesGiven(function, at).get(DEFAULT);
     }
 
     @Override
     public Triple<Map<SubType, FeeData>, Instant, Map<SubType, FeeData>> activePricingSequence(
             final HederaFunctionality function) {
+        final var schedules = compiledSchedules;
         return Triple.of(
-                currFunctionUsagePrices.get(function),
-                Instant.ofEpochSecond(
-                        currFunctionUsagePricesExpiry.getSeconds(),
-                        currFunctionUsagePricesExpiry.getNanos()),
-                nextFunctionUsagePrices.get(function));
-    }
-
-    private Map<HederaFunctionality, Map<SubType, FeeData>> applicableUsagePrices(
-            final Timestamp at) {
-        if (onlyNextScheduleApplies(at)) {
-            return nextFunctionUsagePrices;
-        } else {
-            return currFunctionUsagePrices;
-        }
-    }
-
-    private boolean onlyNextScheduleApplies(final Timestamp at) {
-        return at.getSeconds() >= currFunctionUsagePricesExpiry.getSeconds()
-                && at.getSeconds() < nextFunctionUsagePricesExpiry.getSeconds();
+                schedules.currentPrices(function),
+                schedules.currentExpiry(),
+                schedules.nextPrices(function));
     }
 
     public void setFeeSchedules(final CurrentAndNextFeeSchedule feeSchedules) {
-        this.feeSchedules = feeSchedules;
-
-        currFunctionUsagePrices = functionUsagePricesFrom(feeSchedules.getCurrentFeeSchedule());
-        currFunctionUsagePricesExpiry =
-                asTimestamp(feeSchedules.getCurrentFeeSchedule().getExpiryTime());
+        publish(compile(feeSchedules));
+    }
 
-        nextFunctionUsagePrices = functionUsagePricesFrom(feeSchedules.getNextFeeSchedule());
-        nextFunctionUsagePricesExpiry =
-                asTimestamp(feeSchedules.getNextFeeSchedule().getExpiryTime());
+    CompiledFeeSchedules compile(final CurrentAndNextFeeSchedule feeSchedules) {
+        return new CompiledFeeSchedules(
+                feeSchedules,
+                functionUsagePricesFrom(feeSchedules.getCurrentFeeSchedule()),
+                functionUsagePricesFrom(feeSchedules.getNextFeeSchedule()));
     }
 
-    private Timestamp asTimestamp(final TimestampSeconds ts) {
-        return Timestamp.newBuilder().setSeconds(ts.getSeconds()).build();
+    private void publish(final CompiledFeeSchedules schedules) {
+        this.feeSchedules = schedules.source();
+        this.compiledSchedules = schedules;
     }
 
     EnumMap<HederaFunctionality, Map<SubType, FeeData>> functionUsagePricesFrom(
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.fees.calculation;
+
+import static com.hederahashgraph.api.proto.java.SubType.DEFAULT;
+
+import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SubType;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable, pre-flattened view of the current and next fee schedules. The prices of each
+ * operation are held in arrays indexed by the {@link HederaFunctionality} ordinal, and the schedule
+ * expiries as primitive seconds; so finding the prices of an operation at a given time takes two
+ * comparisons and an array index, with no map lookups or protobuf getters.
+ *
+ * <p>Instances are built once per fee schedules file, possibly off the handle thread, and never
+ * change after construction; so they can be published to other threads with a single volatile
+ * write.
+ */
+final class CompiledFeeSchedules {
+    private static final int NUM_FUNCTIONS = HederaFunctionality.values().length;
+
+    private final CurrentAndNextFeeSchedule source;
+    private final long currExpirySecs;
+    private final long nextExpirySecs;
+    private final Map<SubType, FeeData>[] currPrices;
+    private final Map<SubType, FeeData>[] nextPrices;
+    private final FeeData[] currDefaultPrices;
+    private final FeeData[] nextDefaultPrices;
+
+    CompiledFeeSchedules(
+            final CurrentAndNextFeeSchedule source,
+            final Map<HederaFunctionality, Map<SubType, FeeData>> currFunctionUsagePrices,
+            final Map<HederaFunctionality, Map<SubType, FeeData>> nextFunctionUsagePrices) {
+        this.source = source;
+        currExpirySecs = source.getCurrentFeeSchedule().getExpiryTime().getSeconds();
+        nextExpirySecs = source.getNextFeeSchedule().getExpiryTime().getSeconds();
+        currPrices = flattened(currFunctionUsagePrices);
+        nextPrices = flattened(nextFunctionUsagePrices);
+        currDefaultPrices = defaultsIn(currPrices);
+        nextDefaultPrices = defaultsIn(nextPrices);
+    }
+
+    /**
+     * Returns the prices of the given operation in the schedule that applies at the given time.
+     *
+     * @param function the operation of interest
+     * @param atSecs the consensus second of interest
+     * @return the prices of each subtype of the operation, or null if the schedule has none
+     */
+    Map<SubType, FeeData> pricesAt(final HederaFunctionality function, final long atSecs) {
+        final var prices = onlyNextScheduleApplies(atSecs) ? nextPrices : currPrices;
+        return prices[function.ordinal()];
+    }
+
+    /**
+     * Returns the {@link SubType#DEFAULT} prices of the given operation in the schedule that
+     * applies at the given time.
+     *
+     * @param function the operation of interest
+     * @param atSecs the consensus second of interest
+     * @return the default prices of the operation, or null if the schedule has none
+     */
+    FeeData defaultPricesAt(final HederaFunctionality function, final long atSecs) {
+        final var defaults =
+                onlyNextScheduleApplies(atSecs) ? nextDefaultPrices : currDefaultPrices;
+        return defaults[function.ordinal()];
+    }
+
+    Map<SubType, FeeData> currentPrices(final HederaFunctionality function) {
+        return currPrices[function.ordinal()];
+    }
+
+    Map<SubType, FeeData> nextPrices(final HederaFunctionality function) {
+        return nextPrices[function.ordinal()];
+    }
+
+    Instant currentExpiry() {
+        return Instant.ofEpochSecond(currExpirySecs);
+    }
+
+    CurrentAndNextFeeSchedule source() {
+        return source;
+    }
+
+    private boolean onlyNextScheduleApplies(final long atSecs) {
+        return atSecs >= currExpirySecs && atSecs < nextExpirySecs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<SubType, FeeData>[] flattened(
+            final Map<HederaFunctionality, Map<SubType, FeeData>> functionUsagePrices) {
+        final Map<SubType, FeeData>[] flat = new Map[NUM_FUNCTIONS];
+        functionUsagePrices.forEach(
+                (function, prices) ->
+                        flat[function.ordinal()] = Collections.unmodifiableMap(prices));
+        return flat;
+    }
+
+    private static FeeData[] defaultsIn(final Map<SubType, FeeData>[] prices) {
+        final var defaults = new FeeData[NUM_FUNCTIONS];
+        for (int i = 0; i < NUM_FUNCTIONS; i++) {
+            if (prices[i] != null) {
+                defaults[i] = prices[i].get(DEFAULT);
+            }
+        }
+        return defaults;
+    }
+}
@@ -18,12 +18,14 @@ package com.hedera.node.app.service.mono.fees.calculation;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.FEE_DIVISOR_FACTOR;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.getFeeObject;
 import static com.hedera.node.app.hapi.utils.fee.FeeBuilder.getTinybarsFromTinyCents;
+import static com.hedera.node.app.service.mono.fees.FeeCalculator.requireOneKeyPerTxn;
 import static com.hedera.node.app.service.mono.keys.HederaKeyTraversal.numSimpleKeys;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractAutoRenew;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCreate;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoAccountAutoRenew;
 
+import com.hedera.node.app.hapi.fees.calc.FeeEstimates;
 import com.hedera.node.app.hapi.utils.exception.InvalidTxBodyException;
 import com.hedera.node.app.hapi.utils.fee.FeeObject;
 import com.hedera.node.app.hapi.utils.fee.SigValueObj;
@@ -35,6 +37,7 @@ import com.hedera.node.app.service.mono.fees.calculation.utils.PricedUsageCalcul
 import com.hedera.node.app.service.mono.fees.congestion.FeeMultiplierSource;
 import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
 import com.hedera.node.app.service.mono.state.migration.HederaAccount;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.txns.crypto.AutoCreationLogic;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountAmount;
@@ -48,6 +51,7 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -69,6 +73,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 
     private final AutoRenewCalcs autoRenewCalcs;
     private final HbarCentExchange exchange;
+    private final MiscSpeedometers speedometers;
     private final FeeMultiplierSource feeMultiplierSource;
     private final UsagePricesProvider usagePrices;
     private final PricedUsageCalculator pricedUsageCalculator;
@@ -83,6 +88,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
             final UsagePricesProvider usagePrices,
             final @GenericPriceMultiplier FeeMultiplierSource feeMultiplierSource,
             final PricedUsageCalculator pricedUsageCalculator,
+            final MiscSpeedometers speedometers,
             final Set<QueryResourceUsageEstimator> queryUsageEstimators,
             final Map<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators) {
         this.exchange = exchange;
@@ -92,6 +98,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
         this.txnUsageEstimators = txnUsageEstimators;
         this.queryUsageEstimators = new ArrayList<>(queryUsageEstimators);
         this.pricedUsageCalculator = pricedUsageCalculator;
+        this.speedometers = speedometers;
 
         autoCreationLogic.setFeeCalculator(this);
     }
@@ -140,6 +147,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
             Function<QueryResourceUsageEstimator, FeeData> usageFn) {
         var usageEstimator = getQueryUsageEstimator(query);
         var queryUsage = usageFn.apply(usageEstimator);
+        speedometers.cycleFeesComputed();
         return getFeeObject(usagePrices, queryUsage, exchange.rate(at));
     }
 
@@ -162,6 +170,42 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
         return feeGiven(accessor, payerKey, view, prices, exchange.rate(at), false);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resolves the exchange rate once for the whole batch, and the prices once per distinct
+     * functionality in it.
+     */
+    @Override
+    public FeeEstimates estimateFees(
+            final List<TxnAccessor> accessors,
+            final List<JKey> payerKeys,
+            final StateView view,
+            final Timestamp at) {
+        final var n = requireOneKeyPerTxn(accessors, payerKeys);
+        final var functions = EnumSet.noneOf(HederaFunctionality.class);
+        for (final var accessor : accessors) {
+            functions.add(accessor.getFunction());
+        }
+        final var prices = usagePrices.pricesGiven(functions, at);
+        final var rate = exchange.rate(at);
+
+        final var estimates = new FeeEstimates(n);
+        for (int i = 0; i < n; i++) {
+            final var accessor = accessors.get(i);
+            estimates.set(
+                    i,
+                    feeGiven(
+                            accessor,
+                            payerKeys.get(i),
+                            view,
+                            prices.get(accessor.getFunction()),
+                            rate,
+                            false));
+        }
+        return estimates;
+    }
+
     @Override
     public long estimatedGasPriceInTinybars(HederaFunctionality function, Timestamp at) {
         var rates = exchange.rate(at);
@@ -240,6 +284,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
             try {
                 final var usage = usageEstimator.usageGiven(accessor.getTxn(), sigUsage, view);
                 final var applicablePrices = prices.get(usage.getSubType());
+                speedometers.cycleFeesComputed();
                 return getFeeObject(
                         applicablePrices,
                         usage,
@@ -21,7 +21,9 @@ import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Triple;
 
 /**
@@ -56,6 +58,25 @@ public interface UsagePricesProvider {
      */
     Map<SubType, FeeData> pricesGiven(HederaFunctionality function, Timestamp at);
 
+    /**
+     * Returns the prices that are likely to be required for each of the given operations at the
+     * given time, as {@link #pricesGiven(HederaFunctionality, Timestamp)} would; but resolving the
+     * applicable price schedule just once for all of them.
+     *
+     * @param functions the operations of interest
+     * @param at the expected consensus time for the operations
+     * @return the estimated prices of each operation
+     */
+    default Map<HederaFunctionality, Map<SubType, FeeData>> pricesGiven(
+            final Set<HederaFunctionality> functions, final Timestamp at) {
+        final Map<HederaFunctionality, Map<SubType, FeeData>> prices =
+                new EnumMap<>(HederaFunctionality.class);
+        for (final var function : functions) {
+            prices.put(function, pricesGiven(function, at));
+        }
+        return prices;
+    }
+
     /**
      * Returns the prices in tinyCents that are likely to be required to consume various resources
      * while processing the given operation at the given time. (In principle, the price schedules
@@ -20,12 +20,15 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 import com.google.protobuf.ByteString;
 import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
+import com.hedera.node.app.service.evm.contracts.execution.BlockMetaSource;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
 import com.hedera.node.app.service.mono.contracts.execution.CallLocalEvmTxProcessor;
 import com.hedera.node.app.service.mono.contracts.execution.CallLocalExecutor;
+import com.hedera.node.app.service.mono.contracts.execution.CallLocalGateway;
 import com.hedera.node.app.service.mono.contracts.execution.StaticBlockMetaProvider;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
 import com.hedera.node.app.service.mono.fees.calculation.QueryResourceUsageEstimator;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.ledger.ids.EntityIdSource;
@@ -34,6 +37,7 @@ import com.hedera.node.app.service.mono.store.contracts.CodeCache;
 import com.hedera.node.app.service.mono.store.contracts.HederaWorldState;
 import com.hedera.node.app.service.mono.store.contracts.StaticEntityAccess;
 import com.hedera.node.app.service.mono.txns.validation.OptionValidator;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
 import com.hederahashgraph.api.proto.java.ContractID;
@@ -62,6 +66,7 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
     private final SmartContractFeeBuilder usageEstimator;
     private final Supplier<CallLocalEvmTxProcessor> evmTxProcessorProvider;
     private final StaticBlockMetaProvider blockMetaProvider;
+    private final CallLocalGateway gateway;
 
     @Inject
     public ContractCallLocalResourceUsage(
@@ -73,7 +78,8 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
             final EntityIdSource ids,
             final OptionValidator validator,
             final AliasManager aliasManager,
-            final StaticBlockMetaProvider blockMetaProvider) {
+            final StaticBlockMetaProvider blockMetaProvider,
+            final CallLocalGateway gateway) {
         this.accountStore = accountStore;
         this.evmTxProcessorProvider = evmTxProcessorProvider;
         this.aliasManager = aliasManager;
@@ -83,6 +89,7 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
         this.nodeProperties = nodeProperties;
         this.usageEstimator = usageEstimator;
         this.blockMetaProvider = blockMetaProvider;
+        this.gateway = gateway;
     }
 
     @Override
@@ -119,16 +126,9 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
                 if (blockMetaSource.isEmpty()) {
                     response = dummyResponse(op.getContractID());
                 } else {
-                    final var entityAccess = new StaticEntityAccess(view, aliasManager, validator);
-                    final var codeCache = new CodeCache(nodeProperties, entityAccess);
-                    final var worldState =
-                            new HederaWorldState(ids, entityAccess, codeCache, properties);
-                    final var evmTxProcessor = evmTxProcessorProvider.get();
-                    evmTxProcessor.setWorldState(worldState);
-                    evmTxProcessor.setBlockMetaSource(blockMetaSource.get());
                     response =
-                            CallLocalExecutor.execute(
-                                    accountStore, evmTxProcessor, op, aliasManager, entityAccess);
+                            gateway.execute(
+                                    op, view, () -> callLocal(view, op, blockMetaSource.get()));
                     queryCtx.put(CONTRACT_CALL_LOCAL_CTX_KEY, response);
                 }
             }
@@ -138,12 +138,31 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
             return nonGasUsage.toBuilder()
                     .setNodedata(nonGasUsage.getNodedata().toBuilder().setGas(op.getGas()))
                     .build();
+        } catch (final ResourceLimitException busy) {
+            // Propagated so the query is rejected before its payment is submitted
+            throw busy;
         } catch (final Exception internal) {
             log.warn("Usage estimation unexpectedly failed for {}", query, internal);
             throw new IllegalStateException(internal);
         }
     }
 
+    private ContractCallLocalResponse callLocal(
+            final StateView view,
+            final ContractCallLocalQuery op,
+            final BlockMetaSource blockMetaSource) {
+        final var entityAccess = new StaticEntityAccess(view, aliasManager, validator);
+        final var codeCache = new CodeCache(nodeProperties, entityAccess);
+        try (final var worldState =
+                new HederaWorldState(ids, entityAccess, codeCache, properties)) {
+            final var evmTxProcessor = evmTxProcessorProvider.get();
+            evmTxProcessor.setWorldState(worldState);
+            evmTxProcessor.setBlockMetaSource(blockMetaSource);
+            return CallLocalExecutor.execute(
+                    accountStore, evmTxProcessor, op, aliasManager, entityAccess);
+        }
+    }
+
     ContractCallLocalResponse dummyResponse(final ContractID target) {
         return ContractCallLocalResponse.newBuilder()
                 .setFunctionResult(
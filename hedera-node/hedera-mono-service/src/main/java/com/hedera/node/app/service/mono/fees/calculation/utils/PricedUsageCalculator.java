@@ -23,6 +23,7 @@ import com.hedera.node.app.hapi.utils.fee.FeeObject;
 import com.hedera.node.app.service.mono.fees.annotations.GenericPriceMultiplier;
 import com.hedera.node.app.service.mono.fees.congestion.FeeMultiplierSource;
 import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
 import com.hederahashgraph.api.proto.java.FeeData;
@@ -37,15 +38,18 @@ public class PricedUsageCalculator {
     private final AccessorBasedUsages accessorBasedUsages;
     private final FeeMultiplierSource feeMultiplierSource;
     private final OverflowCheckingCalc calculator;
+    private final MiscSpeedometers speedometers;
 
     @Inject
     public PricedUsageCalculator(
             final AccessorBasedUsages accessorBasedUsages,
             @GenericPriceMultiplier final FeeMultiplierSource feeMultiplierSource,
-            final OverflowCheckingCalc calculator) {
+            final OverflowCheckingCalc calculator,
+            final MiscSpeedometers speedometers) {
         this.accessorBasedUsages = accessorBasedUsages;
         this.feeMultiplierSource = feeMultiplierSource;
         this.calculator = calculator;
+        this.speedometers = speedometers;
     }
 
     public boolean supports(final HederaFunctionality function) {
@@ -78,6 +82,7 @@ public class PricedUsageCalculator {
 
         accessorBasedUsages.assess(sigUsage, accessor, accumulator);
 
+        speedometers.cycleFeesComputed();
         return calculator.fees(
                 accumulator, resourcePrices, rate, feeMultiplierSource.currentMultiplier(accessor));
     }
@@ -20,6 +20,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.node.app.service.mono.ServicesState;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hedera.node.app.service.mono.txns.customfees.CustomFeeSchedules;
 import com.hedera.node.app.service.mono.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -113,45 +114,77 @@ public class ImpliedTransfersMeta {
             final GlobalDynamicProperties dynamicProperties,
             final CustomFeeSchedules customFeeSchedules,
             final AliasManager aliasManager) {
-        if (!resolutions.isEmpty()) {
-            for (final var entry : resolutions.entrySet()) {
-                final var past = entry.getValue();
-                final var present = aliasManager.lookupIdBy(entry.getKey());
-                if (!past.equals(present)) {
-                    return false;
-                }
+        if (!aliasesAndPropsMatch(dynamicProperties, aliasManager)) {
+            return false;
+        }
+        for (final var meta : customFeeMeta) {
+            if (!meta.equals(customFeeSchedules.lookupMetaFor(meta.tokenId()))) {
+                return false;
             }
         }
-        final var validationParamsMatch =
-                (validationProps.maxHbarAdjusts == dynamicProperties.maxTransferListSize())
-                        && (validationProps.maxTokenAdjusts
-                                == dynamicProperties.maxTokenTransferListSize())
-                        && (validationProps.maxOwnershipChanges
-                                == dynamicProperties.maxNftTransfersLen())
-                        && (validationProps.maxXferBalanceChanges
-                                == dynamicProperties.maxXferBalanceChanges())
-                        && (validationProps.maxNestedCustomFees
-                                == dynamicProperties.maxCustomFeeDepth())
-                        && (validationProps.areNftsEnabled == dynamicProperties.areNftsEnabled())
-                        && (validationProps.isAutoCreationEnabled
-                                == dynamicProperties.isAutoCreationEnabled())
-                        && (validationProps.isLazyCreationEnabled
-                                == dynamicProperties.isLazyCreationEnabled())
-                        && (validationProps.areAllowancesEnabled
-                                == dynamicProperties.areAllowancesEnabled());
-        if (!validationParamsMatch) {
+        return true;
+    }
+
+    /**
+     * Like {@link #wasDerivedFrom(GlobalDynamicProperties, CustomFeeSchedules, AliasManager)}, but
+     * only re-checks the custom fee metadata for tokens whose version stamp has changed since the
+     * given generation of the {@link CustomFeeScheduleVersions}.
+     *
+     * @param dynamicProperties the current dynamic properties
+     * @param customFeeSchedules the current custom fee schedules
+     * @param aliasManager the current alias manager
+     * @param feeScheduleVersions the custom fee schedule version stamps
+     * @param feeSchedulesGeneration the generation captured before this meta was derived
+     * @return whether this meta would be derived again from the current inputs
+     */
+    public boolean wasDerivedFrom(
+            final GlobalDynamicProperties dynamicProperties,
+            final CustomFeeSchedules customFeeSchedules,
+            final AliasManager aliasManager,
+            final CustomFeeScheduleVersions feeScheduleVersions,
+            final long feeSchedulesGeneration) {
+        if (!aliasesAndPropsMatch(dynamicProperties, aliasManager)) {
             return false;
         }
         for (final var meta : customFeeMeta) {
             final var tokenId = meta.tokenId();
-            final var newCustomMeta = customFeeSchedules.lookupMetaFor(tokenId);
-            if (!meta.equals(newCustomMeta)) {
+            if (!feeScheduleVersions.isUnchangedSince(feeSchedulesGeneration, tokenId.num())
+                    && !meta.equals(customFeeSchedules.lookupMetaFor(tokenId))) {
                 return false;
             }
         }
         return true;
     }
 
+    private boolean aliasesAndPropsMatch(
+            final GlobalDynamicProperties dynamicProperties, final AliasManager aliasManager) {
+        if (!resolutions.isEmpty()) {
+            for (final var entry : resolutions.entrySet()) {
+                final var past = entry.getValue();
+                final var present = aliasManager.lookupIdBy(entry.getKey());
+                if (!past.equals(present)) {
+                    return false;
+                }
+            }
+        }
+        return (validationProps.maxHbarAdjusts == dynamicProperties.maxTransferListSize())
+                && (validationProps.maxTokenAdjusts
+                        == dynamicProperties.maxTokenTransferListSize())
+                && (validationProps.maxOwnershipChanges
+                        == dynamicProperties.maxNftTransfersLen())
+                && (validationProps.maxXferBalanceChanges
+                        == dynamicProperties.maxXferBalanceChanges())
+                && (validationProps.maxNestedCustomFees
+                        == dynamicProperties.maxCustomFeeDepth())
+                && (validationProps.areNftsEnabled == dynamicProperties.areNftsEnabled())
+                && (validationProps.isAutoCreationEnabled
+                        == dynamicProperties.isAutoCreationEnabled())
+                && (validationProps.isLazyCreationEnabled
+                        == dynamicProperties.isLazyCreationEnabled())
+                && (validationProps.areAllowancesEnabled
+                        == dynamicProperties.areAllowancesEnabled());
+    }
+
     public ResponseCodeEnum code() {
         return code;
     }
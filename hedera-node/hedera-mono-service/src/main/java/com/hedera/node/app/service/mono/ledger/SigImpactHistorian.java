@@ -24,12 +24,15 @@ import com.google.protobuf.ByteString;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.sigs.metadata.StateChildrenSigMetadataLookup;
 import com.hedera.node.app.service.mono.state.expiry.MonotonicFullQueueExpiries;
+import com.hedera.node.app.service.mono.state.expiry.MonotonicLongQueueExpiries;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 
 /**
  * Tracks changes to ledger entities and aliases that can impact signature validity over a trailing
@@ -55,22 +58,34 @@ import javax.inject.Singleton;
  *
  * <p>But if any of the entities <b>have</b> experienced a change with signature impact, we must
  * re-expand the signatures in {@code handleTransaction} to be sure we are up-to-date.
+ *
+ * <p>Since every entity touched in {@code handleTransaction} is marked here, and every linked
+ * entity is checked here, change times are tracked as primitive nanos since the epoch in primitive
+ * maps; so neither marking nor checking a change boxes an entity number or allocates an {@link
+ * Instant}. Expired changes are purged in bulk, at most once per consensus second.
  */
 @Singleton
 public class SigImpactHistorian {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NO_CHANGE = Long.MIN_VALUE;
+
     private final GlobalDynamicProperties dynamicProperties;
 
     /* The current time used to mark a change; statuses are returned given strictly earlier changes in the window. */
     private Instant now;
+    /* The current change time in nanos since the epoch. */
+    private long nowNanos;
+    /* The last consensus second in which expired changes were purged. */
+    private long lastPurgeSecond = -1;
     /* Null if the historian has observed at least a full window of consensus times, otherwise the first known time. */
     private Instant firstNow;
     /* Has the historian seen at least ledger.changeHistorian.memorySecs full seconds of consensus times? */
     private boolean fullWindowElapsed = false;
 
-    private final Map<Long, Instant> entityChangeTimes = new HashMap<>();
-    private final Map<ByteString, Instant> aliasChangeTimes = new HashMap<>();
-    private final MonotonicFullQueueExpiries<Long> entityChangeExpiries =
-            new MonotonicFullQueueExpiries<>();
+    private final LongLongHashMap entityChangeTimes = new LongLongHashMap();
+    private final ObjectLongHashMap<ByteString> aliasChangeTimes = new ObjectLongHashMap<>();
+    private final MonotonicLongQueueExpiries entityChangeExpiries =
+            new MonotonicLongQueueExpiries();
     private final MonotonicFullQueueExpiries<ByteString> aliasChangeExpiries =
             new MonotonicFullQueueExpiries<>();
 
@@ -92,6 +107,7 @@ public class SigImpactHistorian {
      */
     public void setChangeTime(final Instant now) {
         this.now = now;
+        this.nowNanos = nanosOf(now);
 
         if (!fullWindowElapsed) {
             manageFirstWindow(now);
@@ -101,8 +117,13 @@ public class SigImpactHistorian {
     /** Expires any tracked changes that are no longer in the current window. */
     public void purge() {
         final var thisSecond = now.getEpochSecond();
-        expire(thisSecond, aliasChangeTimes, aliasChangeExpiries);
-        expire(thisSecond, entityChangeTimes, entityChangeExpiries);
+        // Changes marked in this second cannot expire before the next one
+        if (thisSecond == lastPurgeSecond) {
+            return;
+        }
+        lastPurgeSecond = thisSecond;
+        expireAliases(thisSecond);
+        expireEntities(thisSecond);
     }
 
     /**
@@ -124,7 +145,7 @@ public class SigImpactHistorian {
         if (inFutureWindow(then)) {
             return UNKNOWN;
         }
-        final var lastChangeInWindow = entityChangeTimes.get(entityNum);
+        final var lastChangeInWindow = entityChangeTimes.getIfAbsent(entityNum, NO_CHANGE);
         return statusGiven(lastChangeInWindow, then);
     }
 
@@ -146,7 +167,7 @@ public class SigImpactHistorian {
         if (inFutureWindow(then)) {
             return UNKNOWN;
         }
-        final var lastChangeInWindow = aliasChangeTimes.get(alias);
+        final var lastChangeInWindow = aliasChangeTimes.getIfAbsent(alias, NO_CHANGE);
         return statusGiven(lastChangeInWindow, then);
     }
 
@@ -157,7 +178,7 @@ public class SigImpactHistorian {
      */
     public void markEntityChanged(final long entityNum) {
         if (now == null) return;
-        entityChangeTimes.put(entityNum, now);
+        entityChangeTimes.put(entityNum, nowNanos);
         entityChangeExpiries.track(entityNum, expirySec());
     }
 
@@ -168,10 +189,23 @@ public class SigImpactHistorian {
      */
     public void markAliasChanged(final ByteString alias) {
         requireNonNull(now, "Cannot mark an entity changed at null consensus time");
-        aliasChangeTimes.put(alias, now);
+        aliasChangeTimes.put(alias, nowNanos);
         aliasChangeExpiries.track(alias, expirySec());
     }
 
+    /**
+     * Returns the instant to use as the source signing time of signatures expanded from the working
+     * state <i>now</i>; that is, just after the current change time. Since every change with sig
+     * impact so far was marked at or before the current change time, the entities linked to such
+     * an expansion will be {@code UNCHANGED} until a later change. Returns null if the historian
+     * has no current change time.
+     *
+     * @return the source signing time for a working state expansion, if known
+     */
+    public @Nullable Instant workingStateSignedAt() {
+        return now == null ? null : now.plusNanos(1);
+    }
+
     /**
      * Invalidates all current history (important if the node fell behind and just reconnected).
      * Immediately following calls to {@code entityStatusSince()} and {@code aliasStatusSince()}
@@ -180,6 +214,7 @@ public class SigImpactHistorian {
     public void invalidateCurrentWindow() {
         now = null;
         firstNow = null;
+        lastPurgeSecond = -1;
         fullWindowElapsed = false;
 
         aliasChangeTimes.clear();
@@ -189,22 +224,31 @@ public class SigImpactHistorian {
     }
 
     /* --- Internal helpers --- */
-    private <T> void expire(
-            final long thisSecond,
-            final Map<T, Instant> changeTimes,
-            final MonotonicFullQueueExpiries<T> expiries) {
-        while (expiries.hasExpiringAt(thisSecond)) {
-            final var maybeExpiredChange = expiries.expireNextAt(thisSecond);
-            /* This could be null if two changes to the same thing happened in the same consensus second. */
-            final var changeTime = changeTimes.get(maybeExpiredChange);
-            if (changeTime != null && !inCurrentFullWindow(changeTime)) {
-                changeTimes.remove(maybeExpiredChange);
+    private void expireAliases(final long thisSecond) {
+        while (aliasChangeExpiries.hasExpiringAt(thisSecond)) {
+            final var maybeExpiredChange = aliasChangeExpiries.expireNextAt(thisSecond);
+            /* This could be missing if two changes to the same thing happened in the same consensus second. */
+            final var changeTime = aliasChangeTimes.getIfAbsent(maybeExpiredChange, NO_CHANGE);
+            if (changeTime != NO_CHANGE && !inCurrentFullWindow(secondOf(changeTime))) {
+                aliasChangeTimes.removeKey(maybeExpiredChange);
+            }
+        }
+    }
+
+    private void expireEntities(final long thisSecond) {
+        while (entityChangeExpiries.hasExpiringAt(thisSecond)) {
+            final var maybeExpiredChange = entityChangeExpiries.expireNextAt(thisSecond);
+            final var changeTime = entityChangeTimes.getIfAbsent(maybeExpiredChange, NO_CHANGE);
+            if (changeTime != NO_CHANGE && !inCurrentFullWindow(secondOf(changeTime))) {
+                entityChangeTimes.removeKey(maybeExpiredChange);
             }
         }
     }
 
     private boolean inFutureWindow(final Instant then) {
-        return now == null || !then.isBefore(now);
+        // Inclusive of now, so an expansion signed just after one change time can be checked
+        // at the very next one
+        return now == null || then.isAfter(now);
     }
 
     private void manageFirstWindow(final Instant now) {
@@ -219,22 +263,32 @@ public class SigImpactHistorian {
         }
     }
 
-    private ChangeStatus statusGiven(
-            final @Nullable Instant lastChangeInWindow, final Instant then) {
-        if (lastChangeInWindow == null) {
+    private ChangeStatus statusGiven(final long lastChangeInWindow, final Instant then) {
+        if (lastChangeInWindow == NO_CHANGE) {
             if (fullWindowElapsed) {
-                return inCurrentFullWindow(then) ? UNCHANGED : UNKNOWN;
+                return inCurrentFullWindow(then.getEpochSecond()) ? UNCHANGED : UNKNOWN;
             } else {
                 return then.isAfter(firstNow) ? UNCHANGED : UNKNOWN;
             }
         } else {
-            return then.isAfter(lastChangeInWindow) ? UNCHANGED : CHANGED;
+            return nanosOf(then) > lastChangeInWindow ? UNCHANGED : CHANGED;
         }
     }
 
-    private boolean inCurrentFullWindow(final Instant then) {
-        return then.getEpochSecond()
-                >= now.getEpochSecond() - dynamicProperties.changeHistorianMemorySecs();
+    private boolean inCurrentFullWindow(final long thenSecond) {
+        return thenSecond >= now.getEpochSecond() - dynamicProperties.changeHistorianMemorySecs();
+    }
+
+    private static long nanosOf(final Instant then) {
+        return then.getEpochSecond() * NANOS_PER_SECOND + then.getNano();
+    }
+
+    private static long secondOf(final long nanos) {
+        return Math.floorDiv(nanos, NANOS_PER_SECOND);
+    }
+
+    private static Instant instantOf(final long nanos) {
+        return Instant.ofEpochSecond(secondOf(nanos), Math.floorMod(nanos, NANOS_PER_SECOND));
     }
 
     private long expirySec() {
@@ -256,14 +310,19 @@ public class SigImpactHistorian {
     }
 
     Map<Long, Instant> getEntityChangeTimes() {
-        return entityChangeTimes;
+        final Map<Long, Instant> changeTimes = new HashMap<>();
+        entityChangeTimes.forEachKeyValue((num, nanos) -> changeTimes.put(num, instantOf(nanos)));
+        return changeTimes;
     }
 
     Map<ByteString, Instant> getAliasChangeTimes() {
-        return aliasChangeTimes;
+        final Map<ByteString, Instant> changeTimes = new HashMap<>();
+        aliasChangeTimes.forEachKeyValue(
+                (alias, nanos) -> changeTimes.put(alias, instantOf(nanos)));
+        return changeTimes;
     }
 
-    MonotonicFullQueueExpiries<Long> getEntityChangeExpiries() {
+    MonotonicLongQueueExpiries getEntityChangeExpiries() {
         return entityChangeExpiries;
     }
 
@@ -59,12 +59,9 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
 
     private final P[] allProps;
     private final Set<K> deadKeys = new HashSet<>();
-    private final List<K> createdKeys =
-            new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
-    private final List<K> changedKeys =
-            new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
-    private final List<K> removedKeys =
-            new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
+    private final List<K> createdKeys;
+    private final List<K> changedKeys;
+    private final List<K> removedKeys;
     private final Map<K, EnumMap<P, Object>> changes = new HashMap<>();
 
     private final Class<P> propertyType;
@@ -96,11 +93,19 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
 
         if (entities instanceof TransactionalLedger) {
             this.entitiesLedger = (TransactionalLedger<K, P, A>) entities;
+            // A ledger wrapping another ledger is created for every nested EVM frame, and most
+            // touch few (if any) entities; so defer allocating key lists until first use
+            this.createdKeys = new ArrayList<>();
+            this.changedKeys = new ArrayList<>();
+            this.removedKeys = new ArrayList<>();
+            this.finalizeAction = this::finalizeIntoLedger;
         } else {
             this.entitiesLedger = null;
+            this.createdKeys = new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
+            this.changedKeys = new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
+            this.removedKeys = new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
+            this.finalizeAction = id -> entities.put(id, getFinalized(id));
         }
-
-        this.finalizeAction = id -> entities.put(id, getFinalized(id));
     }
 
     /**
@@ -430,6 +435,41 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
     }
 
     // --- Internal helpers ---
+
+    /**
+     * Accumulates the given change set for an entity into this ledger's pending changes, creating
+     * the entity if needed. For an entity that is not a zombie, this has the same net effect as
+     * {@link #put(Object, Object)} with the finalized entity; but only touches the changed
+     * properties, so a wrapping ledger can commit into this ledger without materializing an entity
+     * through every ledger below it.
+     *
+     * @param id the id of the changed entity
+     * @param changeSet the entity's changes in the wrapping ledger, if any
+     */
+    void putChanges(final K id, @Nullable final Map<P, Object> changeSet) {
+        throwIfNotInTxn();
+        if (!exists(id)) {
+            create(id);
+        }
+        if (changeSet != null) {
+            changeSet.forEach((property, value) -> set(id, property, value));
+        }
+    }
+
+    /**
+     * Whether a wrapping ledger may commit an entity into this ledger by just its change set. Only
+     * true for a ledger that is itself wrapping a ledger and has no commit interceptor; so the
+     * ledger backed by the actual store, and any interceptor, still see every property of each
+     * committed entity exactly as before.
+     *
+     * @param id the id of the entity to be committed
+     * @return whether {@link #putChanges(Object, Map)} can be used for the entity
+     */
+    boolean acceptsChangeSetFor(final K id) {
+        // A re-created zombie must not inherit any properties from its destroyed predecessor
+        return entitiesLedger != null && commitInterceptor == null && !isZombie(id);
+    }
+
     A getFinalized(final K id) {
         final A entity = entities.contains(id) ? entities.getRef(id) : newEntity.get();
         return finalized(id, entity, changes.get(id));
@@ -458,6 +498,19 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
         return entity;
     }
 
+    private void finalizeIntoLedger(final K id) {
+        if (!entitiesLedger.acceptsChangeSetFor(id)) {
+            entities.put(id, getFinalized(id));
+            return;
+        }
+        final var changeSet = changes.get(id);
+        if (changeSet != null && propertyChangeObserver != null) {
+            changeSet.forEach(
+                    (property, value) -> propertyChangeObserver.newProperty(id, property, value));
+        }
+        entitiesLedger.putChanges(id, changeSet);
+    }
+
     private void setPropsWithSource(
             final K id, final A entity, final Function<P, Object> extantProps) {
         final var changeSet = changes.get(id);
@@ -30,16 +30,15 @@ import com.hedera.node.app.service.mono.utils.EntityNum;
 import com.swirlds.common.system.address.AddressBook;
 import com.swirlds.merkle.map.MerkleMap;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
 
 /**
  * A helper class to recompute staking metadata at startup. Its main work is to update the staking
@@ -181,8 +180,9 @@ public class StakeStartupHelper {
             final MerkleMap<EntityNum, MerkleStakingInfo> stakingInfos) {
 
         final AtomicLong newPendingRewards = new AtomicLong();
-        final Map<EntityNum, Long> newStakesToReward = new HashMap<>();
-        final Map<EntityNum, Long> newStakesToNotReward = new HashMap<>();
+        // Keyed by node id; primitive maps avoid boxing a key and a value per staked account
+        final var newStakesToReward = new LongLongHashMap();
+        final var newStakesToNotReward = new LongLongHashMap();
 
         accounts.forEach(
                 (num, account) -> {
@@ -219,22 +219,22 @@ public class StakeStartupHelper {
                     (num, info) -> {
                         final var mutableInfo = stakingInfos.getForModify(num);
                         mutableInfo.syncRecomputedStakeValues(
-                                newStakesToReward.getOrDefault(num, 0L),
-                                newStakesToNotReward.getOrDefault(num, 0L));
+                                newStakesToReward.get(num.longValue()),
+                                newStakesToNotReward.get(num.longValue()));
                     });
         }
     }
 
     private void updateForNodeStaked(
             final HederaAccount account,
-            final Map<EntityNum, Long> newStakesToReward,
-            final Map<EntityNum, Long> newStakesToNotReward) {
-        final var nodeNum = EntityNum.fromLong(account.getStakedNodeAddressBookId());
+            final LongLongHashMap newStakesToReward,
+            final LongLongHashMap newStakesToNotReward) {
+        final var nodeId = account.getStakedNodeAddressBookId();
         final var stake = StakingUtils.roundedToHbar(account.totalStake());
         if (account.isDeclinedReward()) {
-            newStakesToNotReward.merge(nodeNum, stake, Long::sum);
+            newStakesToNotReward.addToValue(nodeId, stake);
         } else {
-            newStakesToReward.merge(nodeNum, stake, Long::sum);
+            newStakesToReward.addToValue(nodeId, stake);
         }
     }
 
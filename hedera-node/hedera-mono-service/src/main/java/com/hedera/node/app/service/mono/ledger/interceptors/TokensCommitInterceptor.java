@@ -15,38 +15,57 @@
  */
 package com.hedera.node.app.service.mono.ledger.interceptors;
 
+import static com.hedera.node.app.service.mono.ledger.TransactionalLedger.MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN;
+import static com.hedera.node.app.service.mono.ledger.properties.TokenProperty.FEE_SCHEDULE;
+import static com.hedera.node.app.service.mono.ledger.properties.TokenProperty.TREASURY;
+
 import com.hedera.node.app.service.mono.ledger.CommitInterceptor;
 import com.hedera.node.app.service.mono.ledger.EntityChangeSet;
 import com.hedera.node.app.service.mono.ledger.properties.TokenProperty;
 import com.hedera.node.app.service.mono.state.merkle.MerkleToken;
 import com.hedera.node.app.service.mono.state.validation.UsageLimits;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hederahashgraph.api.proto.java.TokenID;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * Minimal interceptor to update token utilization statistics when a token is created. (Expired
- * tokens are removed directly from the backing map, not as part of a ledger transaction.)
+ * Minimal interceptor to update token utilization statistics when a token is created; and to
+ * stamp new {@link CustomFeeScheduleVersions} for tokens whose treasury or custom fee schedule
+ * changed. (Expired tokens are removed directly from the backing map, not as part of a ledger
+ * transaction.)
  */
 public class TokensCommitInterceptor
         implements CommitInterceptor<TokenID, MerkleToken, TokenProperty> {
     private final UsageLimits usageLimits;
+    private final CustomFeeScheduleVersions feeScheduleVersions;
     private boolean creation;
+    private int numFeeMetaChanges;
+    private long[] feeMetaChanges = new long[MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN];
 
-    public TokensCommitInterceptor(UsageLimits usageLimits) {
+    public TokensCommitInterceptor(
+            final UsageLimits usageLimits, final CustomFeeScheduleVersions feeScheduleVersions) {
         this.usageLimits = usageLimits;
+        this.feeScheduleVersions = feeScheduleVersions;
     }
 
     /** {@inheritDoc} */
     @Override
     public void preview(final EntityChangeSet<TokenID, MerkleToken, TokenProperty> pendingChanges) {
         creation = false;
+        numFeeMetaChanges = 0;
         final var n = pendingChanges.size();
         if (n == 0) {
             return;
         }
         for (int i = 0; i < n; i++) {
-            if (pendingChanges.entity(i) == null) {
+            final var token = pendingChanges.entity(i);
+            if (token == null) {
                 creation = true;
-                break;
+                trackFeeMetaChange(pendingChanges.id(i));
+            } else if (changesFeeMeta(token, pendingChanges.changes(i))) {
+                trackFeeMetaChange(pendingChanges.id(i));
             }
         }
     }
@@ -56,5 +75,27 @@ public class TokensCommitInterceptor
         if (creation) {
             usageLimits.refreshTokens();
         }
+        for (int i = 0; i < numFeeMetaChanges; i++) {
+            feeScheduleVersions.markChanged(feeMetaChanges[i]);
+        }
+    }
+
+    private void trackFeeMetaChange(final TokenID id) {
+        if (numFeeMetaChanges == feeMetaChanges.length) {
+            feeMetaChanges = Arrays.copyOf(feeMetaChanges, 2 * feeMetaChanges.length);
+        }
+        feeMetaChanges[numFeeMetaChanges++] = id.getTokenNum();
+    }
+
+    private static boolean changesFeeMeta(
+            final MerkleToken token, final Map<TokenProperty, Object> changes) {
+        // A null change set means the token is being removed
+        if (changes == null) {
+            return true;
+        }
+        return (changes.containsKey(TREASURY)
+                        && !Objects.equals(changes.get(TREASURY), token.treasury()))
+                || (changes.containsKey(FEE_SCHEDULE)
+                        && !Objects.equals(changes.get(FEE_SCHEDULE), token.customFeeSchedule()));
     }
 }
@@ -17,6 +17,7 @@ package com.hedera.node.app.service.mono.queries.answering;
 
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
+import com.hedera.node.app.service.mono.records.GrpcRecordCache;
 import com.hedera.node.app.service.mono.records.RecordCache;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
 import com.hedera.node.app.service.mono.state.migration.QueryableRecords;
@@ -37,10 +38,13 @@ import javax.inject.Singleton;
 @Singleton
 public class AnswerFunctions {
     private final GlobalDynamicProperties dynamicProperties;
+    private final GrpcRecordCache grpcRecordCache;
 
     @Inject
-    public AnswerFunctions(GlobalDynamicProperties dynamicProperties) {
+    public AnswerFunctions(
+            GlobalDynamicProperties dynamicProperties, GrpcRecordCache grpcRecordCache) {
         this.dynamicProperties = dynamicProperties;
+        this.grpcRecordCache = grpcRecordCache;
     }
 
     /**
@@ -74,7 +78,7 @@ public class AnswerFunctions {
             final RecordCache recordCache, final TransactionGetRecordQuery op) {
         final var txnId = op.getTransactionID();
         final var expirableTxnRecord = recordCache.getPriorityRecord(txnId);
-        return Optional.ofNullable(expirableTxnRecord).map(ExpirableTxnRecord::asGrpc);
+        return Optional.ofNullable(expirableTxnRecord).map(grpcRecordCache::grpcFormOf);
     }
 
     /* --- Internal helpers --- */
@@ -102,7 +106,7 @@ public class AnswerFunctions {
             for (int i = 0, cutoff = n - m; i < n; i++) {
                 final var nextRecord = iter.next();
                 if (i >= cutoff) {
-                    ans.add(nextRecord.asGrpc());
+                    ans.add(grpcRecordCache.grpcFormOf(nextRecord));
                 }
             }
         } catch (ConcurrentModificationException | NoSuchElementException ignore) {
@@ -27,6 +27,7 @@ import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import com.hedera.node.app.hapi.utils.fee.FeeObject;
 import com.hedera.node.app.service.mono.context.domain.security.HapiOpPermissions;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
 import com.hedera.node.app.service.mono.fees.FeeCalculator;
 import com.hedera.node.app.service.mono.fees.calculation.UsagePricesProvider;
 import com.hedera.node.app.service.mono.queries.AnswerFlow;
@@ -121,7 +122,16 @@ public final class StakedAnswerFlow implements AnswerFlow {
         long fee = 0L;
         final Map<String, Object> queryCtx = new HashMap<>();
         if (isPaymentRequired && null != optionalPayment) {
-            fee = totalOf(fees.computePayment(query, usagePrices, view, bestGuessNow, queryCtx));
+            try {
+                fee =
+                        totalOf(
+                                fees.computePayment(
+                                        query, usagePrices, view, bestGuessNow, queryCtx));
+            } catch (final ResourceLimitException e) {
+                // Computing the fee needed a resource this node cannot spare now, so refuse the
+                // query before charging for it
+                return service.responseGiven(query, view, e.getResponseCode());
+            }
             final var paymentStatus = tryToPay(optionalPayment, fee);
             if (paymentStatus != OK) {
                 return service.responseGiven(query, view, paymentStatus, fee);
@@ -24,12 +24,15 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_GAS_LIMIT_
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
 
+import com.hedera.node.app.service.evm.contracts.execution.BlockMetaSource;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
 import com.hedera.node.app.service.mono.contracts.execution.CallLocalEvmTxProcessor;
 import com.hedera.node.app.service.mono.contracts.execution.CallLocalExecutor;
+import com.hedera.node.app.service.mono.contracts.execution.CallLocalGateway;
 import com.hedera.node.app.service.mono.contracts.execution.StaticBlockMetaProvider;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.ledger.ids.EntityIdSource;
 import com.hedera.node.app.service.mono.queries.AbstractAnswer;
@@ -71,6 +74,7 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
     private final NodeLocalProperties nodeProperties;
     private final Supplier<CallLocalEvmTxProcessor> evmTxProcessorProvider;
     private final StaticBlockMetaProvider blockMetaProvider;
+    private final CallLocalGateway gateway;
 
     @Inject
     public ContractCallLocalAnswer(
@@ -82,7 +86,8 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
             final GlobalDynamicProperties dynamicProperties,
             final NodeLocalProperties nodeProperties,
             final Supplier<CallLocalEvmTxProcessor> evmTxProcessorProvider,
-            final StaticBlockMetaProvider blockMetaProvider) {
+            final StaticBlockMetaProvider blockMetaProvider,
+            final CallLocalGateway gateway) {
         super(
                 ContractCallLocal,
                 query -> query.getContractCallLocal().getHeader().getPayment(),
@@ -116,6 +121,7 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
         this.nodeProperties = nodeProperties;
         this.evmTxProcessorProvider = evmTxProcessorProvider;
         this.blockMetaProvider = blockMetaProvider;
+        this.gateway = gateway;
     }
 
     @Override
@@ -187,25 +193,15 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
                     // Should happen rarely if ever, but signal clients they can retry
                     response.setHeader(answerOnlyHeader(BUSY, cost));
                 } else {
-                    final var entityAccess =
-                            new StaticEntityAccess(
-                                    Objects.requireNonNull(view), aliasManager, validator);
-                    final var codeCache = new CodeCache(nodeProperties, entityAccess);
-                    try (final var worldState =
-                            new HederaWorldState(ids, entityAccess, codeCache, dynamicProperties)) {
-                        final var evmTxProcessor = evmTxProcessorProvider.get();
-                        evmTxProcessor.setWorldState(worldState);
-                        evmTxProcessor.setBlockMetaSource(blockMetaSource.get());
-                        final var opResponse =
-                                CallLocalExecutor.execute(
-                                        accountStore,
-                                        evmTxProcessor,
-                                        op,
-                                        aliasManager,
-                                        entityAccess);
-                        response.mergeFrom(withCid(opResponse, op.getContractID()));
-                    }
+                    final var opResponse =
+                            gateway.execute(
+                                    op,
+                                    Objects.requireNonNull(view),
+                                    () -> callLocal(view, op, blockMetaSource.get()));
+                    response.mergeFrom(withCid(opResponse, op.getContractID()));
                 }
+            } catch (final ResourceLimitException busy) {
+                response.setHeader(answerOnlyHeader(busy.getResponseCode(), cost));
             } catch (final Exception e) {
                 log.error("Unable to answer ContractCallLocal", e);
                 response.setHeader(answerOnlyHeader(FAIL_INVALID, cost));
@@ -213,6 +209,22 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
         }
     }
 
+    private ContractCallLocalResponse callLocal(
+            final StateView view,
+            final ContractCallLocalQuery op,
+            final BlockMetaSource blockMetaSource) {
+        final var entityAccess = new StaticEntityAccess(view, aliasManager, validator);
+        final var codeCache = new CodeCache(nodeProperties, entityAccess);
+        try (final var worldState =
+                new HederaWorldState(ids, entityAccess, codeCache, dynamicProperties)) {
+            final var evmTxProcessor = evmTxProcessorProvider.get();
+            evmTxProcessor.setWorldState(worldState);
+            evmTxProcessor.setBlockMetaSource(blockMetaSource);
+            return CallLocalExecutor.execute(
+                    accountStore, evmTxProcessor, op, aliasManager, entityAccess);
+        }
+    }
+
     private ContractCallLocalResponse withCid(
             final ContractCallLocalResponse response, final ContractID target) {
         return response.toBuilder()
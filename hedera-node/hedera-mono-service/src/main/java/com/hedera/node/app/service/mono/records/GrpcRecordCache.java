@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.records;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.node.app.service.mono.state.submerkle.ExpirableTxnRecord;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A node-local cache of the gRPC forms of recently queried transaction records. The gRPC form of a
+ * record is only built when a query asks for it, and is only kept while the record is among the
+ * {@link #MAX_CACHED_RECORDS} most recently queried; so repeated {@code GetAccountRecords} and
+ * {@code GetTxnRecord} queries (and their fee estimates) share one immutable message, without a
+ * second copy of every record in state.
+ *
+ * <p>Records are keyed by identity and weakly referenced, so a record that expires from state and
+ * from the {@link RecordCache} histories also leaves this cache. Records never change once they
+ * are in state, so their gRPC forms never go stale.
+ */
+@Singleton
+public class GrpcRecordCache {
+    static final int MAX_CACHED_RECORDS = 10_000;
+
+    private final Cache<ExpirableTxnRecord, TransactionRecord> grpcForms =
+            CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_RECORDS).build();
+
+    @Inject
+    public GrpcRecordCache() {
+        // Dagger2
+    }
+
+    /**
+     * Returns the gRPC form of the given record, building it only if it is not cached.
+     *
+     * @param txnRecord a record in state
+     * @return its gRPC form
+     */
+    public TransactionRecord grpcFormOf(final ExpirableTxnRecord txnRecord) {
+        var grpcForm = grpcForms.getIfPresent(txnRecord);
+        if (grpcForm == null) {
+            grpcForm = txnRecord.asGrpc();
+            grpcForms.put(txnRecord, grpcForm);
+        }
+        return grpcForm;
+    }
+
+    @VisibleForTesting
+    long size() {
+        grpcForms.cleanUp();
+        return grpcForms.size();
+    }
+}
@@ -48,12 +48,16 @@ public class RecordCache {
     private EntityCreator creator;
     private Cache<TransactionID, Boolean> timedReceiptCache;
     private Map<TransactionID, TxnIdRecentHistory> histories;
+    private final GrpcRecordCache grpcRecordCache;
 
     @Inject
     public RecordCache(
-            Cache<TransactionID, Boolean> cache, Map<TransactionID, TxnIdRecentHistory> histories) {
+            Cache<TransactionID, Boolean> cache,
+            Map<TransactionID, TxnIdRecentHistory> histories,
+            GrpcRecordCache grpcRecordCache) {
         this.histories = histories;
         this.timedReceiptCache = cache;
+        this.grpcRecordCache = grpcRecordCache;
     }
 
     @Inject
@@ -117,7 +121,7 @@ public class RecordCache {
     }
 
     public List<TransactionRecord> getChildRecords(final TransactionID txnId) {
-        return transformedChildrenOf(txnId, ExpirableTxnRecord::asGrpc);
+        return transformedChildrenOf(txnId, grpcRecordCache::grpcFormOf);
     }
 
     private <T> List<T> transformedChildrenOf(
@@ -151,7 +155,7 @@ public class RecordCache {
             return Collections.emptyList();
         } else {
             return recentHistory.allDuplicateRecords().stream()
-                    .map(ExpirableTxnRecord::asGrpc)
+                    .map(grpcRecordCache::grpcFormOf)
                     .toList();
         }
     }
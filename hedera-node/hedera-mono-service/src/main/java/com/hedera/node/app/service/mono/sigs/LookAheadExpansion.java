@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.sigs;
+
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
+import com.hedera.node.app.service.mono.sigs.annotations.WorkingStateSigReqs;
+import com.hedera.node.app.service.mono.sigs.order.SigRequirements;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
+import com.hedera.node.app.service.mono.utils.accessors.SwirldsTxnAccessor;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.system.transaction.ConsensusTransaction;
+import java.time.Instant;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps the signatures of the next few transactions in a round usable while the round is handled.
+ *
+ * <p>When a handled transaction changes an entity linked to a later transaction in the same round
+ * (for example, by rotating its key or completing a hollow account), the expansion done from the
+ * signed state in {@code expandSignatures} is no longer valid; and {@link Rationalization} would
+ * have to re-expand the later transaction's signatures and verify them <i>synchronously</i> on the
+ * handle thread. So after each handled transaction, this scans the next {@code
+ * hedera.sigs.lookAheadTxns} transactions of the round; and for each one with invalidated {@link
+ * com.hedera.node.app.service.mono.sigs.order.LinkedRefs}, re-expands its signatures from the
+ * working state and submits them to the platform for async verification. By the time the
+ * transaction is handled, its signatures are usually already verified; and since they were
+ * expanded just after the last change to the working state, {@link Rationalization} reuses them.
+ *
+ * <p>Note the keys are re-expanded on the handle thread itself, between transactions, since the
+ * working state cannot be read concurrently with handling; only the (much more expensive)
+ * verification is done in parallel.
+ *
+ * <p><b>IMPORTANT:</b> this mutates the accessors of <i>later</i> transactions in the round, which
+ * is only safe if their pre-handle {@code expandSignatures} has already finished. The platform does
+ * not guarantee that pre-handle of every transaction in a round completes before the round is
+ * handled, so the look-ahead is disabled by default ({@code hedera.sigs.lookAheadTxns=0}); and
+ * should only be enabled on a platform that does give this guarantee.
+ */
+@Singleton
+public class LookAheadExpansion {
+    private static final Logger log = LogManager.getLogger(LookAheadExpansion.class);
+
+    private final int lookAheadTxns;
+    private final Cryptography engine;
+    private final SigRequirements workingSigReqs;
+    private final MiscSpeedometers speedometers;
+    private final ExpansionHelper expansionHelper;
+    private final SigImpactHistorian sigImpactHistorian;
+
+    @Inject
+    public LookAheadExpansion(
+            final Cryptography engine,
+            final MiscSpeedometers speedometers,
+            final ExpansionHelper expansionHelper,
+            final SigImpactHistorian sigImpactHistorian,
+            final NodeLocalProperties nodeLocalProperties,
+            final @WorkingStateSigReqs SigRequirements workingSigReqs) {
+        this.engine = engine;
+        this.speedometers = speedometers;
+        this.workingSigReqs = workingSigReqs;
+        this.expansionHelper = expansionHelper;
+        this.sigImpactHistorian = sigImpactHistorian;
+        this.lookAheadTxns = nodeLocalProperties.sigsLookAheadTxns();
+    }
+
+    /**
+     * Re-expands and submits for async verification the signatures of every transaction in the
+     * look-ahead window starting at the given index of the round, whose expanded signatures have
+     * been invalidated by changes in already-handled transactions.
+     *
+     * @param roundTxns the transactions of the round being handled
+     * @param next the index of the next transaction to be handled
+     */
+    public void reExpandInvalidated(final List<ConsensusTransaction> roundTxns, final int next) {
+        if (lookAheadTxns <= 0) {
+            return;
+        }
+        final Instant expandedAt = sigImpactHistorian.workingStateSignedAt();
+        if (expandedAt == null) {
+            return;
+        }
+        for (int i = next, n = Math.min(roundTxns.size(), next + lookAheadTxns); i < n; i++) {
+            final SwirldsTxnAccessor accessor = roundTxns.get(i).getMetadata();
+            if (accessor == null) {
+                continue;
+            }
+            final var linkedRefs = accessor.getLinkedRefs();
+            if (linkedRefs == null || linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)) {
+                continue;
+            }
+            try {
+                accessor.getPkToSigsFn().resetAllSigsToUnused();
+                expansionHelper.expandIn(accessor, workingSigReqs, accessor.getPkToSigsFn());
+                accessor.getLinkedRefs().setSourceSignedAt(expandedAt);
+                engine.verifyAsync(accessor.getCryptoSigs());
+                speedometers.cycleLookAheadVerifications();
+            } catch (final Exception e) {
+                log.warn(
+                        "Unable to re-expand signatures ahead of handle, will be rationalized in"
+                                + " handleTransaction",
+                        e);
+            }
+        }
+    }
+}
@@ -56,6 +56,7 @@ public class Rationalization {
 
     private JKey reqPayerSig;
     private boolean verifiedSync;
+    private boolean reusedExpansion;
     private List<JKey> reqOthersSigs;
     private ResponseCodeEnum finalStatus;
     private List<TransactionSignature> txnSigs;
@@ -85,6 +86,7 @@ public class Rationalization {
                         txnAccessor.getSignedTxnWrapper());
             } else {
                 verifiedSync = false;
+                reusedExpansion = true;
                 return;
             }
         }
@@ -101,6 +103,10 @@ public class Rationalization {
         return verifiedSync;
     }
 
+    public boolean reusedExpansion() {
+        return reusedExpansion;
+    }
+
     void resetFor(final SwirldsTxnAccessor txnAccessor) {
         this.pkToSigFn = txnAccessor.getPkToSigsFn();
         this.txnAccessor = txnAccessor;
@@ -114,6 +120,7 @@ public class Rationalization {
 
         finalStatus = null;
         verifiedSync = false;
+        reusedExpansion = false;
 
         reqPayerSig = null;
         reqOthersSigs = null;
@@ -25,6 +25,7 @@ import com.hedera.node.app.service.mono.context.MutableStateChildren;
 import com.hedera.node.app.service.mono.context.annotations.CompositeProps;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
 import com.hedera.node.app.service.mono.context.properties.PropertySource;
 import com.hedera.node.app.service.mono.ledger.ids.EntityIdSource;
 import com.hedera.node.app.service.mono.ledger.ids.SeqNoEntityIdSource;
@@ -65,6 +66,7 @@ import com.hedera.node.app.service.mono.state.virtual.VirtualBlobValue;
 import com.hedera.node.app.service.mono.state.virtual.VirtualMapFactory;
 import com.hedera.node.app.service.mono.store.schedule.ScheduleStore;
 import com.hedera.node.app.service.mono.stream.RecordsRunningHashLeaf;
+import com.hedera.node.app.service.mono.txns.ethereum.EthTxSigsCache;
 import com.hedera.node.app.service.mono.utils.EntityNum;
 import com.hedera.node.app.service.mono.utils.JvmSystemExits;
 import com.hedera.node.app.service.mono.utils.NamedDigestFactory;
@@ -172,8 +174,9 @@ public interface StateModule {
 
     @Provides
     @Singleton
-    static VirtualMapFactory provideVirtualMapFactory() {
-        return new VirtualMapFactory(JasperDbBuilder::new);
+    static VirtualMapFactory provideVirtualMapFactory(
+            @CompositeProps final PropertySource properties) {
+        return new VirtualMapFactory(JasperDbBuilder::new, properties);
     }
 
     @Provides
@@ -202,8 +205,12 @@ public interface StateModule {
 
     @Provides
     @Singleton
-    static Function<EthTxData, EthTxSigs> provideSigsFunction() {
-        return EthTxSigs::extractSignatures;
+    static Function<EthTxData, EthTxSigs> provideSigsFunction(
+            final NodeLocalProperties nodeLocalProperties) {
+        final var cacheSize = nodeLocalProperties.ethTxSigsCacheSize();
+        return cacheSize > 0
+                ? new EthTxSigsCache(EthTxSigs::extractSignatures, cacheSize)
+                : EthTxSigs::extractSignatures;
     }
 
     @Provides
@@ -65,8 +65,7 @@ public class ExpiryManager {
     private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
     private final Supplier<RecordsStorageAdapter> payerRecords;
 
-    private final MonotonicFullQueueExpiries<Long> payerRecordExpiries =
-            new MonotonicFullQueueExpiries<>();
+    private final MonotonicLongQueueExpiries payerRecordExpiries = new MonotonicLongQueueExpiries();
     private final PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> shortLivedEntityExpiries =
             new PriorityQueueExpiries<>(PQ_CMP);
 
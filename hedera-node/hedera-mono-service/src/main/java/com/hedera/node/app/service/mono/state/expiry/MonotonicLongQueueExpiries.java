@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.expiry;
+
+/**
+ * A {@link MonotonicFullQueueExpiries} specialized to primitive {@code long} ids, for callers that
+ * track an expiry on every transaction and cannot afford to box an id and allocate an {@link
+ * ExpiryEvent} each time.
+ *
+ * <p>The ids are kept in a growable ring buffer; and since expiries are monotonic, each expiry is
+ * stored as an {@code int} offset from the first expiry tracked since the queue was last empty.
+ */
+public class MonotonicLongQueueExpiries {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long now = 0L;
+    private long baseExpiry = 0L;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] expiryOffsets = new int[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    public void reset() {
+        now = 0L;
+        baseExpiry = 0L;
+        head = 0;
+        size = 0;
+    }
+
+    public void track(final long id, final long expiry) {
+        if (expiry < now) {
+            throw new IllegalArgumentException(
+                    String.format("Track time %d for %d not later than %d", expiry, id, now));
+        }
+        if (size == 0) {
+            baseExpiry = expiry;
+            head = 0;
+        } else if (expiry - baseExpiry > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Track time %d for %d too far past queued expiry %d",
+                            expiry, id, baseExpiry));
+        }
+        if (size == ids.length) {
+            grow();
+        }
+        now = expiry;
+        final var tail = (head + size) % ids.length;
+        ids[tail] = id;
+        expiryOffsets[tail] = (int) (expiry - baseExpiry);
+        size++;
+    }
+
+    public boolean hasExpiringAt(final long now) {
+        return size > 0 && baseExpiry + expiryOffsets[head] <= now;
+    }
+
+    public long expireNextAt(final long now) {
+        if (size == 0) {
+            throw new IllegalStateException("No ids are queued for expiration!");
+        }
+        if (baseExpiry + expiryOffsets[head] > now) {
+            throw new IllegalArgumentException(
+                    String.format("Argument 'now=%d' is earlier than the next expiry!", now));
+        }
+        final var id = ids[head];
+        head = (head + 1) % ids.length;
+        size--;
+        return id;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        final var newIds = new long[2 * ids.length];
+        final var newOffsets = new int[2 * ids.length];
+        for (int i = 0; i < size; i++) {
+            final var j = (head + i) % ids.length;
+            newIds[i] = ids[j];
+            newOffsets[i] = expiryOffsets[j];
+        }
+        ids = newIds;
+        expiryOffsets = newOffsets;
+        head = 0;
+    }
+
+    long getNow() {
+        return now;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.logic;
+
+import static com.hedera.node.app.service.mono.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.node.app.service.mono.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.hedera.node.app.service.mono.ServicesState;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.state.migration.StateChildIndices;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import com.swirlds.virtualmap.VirtualMap;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Measures, at the end of each consensus round, how much of each in-memory child of the working
+ * state the platform will have to re-hash; that is, how many of its nodes have no hash because
+ * they were added or changed in the round. These dirty-node counts are exported per child through
+ * the platform metrics, along with the latency from each state copy becoming immutable until the
+ * platform sets its hash. (This latency includes the time the copy waits in the platform's hashing
+ * queue, and not just the time spent hashing it.)
+ *
+ * <p>Only nodes without a hash are visited, so the cost scales with the changes in the round
+ * rather than the size of the children. Children in a {@link VirtualMap} maintain their own hashes
+ * and are skipped.
+ */
+@Singleton
+public class InMemoryChildHashing {
+    static final int[] TRACKED_CHILDREN = {
+        StateChildIndices.UNIQUE_TOKENS,
+        StateChildIndices.TOKEN_ASSOCIATIONS,
+        StateChildIndices.TOPICS,
+        StateChildIndices.ACCOUNTS,
+        StateChildIndices.TOKENS,
+        StateChildIndices.SPECIAL_FILES,
+        StateChildIndices.SCHEDULE_TXS,
+        StateChildIndices.STAKING_INFO,
+        StateChildIndices.PAYER_RECORDS
+    };
+    static final String[] TRACKED_CHILD_NAMES = {
+        "uniqueTokens",
+        "tokenRels",
+        "topics",
+        "accounts",
+        "tokens",
+        "specialFiles",
+        "scheduleTxs",
+        "stakingInfo",
+        "payerRecords"
+    };
+
+    private final double halfLife;
+
+    private RunningAverageMetric[] dirtyNodes;
+    private RunningAverageMetric stateHashLatencyMicros;
+
+    @Inject
+    public InMemoryChildHashing(final NodeLocalProperties properties) {
+        this.halfLife = properties.statsRunningAvgHalfLifeSecs();
+    }
+
+    public void registerWith(final Platform platform) {
+        final var metrics = platform.getMetrics();
+        dirtyNodes = new RunningAverageMetric[TRACKED_CHILDREN.length];
+        for (int i = 0; i < TRACKED_CHILDREN.length; i++) {
+            final var child = TRACKED_CHILD_NAMES[i];
+            dirtyNodes[i] =
+                    metrics.getOrCreate(
+                            avgConfig(
+                                    child + Names.DIRTY_NODES_SUFFIX,
+                                    String.format(Descriptions.DIRTY_NODES_TPL, child)));
+        }
+        stateHashLatencyMicros =
+                metrics.getOrCreate(
+                        avgConfig(
+                                Names.STATE_HASH_LATENCY_MICROS,
+                                Descriptions.STATE_HASH_LATENCY_MICROS));
+    }
+
+    /**
+     * Records the number of dirty nodes in each in-memory child of the given working state. Must
+     * be called on the handle thread after the last transaction in a round.
+     *
+     * @param state the working state
+     */
+    public void finishRound(final ServicesState state) {
+        if (dirtyNodes == null) {
+            return;
+        }
+        for (int i = 0; i < TRACKED_CHILDREN.length; i++) {
+            final var child = inMemoryChild(state, i);
+            if (child != null) {
+                dirtyNodes[i].update(dirtyNodesIn(child));
+            }
+        }
+    }
+
+    /**
+     * Records the latency from a state becoming immutable until the platform set its hash,
+     * including any time the state waited in the platform's hashing queue.
+     *
+     * @param immutableSinceNanos the {@link System#nanoTime()} at which the state became immutable
+     */
+    public void recordStateHashed(final long immutableSinceNanos) {
+        if (stateHashLatencyMicros != null) {
+            stateHashLatencyMicros.update((System.nanoTime() - immutableSinceNanos) / 1_000L);
+        }
+    }
+
+    @Nullable
+    private static MerkleNode inMemoryChild(final ServicesState state, final int i) {
+        if (TRACKED_CHILDREN[i] >= state.getNumberOfChildren()) {
+            return null;
+        }
+        final MerkleNode child = state.getChild(TRACKED_CHILDREN[i]);
+        return (child instanceof VirtualMap) ? null : child;
+    }
+
+    /**
+     * Counts the nodes without a hash in the given subtree. A node changed in the working state is
+     * always a fresh copy-on-write replacement without a hash, and replacing it invalidates the
+     * hashes on its route to the root; so this never has to descend below a hashed node.
+     *
+     * @param node the root of the subtree
+     * @return the number of nodes the subtree needs hashed
+     */
+    static long dirtyNodesIn(final MerkleNode node) {
+        if (node == null || node.getHash() != null) {
+            return 0;
+        }
+        long n = 1;
+        if (!node.isLeaf()) {
+            final var internal = node.asInternal();
+            for (int i = 0, m = internal.getNumberOfChildren(); i < m; i++) {
+                n += dirtyNodesIn(internal.getChild(i));
+            }
+        }
+        return n;
+    }
+
+    private RunningAverageMetric.Config avgConfig(final String name, final String description) {
+        return new RunningAverageMetric.Config(STAT_CATEGORY, name)
+                .withDescription(description)
+                .withFormat(RUNNING_AVG_FORMAT)
+                .withHalfLife(halfLife);
+    }
+
+    public static final class Names {
+        static final String DIRTY_NODES_SUFFIX = "DirtyNodes";
+        static final String STATE_HASH_LATENCY_MICROS = "stateHashLatencyMicros";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String DIRTY_NODES_TPL =
+                "average number of nodes in the %s needing a hash at the end of a round";
+        static final String STATE_HASH_LATENCY_MICROS =
+                "average microseconds from a state copy becoming immutable until its hash is set,"
+                        + " including time waiting in the platform's hashing queue";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+}
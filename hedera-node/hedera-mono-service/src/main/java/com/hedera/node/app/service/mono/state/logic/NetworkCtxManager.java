@@ -40,6 +40,7 @@ import com.hedera.node.app.service.mono.stats.HapiOpCounters;
 import com.hedera.node.app.service.mono.stats.MiscRunningAvgs;
 import com.hedera.node.app.service.mono.throttling.ExpiryThrottle;
 import com.hedera.node.app.service.mono.throttling.FunctionalityThrottling;
+import com.hedera.node.app.service.mono.throttling.GasUsageEstimates;
 import com.hedera.node.app.service.mono.throttling.annotations.HandleThrottle;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -74,6 +75,7 @@ public class NetworkCtxManager {
     private final Supplier<MerkleNetworkContext> networkCtx;
     private final EndOfStakingPeriodCalculator endOfStakingPeriodCalculator;
     private final TransactionContext txnCtx;
+    private final GasUsageEstimates gasUsageEstimates;
 
     private BiPredicate<Instant, Instant> isNextDay = (now, then) -> !inSameUtcDay(now, then);
 
@@ -92,7 +94,8 @@ public class NetworkCtxManager {
             final TransactionContext txnCtx,
             final MiscRunningAvgs runningAvgs,
             final EndOfStakingPeriodCalculator endOfStakingPeriodCalculator,
-            final @CompositeProps PropertySource propertySource) {
+            final @CompositeProps PropertySource propertySource,
+            final GasUsageEstimates gasUsageEstimates) {
         issResetPeriod = nodeLocalProperties.issResetPeriod();
 
         this.issInfo = issInfo;
@@ -107,6 +110,7 @@ public class NetworkCtxManager {
         this.runningAvgs = runningAvgs;
         this.txnCtx = txnCtx;
         this.endOfStakingPeriodCalculator = endOfStakingPeriodCalculator;
+        this.gasUsageEstimates = gasUsageEstimates;
         this.stakingPeriod = propertySource.getLongProperty(STAKING_PERIOD_MINS);
     }
 
@@ -185,7 +189,8 @@ public class NetworkCtxManager {
      *
      * <ol>
      *   <li>The {@code *Handled} counts.
-     *   <li>The {@code gasPerConsSec} running average.
+     *   <li>The {@code gasPerConsSec} and {@code gasUsedPctOfLimit} running averages.
+     *   <li>The gas usage estimates consulted by the HAPI gas throttle.
      *   <li>The "in-handle" throttles.
      *   <li>The congestion pricing multiplier.
      * </ol>
@@ -202,9 +207,15 @@ public class NetworkCtxManager {
         if (isGasThrottled(op) && txnCtx.hasContractResult()) {
             final var gasUsed = txnCtx.getGasUsedForContractTxn();
             gasUsedThisConsSec += gasUsed;
+            final var accessor = txnCtx.accessor();
+            final var gasLimit = accessor.getGasLimitForContractTx();
+            if (gasLimit > 0) {
+                runningAvgs.recordGasUsedPctOfLimit(100.0 * gasUsed / gasLimit);
+            }
+            gasUsageEstimates.observe(accessor.getTxn(), gasLimit, gasUsed);
             if (dynamicProperties.shouldThrottleByGas()) {
-                final var excessAmount = txnCtx.accessor().getGasLimitForContractTx() - gasUsed;
-                handleThrottling.leakUnusedGasPreviouslyReserved(txnCtx.accessor(), excessAmount);
+                final var excessAmount = gasLimit - gasUsed;
+                handleThrottling.leakUnusedGasPreviouslyReserved(accessor, excessAmount);
             }
         }
 
@@ -102,8 +102,12 @@ public class SigsAndPayerKeyScreen {
         rationalization.performFor(accessor);
 
         final var sigStatus = rationalization.finalStatus();
-        if (sigStatus == OK && rationalization.usedSyncVerification()) {
-            speedometers.cycleSyncVerifications();
+        if (sigStatus == OK) {
+            if (rationalization.usedSyncVerification()) {
+                speedometers.cycleSyncVerifications();
+            } else if (rationalization.reusedExpansion()) {
+                speedometers.cycleSigsReused();
+            }
         }
 
         final var sigMeta = accessor.getSigMeta();
@@ -22,6 +22,7 @@ import com.hedera.node.app.service.mono.context.TransactionContext;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
 import com.hedera.node.app.service.mono.records.ConsensusTimeTracker;
+import com.hedera.node.app.service.mono.sigs.LookAheadExpansion;
 import com.hedera.node.app.service.mono.state.expiry.EntityAutoExpiry;
 import com.hedera.node.app.service.mono.state.expiry.ExpiryManager;
 import com.hedera.node.app.service.mono.stats.ExecutionTimeTracker;
@@ -30,12 +31,16 @@ import com.hedera.node.app.service.mono.txns.schedule.ScheduleProcessing;
 import com.hedera.node.app.service.mono.txns.span.ExpandHandleSpan;
 import com.hedera.node.app.service.mono.utils.accessors.SwirldsTxnAccessor;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
+import com.swirlds.common.system.Round;
 import com.swirlds.common.system.transaction.ConsensusTransaction;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 
 @Singleton
 public class StandardProcessLogic implements ProcessLogic {
@@ -53,6 +58,7 @@ public class StandardProcessLogic implements ProcessLogic {
     private final StateView workingView;
     private final ScheduleProcessing scheduleProcessing;
     private final RecordStreaming recordStreaming;
+    private final LookAheadExpansion lookAheadExpansion;
 
     @Inject
     public StandardProcessLogic(
@@ -67,7 +73,8 @@ public class StandardProcessLogic implements ProcessLogic {
             final ScheduleProcessing scheduleProcessing,
             final ExecutionTimeTracker executionTimeTracker,
             final RecordStreaming recordStreaming,
-            final StateView workingView) {
+            final StateView workingView,
+            final LookAheadExpansion lookAheadExpansion) {
         this.expiries = expiries;
         this.invariantChecks = invariantChecks;
         this.expandHandleSpan = expandHandleSpan;
@@ -80,6 +87,23 @@ public class StandardProcessLogic implements ProcessLogic {
         this.sigImpactHistorian = sigImpactHistorian;
         this.recordStreaming = recordStreaming;
         this.workingView = workingView;
+        this.lookAheadExpansion = lookAheadExpansion;
+    }
+
+    @Override
+    public void incorporateConsensus(final Round round) {
+        final List<ConsensusTransaction> roundTxns = new ArrayList<>();
+        final LongArrayList submittingMembers = new LongArrayList();
+        round.forEachEventTransaction(
+                (event, txn) -> {
+                    roundTxns.add(txn);
+                    submittingMembers.add(event.getCreatorId());
+                });
+        for (int i = 0, n = roundTxns.size(); i < n; i++) {
+            incorporateConsensusTxn(roundTxns.get(i), submittingMembers.get(i));
+            // Refresh any signatures just invalidated before handle reaches them
+            lookAheadExpansion.reExpandInvalidated(roundTxns, i + 1);
+        }
     }
 
     @Override
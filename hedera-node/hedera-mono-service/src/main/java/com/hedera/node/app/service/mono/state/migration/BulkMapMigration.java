@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.migration;
+
+import static com.hedera.node.app.service.mono.utils.MiscUtils.forEach;
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.VirtualValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.time.StopWatch;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Moves the leaves of an in-memory {@link MerkleMap} into a {@link VirtualMap}. Leaves are
+ * converted in parallel on the common fork-join pool, one batch ahead of the single thread that
+ * inserts them into the virtual map; so a migration takes about as long as the insertions alone,
+ * however expensive the conversions are. Progress is logged with an estimated time to completion.
+ *
+ * <p>The conversion functions run concurrently and must not mutate shared state. Any per-leaf side
+ * effect (for example, building another {@link MerkleMap}) belongs in the {@code onInsert}
+ * consumer, which runs on the calling thread in the source map's iteration order.
+ */
+public final class BulkMapMigration {
+    private static final Logger log = LogManager.getLogger(BulkMapMigration.class);
+
+    static final int BATCH_SIZE = 10_000;
+    private static final int PROGRESS_LOG_PERCENT_STEP = 10;
+
+    public static final int NO_INTERMEDIATE_COPIES = Integer.MAX_VALUE;
+
+    /**
+     * Inserts a converted copy of every leaf in the source map into the target map, replacing the
+     * target with a fresh copy after every {@code insertionsPerCopy} insertions to bound the size
+     * of its cache.
+     *
+     * @param source the in-memory map to migrate
+     * @param target the empty virtual map to migrate into
+     * @param keyMigrator converts a source key to a virtual key
+     * @param valueMigrator converts a source leaf to a virtual value
+     * @param onInsert an action to run for each leaf when it is inserted
+     * @param insertionsPerCopy how many insertions to make before copying the target
+     * @param desc a description of the migration for the progress logs
+     * @return the latest copy of the target, now holding all the migrated leaves
+     * @param <K> the type of the source keys
+     * @param <V> the type of the source leaves
+     * @param <T> the type of the virtual keys
+     * @param <U> the type of the virtual values
+     */
+    public static <
+                    K,
+                    V extends MerkleNode & Keyed<K>,
+                    T extends VirtualKey<? super T>,
+                    U extends VirtualValue>
+            VirtualMap<T, U> migrate(
+                    final MerkleMap<K, V> source,
+                    final VirtualMap<T, U> target,
+                    final Function<K, T> keyMigrator,
+                    final Function<V, U> valueMigrator,
+                    final BiConsumer<K, V> onInsert,
+                    final int insertionsPerCopy,
+                    final String desc) {
+        final List<V> leaves = new ArrayList<>(source.size());
+        forEach(source, (key, leaf) -> leaves.add(leaf));
+        final var n = leaves.size();
+        final var progress = new Progress(desc, n);
+
+        var current = target;
+        var insertions = 0;
+        var nextBatch = convertAsync(leaves, 0, keyMigrator, valueMigrator);
+        for (int from = 0; from < n; from += BATCH_SIZE) {
+            final var batch = join(nextBatch);
+            if (from + BATCH_SIZE < n) {
+                nextBatch = convertAsync(leaves, from + BATCH_SIZE, keyMigrator, valueMigrator);
+            }
+            for (int i = 0; i < batch.keys().size(); i++) {
+                final var leaf = leaves.get(from + i);
+                onInsert.accept(leaf.getKey(), leaf);
+                current.put(batch.keys().get(i), batch.values().get(i));
+                if (++insertions % insertionsPerCopy == 0) {
+                    current = current.copy();
+                }
+            }
+            progress.advanceTo(insertions);
+        }
+        return current;
+    }
+
+    /**
+     * Convenience overload of {@link #migrate(MerkleMap, VirtualMap, Function, Function,
+     * BiConsumer, int, String)} with no per-leaf side effect.
+     */
+    public static <
+                    K,
+                    V extends MerkleNode & Keyed<K>,
+                    T extends VirtualKey<? super T>,
+                    U extends VirtualValue>
+            VirtualMap<T, U> migrate(
+                    final MerkleMap<K, V> source,
+                    final VirtualMap<T, U> target,
+                    final Function<K, T> keyMigrator,
+                    final Function<V, U> valueMigrator,
+                    final int insertionsPerCopy,
+                    final String desc) {
+        return migrate(
+                source,
+                target,
+                keyMigrator,
+                valueMigrator,
+                (key, leaf) -> {},
+                insertionsPerCopy,
+                desc);
+    }
+
+    private record Batch<T, U>(List<T> keys, List<U> values) {}
+
+    @SuppressWarnings("unchecked")
+    private static <K, V extends MerkleNode & Keyed<K>, T, U>
+            CompletableFuture<Batch<T, U>> convertAsync(
+                    final List<V> leaves,
+                    final int from,
+                    final Function<K, T> keyMigrator,
+                    final Function<V, U> valueMigrator) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    final var size = Math.min(BATCH_SIZE, leaves.size() - from);
+                    final var keys = new Object[size];
+                    final var values = new Object[size];
+                    IntStream.range(0, size)
+                            .parallel()
+                            .forEach(
+                                    i -> {
+                                        final var leaf = leaves.get(from + i);
+                                        keys[i] = keyMigrator.apply(leaf.getKey());
+                                        values[i] = valueMigrator.apply(leaf);
+                                    });
+                    return new Batch<>(
+                            (List<T>) Arrays.asList(keys), (List<U>) Arrays.asList(values));
+                });
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Progress {
+        private final String desc;
+        private final int total;
+        private final StopWatch watch = StopWatch.createStarted();
+        private int nextLogPercent = PROGRESS_LOG_PERCENT_STEP;
+
+        private Progress(final String desc, final int total) {
+            this.desc = desc;
+            this.total = total;
+        }
+
+        private void advanceTo(final int done) {
+            final var percent = (int) (100L * done / total);
+            if (percent < nextLogPercent) {
+                return;
+            }
+            final var elapsedMs = watch.getTime(TimeUnit.MILLISECONDS);
+            final var etaMs = elapsedMs * (total - done) / done;
+            log.info(
+                    "{} - migrated {}/{} leaves ({}%) in {}ms, ETA {}ms",
+                    desc,
+                    done,
+                    total,
+                    percent,
+                    elapsedMs,
+                    etaMs);
+            nextLogPercent = (percent / PROGRESS_LOG_PERCENT_STEP + 1) * PROGRESS_LOG_PERCENT_STEP;
+        }
+    }
+
+    private BulkMapMigration() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+}
@@ -18,7 +18,6 @@ package com.hedera.node.app.service.mono.state.migration;
 import static com.hedera.node.app.service.mono.state.migration.StateChildIndices.ACCOUNTS;
 import static com.hedera.node.app.service.mono.state.migration.StateChildIndices.PAYER_RECORDS;
 import static com.hedera.node.app.service.mono.state.migration.StateChildIndices.TOKEN_ASSOCIATIONS;
-import static com.hedera.node.app.service.mono.utils.MiscUtils.forEach;
 import static com.hedera.node.app.service.mono.utils.MiscUtils.withLoggedDuration;
 
 import com.hedera.node.app.service.mono.ServicesState;
@@ -35,7 +34,6 @@ import com.hedera.node.app.service.mono.utils.EntityNumPair;
 import com.hedera.node.app.service.mono.utils.NonAtomicReference;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -67,35 +65,26 @@ public class MapMigrationToDisk {
             final ServicesState mutableState,
             final VirtualMapFactory virtualMapFactory,
             final Function<MerkleAccountState, OnDiskAccount> accountMigrator) {
-        final var insertionsSoFar = new AtomicInteger(0);
-        final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskAccount>> onDiskAccounts =
-                new NonAtomicReference<>(virtualMapFactory.newOnDiskAccountStorage());
-
         final var inMemoryAccounts =
                 (MerkleMap<EntityNum, MerkleAccount>) mutableState.getChild(ACCOUNTS);
         final MerkleMap<EntityNum, MerklePayerRecords> payerRecords = new MerkleMap<>();
+        final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskAccount>> onDiskAccounts =
+                new NonAtomicReference<>();
         withLoggedDuration(
                 () ->
-                        forEach(
-                                inMemoryAccounts,
-                                (num, account) -> {
-                                    final var accountRecords = new MerklePayerRecords();
-                                    account.records().forEach(accountRecords::offer);
-                                    payerRecords.put(num, accountRecords);
-
-                                    final var onDiskAccount =
-                                            accountMigrator.apply(account.state());
-                                    onDiskAccounts
-                                            .get()
-                                            .put(
-                                                    new EntityNumVirtualKey(num.longValue()),
-                                                    onDiskAccount);
-                                    if (insertionsSoFar.incrementAndGet() % insertionsPerCopy
-                                            == 0) {
-                                        final var onDiskAccountsCopy = onDiskAccounts.get().copy();
-                                        onDiskAccounts.set(onDiskAccountsCopy);
-                                    }
-                                }),
+                        onDiskAccounts.set(
+                                BulkMapMigration.migrate(
+                                        inMemoryAccounts,
+                                        virtualMapFactory.newOnDiskAccountStorage(),
+                                        num -> new EntityNumVirtualKey(num.longValue()),
+                                        account -> accountMigrator.apply(account.state()),
+                                        (num, account) -> {
+                                            final var accountRecords = new MerklePayerRecords();
+                                            account.records().forEach(accountRecords::offer);
+                                            payerRecords.put(num, accountRecords);
+                                        },
+                                        insertionsPerCopy,
+                                        "accounts-to-disk migration")),
                 log,
                 "accounts-to-disk migration");
         mutableState.setChild(ACCOUNTS, onDiskAccounts.get());
@@ -108,28 +97,21 @@ public class MapMigrationToDisk {
             final ServicesState mutableState,
             final VirtualMapFactory virtualMapFactory,
             final Function<MerkleTokenRelStatus, OnDiskTokenRel> relMigrator) {
-        final var insertionsSoFar = new AtomicInteger(0);
-        final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskTokenRel>> onDiskRels =
-                new NonAtomicReference<>(virtualMapFactory.newOnDiskTokenRels());
-
         final var inMemoryRels =
                 (MerkleMap<EntityNumPair, MerkleTokenRelStatus>)
                         mutableState.getChild(TOKEN_ASSOCIATIONS);
+        final NonAtomicReference<VirtualMap<EntityNumVirtualKey, OnDiskTokenRel>> onDiskRels =
+                new NonAtomicReference<>();
         withLoggedDuration(
                 () ->
-                        forEach(
-                                inMemoryRels,
-                                (numPair, rel) -> {
-                                    final var onDiskRel = relMigrator.apply(rel);
-                                    onDiskRels
-                                            .get()
-                                            .put(EntityNumVirtualKey.fromPair(numPair), onDiskRel);
-                                    if (insertionsSoFar.incrementAndGet() % insertionsPerCopy
-                                            == 0) {
-                                        final var onDiskRelCopy = onDiskRels.get().copy();
-                                        onDiskRels.set(onDiskRelCopy);
-                                    }
-                                }),
+                        onDiskRels.set(
+                                BulkMapMigration.migrate(
+                                        inMemoryRels,
+                                        virtualMapFactory.newOnDiskTokenRels(),
+                                        EntityNumVirtualKey::fromPair,
+                                        relMigrator,
+                                        insertionsPerCopy,
+                                        "token-rels-to-disk migration")),
                 log,
                 "token-rels-to-disk migration");
         mutableState.setChild(TOKEN_ASSOCIATIONS, onDiskRels.get());
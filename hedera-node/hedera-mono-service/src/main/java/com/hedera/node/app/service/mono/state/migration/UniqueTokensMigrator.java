@@ -15,18 +15,14 @@
  */
 package com.hedera.node.app.service.mono.state.migration;
 
-import static com.hedera.node.app.service.mono.utils.MiscUtils.forEach;
-
 import com.hedera.node.app.service.mono.ServicesState;
 import com.hedera.node.app.service.mono.state.merkle.MerkleUniqueToken;
 import com.hedera.node.app.service.mono.state.virtual.UniqueTokenKey;
 import com.hedera.node.app.service.mono.state.virtual.UniqueTokenValue;
 import com.hedera.node.app.service.mono.state.virtual.VirtualMapFactory;
 import com.hedera.node.app.service.mono.utils.EntityNumPair;
-import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.merkle.map.MerkleMap;
 import com.swirlds.virtualmap.VirtualMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,9 +33,10 @@ public class UniqueTokensMigrator {
      * Migrate tokens from MerkleMap data structure to VirtualMap data structure.
      *
      * @param initializingState the ServicesState containing the MerkleMap to migrate.
+     * @param virtualMapFactory the factory, with the configured tuning, for the new VirtualMap
      */
-    public static void migrateFromUniqueTokenMerkleMap(final ServicesState initializingState) {
-        final var virtualMapFactory = new VirtualMapFactory(JasperDbBuilder::new);
+    public static void migrateFromUniqueTokenMerkleMap(
+            final ServicesState initializingState, final VirtualMapFactory virtualMapFactory) {
         final var currentData = initializingState.uniqueTokens();
         if (currentData.isVirtual()) {
             // Already done here
@@ -50,22 +47,20 @@ public class UniqueTokensMigrator {
         final MerkleMap<EntityNumPair, MerkleUniqueToken> legacyUniqueTokens =
                 currentData.merkleMap();
         final VirtualMap<UniqueTokenKey, UniqueTokenValue> vmUniqueTokens =
-                virtualMapFactory.newVirtualizedUniqueTokenStorage();
-        final AtomicInteger count = new AtomicInteger();
-
-        forEach(
-                legacyUniqueTokens,
-                (entityNumPair, legacyToken) -> {
-                    final var numSerialPair = entityNumPair.asTokenNumAndSerialPair();
-                    final var newTokenKey =
-                            new UniqueTokenKey(numSerialPair.getLeft(), numSerialPair.getRight());
-                    final var newTokenValue = UniqueTokenValue.from(legacyToken);
-                    vmUniqueTokens.put(newTokenKey, newTokenValue);
-                    count.incrementAndGet();
-                });
+                BulkMapMigration.migrate(
+                        legacyUniqueTokens,
+                        virtualMapFactory.newVirtualizedUniqueTokenStorage(),
+                        entityNumPair -> {
+                            final var numSerialPair = entityNumPair.asTokenNumAndSerialPair();
+                            return new UniqueTokenKey(
+                                    numSerialPair.getLeft(), numSerialPair.getRight());
+                        },
+                        UniqueTokenValue::from,
+                        BulkMapMigration.NO_INTERMEDIATE_COPIES,
+                        "unique tokens migration");
 
         initializingState.setChild(StateChildIndices.UNIQUE_TOKENS, vmUniqueTokens);
-        LOG.info("Migrated {} unique tokens", count.get());
+        LOG.info("Migrated {} unique tokens", legacyUniqueTokens.size());
     }
 
     private UniqueTokensMigrator() {
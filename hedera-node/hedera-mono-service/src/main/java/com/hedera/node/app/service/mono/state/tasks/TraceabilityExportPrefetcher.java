@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.tasks;
+
+import static com.hedera.node.app.service.mono.store.contracts.StaticEntityAccess.explicitCodeFetch;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.node.app.service.mono.context.StateChildren;
+import com.hedera.node.app.service.mono.context.primitives.SignedStateViewFactory;
+import com.hedera.node.app.service.mono.utils.EntityNum;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Warms the bytecode and storage of the contracts the {@link TraceabilityExportTask} is about to
+ * export, by walking them in parallel from the latest signed state on background threads.
+ *
+ * <p>The signed state shares its on-disk data sources with the working state, so after a read-ahead
+ * the handle thread finds the blobs and storage linked lists it needs already in the page cache;
+ * while the sidecars themselves are still built from the working state, keeping the exported
+ * records identical on every node.
+ *
+ * <p>The read-ahead is strictly best-effort. The signed state may be released while a shard is
+ * walking it, so any failure is logged and ignored.
+ */
+@Singleton
+public class TraceabilityExportPrefetcher {
+    private static final Logger log = LogManager.getLogger(TraceabilityExportPrefetcher.class);
+
+    static final int NUM_SHARDS = 4;
+    static final int READ_AHEAD_ENTITIES = 256;
+
+    private final Executor executor;
+    private final SignedStateViewFactory stateViewFactory;
+
+    // The highest entity number submitted for read-ahead; only accessed from the handle thread
+    private long prefetchedThrough = 0;
+
+    @Inject
+    public TraceabilityExportPrefetcher(final SignedStateViewFactory stateViewFactory) {
+        this(
+                stateViewFactory,
+                Executors.newFixedThreadPool(
+                        NUM_SHARDS,
+                        runnable -> {
+                            final var thread = new Thread(runnable, "traceability-prefetch");
+                            thread.setDaemon(true);
+                            return thread;
+                        }));
+    }
+
+    @VisibleForTesting
+    TraceabilityExportPrefetcher(
+            final SignedStateViewFactory stateViewFactory, final Executor executor) {
+        this.executor = executor;
+        this.stateViewFactory = stateViewFactory;
+    }
+
+    /**
+     * Called from the handle thread just before the given entity is exported; once less than half
+     * of the read-ahead window is left in front of it, submits the next window of pre-existing
+     * entities to be warmed in {@link #NUM_SHARDS} parallel shards.
+     *
+     * @param literalNum the entity number about to be exported
+     * @param seqNoPostUpgrade the first entity number created after the upgrade
+     */
+    public void readAheadOf(final long literalNum, final long seqNoPostUpgrade) {
+        final var inWindow =
+                literalNum <= prefetchedThrough
+                        && literalNum > prefetchedThrough - READ_AHEAD_ENTITIES;
+        if (inWindow && prefetchedThrough - literalNum >= READ_AHEAD_ENTITIES / 2) {
+            return;
+        }
+        // If the scan wrapped around (or just started), restart the window from this entity
+        final var from = inWindow ? prefetchedThrough + 1 : literalNum + 1;
+        final var to = Math.min(literalNum + READ_AHEAD_ENTITIES, seqNoPostUpgrade - 1);
+        if (from > to) {
+            return;
+        }
+        final var signedChildren = stateViewFactory.childrenOfLatestSignedState();
+        if (signedChildren.isEmpty()) {
+            return;
+        }
+        final var children = signedChildren.get();
+        for (int shard = 0; shard < NUM_SHARDS; shard++) {
+            final var firstInShard = from + shard;
+            executor.execute(() -> warmShard(children, firstInShard, to));
+        }
+        prefetchedThrough = to;
+    }
+
+    private void warmShard(final StateChildren children, final long from, final long to) {
+        try {
+            for (long num = from; num <= to; num += NUM_SHARDS) {
+                warm(children, num);
+            }
+        } catch (final Exception e) {
+            log.debug("Traceability read-ahead of entities {}-{} stopped early", from, to, e);
+        }
+    }
+
+    private void warm(final StateChildren children, final long num) {
+        final var account = children.accounts().get(EntityNum.fromLong(num));
+        if (account == null || !account.isSmartContract()) {
+            return;
+        }
+        explicitCodeFetch(children.storage(), num);
+        final var storage = children.contractStorage();
+        var key = account.getFirstContractStorageKey();
+        var numLeft = account.getNumContractKvPairs();
+        while (numLeft-- > 0 && key != null) {
+            final var value = storage.get(key);
+            if (value == null) {
+                return;
+            }
+            key = value.getNextKeyScopedTo(num);
+        }
+    }
+
+    @VisibleForTesting
+    long getPrefetchedThrough() {
+        return prefetchedThrough;
+    }
+}
@@ -22,7 +22,6 @@ import static com.hedera.node.app.service.mono.throttling.MapAccessType.ACCOUNTS
 import static com.hedera.node.app.service.mono.throttling.MapAccessType.BLOBS_GET;
 import static com.hedera.node.app.service.mono.throttling.MapAccessType.STORAGE_GET;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.hedera.node.app.hapi.utils.ByteStringUtils;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.state.merkle.MerkleNetworkContext;
@@ -72,32 +71,33 @@ import org.apache.logging.log4j.Logger;
  * With default settings, this stops traceability exports whenever gas usage is above 10 percent of
  * capacity; or when there have already been 10 traceability exports in the current consensus
  * second.
+ *
+ * <p>Before each export, asks the {@link TraceabilityExportPrefetcher} to warm the storage of the
+ * next few pre-existing contracts off the handle thread. The scan's progress is tracked by the
+ * {@link SystemTaskManager} in the {@link MerkleNetworkContext}, so it resumes where it left off
+ * after a restart.
  */
 @Singleton
 public class TraceabilityExportTask implements SystemTask {
     private static final Logger log = LogManager.getLogger(TraceabilityExportTask.class);
-    private static final int EXPORTS_PER_LOG = 1000;
+    private static final int ENTITIES_PER_LOG = 1000;
 
     private final EntityAccess entityAccess;
     private final ExpiryThrottle expiryThrottle;
     private final FunctionalityThrottling handleThrottling;
     private final GlobalDynamicProperties dynamicProperties;
     private final TraceabilityRecordsHelper recordsHelper;
+    private final TraceabilityExportPrefetcher prefetcher;
     private final Supplier<AccountStorageAdapter> accounts;
     private final Supplier<VirtualMap<ContractKey, IterableContractValue>> contractStorage;
 
-    // Used to occasionally log the progress of the traceability export; because this is
-    // not in state, will become inaccurate on a node that falls behind or restarts, but
-    // that doesn't matter---exports will finish within a few hours and we can just check
-    // the logs of a node that didn't fall behind
-    private int exportsCompleted = 0;
-
     @Inject
     public TraceabilityExportTask(
             final EntityAccess entityAccess,
             final ExpiryThrottle expiryThrottle,
             final GlobalDynamicProperties dynamicProperties,
             final TraceabilityRecordsHelper recordsHelper,
+            final TraceabilityExportPrefetcher prefetcher,
             final @HandleThrottle FunctionalityThrottling handleThrottling,
             final Supplier<AccountStorageAdapter> accounts,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> contractStorage) {
@@ -106,6 +106,7 @@ public class TraceabilityExportTask implements SystemTask {
         this.dynamicProperties = dynamicProperties;
         this.accounts = accounts;
         this.recordsHelper = recordsHelper;
+        this.prefetcher = prefetcher;
         this.contractStorage = contractStorage;
         this.handleThrottling = handleThrottling;
     }
@@ -128,6 +129,14 @@ public class TraceabilityExportTask implements SystemTask {
         // multiple process() calls, so we just unconditionally register work in the
         // throttle bucket; will only happen once per pre-existing contract
         expiryThrottle.allowOne(ACCOUNTS_GET);
+        prefetcher.readAheadOf(literalNum, curNetworkCtx.seqNoPostUpgrade());
+        // The scan position is in state, so this log stays accurate across restarts
+        if (literalNum % ENTITIES_PER_LOG == 0) {
+            log.info(
+                    "Traceability export has reached entity 0.0.{} of {} pre-existing",
+                    literalNum,
+                    curNetworkCtx.seqNoPostUpgrade() - 1);
+        }
 
         final var key = EntityNum.fromLong(literalNum);
         final var account = accounts.get().get(key);
@@ -142,10 +151,6 @@ public class TraceabilityExportTask implements SystemTask {
             addStateChangesSideCar(contractId, account, sidecars);
             recordsHelper.exportSidecarsViaSynthUpdate(literalNum, sidecars);
         }
-        exportsCompleted++;
-        if (exportsCompleted % EXPORTS_PER_LOG == 0) {
-            log.info("Have exported traceability info for {} contracts now", exportsCompleted);
-        }
         return DONE;
     }
 
@@ -265,9 +270,4 @@ public class TraceabilityExportTask implements SystemTask {
         }
         return contractKeyBytes;
     }
-
-    @VisibleForTesting
-    void setExportsCompleted(final int exportsCompleted) {
-        this.exportsCompleted = exportsCompleted;
-    }
 }
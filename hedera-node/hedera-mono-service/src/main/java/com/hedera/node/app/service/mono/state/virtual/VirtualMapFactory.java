@@ -15,6 +15,33 @@
  */
 package com.hedera.node.app.service.mono.state.virtual;
 
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_ACCOUNTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_ACCOUNTS_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_BLOBS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_BLOBS_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_BLOBS_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_CONTRACT_STORAGE_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_CONTRACT_STORAGE_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_CONTRACT_STORAGE_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_NFTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_NFTS_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_EQUALITY_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_EQUALITY_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_EQUALITY_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_LIST_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_LIST_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_LIST_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_TEMPORAL_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_TEMPORAL_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_SCHEDULE_TEMPORAL_PREFER_DISK_BASED_INDEXES;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_TOKEN_RELS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_TOKEN_RELS_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_TOKEN_RELS_PREFER_DISK_BASED_INDEXES;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.node.app.service.mono.context.properties.PropertySource;
 import com.hedera.node.app.service.mono.state.virtual.entities.OnDiskAccount;
 import com.hedera.node.app.service.mono.state.virtual.entities.OnDiskAccountSupplier;
 import com.hedera.node.app.service.mono.state.virtual.entities.OnDiskTokenRel;
@@ -39,9 +66,16 @@ import com.swirlds.jasperdb.files.DataFileCommon;
 import com.swirlds.virtualmap.VirtualKey;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.VirtualValue;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class VirtualMapFactory {
+    private static final Logger log = LogManager.getLogger(VirtualMapFactory.class);
+
     private static final short CURRENT_SERIALIZATION_VERSION = 1;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
 
     private static final long MAX_BLOBS = 50_000_000;
     private static final long MAX_STORAGE_ENTRIES = 500_000_000;
@@ -62,6 +96,7 @@ public class VirtualMapFactory {
     private static final String ON_DISK_TOKEN_RELS_STORAGE_VM_NAME = "tokenRelStore";
     private static final String UNIQUE_TOKENS_VM_NAME = "uniqueTokenStore";
 
+
     @FunctionalInterface
     public interface JasperDbBuilderFactory {
         <K extends VirtualKey<? super K>, V extends VirtualValue>
@@ -69,9 +104,132 @@ public class VirtualMapFactory {
     }
 
     private final JasperDbBuilderFactory jdbBuilderFactory;
+    private final VirtualMapTuning blobsTuning;
+    private final VirtualMapTuning contractStorageTuning;
+    private final VirtualMapTuning scheduleListTuning;
+    private final VirtualMapTuning scheduleTemporalTuning;
+    private final VirtualMapTuning scheduleEqualityTuning;
+    private final VirtualMapTuning accountsTuning;
+    private final VirtualMapTuning tokenRelsTuning;
+    private final VirtualMapTuning nftsTuning;
 
     public VirtualMapFactory(final JasperDbBuilderFactory jdbBuilderFactory) {
         this.jdbBuilderFactory = jdbBuilderFactory;
+        this.blobsTuning = defaultTuningFor(MAX_BLOBS);
+        this.contractStorageTuning = defaultTuningFor(MAX_STORAGE_ENTRIES);
+        this.scheduleListTuning = defaultTuningFor(MAX_SCHEDULES);
+        this.scheduleTemporalTuning = defaultTuningFor(MAX_SCHEDULE_SECONDS);
+        this.scheduleEqualityTuning = defaultTuningFor(MAX_SCHEDULES);
+        this.accountsTuning = defaultTuningFor(MAX_ACCOUNTS);
+        this.tokenRelsTuning = defaultTuningFor(MAX_TOKEN_RELS);
+        this.nftsTuning = defaultTuningFor(MAX_MINTABLE_NFTS);
+    }
+
+    /**
+     * Creates a factory whose maps are tuned by the {@code virtualMaps.*} properties in the given
+     * source, falling back to the default tuning of each map for any missing property.
+     *
+     * @param jdbBuilderFactory the factory for JasperDB data source builders
+     * @param properties the source of the tuning properties
+     */
+    public VirtualMapFactory(
+            final JasperDbBuilderFactory jdbBuilderFactory, final PropertySource properties) {
+        this.jdbBuilderFactory = jdbBuilderFactory;
+        this.blobsTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_BLOBS_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_BLOBS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_BLOBS_PREFER_DISK_BASED_INDEXES,
+                        MAX_BLOBS);
+        this.contractStorageTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_CONTRACT_STORAGE_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_CONTRACT_STORAGE_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_CONTRACT_STORAGE_PREFER_DISK_BASED_INDEXES,
+                        MAX_STORAGE_ENTRIES);
+        this.scheduleListTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_SCHEDULE_LIST_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_SCHEDULE_LIST_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_SCHEDULE_LIST_PREFER_DISK_BASED_INDEXES,
+                        MAX_SCHEDULES);
+        this.scheduleTemporalTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_SCHEDULE_TEMPORAL_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_SCHEDULE_TEMPORAL_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_SCHEDULE_TEMPORAL_PREFER_DISK_BASED_INDEXES,
+                        MAX_SCHEDULE_SECONDS);
+        this.scheduleEqualityTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_SCHEDULE_EQUALITY_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_SCHEDULE_EQUALITY_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_SCHEDULE_EQUALITY_PREFER_DISK_BASED_INDEXES,
+                        MAX_SCHEDULES);
+        this.accountsTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_ACCOUNTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_ACCOUNTS_PREFER_DISK_BASED_INDEXES,
+                        MAX_ACCOUNTS);
+        this.tokenRelsTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_TOKEN_RELS_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_TOKEN_RELS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_TOKEN_RELS_PREFER_DISK_BASED_INDEXES,
+                        MAX_TOKEN_RELS);
+        this.nftsTuning =
+                tuningFrom(
+                        properties,
+                        VIRTUAL_MAPS_NFTS_MAX_NUM_OF_KEYS,
+                        VIRTUAL_MAPS_NFTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD,
+                        VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES,
+                        MAX_MINTABLE_NFTS);
+    }
+
+    /**
+     * Logs the tuning of each virtual map this factory creates, along with a rough upper bound on
+     * the RAM each will need for its indices and internal hashes when filled to capacity.
+     */
+    public void logTuningReport() {
+        final var sb = new StringBuilder("Virtual map tuning (est. RAM at capacity)");
+        var totalBytes = 0L;
+        for (final var entry : tunings().entrySet()) {
+            final var tuning = entry.getValue();
+            final var ramBytes = tuning.estimatedRamBytesAtCapacity();
+            totalBytes += ramBytes;
+            sb.append(
+                    String.format(
+                            "%n  %-30s maxNumOfKeys=%d, internalHashesRamToDiskThreshold=%d,"
+                                    + " preferDiskBasedIndexes=%b -> %d MB",
+                            entry.getKey(),
+                            tuning.maxNumOfKeys(),
+                            tuning.internalHashesRamToDiskThreshold(),
+                            tuning.preferDiskBasedIndexes(),
+                            ramBytes / BYTES_PER_MB));
+        }
+        sb.append(String.format("%n  %-30s %d MB", "TOTAL", totalBytes / BYTES_PER_MB));
+        log.info("{}", sb);
+    }
+
+    @VisibleForTesting
+    Map<String, VirtualMapTuning> tunings() {
+        final Map<String, VirtualMapTuning> tunings = new LinkedHashMap<>();
+        tunings.put(BLOBS_VM_NAME, blobsTuning);
+        tunings.put(ITERABLE_STORAGE_VM_NAME, contractStorageTuning);
+        tunings.put(SCHEDULE_LIST_STORAGE_VM_NAME, scheduleListTuning);
+        tunings.put(SCHEDULE_TEMPORAL_STORAGE_VM_NAME, scheduleTemporalTuning);
+        tunings.put(SCHEDULE_EQUALITY_STORAGE_VM_NAME, scheduleEqualityTuning);
+        tunings.put(ON_DISK_ACCOUNT_STORAGE_VM_NAME, accountsTuning);
+        tunings.put(ON_DISK_TOKEN_RELS_STORAGE_VM_NAME, tokenRelsTuning);
+        tunings.put(UNIQUE_TOKENS_VM_NAME, nftsTuning);
+        return tunings;
     }
 
     public VirtualMap<VirtualBlobKey, VirtualBlobValue> newVirtualizedBlobs() {
@@ -94,10 +252,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(blobLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(blobKeySerializer)
-                .maxNumOfKeys(MAX_BLOBS)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(blobKeySerializer);
+        applyTo(dsBuilder, blobsTuning);
         return new VirtualMap<>(BLOBS_VM_NAME, dsBuilder);
     }
 
@@ -121,10 +277,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(storageLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(storageKeySerializer)
-                .maxNumOfKeys(MAX_STORAGE_ENTRIES)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(storageKeySerializer);
+        applyTo(dsBuilder, contractStorageTuning);
         return new VirtualMap<>(ITERABLE_STORAGE_VM_NAME, dsBuilder);
     }
 
@@ -148,10 +302,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(storageLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(keySerializer)
-                .maxNumOfKeys(MAX_SCHEDULES)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(keySerializer);
+        applyTo(dsBuilder, scheduleListTuning);
         return new VirtualMap<>(SCHEDULE_LIST_STORAGE_VM_NAME, dsBuilder);
     }
 
@@ -176,10 +328,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(storageLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(keySerializer)
-                .maxNumOfKeys(MAX_SCHEDULE_SECONDS)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(keySerializer);
+        applyTo(dsBuilder, scheduleTemporalTuning);
         return new VirtualMap<>(SCHEDULE_TEMPORAL_STORAGE_VM_NAME, dsBuilder);
     }
 
@@ -204,10 +354,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(storageLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(keySerializer)
-                .maxNumOfKeys(MAX_SCHEDULES)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(keySerializer);
+        applyTo(dsBuilder, scheduleEqualityTuning);
         return new VirtualMap<>(SCHEDULE_EQUALITY_STORAGE_VM_NAME, dsBuilder);
     }
 
@@ -231,10 +379,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(accountLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(keySerializer)
-                .maxNumOfKeys(MAX_ACCOUNTS)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(keySerializer);
+        applyTo(dsBuilder, accountsTuning);
         return new VirtualMap<>(ON_DISK_ACCOUNT_STORAGE_VM_NAME, dsBuilder);
     }
 
@@ -258,10 +404,8 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(tokenRelLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(keySerializer)
-                .maxNumOfKeys(MAX_TOKEN_RELS)
-                .preferDiskBasedIndexes(PREFER_DISK_BASED_INDICIES)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(keySerializer);
+        applyTo(dsBuilder, tokenRelsTuning);
         return new VirtualMap<>(ON_DISK_TOKEN_RELS_STORAGE_VM_NAME, dsBuilder);
     }
 
@@ -284,10 +428,35 @@ public class VirtualMapFactory {
         dsBuilder
                 .virtualLeafRecordSerializer(storageLeafRecordSerializer)
                 .virtualInternalRecordSerializer(new VirtualInternalRecordSerializer())
-                .keySerializer(storageKeySerializer)
-                .maxNumOfKeys(MAX_MINTABLE_NFTS)
-                .preferDiskBasedIndexes(false)
-                .internalHashesRamToDiskThreshold(MAX_IN_MEMORY_INTERNAL_HASHES);
+                .keySerializer(storageKeySerializer);
+        applyTo(dsBuilder, nftsTuning);
         return new VirtualMap<>(UNIQUE_TOKENS_VM_NAME, dsBuilder);
     }
+
+    private static <K extends VirtualKey<? super K>, V extends VirtualValue> void applyTo(
+            final JasperDbBuilder<K, V> dsBuilder, final VirtualMapTuning tuning) {
+        dsBuilder
+                .maxNumOfKeys(tuning.maxNumOfKeys())
+                .preferDiskBasedIndexes(tuning.preferDiskBasedIndexes())
+                .internalHashesRamToDiskThreshold(tuning.internalHashesRamToDiskThreshold());
+    }
+
+    private static VirtualMapTuning tuningFrom(
+            final PropertySource properties,
+            final String maxNumOfKeysProp,
+            final String thresholdProp,
+            final String diskIndexesProp,
+            final long defaultMaxNumOfKeys) {
+        return VirtualMapTuning.from(
+                properties,
+                maxNumOfKeysProp,
+                thresholdProp,
+                diskIndexesProp,
+                defaultTuningFor(defaultMaxNumOfKeys));
+    }
+
+    private static VirtualMapTuning defaultTuningFor(final long maxNumOfKeys) {
+        return new VirtualMapTuning(
+                maxNumOfKeys, MAX_IN_MEMORY_INTERNAL_HASHES, PREFER_DISK_BASED_INDICIES);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.virtual;
+
+import com.hedera.node.app.service.mono.context.properties.PropertySource;
+
+/**
+ * The JasperDB settings used when creating a new virtual map. Note these settings are saved with
+ * the map's data source builder in the signed state; so a changed tuning only takes effect for maps
+ * created after the change (that is, at genesis or during a migration).
+ *
+ * @param maxNumOfKeys the maximum number of keys the map's indices are sized for
+ * @param internalHashesRamToDiskThreshold internal hashes at paths below this are kept in RAM
+ * @param preferDiskBasedIndexes whether the map's indices should be kept on disk
+ */
+public record VirtualMapTuning(
+        long maxNumOfKeys, long internalHashesRamToDiskThreshold, boolean preferDiskBasedIndexes) {
+    private static final long BYTES_PER_INDEX_ENTRY = Long.BYTES;
+    private static final long BYTES_PER_INTERNAL_HASH = 48;
+
+    public VirtualMapTuning {
+        if (maxNumOfKeys <= 0) {
+            throw new IllegalArgumentException(
+                    "Cannot size a virtual map for " + maxNumOfKeys + " keys");
+        }
+        if (internalHashesRamToDiskThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "Cannot keep " + internalHashesRamToDiskThreshold + " internal hashes in RAM");
+        }
+    }
+
+    /**
+     * Returns the tuning given by the named properties; falling back to the given defaults for any
+     * property not present in the source.
+     *
+     * @param properties the source of the tuning properties
+     * @param maxNumOfKeysProp the name of the max number of keys property
+     * @param thresholdProp the name of the internal hashes RAM-to-disk threshold property
+     * @param diskIndexesProp the name of the prefer disk-based indexes property
+     * @param defaults the tuning to use for any missing properties
+     * @return the configured tuning
+     */
+    public static VirtualMapTuning from(
+            final PropertySource properties,
+            final String maxNumOfKeysProp,
+            final String thresholdProp,
+            final String diskIndexesProp,
+            final VirtualMapTuning defaults) {
+        return new VirtualMapTuning(
+                properties.containsProperty(maxNumOfKeysProp)
+                        ? properties.getLongProperty(maxNumOfKeysProp)
+                        : defaults.maxNumOfKeys(),
+                properties.containsProperty(thresholdProp)
+                        ? properties.getLongProperty(thresholdProp)
+                        : defaults.internalHashesRamToDiskThreshold(),
+                properties.containsProperty(diskIndexesProp)
+                        ? properties.getBooleanProperty(diskIndexesProp)
+                        : defaults.preferDiskBasedIndexes());
+    }
+
+    /**
+     * Returns a rough upper bound on the RAM, in bytes, a map with this tuning will use for its
+     * internal hashes and (unless they are on disk) its path-to-disk-location indices, when it is
+     * filled to capacity. Does not include the virtual map's own caches.
+     *
+     * @return the estimated RAM footprint at capacity
+     */
+    public long estimatedRamBytesAtCapacity() {
+        // A full tree with n leaves has n - 1 internal nodes, so ~2n paths to index
+        final var numPaths = 2 * maxNumOfKeys;
+        final var indexBytes = preferDiskBasedIndexes ? 0 : numPaths * BYTES_PER_INDEX_ENTRY;
+        final var hashBytes =
+                Math.min(internalHashesRamToDiskThreshold, maxNumOfKeys) * BYTES_PER_INTERNAL_HASH;
+        return indexBytes + hashBytes;
+    }
+}
@@ -58,6 +58,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
@@ -66,6 +67,16 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 
+/**
+ * An account as stored in the accounts {@link com.swirlds.virtualmap.VirtualMap}.
+ *
+ * <p>Its flags, ints and longs are decoded eagerly on deserialization; but its variable-length
+ * part (key, memo, alias, allowances, operator approvals and first storage key) is kept as the
+ * serialized bytes until one of those fields is first read or set. Most accesses on the hot path
+ * only need balances, expiry and flags; and an account whose variable-length part was never
+ * decoded is re-serialized by writing back the same bytes. Copies share the undecoded bytes, so
+ * each copy decodes them at most once and only if it needs to.
+ */
 public class OnDiskAccount implements VirtualValue, HederaAccount {
     private static final int CURRENT_VERSION = 1;
     private static final long CLASS_ID = 0xc88e3a5c7b497468L;
@@ -92,6 +103,8 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
     private byte firstStorageKeyNonZeroBytes;
     private final int[] ints = new int[IntValues.COUNT];
     private final long[] longs = new long[LongValues.COUNT];
+    // The serialized variable-length part of a deserialized account, until it is first decoded
+    private volatile byte[] undecodedVariablePart = null;
 
     private boolean immutable = false;
 
@@ -102,13 +115,20 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
     }
 
     public OnDiskAccount(final OnDiskAccount that) {
-        this.key = that.key;
-        this.memo = that.memo;
         this.flags = that.flags;
-        this.alias = that.alias;
-        this.hbarAllowances = that.hbarAllowances;
-        this.fungibleAllowances = that.fungibleAllowances;
-        this.nftOperatorApprovals = that.nftOperatorApprovals;
+        final var undecoded = that.undecodedVariablePart;
+        if (undecoded != null) {
+            this.undecodedVariablePart = undecoded;
+        } else {
+            this.key = that.key;
+            this.memo = that.memo;
+            this.alias = that.alias;
+            this.hbarAllowances = that.hbarAllowances;
+            this.fungibleAllowances = that.fungibleAllowances;
+            this.nftOperatorApprovals = that.nftOperatorApprovals;
+            this.firstStorageKey = that.firstStorageKey;
+            this.firstStorageKeyNonZeroBytes = that.firstStorageKeyNonZeroBytes;
+        }
         System.arraycopy(that.ints, 0, this.ints, 0, IntValues.COUNT);
         System.arraycopy(that.longs, 0, this.longs, 0, LongValues.COUNT);
     }
@@ -226,7 +246,11 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
         for (final var v : longs) {
             writeLongFn.accept(v);
         }
-        writeBytes(serializedVariablePart(), writeIntFn, writeBytesFn);
+        final var undecoded = undecodedVariablePart;
+        writeBytes(
+                undecoded != null ? undecoded : serializedVariablePart(),
+                writeIntFn,
+                writeBytesFn);
     }
 
     private void deserializeFrom(
@@ -243,8 +267,26 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
         for (var i = 0; i < LongValues.COUNT; i++) {
             longs[i] = readLongFn.get();
         }
-        final var variableSource = readBytes(readIntFn, readBytesFn);
-        deserializeVariablePart(variableSource);
+        undecodedVariablePart = readBytes(readIntFn, readBytesFn);
+    }
+
+    private void ensureDecoded() {
+        if (undecodedVariablePart != null) {
+            decodeVariablePart();
+        }
+    }
+
+    private synchronized void decodeVariablePart() {
+        final var source = undecodedVariablePart;
+        if (source == null) {
+            return;
+        }
+        try {
+            deserializeVariablePart(source);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unreadable account #" + getAccountNumber(), e);
+        }
+        undecodedVariablePart = null;
     }
 
     private byte[] serializedVariablePart() throws IOException {
@@ -292,73 +334,87 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
 
     // Object getters and setters
     public JKey getKey() {
+        ensureDecoded();
         return key;
     }
 
     @StateSetter
     public void setKey(final JKey key) {
         throwIfImmutable("Tried to set the key on an immutable OnDiskAccount");
+        ensureDecoded();
         this.key = key;
     }
 
     public String getMemo() {
+        ensureDecoded();
         return memo;
     }
 
     @StateSetter
     public void setMemo(final String memo) {
         throwIfImmutable("Tried to set the memo on an immutable OnDiskAccount");
+        ensureDecoded();
         this.memo = memo;
     }
 
     public ByteString getAlias() {
+        ensureDecoded();
         return alias;
     }
 
     @StateSetter
     public void setAlias(final ByteString alias) {
         throwIfImmutable("Tried to set the alias on an immutable OnDiskAccount");
+        ensureDecoded();
         this.alias = alias;
     }
 
     public Map<EntityNum, Long> getHbarAllowances() {
+        ensureDecoded();
         return hbarAllowances;
     }
 
     @StateSetter
     public void setHbarAllowances(final Map<EntityNum, Long> hbarAllowances) {
         throwIfImmutable("Tried to set the hbar allowances on an immutable OnDiskAccount");
+        ensureDecoded();
         this.hbarAllowances = hbarAllowances;
     }
 
     public Map<FcTokenAllowanceId, Long> getFungibleAllowances() {
+        ensureDecoded();
         return fungibleAllowances;
     }
 
     @StateSetter
     public void setFungibleAllowances(final Map<FcTokenAllowanceId, Long> fungibleAllowances) {
         throwIfImmutable("Tried to set the fungible allowances on an immutable OnDiskAccount");
+        ensureDecoded();
         this.fungibleAllowances = fungibleAllowances;
     }
 
     public Set<FcTokenAllowanceId> getNftOperatorApprovals() {
+        ensureDecoded();
         return nftOperatorApprovals;
     }
 
     @StateSetter
     public void setNftOperatorApprovals(final Set<FcTokenAllowanceId> nftOperatorApprovals) {
         throwIfImmutable("Tried to set the NFT operator approvals on an immutable OnDiskAccount");
+        ensureDecoded();
         this.nftOperatorApprovals = nftOperatorApprovals;
     }
 
     // Misc getters and setters
     public int[] getFirstStorageKey() {
+        ensureDecoded();
         return firstStorageKey;
     }
 
     @StateSetter
     public void setFirstStorageKey(final int[] firstStorageKey) {
         throwIfImmutable("Tried to set the first storage key on an immutable OnDiskAccount");
+        ensureDecoded();
         this.firstStorageKey = firstStorageKey;
         if (firstStorageKey != null) {
             firstStorageKeyNonZeroBytes = computeNonZeroBytes(firstStorageKey);
@@ -368,6 +424,7 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
     }
 
     public byte getFirstStorageKeyNonZeroBytes() {
+        ensureDecoded();
         return firstStorageKeyNonZeroBytes;
     }
 
@@ -393,6 +450,7 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
     @StateSetter
     public void setIsContract(final boolean flag) {
         throwIfImmutable("Tried to set IS_CONTRACT on an immutable OnDiskAccount");
+        ensureDecoded();
         if (flag) {
             flags |= Masks.IS_CONTRACT;
         } else {
@@ -755,6 +813,7 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
 
     @Override
     public ContractKey getFirstContractStorageKey() {
+        ensureDecoded();
         return firstStorageKey == null
                 ? null
                 : new ContractKey(getAccountNumber(), firstStorageKey);
@@ -910,6 +969,8 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final OnDiskAccount that = (OnDiskAccount) o;
+        this.ensureDecoded();
+        that.ensureDecoded();
         return flags == that.flags
                 && firstStorageKeyNonZeroBytes == that.firstStorageKeyNonZeroBytes
                 && equalUpToDecodability(this.key, that.key)
@@ -925,6 +986,7 @@ public class OnDiskAccount implements VirtualValue, HederaAccount {
 
     @Override
     public int hashCode() {
+        ensureDecoded();
         int result =
                 Objects.hash(
                         flags,
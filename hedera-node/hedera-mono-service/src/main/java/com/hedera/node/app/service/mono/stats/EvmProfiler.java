@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.stats;
+
+import static com.hedera.node.app.service.mono.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.node.app.service.mono.stats.ServicesStatsManager.SPEEDOMETER_FORMAT;
+import static com.hedera.node.app.service.mono.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.system.Platform;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Aggregates the per-opcode, storage access, and precompile timings recorded for a sample of EVM
+ * transactions; and exports them both through the platform metrics and a periodic summary in the
+ * log.
+ *
+ * <p>Profiling is disabled when {@code stats.evmProfiling.sampleOneInN=0}. Otherwise, one in every
+ * {@code N} EVM transactions is executed with a profiling tracer, so the cost of the two clock
+ * reads per operation is paid only for that sample. The per-opcode histograms are too many series
+ * for the platform metrics, so these only get the rolled-up averages; the full histograms are in
+ * the summary logged every {@code stats.evmProfiling.dumpIntervalSecs}.
+ */
+@Singleton
+public class EvmProfiler {
+    private static final Logger log = LogManager.getLogger(EvmProfiler.class);
+
+    static final int NUM_OPCODES = 256;
+    // Bucket i counts durations in [2^i, 2^(i+1)) nanos; the last bucket is open-ended
+    static final int NUM_BUCKETS = 32;
+    // Precompile timings are keyed by address and selector, so bound what a caller can add
+    static final int MAX_PRECOMPILE_KEYS = 1024;
+    static final String OTHER_PRECOMPILES = "other";
+
+    private static final int SLOAD_WARM = 0;
+    private static final int SLOAD_COLD = 1;
+    private static final int SSTORE_WARM = 2;
+    private static final int SSTORE_COLD = 3;
+    private static final String[] STORAGE_ACCESS_TYPES = {
+        "SLOAD (warm)", "SLOAD (cold)", "SSTORE (warm)", "SSTORE (cold)"
+    };
+
+    private final int sampleOneInN;
+    private final long dumpIntervalMs;
+    private final double halfLife;
+    private final AtomicLong evmTxnsSeen = new AtomicLong();
+    private final AtomicLongArray opCounts = new AtomicLongArray(NUM_OPCODES);
+    private final AtomicLongArray opNanos = new AtomicLongArray(NUM_OPCODES);
+    private final AtomicLongArray opHistograms = new AtomicLongArray(NUM_OPCODES * NUM_BUCKETS);
+    private final AtomicLongArray storageCounts =
+            new AtomicLongArray(STORAGE_ACCESS_TYPES.length);
+    private final AtomicLongArray storageNanos = new AtomicLongArray(STORAGE_ACCESS_TYPES.length);
+    /* Each {count, nanos} pair is only touched inside compute() or remove(), so it is never
+    updated after being drained. */
+    private final Map<String, long[]> precompileTimes = new ConcurrentHashMap<>();
+
+    private SpeedometerMetric profiledTxns;
+    private RunningAverageMetric opNanosAvg;
+    private RunningAverageMetric precompileNanosAvg;
+    private RunningAverageMetric[] storageNanosAvgs;
+
+    private long lastDumpMs;
+
+    @Inject
+    public EvmProfiler(final NodeLocalProperties properties) {
+        this.sampleOneInN = properties.evmProfilingSampleOneInN();
+        this.dumpIntervalMs = properties.evmProfilingDumpIntervalSecs() * 1_000L;
+        this.halfLife = properties.statsRunningAvgHalfLifeSecs();
+        if (isEnabled()) {
+            log.info("Profiling one in every {} EVM transactions", sampleOneInN);
+        }
+    }
+
+    public boolean isEnabled() {
+        return sampleOneInN > 0;
+    }
+
+    /**
+     * Returns whether the next EVM transaction should be executed with a profiling tracer.
+     *
+     * @return if the next EVM transaction should be profiled
+     */
+    public boolean shouldProfileNext() {
+        if (!isEnabled() || evmTxnsSeen.incrementAndGet() % sampleOneInN != 0) {
+            return false;
+        }
+        if (profiledTxns != null) {
+            profiledTxns.cycle();
+        }
+        return true;
+    }
+
+    public void registerWith(final Platform platform) {
+        if (!isEnabled()) {
+            return;
+        }
+        final var metrics = platform.getMetrics();
+        profiledTxns =
+                metrics.getOrCreate(
+                        new SpeedometerMetric.Config(STAT_CATEGORY, Names.PROFILED_TXNS)
+                                .withDescription(Descriptions.PROFILED_TXNS)
+                                .withFormat(SPEEDOMETER_FORMAT)
+                                .withHalfLife(halfLife));
+        opNanosAvg = metrics.getOrCreate(avgConfig(Names.OP_NANOS, Descriptions.OP_NANOS));
+        precompileNanosAvg =
+                metrics.getOrCreate(
+                        avgConfig(Names.PRECOMPILE_NANOS, Descriptions.PRECOMPILE_NANOS));
+        storageNanosAvgs = new RunningAverageMetric[STORAGE_ACCESS_TYPES.length];
+        for (int i = 0; i < STORAGE_ACCESS_TYPES.length; i++) {
+            storageNanosAvgs[i] =
+                    metrics.getOrCreate(
+                            avgConfig(
+                                    Names.STORAGE_NANOS[i],
+                                    String.format(
+                                            Descriptions.STORAGE_NANOS_TPL,
+                                            STORAGE_ACCESS_TYPES[i])));
+        }
+        lastDumpMs = System.currentTimeMillis();
+    }
+
+    public void recordOp(final int opCode, final long nanos) {
+        opCounts.incrementAndGet(opCode);
+        opNanos.addAndGet(opCode, nanos);
+        opHistograms.incrementAndGet(opCode * NUM_BUCKETS + bucketFor(nanos));
+        if (opNanosAvg != null) {
+            opNanosAvg.update(nanos);
+        }
+    }
+
+    public void recordStorageAccess(final boolean isStore, final boolean isCold, final long nanos) {
+        final int type;
+        if (isStore) {
+            type = isCold ? SSTORE_COLD : SSTORE_WARM;
+        } else {
+            type = isCold ? SLOAD_COLD : SLOAD_WARM;
+        }
+        storageCounts.incrementAndGet(type);
+        storageNanos.addAndGet(type, nanos);
+        if (storageNanosAvgs != null) {
+            storageNanosAvgs[type].update(nanos);
+        }
+    }
+
+    public void recordPrecompile(final String precompile, final long nanos) {
+        final var key =
+                precompileTimes.size() < MAX_PRECOMPILE_KEYS
+                                || precompileTimes.containsKey(precompile)
+                        ? precompile
+                        : OTHER_PRECOMPILES;
+        precompileTimes.compute(
+                key,
+                (ignore, times) -> {
+                    final var accum = (times == null) ? new long[2] : times;
+                    accum[0]++;
+                    accum[1] += nanos;
+                    return accum;
+                });
+        if (precompileNanosAvg != null) {
+            precompileNanosAvg.update(nanos);
+        }
+    }
+
+    /** Logs (and resets) the timings recorded since the last dump, if the dump interval passed. */
+    public void dumpIfDue() {
+        dumpIfDueAt(System.currentTimeMillis());
+    }
+
+    void dumpIfDueAt(final long nowMs) {
+        if (!isEnabled() || nowMs - lastDumpMs < dumpIntervalMs) {
+            return;
+        }
+        lastDumpMs = nowMs;
+        final var summary = drainSummary();
+        if (!summary.isEmpty()) {
+            log.info("EVM profile for the last {}s:\n{}", dumpIntervalMs / 1_000L, summary);
+        }
+    }
+
+    String drainSummary() {
+        final var sb = new StringBuilder();
+        final var histogram = new long[NUM_BUCKETS];
+        for (int op = 0; op < NUM_OPCODES; op++) {
+            final var count = opCounts.getAndSet(op, 0);
+            final var nanos = opNanos.getAndSet(op, 0);
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                histogram[i] = opHistograms.getAndSet(op * NUM_BUCKETS + i, 0);
+            }
+            if (count > 0) {
+                sb.append(
+                        String.format(
+                                "  op 0x%02x      count=%d, meanNs=%d, p50Ns<=%d, p99Ns<=%d,"
+                                        + " histogram=%s%n",
+                                op,
+                                count,
+                                nanos / count,
+                                upperBoundOfPercentile(histogram, count, 0.50),
+                                upperBoundOfPercentile(histogram, count, 0.99),
+                                nonEmptyBuckets(histogram)));
+            }
+        }
+        for (int i = 0; i < STORAGE_ACCESS_TYPES.length; i++) {
+            final var count = storageCounts.getAndSet(i, 0);
+            final var nanos = storageNanos.getAndSet(i, 0);
+            if (count > 0) {
+                sb.append(
+                        String.format(
+                                "  %-13s count=%d, meanNs=%d%n",
+                                STORAGE_ACCESS_TYPES[i], count, nanos / count));
+            }
+        }
+        final Map<String, long[]> drained = new TreeMap<>();
+        for (final var precompile : precompileTimes.keySet()) {
+            final var times = precompileTimes.remove(precompile);
+            if (times != null) {
+                drained.put(precompile, times);
+            }
+        }
+        drained.forEach(
+                (precompile, times) -> {
+                    if (times[0] > 0) {
+                        sb.append(
+                                String.format(
+                                        "  precompile %s count=%d, meanNs=%d%n",
+                                        precompile, times[0], times[1] / times[0]));
+                    }
+                });
+        return sb.toString();
+    }
+
+    static int bucketFor(final long nanos) {
+        final var bucket = 63 - Long.numberOfLeadingZeros(Math.max(1L, nanos));
+        return Math.min(bucket, NUM_BUCKETS - 1);
+    }
+
+    static long upperBoundOfPercentile(
+            final long[] histogram, final long count, final double percentile) {
+        final var rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS - 1; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return 1L << (i + 1);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static String nonEmptyBuckets(final long[] histogram) {
+        final var sb = new StringBuilder("{");
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            if (histogram[i] > 0) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append("<").append(1L << (i + 1)).append("ns=").append(histogram[i]);
+            }
+        }
+        return sb.append("}").toString();
+    }
+
+    private RunningAverageMetric.Config avgConfig(final String name, final String description) {
+        return new RunningAverageMetric.Config(STAT_CATEGORY, name)
+                .withDescription(description)
+                .withFormat(RUNNING_AVG_FORMAT)
+                .withHalfLife(halfLife);
+    }
+
+    @VisibleForTesting
+    long getEvmTxnsSeen() {
+        return evmTxnsSeen.get();
+    }
+
+    public static final class Names {
+        static final String PROFILED_TXNS = "evmProfiledTxns/sec";
+        static final String OP_NANOS = "evmOpNanos";
+        static final String PRECOMPILE_NANOS = "evmPrecompileNanos";
+        static final String[] STORAGE_NANOS = {
+            "evmSloadWarmNanos", "evmSloadColdNanos", "evmSstoreWarmNanos", "evmSstoreColdNanos"
+        };
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String PROFILED_TXNS =
+                "number of EVM transactions per second executed with a profiling tracer";
+        static final String OP_NANOS =
+                "average nanoseconds to execute an EVM operation in a profiled transaction";
+        static final String PRECOMPILE_NANOS =
+                "average nanoseconds to execute a precompile call in a profiled transaction";
+        static final String STORAGE_NANOS_TPL =
+                "average nanoseconds to execute an %s in a profiled transaction";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.swirlds.common.system.Platform;
 public class MiscRunningAvgs {
     final double halfLife;
     private RunningAverageMetric gasPerConsSec;
+    private RunningAverageMetric gasUsedPctOfLimit;
     private RunningAverageMetric handledSubmitMessageSize;
     private RunningAverageMetric writeQueueSizeRecordStream;
     private RunningAverageMetric hashQueueSizeRecordStream;
@@ -42,6 +43,14 @@ public class MiscRunningAvgs {
                                         .withDescription(Descriptions.GAS_PER_CONSENSUS_SEC)
                                         .withFormat(RUNNING_AVG_FORMAT)
                                         .withHalfLife(halfLife));
+        gasUsedPctOfLimit =
+                platform.getMetrics()
+                        .getOrCreate(
+                                new RunningAverageMetric.Config(
+                                                STAT_CATEGORY, Names.GAS_USED_PCT_OF_LIMIT)
+                                        .withDescription(Descriptions.GAS_USED_PCT_OF_LIMIT)
+                                        .withFormat(RUNNING_AVG_FORMAT)
+                                        .withHalfLife(halfLife));
         handledSubmitMessageSize =
                 platform.getMetrics()
                         .getOrCreate(
@@ -85,8 +94,13 @@ public class MiscRunningAvgs {
         gasPerConsSec.update(gas);
     }
 
+    public void recordGasUsedPctOfLimit(final double pct) {
+        gasUsedPctOfLimit.update(pct);
+    }
+
     public static final class Names {
         static final String GAS_PER_CONSENSUS_SEC = "gasPerConsSec";
+        static final String GAS_USED_PCT_OF_LIMIT = "gasUsedPctOfLimit";
         static final String HANDLED_SUBMIT_MESSAGE_SIZE = "avgHdlSubMsgSize";
 
         static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
@@ -100,6 +114,8 @@ public class MiscRunningAvgs {
     public static final class Descriptions {
         static final String GAS_PER_CONSENSUS_SEC =
                 "average EVM gas used per second of consensus time";
+        static final String GAS_USED_PCT_OF_LIMIT =
+                "average EVM gas used as a percentage of the declared gas limit";
         static final String HANDLED_SUBMIT_MESSAGE_SIZE =
                 "average size of the handled HCS submit message transaction";
         static final String WRITE_QUEUE_SIZE_RECORD_STREAM =
@@ -117,6 +133,11 @@ public class MiscRunningAvgs {
         this.gasPerConsSec = gasPerConsSec;
     }
 
+    @VisibleForTesting
+    void setGasUsedPctOfLimit(RunningAverageMetric gasUsedPctOfLimit) {
+        this.gasUsedPctOfLimit = gasUsedPctOfLimit;
+    }
+
     @VisibleForTesting
     void setHandledSubmitMessageSize(RunningAverageMetric handledSubmitMessageSize) {
         this.handledSubmitMessageSize = handledSubmitMessageSize;
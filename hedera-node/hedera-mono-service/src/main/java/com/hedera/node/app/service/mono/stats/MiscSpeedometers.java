@@ -25,8 +25,22 @@ import com.swirlds.common.system.Platform;
 public class MiscSpeedometers {
     private SpeedometerMetric.Config syncVerificationsConfig;
     private SpeedometerMetric.Config platformTxnRejectionsConfig;
+    private SpeedometerMetric.Config impliedXfersReusedConfig;
+    private SpeedometerMetric.Config impliedXfersRecomputedConfig;
+    private SpeedometerMetric.Config sigsReusedConfig;
+    private SpeedometerMetric.Config lookAheadVerificationsConfig;
+    private SpeedometerMetric.Config ethTxExpansionsReusedConfig;
+    private SpeedometerMetric.Config ethTxExpansionsRecomputedConfig;
+    private SpeedometerMetric.Config feesComputedConfig;
     private SpeedometerMetric syncVerifications;
     private SpeedometerMetric platformTxnRejections;
+    private SpeedometerMetric impliedXfersReused;
+    private SpeedometerMetric impliedXfersRecomputed;
+    private SpeedometerMetric sigsReused;
+    private SpeedometerMetric lookAheadVerifications;
+    private SpeedometerMetric ethTxExpansionsReused;
+    private SpeedometerMetric ethTxExpansionsRecomputed;
+    private SpeedometerMetric feesComputed;
 
     public MiscSpeedometers(final double halfLife) {
         syncVerificationsConfig =
@@ -39,14 +53,64 @@ public class MiscSpeedometers {
                         .withDescription(Descriptions.PLATFORM_TXN_REJECTIONS)
                         .withFormat(SPEEDOMETER_FORMAT)
                         .withHalfLife(halfLife);
+        impliedXfersReusedConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.IMPLIED_XFERS_REUSED)
+                        .withDescription(Descriptions.IMPLIED_XFERS_REUSED)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
+        impliedXfersRecomputedConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.IMPLIED_XFERS_RECOMPUTED)
+                        .withDescription(Descriptions.IMPLIED_XFERS_RECOMPUTED)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
+        sigsReusedConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.SIGS_REUSED)
+                        .withDescription(Descriptions.SIGS_REUSED)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
+        lookAheadVerificationsConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.LOOK_AHEAD_VERIFICATIONS)
+                        .withDescription(Descriptions.LOOK_AHEAD_VERIFICATIONS)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
+        ethTxExpansionsReusedConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.ETH_TX_EXPANSIONS_REUSED)
+                        .withDescription(Descriptions.ETH_TX_EXPANSIONS_REUSED)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
+        ethTxExpansionsRecomputedConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.ETH_TX_EXPANSIONS_RECOMPUTED)
+                        .withDescription(Descriptions.ETH_TX_EXPANSIONS_RECOMPUTED)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
+        feesComputedConfig =
+                new SpeedometerMetric.Config(STAT_CATEGORY, Names.FEES_COMPUTED)
+                        .withDescription(Descriptions.FEES_COMPUTED)
+                        .withFormat(SPEEDOMETER_FORMAT)
+                        .withHalfLife(halfLife);
     }
 
     public void registerWith(final Platform platform) {
         syncVerifications = platform.getMetrics().getOrCreate(syncVerificationsConfig);
         platformTxnRejections = platform.getMetrics().getOrCreate(platformTxnRejectionsConfig);
+        impliedXfersReused = platform.getMetrics().getOrCreate(impliedXfersReusedConfig);
+        impliedXfersRecomputed = platform.getMetrics().getOrCreate(impliedXfersRecomputedConfig);
+        sigsReused = platform.getMetrics().getOrCreate(sigsReusedConfig);
+        lookAheadVerifications = platform.getMetrics().getOrCreate(lookAheadVerificationsConfig);
+        ethTxExpansionsReused = platform.getMetrics().getOrCreate(ethTxExpansionsReusedConfig);
+        ethTxExpansionsRecomputed =
+                platform.getMetrics().getOrCreate(ethTxExpansionsRecomputedConfig);
+        feesComputed = platform.getMetrics().getOrCreate(feesComputedConfig);
 
         syncVerificationsConfig = null;
         platformTxnRejectionsConfig = null;
+        impliedXfersReusedConfig = null;
+        impliedXfersRecomputedConfig = null;
+        sigsReusedConfig = null;
+        lookAheadVerificationsConfig = null;
+        ethTxExpansionsReusedConfig = null;
+        ethTxExpansionsRecomputedConfig = null;
+        feesComputedConfig = null;
     }
 
     public void cycleSyncVerifications() {
@@ -57,9 +121,44 @@ public class MiscSpeedometers {
         platformTxnRejections.cycle();
     }
 
+    public void cycleImpliedXfersReused() {
+        impliedXfersReused.cycle();
+    }
+
+    public void cycleImpliedXfersRecomputed() {
+        impliedXfersRecomputed.cycle();
+    }
+
+    public void cycleSigsReused() {
+        sigsReused.cycle();
+    }
+
+    public void cycleLookAheadVerifications() {
+        lookAheadVerifications.cycle();
+    }
+
+    public void cycleEthTxExpansionsReused() {
+        ethTxExpansionsReused.cycle();
+    }
+
+    public void cycleEthTxExpansionsRecomputed() {
+        ethTxExpansionsRecomputed.cycle();
+    }
+
+    public void cycleFeesComputed() {
+        feesComputed.cycle();
+    }
+
     public static final class Names {
         static final String SYNC_VERIFICATIONS = "sigVerifySync/sec";
         static final String PLATFORM_TXN_REJECTIONS = "platformTxnNotCreated/sec";
+        static final String IMPLIED_XFERS_REUSED = "impliedXfersReused/sec";
+        static final String IMPLIED_XFERS_RECOMPUTED = "impliedXfersRecomputed/sec";
+        static final String SIGS_REUSED = "sigVerifyReused/sec";
+        static final String LOOK_AHEAD_VERIFICATIONS = "sigVerifyLookAhead/sec";
+        static final String ETH_TX_EXPANSIONS_REUSED = "ethTxExpansionsReused/sec";
+        static final String ETH_TX_EXPANSIONS_RECOMPUTED = "ethTxExpansionsRecomputed/sec";
+        static final String FEES_COMPUTED = "feesComputed/sec";
 
         private Names() {
             throw new UnsupportedOperationException("Utility Class");
@@ -72,6 +171,26 @@ public class MiscSpeedometers {
                         + " handleTransaction";
         static final String PLATFORM_TXN_REJECTIONS =
                 "number of platform transactions not created per second";
+        static final String IMPLIED_XFERS_REUSED =
+                "number of CryptoTransfers per second whose implied transfers computed before"
+                        + " consensus were reused in handleTransaction";
+        static final String IMPLIED_XFERS_RECOMPUTED =
+                "number of CryptoTransfers per second whose implied transfers had to be"
+                        + " recomputed in handleTransaction";
+        static final String SIGS_REUSED =
+                "number of transactions per second whose signatures expanded before"
+                        + " handleTransaction were reused without re-expansion";
+        static final String LOOK_AHEAD_VERIFICATIONS =
+                "number of transactions per second whose invalidated signatures were re-expanded"
+                        + " and submitted for async verification ahead of handleTransaction";
+        static final String ETH_TX_EXPANSIONS_REUSED =
+                "number of EthereumTransactions per second whose signer and call data computed"
+                        + " before consensus were reused in handleTransaction";
+        static final String ETH_TX_EXPANSIONS_RECOMPUTED =
+                "number of EthereumTransactions per second whose signer and call data had to be"
+                        + " recomputed in handleTransaction";
+        static final String FEES_COMPUTED =
+                "number of transaction and query fees per second computed from a resource usage";
 
         private Descriptions() {
             throw new UnsupportedOperationException("Utility Class");
@@ -88,6 +207,41 @@ public class MiscSpeedometers {
         this.platformTxnRejections = platformTxnRejections;
     }
 
+    @VisibleForTesting
+    void setImpliedXfersReused(final SpeedometerMetric impliedXfersReused) {
+        this.impliedXfersReused = impliedXfersReused;
+    }
+
+    @VisibleForTesting
+    void setImpliedXfersRecomputed(final SpeedometerMetric impliedXfersRecomputed) {
+        this.impliedXfersRecomputed = impliedXfersRecomputed;
+    }
+
+    @VisibleForTesting
+    void setSigsReused(final SpeedometerMetric sigsReused) {
+        this.sigsReused = sigsReused;
+    }
+
+    @VisibleForTesting
+    void setLookAheadVerifications(final SpeedometerMetric lookAheadVerifications) {
+        this.lookAheadVerifications = lookAheadVerifications;
+    }
+
+    @VisibleForTesting
+    void setEthTxExpansionsReused(final SpeedometerMetric ethTxExpansionsReused) {
+        this.ethTxExpansionsReused = ethTxExpansionsReused;
+    }
+
+    @VisibleForTesting
+    void setEthTxExpansionsRecomputed(final SpeedometerMetric ethTxExpansionsRecomputed) {
+        this.ethTxExpansionsRecomputed = ethTxExpansionsRecomputed;
+    }
+
+    @VisibleForTesting
+    void setFeesComputed(final SpeedometerMetric feesComputed) {
+        this.feesComputed = feesComputed;
+    }
+
     @VisibleForTesting
     SpeedometerMetric getSyncVerifications() {
         return syncVerifications;
@@ -18,6 +18,7 @@ package com.hedera.node.app.service.mono.stats;
 import static com.hedera.node.app.service.mono.utils.SleepingPause.SLEEPING_PAUSE;
 
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.state.logic.InMemoryChildHashing;
 import com.hedera.node.app.service.mono.state.virtual.ContractKey;
 import com.hedera.node.app.service.mono.state.virtual.IterableContractValue;
 import com.hedera.node.app.service.mono.state.virtual.VirtualBlobKey;
@@ -50,6 +51,8 @@ public class ServicesStatsManager {
 
     static final String STATS_UPDATE_THREAD_NAME_TPL = "StatsUpdateThread%d";
 
+    private final EvmProfiler evmProfiler;
+    private final InMemoryChildHashing childHashing;
     private final ExpiryStats expiryStats;
     private final HapiOpCounters opCounters;
     private final MiscRunningAvgs runningAvgs;
@@ -72,7 +75,9 @@ public class ServicesStatsManager {
             final HapiOpSpeedometers opSpeedometers,
             final NodeLocalProperties localProperties,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage,
-            final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode) {
+            final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode,
+            final EvmProfiler evmProfiler,
+            final InMemoryChildHashing childHashing) {
         this.storage = storage;
         this.bytecode = bytecode;
         this.localProperties = localProperties;
@@ -83,6 +88,8 @@ public class ServicesStatsManager {
         this.opSpeedometers = opSpeedometers;
         this.throttleGauges = throttleGauges;
         this.entityUtilGauges = entityUtilGauges;
+        this.evmProfiler = evmProfiler;
+        this.childHashing = childHashing;
     }
 
     public void initializeFor(final Platform platform) {
@@ -93,6 +100,8 @@ public class ServicesStatsManager {
         throttleGauges.registerWith(platform);
         opSpeedometers.registerWith(platform);
         entityUtilGauges.registerWith(platform);
+        evmProfiler.registerWith(platform);
+        childHashing.registerWith(platform);
         storage.get().registerMetrics(platform.getMetrics());
         bytecode.get().registerMetrics(platform.getMetrics());
 
@@ -131,6 +140,7 @@ public class ServicesStatsManager {
                             if (n % pausesBetweenEntityUtilUpdate == 0) {
                                 entityUtilGauges.updateAll();
                             }
+                            evmProfiler.dumpIfDue();
                         });
 
         updateThread.setName(
@@ -62,6 +62,7 @@ import com.hedera.node.app.service.mono.store.schedule.ScheduleStore;
 import com.hedera.node.app.service.mono.store.tokens.HederaTokenStore;
 import com.hedera.node.app.service.mono.store.tokens.TokenStore;
 import com.hedera.node.app.service.mono.store.tokens.annotations.AreTreasuryWildcardsEnabled;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hedera.node.app.service.mono.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -115,8 +116,9 @@ public interface StoresModule {
     @Singleton
     static TransactionalLedger<TokenID, TokenProperty, MerkleToken> provideTokensLedger(
             final UsageLimits usageLimits,
+            final CustomFeeScheduleVersions feeScheduleVersions,
             final Supplier<MerkleMap<EntityNum, MerkleToken>> tokens) {
-        final var interceptor = new TokensCommitInterceptor(usageLimits);
+        final var interceptor = new TokensCommitInterceptor(usageLimits, feeScheduleVersions);
         final var tokensLedger =
                 new TransactionalLedger<>(
                         TokenProperty.class,
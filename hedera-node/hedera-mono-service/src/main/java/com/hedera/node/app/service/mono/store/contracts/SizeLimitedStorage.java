@@ -54,6 +54,12 @@ import org.apache.tuweni.units.bigints.UInt256;
  *
  * <p>Note that writing {@link UInt256#ZERO} to a key removes it from the map; so it is possible for
  * a change to decrease the number of key/value pairs used.
+ *
+ * <p>The effective value of each slot read or written in a session is also kept in a {@link
+ * SlotValueCache}, so repeated reads of a slot (for example, from sibling frames) neither allocate
+ * a {@link ContractKey} nor go back to the {@link VirtualMap}. Frames that revert never reach this
+ * class, since the EVM's updaters buffer their writes and only the top-level updater's commit calls
+ * {@link #putStorage(AccountID, UInt256, UInt256)}; so the cache cannot hold a reverted value.
  */
 @Singleton
 public class SizeLimitedStorage {
@@ -81,8 +87,12 @@ public class SizeLimitedStorage {
     private final Map<Long, TreeSet<ContractKey>> updatedKeys = new TreeMap<>();
     private final Map<Long, TreeSet<ContractKey>> removedKeys = new TreeMap<>();
     private final Map<ContractKey, IterableContractValue> newMappings = new HashMap<>();
+    private final SlotValueCache sessionValues = new SlotValueCache();
 
     private long totalKvPairs;
+    private int warmReads;
+    private int coldReads;
+    private int virtualMapReads;
 
     @Inject
     public SizeLimitedStorage(
@@ -103,6 +113,17 @@ public class SizeLimitedStorage {
 
     /** Clears all buffers and prepares for a new change-set of key/value pairs. */
     public void beginSession() {
+        if (coldReads > 0) {
+            log.debug(
+                    "Last session read {} warm slots, {} cold slots ({} from the VirtualMap)",
+                    warmReads,
+                    coldReads,
+                    virtualMapReads);
+        }
+        warmReads = 0;
+        coldReads = 0;
+        virtualMapReads = 0;
+        sessionValues.clear();
         usageChanges.clear();
         updatedKeys.clear();
         removedKeys.clear();
@@ -164,6 +185,19 @@ public class SizeLimitedStorage {
      * @return the value if it exists, zero if it does not
      */
     public UInt256 getStorage(final AccountID id, final UInt256 key) {
+        final var contractNum = id.getAccountNum();
+        final var cachedValue = sessionValues.get(contractNum, key);
+        if (cachedValue != null) {
+            warmReads++;
+            return cachedValue;
+        }
+        coldReads++;
+        final var value = uncachedStorage(id, key);
+        sessionValues.put(contractNum, key, value);
+        return value;
+    }
+
+    private UInt256 uncachedStorage(final AccountID id, final UInt256 key) {
         final var contractKey = ContractKey.from(id, key);
 
         final var zeroedOut = removedKeys.get(id.getAccountNum());
@@ -173,6 +207,7 @@ public class SizeLimitedStorage {
 
         var effectiveValue = newMappings.get(contractKey);
         if (effectiveValue == null) {
+            virtualMapReads++;
             effectiveValue = storage.get().get(contractKey);
         }
         return (effectiveValue == null) ? ZERO : effectiveValue.asUInt256();
@@ -197,6 +232,7 @@ public class SizeLimitedStorage {
                         removedKeys,
                         newMappings,
                         storage.get());
+        sessionValues.put(id.getAccountNum(), key, value);
         if (kvCountImpact != 0) {
             usageChanges
                     .computeIfAbsent(id.getAccountNum(), usageInfoLookup)
@@ -451,6 +487,21 @@ public class SizeLimitedStorage {
         return removedKeys;
     }
 
+    @VisibleForTesting
+    int getWarmReads() {
+        return warmReads;
+    }
+
+    @VisibleForTesting
+    int getColdReads() {
+        return coldReads;
+    }
+
+    @VisibleForTesting
+    int getVirtualMapReads() {
+        return virtualMapReads;
+    }
+
     @VisibleForTesting
     Map<ContractKey, IterableContractValue> getNewMappings() {
         return newMappings;
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.store.contracts;
+
+import java.util.Arrays;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * An open-addressing map from a {@code (contract number, slot)} pair to a storage value, keyed by
+ * the contract number and the four 64-bit limbs of the slot; so that neither a lookup nor an
+ * insertion allocates a key object.
+ *
+ * <p>Not thread-safe; it is meant to hold the effective storage values read or written during a
+ * single transaction on the handle thread, and to be cleared between transactions.
+ */
+public class SlotValueCache {
+    private static final int KEY_LONGS = 5;
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private final int initialCapacity;
+
+    private long[] keys;
+    private UInt256[] values;
+    private int mask;
+    private int size;
+
+    public SlotValueCache() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a cache with the given initial capacity, to which it shrinks back when cleared.
+     *
+     * @param initialCapacity the initial capacity, which must be a power of two
+     */
+    public SlotValueCache(final int initialCapacity) {
+        if (Integer.bitCount(initialCapacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity " + initialCapacity + " is not a power of two");
+        }
+        this.initialCapacity = initialCapacity;
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Returns the cached value of the given slot of the given contract, or null if there is none.
+     *
+     * @param contractNum the number of the contract
+     * @param slot the storage slot
+     * @return the cached value, or null
+     */
+    public UInt256 get(final long contractNum, final UInt256 slot) {
+        final var l0 = slot.getLong(0);
+        final var l1 = slot.getLong(8);
+        final var l2 = slot.getLong(16);
+        final var l3 = slot.getLong(24);
+        for (int i = indexFor(contractNum, l0, l1, l2, l3); values[i] != null; i = (i + 1) & mask) {
+            if (matches(i, contractNum, l0, l1, l2, l3)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches the given value for the given slot of the given contract, replacing any previous one.
+     *
+     * @param contractNum the number of the contract
+     * @param slot the storage slot
+     * @param value the value to cache
+     */
+    public void put(final long contractNum, final UInt256 slot, final UInt256 value) {
+        final var l0 = slot.getLong(0);
+        final var l1 = slot.getLong(8);
+        final var l2 = slot.getLong(16);
+        final var l3 = slot.getLong(24);
+        int i = indexFor(contractNum, l0, l1, l2, l3);
+        while (values[i] != null) {
+            if (matches(i, contractNum, l0, l1, l2, l3)) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        final var at = i * KEY_LONGS;
+        keys[at] = contractNum;
+        keys[at + 1] = l0;
+        keys[at + 2] = l1;
+        keys[at + 3] = l2;
+        keys[at + 4] = l3;
+        values[i] = value;
+        if (++size > values.length / 2) {
+            rehashTo(2 * values.length);
+        }
+    }
+
+    /** Removes all cached values, shrinking back to the initial capacity if needed. */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        if (values.length > initialCapacity) {
+            allocate(initialCapacity);
+        } else {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int capacity() {
+        return values.length;
+    }
+
+    private boolean matches(
+            final int i,
+            final long contractNum,
+            final long l0,
+            final long l1,
+            final long l2,
+            final long l3) {
+        final var at = i * KEY_LONGS;
+        return keys[at] == contractNum
+                && keys[at + 1] == l0
+                && keys[at + 2] == l1
+                && keys[at + 3] == l2
+                && keys[at + 4] == l3;
+    }
+
+    private int indexFor(
+            final long contractNum, final long l0, final long l1, final long l2, final long l3) {
+        long h = contractNum;
+        h = 31 * h + l0;
+        h = 31 * h + l1;
+        h = 31 * h + l2;
+        h = 31 * h + l3;
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehashTo(final int capacity) {
+        final var oldKeys = keys;
+        final var oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                final var from = j * KEY_LONGS;
+                int i =
+                        indexFor(
+                                oldKeys[from],
+                                oldKeys[from + 1],
+                                oldKeys[from + 2],
+                                oldKeys[from + 3],
+                                oldKeys[from + 4]);
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                System.arraycopy(oldKeys, from, keys, i * KEY_LONGS, KEY_LONGS);
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity * KEY_LONGS];
+        values = new UInt256[capacity];
+        mask = capacity - 1;
+    }
+}
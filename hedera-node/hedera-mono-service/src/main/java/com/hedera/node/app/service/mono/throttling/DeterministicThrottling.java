@@ -39,6 +39,7 @@ import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.TokenMintTransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionBody;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -68,6 +69,8 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
     private final AliasManager aliasManager;
     private final GlobalDynamicProperties dynamicProperties;
     private final ScheduleStore scheduleStore;
+    // Only set for HAPI throttling, which need not be deterministic
+    @Nullable private final GasUsageEstimates gasUsageEstimates;
 
     private List<DeterministicThrottle> activeThrottles = Collections.emptyList();
     private EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs =
@@ -88,11 +91,25 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
             final GlobalDynamicProperties dynamicProperties,
             final DeterministicThrottlingMode mode,
             final ScheduleStore scheduleStore) {
+        this(capacitySplitSource, aliasManager, dynamicProperties, mode, scheduleStore, null);
+    }
+
+    public DeterministicThrottling(
+            final IntSupplier capacitySplitSource,
+            final AliasManager aliasManager,
+            final GlobalDynamicProperties dynamicProperties,
+            final DeterministicThrottlingMode mode,
+            final ScheduleStore scheduleStore,
+            @Nullable final GasUsageEstimates gasUsageEstimates) {
+        if (gasUsageEstimates != null && mode != DeterministicThrottlingMode.HAPI) {
+            throw new IllegalArgumentException("Only HAPI throttling may use gas estimates");
+        }
         this.capacitySplitSource = capacitySplitSource;
         this.dynamicProperties = dynamicProperties;
         this.mode = mode;
         this.aliasManager = aliasManager;
         this.scheduleStore = scheduleStore;
+        this.gasUsageEstimates = gasUsageEstimates;
     }
 
     @Override
@@ -476,8 +493,14 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
             final HederaFunctionality function, final Instant now, TransactionDetails details) {
         return dynamicProperties.shouldThrottleByGas()
                 && isGasThrottled(function)
-                && (gasThrottle == null
-                        || !gasThrottle.allow(now, details.getGasLimitForContractTx()));
+                && (gasThrottle == null || !gasThrottle.allow(now, gasToReserveFor(details)));
+    }
+
+    private long gasToReserveFor(final TransactionDetails details) {
+        final var declaredGas = details.getGasLimitForContractTx();
+        return gasUsageEstimates == null
+                ? declaredGas
+                : gasUsageEstimates.gasToReserve(details.getTxn(), declaredGas);
     }
 
     private void reclaimLastAllowedUse() {
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.throttling;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Keeps rolling estimates of the fraction of their declared gas limit that recent EVM transactions
+ * really used, per payer and per called contract; and uses them to decide how much gas a new
+ * transaction should reserve from the HAPI gas throttle.
+ *
+ * <p>Only the frontend throttle consults these estimates. They come from the results this node
+ * handled, so they are node-local; the consensus throttle keeps reserving the declared gas limit
+ * and stays deterministic. A transaction admitted on an estimate that proves too low is still
+ * subject to the consensus throttle.
+ *
+ * <p>With {@link NodeLocalProperties#gasEstimatesMinUsedRatio()} at 1.0 (the default), every
+ * transaction reserves its full declared gas limit, as before.
+ */
+@Singleton
+public class GasUsageEstimates {
+    static final int MAX_TRACKED_IDS = 10_000;
+    // The weight of each new observation in the exponentially weighted moving averages
+    static final double NEW_OBSERVATION_WEIGHT = 0.2;
+
+    private final NodeLocalProperties properties;
+    private final Cache<Long, Double> payerRatios =
+            CacheBuilder.newBuilder().maximumSize(MAX_TRACKED_IDS).build();
+    private final Cache<Long, Double> contractRatios =
+            CacheBuilder.newBuilder().maximumSize(MAX_TRACKED_IDS).build();
+
+    @Inject
+    public GasUsageEstimates(final NodeLocalProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Incorporates the gas used by a handled EVM transaction into the estimates for its payer and,
+     * if it is a {@code ContractCall} to a contract with a numeric id, the called contract.
+     *
+     * @param txn the handled transaction
+     * @param declaredGas its declared gas limit
+     * @param usedGas the gas it used
+     */
+    public void observe(final TransactionBody txn, final long declaredGas, final long usedGas) {
+        if (declaredGas <= 0) {
+            return;
+        }
+        final var ratio = Math.min(1.0, (double) usedGas / declaredGas);
+        payerRatios.asMap().merge(payerNumOf(txn), ratio, GasUsageEstimates::blend);
+        final var contractNum = contractNumOf(txn);
+        if (contractNum != 0) {
+            contractRatios.asMap().merge(contractNum, ratio, GasUsageEstimates::blend);
+        }
+    }
+
+    /**
+     * Returns the gas a transaction should reserve from the HAPI gas throttle. This is its declared
+     * gas limit scaled by the larger of its payer's and contract's estimated used-to-declared
+     * ratio, but never by less than the configured minimum ratio. A payer with no estimate yet
+     * reserves its full declared gas limit.
+     *
+     * @param txn the transaction to admit
+     * @param declaredGas its declared gas limit
+     * @return the gas to reserve
+     */
+    public long gasToReserve(final TransactionBody txn, final long declaredGas) {
+        final var minRatio = properties.gasEstimatesMinUsedRatio();
+        if (minRatio >= 1.0) {
+            return declaredGas;
+        }
+        final var payerRatio = payerRatios.getIfPresent(payerNumOf(txn));
+        if (payerRatio == null) {
+            return declaredGas;
+        }
+        var ratio = Math.max(payerRatio, minRatio);
+        final var contractNum = contractNumOf(txn);
+        if (contractNum != 0) {
+            final var contractRatio = contractRatios.getIfPresent(contractNum);
+            if (contractRatio != null) {
+                ratio = Math.max(ratio, contractRatio);
+            }
+        }
+        return (long) Math.ceil(declaredGas * ratio);
+    }
+
+    private static Double blend(final Double estimate, final Double observation) {
+        return estimate + NEW_OBSERVATION_WEIGHT * (observation - estimate);
+    }
+
+    private static long payerNumOf(final TransactionBody txn) {
+        return txn.getTransactionID().getAccountID().getAccountNum();
+    }
+
+    private static long contractNumOf(final TransactionBody txn) {
+        return txn.hasContractCall() ? txn.getContractCall().getContractID().getContractNum() : 0;
+    }
+
+    @VisibleForTesting
+    Double payerEstimate(final long payerNum) {
+        return payerRatios.getIfPresent(payerNum);
+    }
+
+    @VisibleForTesting
+    Double contractEstimate(final long contractNum) {
+        return contractRatios.getIfPresent(contractNum);
+    }
+}
@@ -37,14 +37,16 @@ public final class ThrottlingModule {
             final AliasManager aliasManager,
             final Supplier<AddressBook> addressBook,
             final GlobalDynamicProperties dynamicProperties,
-            final ScheduleStore scheduleStore) {
+            final ScheduleStore scheduleStore,
+            final GasUsageEstimates gasUsageEstimates) {
         final var delegate =
                 new DeterministicThrottling(
                         () -> addressBook.get().getSize(),
                         aliasManager,
                         dynamicProperties,
                         DeterministicThrottling.DeterministicThrottlingMode.HAPI,
-                        scheduleStore);
+                        scheduleStore,
+                        gasUsageEstimates);
         return new HapiThrottling(delegate);
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.txns.customfees;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.node.app.service.mono.grpc.marshalling.CustomFeeMeta;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+
+/**
+ * Node-local version stamps for the {@link CustomFeeMeta} of each token; that is, its treasury and
+ * custom fee schedule.
+ *
+ * <p>Work that depends on a token's custom fee metadata can capture the {@link
+ * #currentGeneration()} <b>before</b> looking up any metadata; and later use {@link
+ * #isUnchangedSince(long, long)} to learn if the metadata for a particular token could have
+ * changed since then. Because a token is only stamped <b>after</b> its changes are committed to
+ * state, a {@code true} answer from this method guarantees the metadata is unchanged; while a
+ * {@code false} answer just means the caller must re-check the metadata itself.
+ *
+ * <p>The generation counter may be read from any thread; but all other methods must be called
+ * from the {@code handleTransaction} thread.
+ */
+@Singleton
+public class CustomFeeScheduleVersions {
+    private final AtomicLong generation = new AtomicLong(0);
+    private final LongLongHashMap lastChangeGenerations = new LongLongHashMap();
+
+    /* No generation captured before this floor can be trusted (e.g., because of a reconnect). */
+    private long floorGeneration = 0;
+
+    @Inject
+    public CustomFeeScheduleVersions() {
+        // Dagger2
+    }
+
+    /**
+     * Returns the current generation, to be captured before any custom fee metadata is looked up.
+     *
+     * @return the current generation
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Stamps the given token's custom fee metadata as changed in a new generation. Must be called
+     * only <b>after</b> the changes are committed to state.
+     *
+     * @param tokenNum the number of the token whose metadata changed
+     */
+    public void markChanged(final long tokenNum) {
+        lastChangeGenerations.put(tokenNum, generation.incrementAndGet());
+    }
+
+    /**
+     * Returns whether the given token's custom fee metadata is certainly unchanged since the given
+     * generation.
+     *
+     * @param then the generation captured before the metadata was looked up
+     * @param tokenNum the number of the token of interest
+     * @return true if the token's metadata cannot have changed since the given generation
+     */
+    public boolean isUnchangedSince(final long then, final long tokenNum) {
+        if (then < floorGeneration) {
+            return false;
+        }
+        return lastChangeGenerations.getIfAbsent(tokenNum, floorGeneration) <= then;
+    }
+
+    /**
+     * Forgets all current version stamps, so that no previously captured generation will be
+     * considered current (important if the node just reconnected).
+     */
+    public void invalidate() {
+        lastChangeGenerations.clear();
+        floorGeneration = generation.incrementAndGet();
+    }
+
+    @VisibleForTesting
+    int numStamped() {
+        return lastChangeGenerations.size();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.txns.ethereum;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxSigs;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.function.Function;
+
+/**
+ * Memoizes the secp256k1 public key recovery done by a {@link Function} from {@link EthTxData} to
+ * {@link EthTxSigs}, keyed by the Keccak-256 hash of the signed RLP-encoded transaction.
+ *
+ * <p>JSON-RPC relays commonly submit the same raw Ethereum transaction through several nodes; and a
+ * transaction whose signer is recovered before consensus, but whose expansion is invalidated by the
+ * time it is handled, needs its signer again in {@code handleTransaction}. In both cases the
+ * recovery is a pure function of the signed bytes, so it only needs to be done once.
+ *
+ * <p>Since the hash covers the signature <i>and</i> the signed message, a cached signer can never
+ * be returned for different call data. Failed recoveries are not cached.
+ */
+public class EthTxSigsCache implements Function<EthTxData, EthTxSigs> {
+    private final Function<EthTxData, EthTxSigs> sigsFunction;
+    private final Cache<ByteString, EthTxSigs> recovered;
+
+    public EthTxSigsCache(final Function<EthTxData, EthTxSigs> sigsFunction, final int maxSize) {
+        this.sigsFunction = sigsFunction;
+        this.recovered = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    @Override
+    public EthTxSigs apply(final EthTxData ethTxData) {
+        final var key = keyFor(ethTxData);
+        if (key == null) {
+            return sigsFunction.apply(ethTxData);
+        }
+        var sigs = recovered.getIfPresent(key);
+        if (sigs == null) {
+            sigs = sigsFunction.apply(ethTxData);
+            recovered.put(key, sigs);
+        }
+        return sigs;
+    }
+
+    long size() {
+        return recovered.size();
+    }
+
+    @Nullable
+    private static ByteString keyFor(final EthTxData ethTxData) {
+        try {
+            return ByteString.copyFrom(ethTxData.getEthereumHash());
+        } catch (final IllegalStateException ignore) {
+            // Only thrown if the transaction cannot be re-encoded after replacing its call data
+            return null;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.txns.span;
+
+import com.hedera.node.app.hapi.fees.usage.crypto.CryptoApproveAllowanceMeta;
+import com.hedera.node.app.hapi.fees.usage.crypto.CryptoCreateMeta;
+import com.hedera.node.app.hapi.fees.usage.crypto.CryptoDeleteAllowanceMeta;
+import com.hedera.node.app.hapi.fees.usage.crypto.CryptoUpdateMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.FeeScheduleUpdateMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenBurnMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenCreateMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenFreezeMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenPauseMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenUnfreezeMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenUnpauseMeta;
+import com.hedera.node.app.hapi.fees.usage.token.meta.TokenWipeMeta;
+import com.hedera.node.app.hapi.fees.usage.util.UtilPrngMeta;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxSigs;
+import com.hedera.node.app.service.mono.grpc.marshalling.ImpliedTransfers;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+/**
+ * The work pre-computed for a transaction between {@code expandSignatures} and {@code
+ * handleTransaction}, with one typed slot per kind of result; so that reading or writing an entry
+ * needs neither hashing, boxing, nor a cast.
+ *
+ * <p>The slots are only ever accessed through the {@link ExpandHandleSpanMapAccessor}. Each
+ * expansion in {@link SpanMapManager} writes its summary slot (the {@link ImpliedTransfers} or
+ * the {@link EthTxExpansion}) <i>last</i>; since those two slots are volatile, a handle thread that
+ * reads a summary written by an expansion thread is also guaranteed to see every slot written
+ * before it, without any locking.
+ *
+ * <p>Once {@link #freeze()} is called—as when {@code handleTransaction} rationalizes a span—every
+ * setter throws {@link UnsupportedOperationException}, so that a backlogged expansion can never
+ * overwrite the authoritative span.
+ */
+public class SpanMap {
+    private boolean frozen = false;
+
+    private volatile ImpliedTransfers impliedTransfers;
+    private long feeSchedulesGeneration = -1;
+    private FeeScheduleUpdateMeta feeScheduleUpdateMeta;
+    private TokenCreateMeta tokenCreateMeta;
+    private TokenBurnMeta tokenBurnMeta;
+    private TokenWipeMeta tokenWipeMeta;
+    private TokenFreezeMeta tokenFreezeMeta;
+    private TokenUnfreezeMeta tokenUnfreezeMeta;
+    private TokenPauseMeta tokenPauseMeta;
+    private TokenUnpauseMeta tokenUnpauseMeta;
+    private CryptoCreateMeta cryptoCreateMeta;
+    private CryptoUpdateMeta cryptoUpdateMeta;
+    private CryptoApproveAllowanceMeta cryptoApproveMeta;
+    private CryptoDeleteAllowanceMeta cryptoDeleteAllowanceMeta;
+    private EthTxData ethTxDataMeta;
+    private EthTxSigs ethTxSigsMeta;
+    private TransactionBody ethTxBodyMeta;
+    private volatile EthTxExpansion ethTxExpansion;
+    private UtilPrngMeta utilPrngMeta;
+
+    /** Makes this span read-only; any later attempt to set a slot will throw. */
+    public void freeze() {
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void assertMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Span has already been rationalized");
+        }
+    }
+
+    ImpliedTransfers getImpliedTransfers() {
+        return impliedTransfers;
+    }
+
+    void setImpliedTransfers(final ImpliedTransfers impliedTransfers) {
+        assertMutable();
+        this.impliedTransfers = impliedTransfers;
+    }
+
+    long getFeeSchedulesGeneration() {
+        return feeSchedulesGeneration;
+    }
+
+    void setFeeSchedulesGeneration(final long feeSchedulesGeneration) {
+        assertMutable();
+        this.feeSchedulesGeneration = feeSchedulesGeneration;
+    }
+
+    FeeScheduleUpdateMeta getFeeScheduleUpdateMeta() {
+        return feeScheduleUpdateMeta;
+    }
+
+    void setFeeScheduleUpdateMeta(final FeeScheduleUpdateMeta feeScheduleUpdateMeta) {
+        assertMutable();
+        this.feeScheduleUpdateMeta = feeScheduleUpdateMeta;
+    }
+
+    TokenCreateMeta getTokenCreateMeta() {
+        return tokenCreateMeta;
+    }
+
+    void setTokenCreateMeta(final TokenCreateMeta tokenCreateMeta) {
+        assertMutable();
+        this.tokenCreateMeta = tokenCreateMeta;
+    }
+
+    TokenBurnMeta getTokenBurnMeta() {
+        return tokenBurnMeta;
+    }
+
+    void setTokenBurnMeta(final TokenBurnMeta tokenBurnMeta) {
+        assertMutable();
+        this.tokenBurnMeta = tokenBurnMeta;
+    }
+
+    TokenWipeMeta getTokenWipeMeta() {
+        return tokenWipeMeta;
+    }
+
+    void setTokenWipeMeta(final TokenWipeMeta tokenWipeMeta) {
+        assertMutable();
+        this.tokenWipeMeta = tokenWipeMeta;
+    }
+
+    TokenFreezeMeta getTokenFreezeMeta() {
+        return tokenFreezeMeta;
+    }
+
+    void setTokenFreezeMeta(final TokenFreezeMeta tokenFreezeMeta) {
+        assertMutable();
+        this.tokenFreezeMeta = tokenFreezeMeta;
+    }
+
+    TokenUnfreezeMeta getTokenUnfreezeMeta() {
+        return tokenUnfreezeMeta;
+    }
+
+    void setTokenUnfreezeMeta(final TokenUnfreezeMeta tokenUnfreezeMeta) {
+        assertMutable();
+        this.tokenUnfreezeMeta = tokenUnfreezeMeta;
+    }
+
+    TokenPauseMeta getTokenPauseMeta() {
+        return tokenPauseMeta;
+    }
+
+    void setTokenPauseMeta(final TokenPauseMeta tokenPauseMeta) {
+        assertMutable();
+        this.tokenPauseMeta = tokenPauseMeta;
+    }
+
+    TokenUnpauseMeta getTokenUnpauseMeta() {
+        return tokenUnpauseMeta;
+    }
+
+    void setTokenUnpauseMeta(final TokenUnpauseMeta tokenUnpauseMeta) {
+        assertMutable();
+        this.tokenUnpauseMeta = tokenUnpauseMeta;
+    }
+
+    CryptoCreateMeta getCryptoCreateMeta() {
+        return cryptoCreateMeta;
+    }
+
+    void setCryptoCreateMeta(final CryptoCreateMeta cryptoCreateMeta) {
+        assertMutable();
+        this.cryptoCreateMeta = cryptoCreateMeta;
+    }
+
+    CryptoUpdateMeta getCryptoUpdateMeta() {
+        return cryptoUpdateMeta;
+    }
+
+    void setCryptoUpdateMeta(final CryptoUpdateMeta cryptoUpdateMeta) {
+        assertMutable();
+        this.cryptoUpdateMeta = cryptoUpdateMeta;
+    }
+
+    CryptoApproveAllowanceMeta getCryptoApproveMeta() {
+        return cryptoApproveMeta;
+    }
+
+    void setCryptoApproveMeta(final CryptoApproveAllowanceMeta cryptoApproveMeta) {
+        assertMutable();
+        this.cryptoApproveMeta = cryptoApproveMeta;
+    }
+
+    CryptoDeleteAllowanceMeta getCryptoDeleteAllowanceMeta() {
+        return cryptoDeleteAllowanceMeta;
+    }
+
+    void setCryptoDeleteAllowanceMeta(final CryptoDeleteAllowanceMeta cryptoDeleteAllowanceMeta) {
+        assertMutable();
+        this.cryptoDeleteAllowanceMeta = cryptoDeleteAllowanceMeta;
+    }
+
+    EthTxData getEthTxDataMeta() {
+        return ethTxDataMeta;
+    }
+
+    void setEthTxDataMeta(final EthTxData ethTxDataMeta) {
+        assertMutable();
+        this.ethTxDataMeta = ethTxDataMeta;
+    }
+
+    EthTxSigs getEthTxSigsMeta() {
+        return ethTxSigsMeta;
+    }
+
+    void setEthTxSigsMeta(final EthTxSigs ethTxSigsMeta) {
+        assertMutable();
+        this.ethTxSigsMeta = ethTxSigsMeta;
+    }
+
+    TransactionBody getEthTxBodyMeta() {
+        return ethTxBodyMeta;
+    }
+
+    void setEthTxBodyMeta(final TransactionBody ethTxBodyMeta) {
+        assertMutable();
+        this.ethTxBodyMeta = ethTxBodyMeta;
+    }
+
+    EthTxExpansion getEthTxExpansion() {
+        return ethTxExpansion;
+    }
+
+    void setEthTxExpansion(final EthTxExpansion ethTxExpansion) {
+        assertMutable();
+        this.ethTxExpansion = ethTxExpansion;
+    }
+
+    UtilPrngMeta getUtilPrngMeta() {
+        return utilPrngMeta;
+    }
+
+    void setUtilPrngMeta(final UtilPrngMeta utilPrngMeta) {
+        assertMutable();
+        this.utilPrngMeta = utilPrngMeta;
+    }
+}
@@ -39,17 +39,17 @@ import com.hedera.node.app.service.mono.sigs.order.LinkedRefs;
 import com.hedera.node.app.service.mono.state.submerkle.EntityId;
 import com.hedera.node.app.service.mono.state.virtual.VirtualBlobKey;
 import com.hedera.node.app.service.mono.state.virtual.VirtualBlobValue;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.store.contracts.precompile.SyntheticTxnFactory;
 import com.hedera.node.app.service.mono.txns.contract.ContractCallTransitionLogic;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hedera.node.app.service.mono.txns.customfees.CustomFeeSchedules;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.swirlds.virtualmap.VirtualMap;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -71,7 +71,9 @@ import org.bouncycastle.util.encoders.Hex;
  * </ol>
  *
  * The only entry currently in the span map is the {@link ImpliedTransfers} produced by the {@link
- * ImpliedTransfersMarshal}; this improves performance for CrypoTransfers specifically.
+ * ImpliedTransfersMarshal}; this improves performance for CrypoTransfers specifically. (Along with
+ * the {@link CustomFeeScheduleVersions} generation captured before computing them, so that
+ * rationalization only needs to re-check the custom fee metadata of tokens that actually changed.)
  *
  * <p>Other operations will certainly be able to benefit from the same infrastructure over time.
  */
@@ -81,6 +83,8 @@ public class SpanMapManager {
     private final SigImpactHistorian sigImpactHistorian;
     private final MutableStateChildren workingState;
     private final CustomFeeSchedules customFeeSchedules;
+    private final CustomFeeScheduleVersions feeScheduleVersions;
+    private final MiscSpeedometers speedometers;
     private final SyntheticTxnFactory syntheticTxnFactory;
     private final GlobalDynamicProperties dynamicProperties;
     private final SignedStateViewFactory stateViewFactory;
@@ -99,6 +103,8 @@ public class SpanMapManager {
             final SignedStateViewFactory stateViewFactory,
             final SyntheticTxnFactory syntheticTxnFactory,
             final CustomFeeSchedules customFeeSchedules,
+            final CustomFeeScheduleVersions feeScheduleVersions,
+            final MiscSpeedometers speedometers,
             final SigImpactHistorian sigImpactHistorian,
             final MutableStateChildren workingState,
             final AliasManager aliasManager) {
@@ -108,6 +114,8 @@ public class SpanMapManager {
         this.sigImpactHistorian = sigImpactHistorian;
         this.dynamicProperties = dynamicProperties;
         this.customFeeSchedules = customFeeSchedules;
+        this.feeScheduleVersions = feeScheduleVersions;
+        this.speedometers = speedometers;
         this.stateViewFactory = stateViewFactory;
         this.spanMapAccessor = spanMapAccessor;
         this.sigsFunction = sigsFunction;
@@ -149,7 +157,14 @@ public class SpanMapManager {
     public void expandEthereumSpan(final TxnAccessor accessor) {
         final var stateChildren = stateViewFactory.childrenOfLatestSignedState();
         if (stateChildren.isEmpty()) {
-            // The Ethereum context will have to be computed synchronously in handleTransaction
+            // The Ethereum context will have to be computed synchronously in handleTransaction;
+            // but unless the call data is in a file, we can still recover the signer now so that
+            // handleTransaction finds it in the sigs cache.
+            // (There is no call data file to preload without a signed state; the only other
+            // copy of the blobs is the working state, which is mutated by handleTransaction and
+            // so cannot be read here. And since the signature covers the full call data, the
+            // signer of such a transaction cannot be recovered without the file's contents.)
+            recoverSignerIfCallDataInline(accessor);
             return;
         }
         final var signedStateChildren = stateChildren.get();
@@ -181,10 +196,26 @@ public class SpanMapManager {
     public void rationalizeEthereumSpan(final TxnAccessor accessor) {
         final var expansion = spanMapAccessor.getEthTxExpansion(accessor);
         if (expansion == null || areChanged(Objects.requireNonNull(expansion.linkedRefs()))) {
-            final Map<String, Object> spanMap = new HashMap<>();
+            final var spanMap = new SpanMap();
             spanMapAccessor.setEthTxDataMeta(spanMap, accessor.opEthTxData());
             expandEthContext(accessor, workingState, spanMap, null);
             accessor.setRationalizedSpanMap(spanMap);
+            speedometers.cycleEthTxExpansionsRecomputed();
+        } else {
+            speedometers.cycleEthTxExpansionsReused();
+        }
+    }
+
+    private void recoverSignerIfCallDataInline(final TxnAccessor accessor) {
+        assertIsEthTxn(accessor);
+        final var ethTxData = spanMapAccessor.getEthTxDataMeta(accessor);
+        if (accessor.getTxn().getEthereumTransaction().hasCallData() && !ethTxData.hasCallData()) {
+            return;
+        }
+        try {
+            sigsFunction.apply(ethTxData);
+        } catch (final IllegalArgumentException ignore) {
+            // handleTransaction will fail with INVALID_ETHEREUM_TRANSACTION
         }
     }
 
@@ -195,7 +226,7 @@ public class SpanMapManager {
     private void expandEthContext(
             final TxnAccessor accessor,
             final StateChildren stateChildren,
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             @Nullable final LinkedRefs linkedRefs) {
         assertIsEthTxn(accessor);
         var ethTxData = spanMapAccessor.getEthTxDataMeta(spanMap);
@@ -239,7 +270,7 @@ public class SpanMapManager {
 
     @Nullable
     private EthTxExpansion expandSynthTxn(
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             final EthTxData ethTxData,
             @Nullable final LinkedRefs linkedRefs) {
         final var opBuilder = syntheticTxnFactory.synthContractOpFromEth(ethTxData);
@@ -256,7 +287,7 @@ public class SpanMapManager {
 
     @Nullable
     private EthTxExpansion expandEthTxSigs(
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             final EthTxData ethTxData,
             @Nullable final LinkedRefs linkedRefs) {
         try {
@@ -280,7 +311,7 @@ public class SpanMapManager {
             EthTxData ethTxData,
             final FileID callDataId,
             @Nullable final LinkedRefs linkedRefs,
-            final Map<String, Object> spanMap,
+            final SpanMap spanMap,
             final VirtualMap<VirtualBlobKey, VirtualBlobValue> curBlobs) {
         if (linkedRefs != null) {
             linkedRefs.link(callDataId.getFileNum());
@@ -326,12 +357,23 @@ public class SpanMapManager {
         final var impliedTransfers = spanMapAccessor.getImpliedTransfers(accessor);
         if (!impliedTransfers
                 .getMeta()
-                .wasDerivedFrom(dynamicProperties, customFeeSchedules, aliasManager)) {
+                .wasDerivedFrom(
+                        dynamicProperties,
+                        customFeeSchedules,
+                        aliasManager,
+                        feeScheduleVersions,
+                        spanMapAccessor.getFeeSchedulesGeneration(accessor))) {
             expandImpliedTransfers(accessor);
+            speedometers.cycleImpliedXfersRecomputed();
+        } else {
+            speedometers.cycleImpliedXfersReused();
         }
     }
 
     private void expandImpliedTransfers(final TxnAccessor accessor) {
+        // Must capture the generation before looking up any custom fee metadata
+        spanMapAccessor.setFeeSchedulesGeneration(
+                accessor, feeScheduleVersions.currentGeneration());
         final var op = accessor.getTxn().getCryptoTransfer();
         final var impliedTransfers =
                 impliedTransfersMarshal.unmarshalFromGrpc(op, accessor.getPayer());
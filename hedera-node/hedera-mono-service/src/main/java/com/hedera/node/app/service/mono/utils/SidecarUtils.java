@@ -18,6 +18,7 @@ package com.hedera.node.app.service.mono.utils;
 import com.google.protobuf.BytesValue;
 import com.hedera.node.app.hapi.utils.ByteStringUtils;
 import com.hedera.node.app.service.mono.contracts.execution.traceability.SolidityAction;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.StreamedActions;
 import com.hedera.services.stream.proto.ContractActions;
 import com.hedera.services.stream.proto.ContractBytecode;
 import com.hedera.services.stream.proto.ContractStateChange;
@@ -94,6 +95,9 @@ public class SidecarUtils {
 
     public static TransactionSidecarRecord.Builder createContractActionsSidecar(
             final List<SolidityAction> actions) {
+        if (actions instanceof StreamedActions streamedActions) {
+            return TransactionSidecarRecord.newBuilder().setActions(streamedActions.toGrpc());
+        }
         final var actionsBuilder = ContractActions.newBuilder();
         for (final var action : actions) {
             actionsBuilder.addContractActions(action.toGrpc());
@@ -28,6 +28,7 @@ import com.hedera.node.app.service.mono.sigs.order.LinkedRefs;
 import com.hedera.node.app.service.mono.sigs.sourcing.PojoSigMapPubKeyToSigBytes;
 import com.hedera.node.app.service.mono.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.node.app.service.mono.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.node.app.service.mono.txns.span.SpanMap;
 import com.hedera.node.app.service.mono.utils.RationalizedSigMeta;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
@@ -41,7 +42,6 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.crypto.TransactionSignature;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -278,12 +278,12 @@ public class PlatformTxnAccessor implements SwirldsTxnAccessor {
     }
 
     @Override
-    public void setRationalizedSpanMap(final Map<String, Object> newSpanMap) {
+    public void setRationalizedSpanMap(final SpanMap newSpanMap) {
         delegate.setRationalizedSpanMap(newSpanMap);
     }
 
     @Override
-    public Map<String, Object> getSpanMap() {
+    public SpanMap getSpanMap() {
         return delegate.getSpanMap();
     }
 
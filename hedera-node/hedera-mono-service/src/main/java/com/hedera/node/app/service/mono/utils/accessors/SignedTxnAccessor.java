@@ -62,6 +62,7 @@ import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.sigs.sourcing.PojoSigMapPubKeyToSigBytes;
 import com.hedera.node.app.service.mono.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.node.app.service.mono.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.node.app.service.mono.txns.span.SpanMap;
 import com.hedera.node.app.service.mono.utils.EntityNum;
 import com.hedera.node.app.service.mono.utils.MiscUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -75,9 +76,6 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -94,7 +92,7 @@ public class SignedTxnAccessor implements TxnAccessor {
     private static final ExpandHandleSpanMapAccessor SPAN_MAP_ACCESSOR =
             new ExpandHandleSpanMapAccessor();
 
-    private Map<String, Object> spanMap = new HashMap<>();
+    private volatile SpanMap spanMap = new SpanMap();
 
     private final int sigMapSize;
     private final int numSigPairs;
@@ -424,14 +422,15 @@ public class SignedTxnAccessor implements TxnAccessor {
     }
 
     @Override
-    public Map<String, Object> getSpanMap() {
+    public SpanMap getSpanMap() {
         return spanMap;
     }
 
     /** {@inheritDoc} */
     @Override
-    public void setRationalizedSpanMap(final Map<String, Object> newSpanMap) {
-        spanMap = Collections.unmodifiableMap(newSpanMap);
+    public void setRationalizedSpanMap(final SpanMap newSpanMap) {
+        newSpanMap.freeze();
+        spanMap = newSpanMap;
     }
 
     @Override
@@ -23,6 +23,7 @@ import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.node.app.service.mono.txns.span.SpanMap;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -32,7 +33,6 @@ import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
-import java.util.Map;
 
 /**
  * Defines a type that gives access to several commonly referenced parts of a Hedera Services gRPC
@@ -139,13 +139,13 @@ public interface TxnAccessor {
     // ---- These will be removed by using the fields in custom accessors in future PR ---
 
     /**
-     * Used in {@code handleTransaction} to reset this accessor's span map to new,
-     * <b>unmodifiable</b> map with the authoritative results of expanding from the working state.
-     * This protects the authoritative values from contamination by a pre-fetch thread.
+     * Used in {@code handleTransaction} to reset this accessor's span map to a new, <b>frozen</b>
+     * span with the authoritative results of expanding from the working state. This protects the
+     * authoritative values from contamination by a pre-fetch thread.
      */
-    void setRationalizedSpanMap(Map<String, Object> newSpanMap);
+    void setRationalizedSpanMap(SpanMap newSpanMap);
 
-    Map<String, Object> getSpanMap();
+    SpanMap getSpanMap();
 
     ExpandHandleSpanMapAccessor getSpanMapAccessor();
 
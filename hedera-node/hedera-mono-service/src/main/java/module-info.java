@@ -16,6 +16,7 @@ module com.hedera.node.app.service.mono {
             com.hedera.node.app.service.schedule.impl.test;
     exports com.hedera.node.app.service.mono.legacy.core.jproto to
             com.hedera.node.app.service.mono.testFixtures,
+            com.hedera.node.app,
             com.hedera.node.app.service.token.impl,
             com.hedera.node.app.service.token.impl.test,
             com.hedera.node.app.service.schedule.impl.test,
@@ -43,8 +44,15 @@ module com.hedera.node.app.service.mono {
     exports com.hedera.node.app.service.mono.state.validation to
             com.hedera.node.app;
     exports com.hedera.node.app.service.mono.utils.accessors;
+    exports com.hedera.node.app.service.mono.sigs to
+            com.hedera.node.app;
+    exports com.hedera.node.app.service.mono.sigs.factories to
+            com.hedera.node.app;
+    exports com.hedera.node.app.service.mono.sigs.sourcing to
+            com.hedera.node.app;
     exports com.hedera.node.app.service.mono.sigs.utils to
-            com.hedera.node.app.service.mono.testFixtures;
+            com.hedera.node.app.service.mono.testFixtures,
+            com.hedera.node.app;
     exports com.hedera.node.app.service.mono.sigs.verification to
             com.hedera.node.app.service.mono.testFixtures;
     exports com.hedera.node.app.service.mono.files to
@@ -49,6 +49,7 @@ import com.hedera.node.app.service.mono.state.forensics.ServicesIssListener;
 import com.hedera.node.app.service.mono.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.node.app.service.mono.state.initialization.HfsSystemFilesManager;
 import com.hedera.node.app.service.mono.state.initialization.TreasuryCloner;
+import com.hedera.node.app.service.mono.state.logic.InMemoryChildHashing;
 import com.hedera.node.app.service.mono.state.logic.NetworkCtxManager;
 import com.hedera.node.app.service.mono.state.logic.ReconnectListener;
 import com.hedera.node.app.service.mono.state.logic.StandardProcessLogic;
@@ -115,6 +116,7 @@ class ServicesAppTest {
         assertThat(subject.eventExpansion(), instanceOf(EventExpansion.class));
         assertThat(subject.treasuryCloner(), instanceOf(TreasuryCloner.class));
         assertThat(subject.logic(), instanceOf(StandardProcessLogic.class));
+        assertThat(subject.inMemoryChildHashing(), instanceOf(InMemoryChildHashing.class));
         assertThat(subject.hashLogger(), instanceOf(HashLogger.class));
         assertThat(subject.workingState(), instanceOf(MutableStateChildren.class));
         assertThat(subject.dualStateAccessor(), instanceOf(DualStateAccessor.class));
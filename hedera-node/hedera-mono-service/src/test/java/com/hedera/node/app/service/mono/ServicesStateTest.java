@@ -52,12 +52,14 @@ import com.hedera.node.app.service.mono.context.MutableStateChildren;
 import com.hedera.node.app.service.mono.context.init.ServicesInitFlow;
 import com.hedera.node.app.service.mono.context.properties.BootstrapProperties;
 import com.hedera.node.app.service.mono.context.properties.PropertyNames;
+import com.hedera.node.app.service.mono.context.properties.PropertySource;
 import com.hedera.node.app.service.mono.ledger.accounts.staking.StakeStartupHelper;
 import com.hedera.node.app.service.mono.sigs.EventExpansion;
 import com.hedera.node.app.service.mono.state.DualStateAccessor;
 import com.hedera.node.app.service.mono.state.forensics.HashLogger;
 import com.hedera.node.app.service.mono.state.initialization.SystemAccountsCreator;
 import com.hedera.node.app.service.mono.state.initialization.SystemFilesManager;
+import com.hedera.node.app.service.mono.state.logic.InMemoryChildHashing;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
 import com.hedera.node.app.service.mono.state.merkle.MerkleNetworkContext;
 import com.hedera.node.app.service.mono.state.merkle.MerkleScheduledTransactions;
@@ -122,7 +124,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -157,6 +159,7 @@ class ServicesStateTest extends ResponsibleVMapUser {
     @Mock private SwirldDualState dualState;
     @Mock private StateMetadata metadata;
     @Mock private ProcessLogic logic;
+    @Mock private InMemoryChildHashing childHashing;
     @Mock private FCHashMap<ByteString, EntityNum> aliases;
     @Mock private MutableStateChildren workingState;
     @Mock private DualStateAccessor dualStateAccessor;
@@ -166,7 +169,9 @@ class ServicesStateTest extends ResponsibleVMapUser {
     @Mock private VirtualMapFactory virtualMapFactory;
     @Mock private ServicesState.StakingInfoBuilder stakingInfoBuilder;
     @Mock private ServicesState.MapToDiskMigration mapToDiskMigration;
-    @Mock private Function<VirtualMapFactory.JasperDbBuilderFactory, VirtualMapFactory> vmf;
+    @Mock
+    private BiFunction<VirtualMapFactory.JasperDbBuilderFactory, PropertySource, VirtualMapFactory>
+            vmf;
     @Mock private BootstrapProperties bootstrapProperties;
     @Mock private SystemAccountsCreator accountsCreator;
     @Mock private SystemFilesManager systemFilesManager;
@@ -336,11 +341,13 @@ class ServicesStateTest extends ResponsibleVMapUser {
 
         given(metadata.app()).willReturn(app);
         given(app.logic()).willReturn(logic);
+        given(app.inMemoryChildHashing()).willReturn(childHashing);
         given(app.dualStateAccessor()).willReturn(dualStateAccessor);
 
         subject.handleConsensusRound(round, dualState);
         verify(dualStateAccessor).setDualState(dualState);
         verify(logic).incorporateConsensus(round);
+        verify(childHashing).finishRound(subject);
     }
 
     @Test
@@ -670,9 +677,10 @@ class ServicesStateTest extends ResponsibleVMapUser {
                 .willReturn(false);
         ServicesState.setMapToDiskMigration(mapToDiskMigration);
         ServicesState.setVmFactory(vmf);
-        given(vmf.apply(any())).willReturn(virtualMapFactory);
+        given(vmf.apply(any(), eq(bootstrapProperties))).willReturn(virtualMapFactory);
 
         final var vmap = mock(VirtualMap.class);
+        given(virtualMapFactory.newVirtualizedUniqueTokenStorage()).willReturn(vmap);
         mockAllMaps(mock(MerkleMap.class), vmap);
         subject.setChild(StateChildIndices.NETWORK_CTX, networkContext);
         subject.setChild(StateChildIndices.STORAGE, vmap);
@@ -694,6 +702,8 @@ class ServicesStateTest extends ResponsibleVMapUser {
         // when:
         subject.init(platform, addressBook, dualState, RESTART, currentVersion);
         assertTrue(subject.uniqueTokens().isVirtual());
+        verify(virtualMapFactory).newVirtualizedUniqueTokenStorage();
+        verify(virtualMapFactory).logTuningReport();
         verify(mapToDiskMigration)
                 .migrateToDiskAsApropos(
                         INSERTIONS_PER_COPY,
@@ -718,7 +728,7 @@ class ServicesStateTest extends ResponsibleVMapUser {
                 .willReturn(true);
         ServicesState.setMapToDiskMigration(mapToDiskMigration);
         ServicesState.setVmFactory(vmf);
-        given(vmf.apply(any())).willReturn(virtualMapFactory);
+        given(vmf.apply(any(), eq(bootstrapProperties))).willReturn(virtualMapFactory);
 
         final var vmap = mock(VirtualMap.class);
         mockAllMaps(mock(MerkleMap.class), vmap);
@@ -779,6 +789,25 @@ class ServicesStateTest extends ResponsibleVMapUser {
         verify(workingState).updateFrom(copy);
     }
 
+    @Test
+    void recordsHashTimeOnceAfterCopy() {
+        // setup:
+        subject.setMetadata(metadata);
+
+        given(metadata.app()).willReturn(app);
+        given(app.workingState()).willReturn(workingState);
+        given(app.inMemoryChildHashing()).willReturn(childHashing);
+
+        // when:
+        tracked(subject.copy());
+        subject.setHash(null);
+        subject.setHash(new Hash());
+        subject.setHash(new Hash());
+
+        // then:
+        verify(childHashing).recordStateHashed(anyLong());
+    }
+
     @Test
     void copiesNonNullChildren() {
         subject.setChild(StateChildIndices.ADDRESS_BOOK, addressBook);
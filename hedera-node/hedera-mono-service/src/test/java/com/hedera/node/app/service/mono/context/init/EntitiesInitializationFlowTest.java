@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
 import com.hedera.node.app.service.mono.state.expiry.ExpiryManager;
 import com.hedera.node.app.service.mono.state.logic.NetworkCtxManager;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +32,7 @@ class EntitiesInitializationFlowTest {
     @Mock private ExpiryManager expiryManager;
     @Mock private NetworkCtxManager networkCtxManager;
     @Mock private SigImpactHistorian sigImpactHistorian;
+    @Mock private CustomFeeScheduleVersions feeScheduleVersions;
 
     private EntitiesInitializationFlow subject;
 
@@ -38,7 +40,10 @@ class EntitiesInitializationFlowTest {
     void setUp() {
         subject =
                 new EntitiesInitializationFlow(
-                        expiryManager, sigImpactHistorian, networkCtxManager);
+                        expiryManager,
+                        sigImpactHistorian,
+                        feeScheduleVersions,
+                        networkCtxManager);
     }
 
     @Test
@@ -50,6 +55,7 @@ class EntitiesInitializationFlowTest {
         verify(expiryManager).reviewExistingPayerRecords();
         verify(expiryManager).reviewExistingShortLivedEntities();
         verify(sigImpactHistorian).invalidateCurrentWindow();
+        verify(feeScheduleVersions).invalidate();
         verify(networkCtxManager).setObservableFilesNotLoaded();
         verify(networkCtxManager).loadObservableSysFilesIfNeeded();
     }
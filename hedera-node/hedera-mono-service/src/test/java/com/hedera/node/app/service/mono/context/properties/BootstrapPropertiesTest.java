@@ -194,6 +194,11 @@ class BootstrapPropertiesTest {
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, 10000),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, 2),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, 120),
+                    entry(HEDERA_LOCAL_CALL_MAX_CONCURRENT, 8),
+                    entry(HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE, 256),
+                    entry(HEDERA_SIGS_LOOK_AHEAD_TXNS, 16),
+                    entry(HEDERA_ETH_TX_SIGS_CACHE_SIZE, 1000),
+                    entry(HEDERA_GAS_ESTIMATES_MIN_USED_RATIO, 1.0),
                     entry(HEDERA_PROFILES_ACTIVE, Profile.PROD),
                     entry(HEDERA_REALM, 0L),
                     entry(HEDERA_RECORD_STREAM_LOG_DIR, "/opt/hgcapp/recordStreams"),
@@ -275,6 +280,8 @@ class BootstrapPropertiesTest {
                     entry(STATS_THROTTLE_UTILS_GAUGE_UPDATE_INTERVAL_MS, 1_000L),
                     entry(STATS_SPEEDOMETER_HALF_LIFE_SECS, 10.0),
                     entry(STATS_EXECUTION_TIMES_TO_TRACK, 0),
+                    entry(STATS_EVM_PROFILING_SAMPLE_ONE_IN_N, 0),
+                    entry(STATS_EVM_PROFILING_DUMP_INTERVAL_SECS, 60),
                     entry(STAKING_IS_ENABLED, true),
                     entry(STAKING_NODE_MAX_TO_MIN_STAKE_RATIOS, Map.of()),
                     entry(STAKING_PERIOD_MINS, 1440L),
@@ -336,7 +343,31 @@ class BootstrapPropertiesTest {
                     entry(HEDERA_RECORD_STREAM_LOG_EVERY_TRANSACTION, false),
                     entry(HEDERA_RECORD_STREAM_COMPRESS_FILES_ON_CREATION, true),
                     entry(TOKENS_AUTO_CREATIONS_ENABLED, true),
-                    entry(WORKFLOWS_ENABLED, false));
+                    entry(WORKFLOWS_ENABLED, false),
+                    entry(VIRTUAL_MAPS_BLOBS_MAX_NUM_OF_KEYS, 50_000_000L),
+                    entry(VIRTUAL_MAPS_BLOBS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_BLOBS_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_CONTRACT_STORAGE_MAX_NUM_OF_KEYS, 500_000_000L),
+                    entry(VIRTUAL_MAPS_CONTRACT_STORAGE_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_CONTRACT_STORAGE_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_SCHEDULE_LIST_MAX_NUM_OF_KEYS, 1_000_000_000L),
+                    entry(VIRTUAL_MAPS_SCHEDULE_LIST_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_SCHEDULE_LIST_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_SCHEDULE_TEMPORAL_MAX_NUM_OF_KEYS, 500_000_000L),
+                    entry(VIRTUAL_MAPS_SCHEDULE_TEMPORAL_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_SCHEDULE_TEMPORAL_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_SCHEDULE_EQUALITY_MAX_NUM_OF_KEYS, 1_000_000_000L),
+                    entry(VIRTUAL_MAPS_SCHEDULE_EQUALITY_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_SCHEDULE_EQUALITY_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS, 100_000_000L),
+                    entry(VIRTUAL_MAPS_ACCOUNTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_ACCOUNTS_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_TOKEN_RELS_MAX_NUM_OF_KEYS, 100_000_000L),
+                    entry(VIRTUAL_MAPS_TOKEN_RELS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_TOKEN_RELS_PREFER_DISK_BASED_INDEXES, false),
+                    entry(VIRTUAL_MAPS_NFTS_MAX_NUM_OF_KEYS, 500_000_000L),
+                    entry(VIRTUAL_MAPS_NFTS_INTERNAL_HASHES_RAM_TO_DISK_THRESHOLD, 0L),
+                    entry(VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES, false));
 
     @Test
     void containsProperty() {
@@ -23,7 +23,11 @@ import static com.hedera.node.app.service.mono.context.properties.PropertyNames.
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_ETH_TX_SIGS_CACHE_SIZE;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_GAS_ESTIMATES_MIN_USED_RATIO;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_LOCAL_CALL_MAX_CONCURRENT;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
@@ -33,6 +37,7 @@ import static com.hedera.node.app.service.mono.context.properties.PropertyNames.
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_RECORD_STREAM_LOG_PERIOD;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_RECORD_STREAM_QUEUE_CAPACITY;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_RECORD_STREAM_SIDE_CAR_DIR;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.HEDERA_SIGS_LOOK_AHEAD_TXNS;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.ISS_RESET_PERIOD;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.ISS_ROUNDS_TO_LOG;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.NETTY_MODE;
@@ -50,6 +55,8 @@ import static com.hedera.node.app.service.mono.context.properties.PropertyNames.
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.QUERIES_BLOB_LOOK_UP_RETRIES;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_CONS_THROTTLES_TO_SAMPLE;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_ENTITY_UTILS_GAUGE_UPDATE_INTERVAL_MS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_EVM_PROFILING_DUMP_INTERVAL_SECS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_EVM_PROFILING_SAMPLE_ONE_IN_N;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_EXECUTION_TIMES_TO_TRACK;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_HAPI_OPS_SPEEDOMETER_UPDATE_INTERVAL_MS;
 import static com.hedera.node.app.service.mono.context.properties.PropertyNames.STATS_HAPI_THROTTLES_TO_SAMPLE;
@@ -97,6 +104,13 @@ class NodeLocalPropertiesTest {
         assertEquals(28, subject.prefetchQueueCapacity());
         assertEquals(29, subject.prefetchThreadPoolSize());
         assertEquals(30, subject.prefetchCodeCacheTtlSecs());
+        assertEquals(32, subject.localCallMaxConcurrent());
+        assertEquals(33, subject.localCallResultCacheSize());
+        assertEquals(34, subject.sigsLookAheadTxns());
+        assertEquals(35, subject.ethTxSigsCacheSize());
+        assertEquals(36, subject.evmProfilingSampleOneInN());
+        assertEquals(37, subject.evmProfilingDumpIntervalSecs());
+        assertEquals(38.0, subject.gasEstimatesMinUsedRatio());
         assertEquals(List.of("80"), subject.consThrottlesToSample());
         assertEquals(List.of("81"), subject.hapiThrottlesToSample());
     }
@@ -151,6 +165,13 @@ class NodeLocalPropertiesTest {
         assertEquals(29, subject.prefetchQueueCapacity());
         assertEquals(30, subject.prefetchThreadPoolSize());
         assertEquals(31, subject.prefetchCodeCacheTtlSecs());
+        assertEquals(33, subject.localCallMaxConcurrent());
+        assertEquals(34, subject.localCallResultCacheSize());
+        assertEquals(35, subject.sigsLookAheadTxns());
+        assertEquals(36, subject.ethTxSigsCacheSize());
+        assertEquals(37, subject.evmProfilingSampleOneInN());
+        assertEquals(38, subject.evmProfilingDumpIntervalSecs());
+        assertEquals(39.0, subject.gasEstimatesMinUsedRatio());
         assertEquals(logDir(32), subject.sidecarDir());
     }
 
@@ -241,6 +262,14 @@ class NodeLocalPropertiesTest {
                 .willReturn(i + 82L);
         given(properties.getStringProperty(HEDERA_RECORD_STREAM_SIDE_CAR_DIR))
                 .willReturn(logDir(i + 30));
+        given(properties.getIntProperty(HEDERA_LOCAL_CALL_MAX_CONCURRENT)).willReturn(i + 31);
+        given(properties.getIntProperty(HEDERA_LOCAL_CALL_RESULT_CACHE_SIZE)).willReturn(i + 32);
+        given(properties.getIntProperty(HEDERA_SIGS_LOOK_AHEAD_TXNS)).willReturn(i + 33);
+        given(properties.getIntProperty(HEDERA_ETH_TX_SIGS_CACHE_SIZE)).willReturn(i + 34);
+        given(properties.getIntProperty(STATS_EVM_PROFILING_SAMPLE_ONE_IN_N)).willReturn(i + 35);
+        given(properties.getIntProperty(STATS_EVM_PROFILING_DUMP_INTERVAL_SECS)).willReturn(i + 36);
+        given(properties.getDoubleProperty(HEDERA_GAS_ESTIMATES_MIN_USED_RATIO))
+                .willReturn(i + 37.0);
     }
 
     static String logDir(int num) {
@@ -49,6 +49,7 @@ import com.hedera.node.app.service.mono.ledger.TransactionalLedger;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.ledger.properties.AccountProperty;
 import com.hedera.node.app.service.mono.state.migration.HederaAccount;
+import com.hedera.node.app.service.mono.stats.EvmProfiler;
 import com.hedera.node.app.service.mono.store.contracts.CodeCache;
 import com.hedera.node.app.service.mono.store.contracts.HederaStackedWorldStateUpdater;
 import com.hedera.node.app.service.mono.store.contracts.HederaWorldState;
@@ -118,6 +119,7 @@ class CallEvmTxProcessorTest {
     @Mock private HederaBlockValues hederaBlockValues;
     @Mock private BlockValues blockValues;
     @Mock private InHandleBlockMetaSource blockMetaSource;
+    @Mock private EvmProfiler evmProfiler;
 
     private final Account sender = new Account(new Id(0, 0, 1002));
     private final Account receiver = new Account(new Id(0, 0, 1006));
@@ -186,7 +188,8 @@ class CallEvmTxProcessorTest {
                         mcps,
                         ccps,
                         aliasManager,
-                        blockMetaSource);
+                        blockMetaSource,
+                        evmProfiler);
     }
 
     @Test
@@ -205,6 +208,24 @@ class CallEvmTxProcessorTest {
         assertEquals(receiver.getId().asGrpcContract(), result.toGrpc().getContractID());
     }
 
+    @Test
+    void assertSuccessExecutionWhenProfiled() {
+        givenValidMock();
+        given(globalDynamicProperties.fundingAccountAddress())
+                .willReturn(new Id(0, 0, 1010).asEvmAddress());
+        given(aliasManager.resolveForEvm(receiverAddress)).willReturn(receiverAddress);
+        given(updater.aliases()).willReturn(aliasManager);
+        given(evmProfiler.shouldProfileNext()).willReturn(true);
+
+        givenSenderWithBalance(350_000L);
+        var result =
+                callEvmTxProcessor.execute(
+                        sender, receiverAddress, 33_333L, 1234L, Bytes.EMPTY, consensusTime);
+        assertTrue(result.isSuccessful());
+        assertEquals(receiver.getId().asGrpcContract(), result.toGrpc().getContractID());
+        verify(evmProfiler).shouldProfileNext();
+    }
+
     @Test
     void nonExistingReceiverSetsNewMirrorAddressInResultOnSuccessfulCreation() {
         givenValidMock();
@@ -751,7 +772,8 @@ class CallEvmTxProcessorTest {
                         mcps,
                         ccps,
                         aliasManager,
-                        blockMetaSource);
+                        blockMetaSource,
+                        evmProfiler);
         given(worldState.updater()).willReturn(updater);
         given(updater.updater()).willReturn(stackedUpdater);
         given(globalDynamicProperties.fundingAccountAddress())
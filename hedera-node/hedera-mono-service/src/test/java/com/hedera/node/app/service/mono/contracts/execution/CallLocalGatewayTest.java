@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.contracts.execution;
+
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+import com.google.protobuf.ByteString;
+import com.hedera.node.app.service.mono.context.primitives.StateView;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
+import com.hedera.node.app.service.mono.state.merkle.MerkleNetworkContext;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
+import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.ContractFunctionResult;
+import com.hederahashgraph.api.proto.java.ContractID;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CallLocalGatewayTest {
+    private static final Instant LAST_HANDLED_TIME = Instant.ofEpochSecond(1_234_567L);
+    private static final ContractCallLocalQuery BALANCE_OF =
+            ContractCallLocalQuery.newBuilder()
+                    .setContractID(ContractID.newBuilder().setContractNum(1_001L))
+                    .setSenderId(AccountID.newBuilder().setAccountNum(2L))
+                    .setFunctionParameters(ByteString.copyFromUtf8("balanceOf"))
+                    .setGas(50_000L)
+                    .build();
+    private static final ContractCallLocalResponse RESPONSE =
+            ContractCallLocalResponse.newBuilder()
+                    .setFunctionResult(
+                            ContractFunctionResult.newBuilder()
+                                    .setContractCallResult(ByteString.copyFromUtf8("42")))
+                    .build();
+
+    @Mock private StateView view;
+    @Mock private MerkleNetworkContext networkCtx;
+    @Mock private NodeLocalProperties properties;
+
+    private final AtomicInteger numExecutions = new AtomicInteger();
+
+    private CallLocalGateway subject;
+
+    @Test
+    void reusesResponseForIdenticalCallAgainstSameState() {
+        givenSubjectWith(1, 16);
+        givenLastHandledTime(LAST_HANDLED_TIME);
+
+        assertSame(RESPONSE, subject.execute(BALANCE_OF, view, this::counted));
+        assertSame(RESPONSE, subject.execute(BALANCE_OF, view, this::counted));
+
+        assertEquals(1, numExecutions.get());
+    }
+
+    @Test
+    void reExecutesForNewStateOrDifferentCall() {
+        givenSubjectWith(1, 16);
+        givenLastHandledTime(LAST_HANDLED_TIME);
+
+        subject.execute(BALANCE_OF, view, this::counted);
+        subject.execute(BALANCE_OF.toBuilder().setGas(50_001L).build(), view, this::counted);
+        givenLastHandledTime(LAST_HANDLED_TIME.plusNanos(1));
+        subject.execute(BALANCE_OF, view, this::counted);
+
+        assertEquals(3, numExecutions.get());
+    }
+
+    @Test
+    void doesNotCacheWhenDisabledOrStateHasNoHandledTxn() {
+        givenSubjectWith(1, 0);
+
+        subject.execute(BALANCE_OF, view, this::counted);
+        subject.execute(BALANCE_OF, view, this::counted);
+
+        givenSubjectWith(1, 16);
+        given(view.networkCtx()).willReturn(networkCtx);
+
+        subject.execute(BALANCE_OF, view, this::counted);
+        subject.execute(BALANCE_OF, view, this::counted);
+
+        assertEquals(4, numExecutions.get());
+    }
+
+    @Test
+    void throwsBusyWithoutPermitAndCachesNothing() {
+        givenSubjectWith(1, 16);
+        givenLastHandledTime(LAST_HANDLED_TIME);
+
+        final var busy =
+                assertThrows(
+                        ResourceLimitException.class,
+                        () ->
+                                subject.execute(
+                                        BALANCE_OF,
+                                        view,
+                                        () -> subject.execute(BALANCE_OF, view, this::counted)));
+
+        assertEquals(BUSY, busy.getResponseCode());
+        assertEquals(0, numExecutions.get());
+        assertEquals(1, subject.availablePermits());
+
+        assertSame(RESPONSE, subject.execute(BALANCE_OF, view, this::counted));
+        assertEquals(1, numExecutions.get());
+    }
+
+    @Test
+    void releasesPermitOnFailure() {
+        givenSubjectWith(1, 0);
+
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        subject.execute(
+                                BALANCE_OF,
+                                view,
+                                () -> {
+                                    throw new IllegalStateException();
+                                }));
+
+        assertEquals(1, subject.availablePermits());
+    }
+
+    @Test
+    void isUnboundedWithoutMaxConcurrent() {
+        givenSubjectWith(0, 0);
+
+        assertEquals(Integer.MAX_VALUE, subject.availablePermits());
+    }
+
+    private void givenSubjectWith(final int maxConcurrent, final int cacheSize) {
+        given(properties.localCallMaxConcurrent()).willReturn(maxConcurrent);
+        given(properties.localCallResultCacheSize()).willReturn(cacheSize);
+        subject = new CallLocalGateway(properties);
+    }
+
+    private void givenLastHandledTime(final Instant lastHandledTime) {
+        given(view.networkCtx()).willReturn(networkCtx);
+        given(networkCtx.consensusTimeOfLastHandledTxn()).willReturn(lastHandledTime);
+    }
+
+    private ContractCallLocalResponse counted() {
+        numExecutions.incrementAndGet();
+        return RESPONSE;
+    }
+}
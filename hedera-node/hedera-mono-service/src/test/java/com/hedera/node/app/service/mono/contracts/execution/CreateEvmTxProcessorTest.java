@@ -32,6 +32,7 @@ import static org.mockito.Mockito.when;
 import com.hedera.node.app.service.evm.contracts.execution.HederaBlockValues;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
+import com.hedera.node.app.service.mono.stats.EvmProfiler;
 import com.hedera.node.app.service.mono.store.contracts.CodeCache;
 import com.hedera.node.app.service.mono.store.contracts.HederaStackedWorldStateUpdater;
 import com.hedera.node.app.service.mono.store.contracts.HederaWorldState;
@@ -88,6 +89,7 @@ class CreateEvmTxProcessorTest {
     @Mock private HederaBlockValues hederaBlockValues;
     @Mock private HederaStackedWorldStateUpdater stackedUpdater;
     @Mock private AliasManager aliasManager;
+    @Mock private EvmProfiler evmProfiler;
 
     private CreateEvmTxProcessor createEvmTxProcessor;
     private final Account sender = new Account(new Id(0, 0, 1002));
@@ -134,7 +136,8 @@ class CreateEvmTxProcessorTest {
                         mcps,
                         ccps,
                         aliasManager,
-                        blockMetaSource);
+                        blockMetaSource,
+                        evmProfiler);
     }
 
     @Test
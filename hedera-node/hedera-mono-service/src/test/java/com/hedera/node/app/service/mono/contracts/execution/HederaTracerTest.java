@@ -27,7 +27,9 @@ import static com.hedera.node.app.service.mono.contracts.execution.traceability.
 import static com.hedera.node.app.service.mono.contracts.execution.traceability.ContractActionType.CREATE;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -35,6 +37,7 @@ import static org.mockito.Mockito.verify;
 
 import com.hedera.node.app.service.mono.contracts.execution.traceability.ContractActionType;
 import com.hedera.node.app.service.mono.contracts.execution.traceability.HederaTracer;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.StreamedActions;
 import com.hedera.node.app.service.mono.ledger.accounts.ContractAliases;
 import com.hedera.node.app.service.mono.state.submerkle.EntityId;
 import com.hedera.node.app.service.mono.store.contracts.HederaStackedWorldStateUpdater;
@@ -746,6 +749,37 @@ class HederaTracerTest {
         assertEquals(OP_UNKNOWN, childFrame1.getCallOperationType());
     }
 
+    @Test
+    void releasesStreamedActionsOnceFinalAndNoLongerLast() {
+        final var streamedActions = new StreamedActions();
+        subject = new HederaTracer(true, streamedActions);
+        prepareSpawnOfChildFrame();
+        final var mockOperation = mock(Operation.class);
+        given(messageFrame.getCurrentOperation()).willReturn(mockOperation);
+        given(mockOperation.getOpcode()).willReturn(0xF0);
+        // trace child frame until it succeeds
+        subject.tracePostExecution(messageFrame, operationResult);
+        final var childFrame = messageFrame.getMessageFrameStack().peek();
+        given(childFrame.getState()).willReturn(State.CODE_SUCCESS);
+        subject.tracePostExecution(childFrame, operationResult);
+        // the child action is final, but could still be finalized by an account creation result
+        assertFalse(streamedActions.isReleased(1));
+        // parent frame spawns another child
+        subject.tracePostExecution(messageFrame, operationResult);
+
+        assertTrue(streamedActions.isReleased(1));
+        assertFalse(streamedActions.isReleased(0));
+        assertFalse(streamedActions.isReleased(2));
+        assertSame(streamedActions, subject.getActions());
+        final var releasedChild = subject.getActions().get(1);
+        assertEquals(CREATE, releasedChild.getCallType());
+        assertEquals(EntityId.fromAddress(contract), releasedChild.getCallingContract());
+        assertEquals(EntityId.fromAddress(accountReceiver), releasedChild.getRecipientAccount());
+        assertArrayEquals(new byte[0], releasedChild.getOutput());
+        assertEquals(OP_CREATE, releasedChild.getCallOperationType());
+        assertEquals(3, streamedActions.toGrpc().getContractActionsCount());
+    }
+
     private void prepareSpawnOfChildFrame() {
         given(messageFrame.getType()).willReturn(Type.MESSAGE_CALL);
         given(messageFrame.getCode()).willReturn(code);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.contracts.execution;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.node.app.service.mono.contracts.execution.traceability.ContractActionType;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.HederaOperationTracer;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.ProfilingTracer;
+import com.hedera.node.app.service.mono.stats.EvmProfiler;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.frame.MessageFrame.State;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.hyperledger.besu.evm.operation.Operation.OperationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilingTracerTest {
+    private static final int ADD = 0x01;
+    private static final int SLOAD = 0x54;
+    private static final int SSTORE = 0x55;
+    private static final Address contract = Address.fromHexString("0x1234");
+    private static final Address htsPrecompile = Address.fromHexString("0x167");
+    private static final Address ecrecPrecompile = Address.fromHexString("0x1");
+    private static final Bytes slot = Bytes.of(7);
+    private static final Bytes otherSlot = Bytes.of(8);
+
+    @Mock private MessageFrame frame;
+    @Mock private Operation operation;
+    @Mock private OperationResult operationResult;
+    @Mock private EvmProfiler profiler;
+    @Mock private HederaOperationTracer delegate;
+
+    private ProfilingTracer subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new ProfilingTracer(delegate, profiler);
+    }
+
+    @Test
+    void timesEachOperationAndDelegates() {
+        given(frame.getCurrentOperation()).willReturn(operation);
+        given(operation.getOpcode()).willReturn(ADD);
+        given(frame.getState()).willReturn(State.CODE_EXECUTING);
+
+        subject.init(frame);
+        subject.tracePreExecution(frame);
+        subject.tracePostExecution(frame, operationResult);
+
+        verify(delegate).init(frame);
+        verify(delegate).tracePreExecution(frame);
+        verify(delegate).tracePostExecution(frame, operationResult);
+        verify(profiler).recordOp(eq(ADD), anyLong());
+        verify(profiler, never()).recordStorageAccess(anyBoolean(), anyBoolean(), anyLong());
+    }
+
+    @Test
+    void onlyFirstAccessToSlotIsCold() {
+        given(frame.getCurrentOperation()).willReturn(operation);
+        given(operation.getOpcode()).willReturn(SLOAD, SSTORE, SLOAD);
+        given(frame.stackSize()).willReturn(1);
+        given(frame.getRecipientAddress()).willReturn(contract);
+        given(frame.getStackItem(0)).willReturn(slot, slot, otherSlot);
+        given(frame.getState()).willReturn(State.CODE_EXECUTING);
+
+        for (int i = 0; i < 3; i++) {
+            subject.tracePreExecution(frame);
+            subject.tracePostExecution(frame, operationResult);
+        }
+
+        verify(profiler).recordStorageAccess(eq(true), eq(false), anyLong());
+        verify(profiler, times(2)).recordOp(eq(SLOAD), anyLong());
+        verify(profiler).recordOp(eq(SSTORE), anyLong());
+        verify(profiler, times(2)).recordStorageAccess(eq(false), eq(true), anyLong());
+    }
+
+    @Test
+    void keysSystemPrecompilesBySelector() {
+        given(frame.getContractAddress()).willReturn(htsPrecompile);
+        given(frame.getInputData()).willReturn(Bytes.fromHexString("0x49146bde0000"));
+
+        subject.tracePrecompileResult(frame, ContractActionType.SYSTEM);
+
+        verify(profiler).recordPrecompile(eq("0x167:49146bde"), anyLong());
+        verify(delegate).tracePrecompileResult(frame, ContractActionType.SYSTEM);
+    }
+
+    @Test
+    void keysNativePrecompilesByAddressOnly() {
+        given(frame.getContractAddress()).willReturn(ecrecPrecompile);
+        given(frame.getInputData()).willReturn(Bytes.fromHexString("0x49146bde0000"));
+
+        subject.tracePrecompileResult(frame, ContractActionType.PRECOMPILE);
+
+        verify(profiler).recordPrecompile(eq("0x1"), anyLong());
+    }
+
+    @Test
+    void startsPrecompileTimerWhenFrameSuspends() {
+        given(frame.getCurrentOperation()).willReturn(operation);
+        given(operation.getOpcode()).willReturn(0xF1);
+        given(frame.getState()).willReturn(State.CODE_SUSPENDED);
+        given(frame.getContractAddress()).willReturn(htsPrecompile);
+        given(frame.getInputData()).willReturn(Bytes.EMPTY);
+
+        subject.tracePreExecution(frame);
+        subject.tracePostExecution(frame, operationResult);
+        subject.tracePrecompileResult(frame, ContractActionType.SYSTEM);
+
+        verify(profiler).recordOp(eq(0xF1), anyLong());
+        verify(profiler).recordPrecompile(eq("0x167"), anyLong());
+    }
+
+    @Test
+    void delegatesOtherTraces() {
+        final Optional<ExceptionalHaltReason> haltReason = Optional.empty();
+
+        subject.tracePrecompileCall(frame, 123L, Bytes.EMPTY);
+        subject.traceAccountCreationResult(frame, haltReason);
+
+        verify(delegate).tracePrecompileCall(frame, 123L, Bytes.EMPTY);
+        verify(delegate).traceAccountCreationResult(frame, haltReason);
+        verify(profiler, never()).recordOp(anyInt(), anyLong());
+    }
+}
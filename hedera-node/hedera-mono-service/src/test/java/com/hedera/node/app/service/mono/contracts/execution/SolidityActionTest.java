@@ -124,4 +124,29 @@ class SolidityActionTest {
 
         assertEquals(expected, actual.toGrpc());
     }
+
+    @Test
+    void fromGrpcRoundTripsEachCallerRecipientAndResultData() {
+        final var toAccount = new SolidityAction(ContractActionType.CALL, gas, input, value, 1);
+        toAccount.setCallingAccount(sender);
+        toAccount.setRecipientAccount(recipient);
+        toAccount.setGasUsed(gasUsed);
+        toAccount.setOutput(output);
+        toAccount.setCallOperationType(CallOperationType.OP_CALL);
+        final var toContract = new SolidityAction(ContractActionType.CREATE, gas, input, 0, 2);
+        toContract.setCallingContract(sender);
+        toContract.setRecipientContract(recipient);
+        toContract.setRevertReason(output);
+        toContract.setCallOperationType(CallOperationType.OP_CREATE2);
+        final var toInvalid = new SolidityAction(ContractActionType.CALL, gas, null, 0, 3);
+        toInvalid.setCallingContract(sender);
+        toInvalid.setTargetedAddress(recipient.toEvmAddress().toArrayUnsafe());
+        toInvalid.setError(new byte[0]);
+        toInvalid.setCallOperationType(CallOperationType.OP_STATICCALL);
+
+        for (final var action : new SolidityAction[] {toAccount, toContract, toInvalid}) {
+            final var grpc = action.toGrpc();
+            assertEquals(grpc, SolidityAction.fromGrpc(grpc).toGrpc());
+        }
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.contracts.execution;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.node.app.service.mono.contracts.execution.traceability.CallOperationType;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.ContractActionType;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.SolidityAction;
+import com.hedera.node.app.service.mono.contracts.execution.traceability.StreamedActions;
+import com.hedera.node.app.service.mono.state.submerkle.EntityId;
+import com.hedera.node.app.service.mono.utils.SidecarUtils;
+import com.hedera.services.stream.proto.ContractActions;
+import java.util.ArrayList;
+import java.util.List;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamedActionsTest {
+    private static final EntityId caller = EntityId.fromAddress(Address.ALTBN128_ADD);
+    private static final EntityId callee = EntityId.fromAddress(Address.ALTBN128_MUL);
+
+    private StreamedActions subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new StreamedActions();
+    }
+
+    @Test
+    void reassemblesOutOfOrderReleasesInCreationOrder() {
+        final var actions = List.of(actionWith(0, 8), actionWith(1, 16), actionWith(2, 32));
+        actions.forEach(subject::add);
+
+        subject.release(2);
+        subject.release(0);
+
+        assertTrue(subject.isReleased(0));
+        assertFalse(subject.isReleased(1));
+        assertTrue(subject.isReleased(2));
+        assertSame(actions.get(1), subject.get(1));
+        assertEquals(3, subject.size());
+        assertEquals(expectedGrpcOf(actions), subject.toGrpc());
+    }
+
+    @Test
+    void decodesReleasedActions() {
+        final var action = actionWith(1, 4);
+        subject.add(action);
+
+        subject.release(0);
+        final var decoded = subject.get(0);
+
+        assertEquals(action.getCallType(), decoded.getCallType());
+        assertEquals(caller, decoded.getCallingContract());
+        assertEquals(callee, decoded.getRecipientContract());
+        assertArrayEquals(action.getInput(), decoded.getInput());
+        assertArrayEquals(action.getOutput(), decoded.getOutput());
+        assertEquals(action.getGasUsed(), decoded.getGasUsed());
+        assertEquals(action.getCallDepth(), decoded.getCallDepth());
+        assertEquals(action.getCallOperationType(), decoded.getCallOperationType());
+    }
+
+    @Test
+    void releasingTwiceIsNoop() {
+        subject.add(actionWith(0, 8));
+
+        subject.release(0);
+        final var encodedSize = subject.encodedSize();
+        subject.release(0);
+
+        assertEquals(encodedSize, subject.encodedSize());
+    }
+
+    @Test
+    void growsBufferAndIndexAsNeeded() {
+        final List<SolidityAction> actions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final var action = actionWith(i, 1024);
+            actions.add(action);
+            subject.add(action);
+        }
+
+        for (int i = 99; i >= 0; i--) {
+            subject.release(i);
+        }
+
+        assertTrue(subject.encodedSize() > 100 * 1024);
+        assertEquals(expectedGrpcOf(actions), subject.toGrpc());
+    }
+
+    @Test
+    void sidecarUsesStreamedEncodings() {
+        final var actions = List.of(actionWith(0, 8), actionWith(1, 16));
+        actions.forEach(subject::add);
+        subject.release(0);
+
+        final var sidecar = SidecarUtils.createContractActionsSidecar(subject);
+
+        assertEquals(expectedGrpcOf(actions), sidecar.getActions());
+    }
+
+    private static ContractActions expectedGrpcOf(final List<SolidityAction> actions) {
+        final var expected = ContractActions.newBuilder();
+        actions.forEach(action -> expected.addContractActions(action.toGrpc()));
+        return expected.build();
+    }
+
+    private static SolidityAction actionWith(final int callDepth, final int inputSize) {
+        final var action =
+                new SolidityAction(
+                        ContractActionType.CALL, 1_000L, new byte[inputSize], 0, callDepth);
+        action.setCallingContract(caller);
+        action.setRecipientContract(callee);
+        action.setGasUsed(100L + callDepth);
+        action.setOutput(new byte[] {(byte) callDepth});
+        action.setCallOperationType(CallOperationType.OP_CALL);
+        return action;
+    }
+}
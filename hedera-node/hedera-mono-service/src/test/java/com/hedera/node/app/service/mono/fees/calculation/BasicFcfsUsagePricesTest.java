@@ -252,6 +252,33 @@ class BasicFcfsUsagePricesTest {
         mockAppender.clear();
     }
 
+    @Test
+    void getsBatchOfUsagePricesFromOneSchedule() {
+        // given:
+        subject.loadPriceSchedules();
+        final Timestamp at = Timestamp.newBuilder().setSeconds(nextExpiry - 1).build();
+
+        // when:
+        final var actual = subject.pricesGiven(EnumSet.of(ContractCall, UNRECOGNIZED), at);
+
+        // then:
+        assertEquals(2, actual.size());
+        assertEquals(nextContractCallPrices, actual.get(ContractCall));
+        assertEquals(DEFAULT_RESOURCE_PRICES, actual.get(UNRECOGNIZED));
+    }
+
+    @Test
+    void getsDefaultBatchOfUsagePricesWithoutSchedules() {
+        // given:
+        final Timestamp at = Timestamp.newBuilder().setSeconds(nextExpiry - 1).build();
+
+        // when:
+        final var actual = subject.pricesGiven(EnumSet.of(ContractCall), at);
+
+        // then:
+        assertEquals(DEFAULT_RESOURCE_PRICES, actual.get(ContractCall));
+    }
+
     @Test
     void getsTransferUsagePricesPastCurrentBeforeNextExpiry() throws Exception {
         // given:
@@ -282,6 +309,19 @@ class BasicFcfsUsagePricesTest {
         assertEquals(expectedFeeSchedules, subject.feeSchedules);
     }
 
+    @Test
+    void getsDefaultPricesFromApplicableSchedule() {
+        // given:
+        subject.loadPriceSchedules();
+        final Timestamp at = Timestamp.newBuilder().setSeconds(nextExpiry - 1).build();
+
+        // expect:
+        assertEquals(
+                nextContractCallPrices.get(DEFAULT), subject.defaultPricesGiven(ContractCall, at));
+        assertEquals(
+                DEFAULT_RESOURCE_PRICES.get(DEFAULT), subject.defaultPricesGiven(UNRECOGNIZED, at));
+    }
+
     @Test
     void throwsNfseOnMissingScheduleInFcfs() {
         given(hfs.exists(schedules)).willReturn(false);
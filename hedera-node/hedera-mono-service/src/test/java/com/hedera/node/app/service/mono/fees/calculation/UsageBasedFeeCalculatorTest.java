@@ -52,6 +52,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
 
 import com.hedera.node.app.hapi.fees.usage.state.UsageAccumulator;
 import com.hedera.node.app.hapi.utils.exception.InvalidTxBodyException;
@@ -65,6 +66,7 @@ import com.hedera.node.app.service.mono.fees.calculation.utils.PricedUsageCalcul
 import com.hedera.node.app.service.mono.fees.congestion.FeeMultiplierSource;
 import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.txns.crypto.AutoCreationLogic;
 import com.hedera.node.app.service.mono.utils.accessors.SignedTxnAccessor;
 import com.hedera.node.app.service.mono.utils.accessors.TokenWipeAccessor;
@@ -85,6 +87,7 @@ import com.hederahashgraph.api.proto.java.TokenType;
 import com.hederahashgraph.api.proto.java.Transaction;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -148,6 +151,7 @@ class UsageBasedFeeCalculatorTest {
     private SignedTxnAccessor accessor;
     private AutoRenewCalcs autoRenewCalcs;
     private PricedUsageCalculator pricedUsageCalculator;
+    private MiscSpeedometers speedometers;
 
     private final AtomicLong suggestedMultiplier = new AtomicLong(1L);
 
@@ -174,6 +178,7 @@ class UsageBasedFeeCalculatorTest {
         incorrectQueryEstimator = mock(QueryResourceUsageEstimator.class);
         autoRenewCalcs = mock(AutoRenewCalcs.class);
         pricedUsageCalculator = mock(PricedUsageCalculator.class);
+        speedometers = mock(MiscSpeedometers.class);
 
         txnUsageEstimators =
                 (Map<HederaFunctionality, List<TxnResourceUsageEstimator>>) mock(Map.class);
@@ -186,6 +191,7 @@ class UsageBasedFeeCalculatorTest {
                         usagePrices,
                         new NestedMultiplierSource(),
                         pricedUsageCalculator,
+                        speedometers,
                         Set.of(incorrectQueryEstimator, correctQueryEstimator),
                         txnUsageEstimators);
     }
@@ -426,6 +432,7 @@ class UsageBasedFeeCalculatorTest {
                         Collections.emptyMap());
 
         // then:
+        verify(speedometers).cycleFeesComputed();
         assertEquals(fees.getNodeFee(), expectedFees.getNodeFee());
         assertEquals(fees.getNetworkFee(), expectedFees.getNetworkFee());
         assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
@@ -674,6 +681,55 @@ class UsageBasedFeeCalculatorTest {
         assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
     }
 
+    @Test
+    void estimatesBatchWithOneResolutionOfPricesAndRate() throws Exception {
+        // setup:
+        final SigValueObj expectedSigUsage =
+                new SigValueObj(
+                        FeeBuilder.getSignatureCount(signedTxn),
+                        9,
+                        FeeBuilder.getSignatureSize(signedTxn));
+        final FeeObject expectedFees =
+                getFeeObject(currentPrices.get(SubType.DEFAULT), resourceUsage, currentRate);
+
+        given(correctOpEstimator.applicableTo(accessor.getTxn())).willReturn(true);
+        given(txnUsageEstimators.get(CryptoCreate)).willReturn(List.of(correctOpEstimator));
+        given(
+                        correctOpEstimator.usageGiven(
+                                argThat(accessor.getTxn()::equals),
+                                argThat(factory.apply(expectedSigUsage)),
+                                argThat(view::equals)))
+                .willReturn(resourceUsage);
+        given(exchange.rate(at)).willReturn(currentRate);
+        given(usagePrices.pricesGiven(EnumSet.of(CryptoCreate), at))
+                .willReturn(Map.of(CryptoCreate, currentPrices));
+
+        // when:
+        final var estimates =
+                subject.estimateFees(
+                        List.of(accessor, accessor), List.of(payerKey, payerKey), view, at);
+
+        // then:
+        assertEquals(2, estimates.size());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expectedFees.getNodeFee(), estimates.nodeFee(i));
+            assertEquals(expectedFees.getNetworkFee(), estimates.networkFee(i));
+            assertEquals(expectedFees.getServiceFee(), estimates.serviceFee(i));
+        }
+        verify(exchange, times(1)).rate(at);
+        verify(usagePrices, times(1)).pricesGiven(EnumSet.of(CryptoCreate), at);
+    }
+
+    @Test
+    void batchEstimateRequiresOnePayerKeyPerTxn() {
+        final List<TxnAccessor> accessors = List.of(accessor);
+        final List<JKey> payerKeys = List.of();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> subject.estimateFees(accessors, payerKeys, view, at));
+    }
+
     private final Function<SigValueObj, ArgumentMatcher<SigValueObj>> factory =
             expectedSigUsage ->
                     sigUsage ->
@@ -15,6 +15,7 @@
  */
 package com.hedera.node.app.service.mono.fees.calculation.contract.queries;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static com.hederahashgraph.api.proto.java.ResponseType.COST_ANSWER;
@@ -28,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.google.protobuf.ByteString;
@@ -38,8 +40,10 @@ import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
 import com.hedera.node.app.service.mono.contracts.execution.CallLocalEvmTxProcessor;
+import com.hedera.node.app.service.mono.contracts.execution.CallLocalGateway;
 import com.hedera.node.app.service.mono.contracts.execution.StaticBlockMetaProvider;
 import com.hedera.node.app.service.mono.contracts.execution.TransactionProcessingResult;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.ledger.ids.EntityIdSource;
 import com.hedera.node.app.service.mono.queries.contract.ContractCallLocalAnswer;
@@ -112,7 +116,8 @@ class ContractCallLocalResourceUsageTest {
                         ids,
                         validator,
                         aliasManager,
-                        blockMetaProvider);
+                        blockMetaProvider,
+                        new CallLocalGateway(nodeLocalProperties));
     }
 
     @Test
@@ -194,6 +199,35 @@ class ContractCallLocalResourceUsageTest {
                 contains(startsWith("Usage estimation unexpectedly failed for")));
     }
 
+    @Test
+    void propagatesBusyWithoutSettingCtx() {
+        final var queryCtx = new HashMap<String, Object>();
+        final var gateway = mock(CallLocalGateway.class);
+        given(blockMetaProvider.getSource()).willReturn(Optional.of(blockMetaSource));
+        given(gateway.execute(any(), any(), any())).willThrow(new ResourceLimitException(BUSY));
+        subject =
+                new ContractCallLocalResourceUsage(
+                        usageEstimator,
+                        properties,
+                        nodeLocalProperties,
+                        accountStore,
+                        () -> evmTxProcessor,
+                        ids,
+                        validator,
+                        aliasManager,
+                        blockMetaProvider,
+                        gateway);
+
+        final var busy =
+                assertThrows(
+                        ResourceLimitException.class,
+                        () -> subject.usageGiven(satisfiableAnswerOnly, view, queryCtx));
+
+        assertEquals(BUSY, busy.getResponseCode());
+        assertFalse(queryCtx.containsKey(ContractCallLocalAnswer.CONTRACT_CALL_LOCAL_CTX_KEY));
+        verifyNoInteractions(evmTxProcessor);
+    }
+
     @Test
     void dummyResponseAsExpected() {
         final var dummy = subject.dummyResponse(target);
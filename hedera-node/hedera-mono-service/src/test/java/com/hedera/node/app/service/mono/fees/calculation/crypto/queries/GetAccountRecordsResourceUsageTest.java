@@ -32,6 +32,7 @@ import com.hedera.node.app.service.mono.context.MutableStateChildren;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.queries.answering.AnswerFunctions;
+import com.hedera.node.app.service.mono.records.GrpcRecordCache;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
 import com.hedera.node.app.service.mono.state.migration.AccountStorageAdapter;
 import com.hedera.node.app.service.mono.state.migration.QueryableRecords;
@@ -82,7 +83,8 @@ class GetAccountRecordsResourceUsageTest {
 
         subject =
                 new GetAccountRecordsResourceUsage(
-                        new AnswerFunctions(dynamicProperties), usageEstimator);
+                        new AnswerFunctions(dynamicProperties, new GrpcRecordCache()),
+                        usageEstimator);
     }
 
     @Test
@@ -30,6 +30,7 @@ import com.hedera.node.app.hapi.fees.usage.state.UsageAccumulator;
 import com.hedera.node.app.hapi.utils.fee.FeeObject;
 import com.hedera.node.app.service.mono.fees.congestion.FeeMultiplierSource;
 import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
@@ -73,12 +74,15 @@ class PricedUsageCalculatorTest {
     @Mock private AccessorBasedUsages accessorBasedUsages;
     @Mock private FeeMultiplierSource feeMultiplierSource;
     @Mock private OverflowCheckingCalc calculator;
+    @Mock private MiscSpeedometers speedometers;
 
     private PricedUsageCalculator subject;
 
     @BeforeEach
     void setUp() {
-        subject = new PricedUsageCalculator(accessorBasedUsages, feeMultiplierSource, calculator);
+        subject =
+                new PricedUsageCalculator(
+                        accessorBasedUsages, feeMultiplierSource, calculator, speedometers);
     }
 
     @Test
@@ -106,6 +110,7 @@ class PricedUsageCalculatorTest {
 
         // then:
         verify(accessorBasedUsages).assess(su, accessor, inHandleAccum);
+        verify(speedometers).cycleFeesComputed();
         assertEquals(mockFees, actual);
     }
 
@@ -298,6 +298,62 @@ class LedgerImplBackingStoreTest {
         assertFalse(subject.contains(3L));
     }
 
+    @Test
+    void wrapperCommitsOnlyChangeSetIntoIntermediateLedger() {
+        backingTestAccounts.put(1L, aTestAccount);
+        firstOrder.begin();
+        final var intermediate = activeLedgerWrapping(firstOrder);
+        final var wrapper = activeLedgerWrapping(intermediate);
+
+        wrapper.set(1L, TestAccountProperty.LONG, 5L);
+        wrapper.create(2L);
+        wrapper.set(2L, TestAccountProperty.FLAG, true);
+        wrapper.commit();
+
+        assertEquals(Map.of(TestAccountProperty.LONG, 5L), intermediate.getChanges().get(1L));
+        assertEquals(Map.of(TestAccountProperty.FLAG, true), intermediate.getChanges().get(2L));
+        assertEquals(5L, intermediate.getRef(1L).getValue());
+        assertEquals(aTestAccount.getThing(), intermediate.getRef(1L).getThing());
+        assertEquals(TestAccount.DEFAULT_TOKEN_THING, intermediate.getRef(2L).getTokenThing());
+
+        intermediate.commit();
+
+        assertEquals(ALL_PROPS.length, firstOrder.getChanges().get(1L).size());
+        assertEquals(ALL_PROPS.length, firstOrder.getChanges().get(2L).size());
+    }
+
+    @Test
+    void wrapperCommitsWholeEntityIntoInterceptedLedger() {
+        backingTestAccounts.put(1L, aTestAccount);
+        firstOrder.begin();
+        final var intermediate = activeLedgerWrapping(firstOrder);
+        intermediate.setCommitInterceptor(pendingChanges -> {});
+        final var wrapper = activeLedgerWrapping(intermediate);
+
+        wrapper.set(1L, TestAccountProperty.LONG, 5L);
+        wrapper.commit();
+
+        assertEquals(ALL_PROPS.length, intermediate.getChanges().get(1L).size());
+    }
+
+    @Test
+    void wrapperDoesNotLetRecreatedZombieInheritProperties() {
+        backingTestAccounts.put(1L, aTestAccount);
+        firstOrder.begin();
+        final var intermediate = activeLedgerWrapping(firstOrder);
+        intermediate.destroy(1L);
+        final var wrapper = activeLedgerWrapping(intermediate);
+
+        wrapper.create(1L);
+        wrapper.set(1L, TestAccountProperty.FLAG, false);
+        wrapper.commit();
+
+        assertTrue(intermediate.exists(1L));
+        final var recreated = intermediate.getRef(1L);
+        assertEquals(new TestAccount().getValue(), recreated.getValue());
+        assertNull(recreated.getThing());
+    }
+
     /* --- Helpers --- */
     private void givenFirstOrderSubject() {
         subject = firstOrder;
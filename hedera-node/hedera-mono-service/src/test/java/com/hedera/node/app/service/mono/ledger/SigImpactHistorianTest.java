@@ -57,6 +57,21 @@ class SigImpactHistorianTest {
         assertFalse(subject.getEntityChangeTimes().containsKey(aNum));
     }
 
+    @Test
+    void purgesAtMostOncePerConsensusSecond() {
+        subject.setChangeTime(firstNow);
+        subject.markEntityChanged(aNum);
+        subject.setChangeTime(nowPostFirstWindow);
+        subject.purge();
+        subject.markEntityChanged(bNum);
+        subject.setChangeTime(nowPostFirstWindow.plusNanos(1_000L));
+        subject.purge();
+
+        assertFalse(subject.getEntityChangeTimes().containsKey(aNum));
+        assertEquals(nowPostFirstWindow, subject.getEntityChangeTimes().get(bNum));
+        assertTrue(subject.getEntityChangeExpiries().hasExpiringAt(Long.MAX_VALUE));
+    }
+
     @Test
     void safeForMultipleExpiriesToBeScheduledAtSameConsensusSecond() {
         final var sameSecondChange = firstNow.plusNanos(1L);
@@ -113,6 +128,36 @@ class SigImpactHistorianTest {
         assertTrue(subject.getEntityChangeExpiries().hasExpiringAt(lastMemorySec + 1));
     }
 
+    @Test
+    void workingStateExpansionIsUnchangedUntilNextChange() {
+        assertNull(subject.workingStateSignedAt());
+
+        subject.setChangeTime(firstNow);
+        subject.setChangeTime(nowInMiddleOfFirstWindow);
+        subject.markEntityChanged(aNum);
+        final var expandedAt = subject.workingStateSignedAt();
+        subject.setChangeTime(nowInMiddleOfFirstWindow.plusNanos(1_000L));
+
+        assertEquals(nowInMiddleOfFirstWindow.plusNanos(1L), expandedAt);
+        assertEquals(UNCHANGED, subject.entityStatusSince(expandedAt, aNum));
+        subject.markEntityChanged(aNum);
+        assertEquals(CHANGED, subject.entityStatusSince(expandedAt, aNum));
+    }
+
+    @Test
+    void workingStateExpansionIsKnownAtVeryNextChangeTime() {
+        subject.setChangeTime(firstNow);
+        subject.setChangeTime(nowInMiddleOfFirstWindow);
+        subject.markEntityChanged(aNum);
+        final var expandedAt = subject.workingStateSignedAt();
+        subject.setChangeTime(expandedAt);
+
+        assertEquals(UNCHANGED, subject.entityStatusSince(expandedAt, aNum));
+        assertEquals(UNCHANGED, subject.aliasStatusSince(expandedAt, aAlias));
+        subject.markEntityChanged(aNum);
+        assertEquals(CHANGED, subject.entityStatusSince(expandedAt, aNum));
+    }
+
     @Test
     void invalidationResetsEverything() {
         subject.setChangeTime(firstNow);
@@ -17,6 +17,7 @@ package com.hedera.node.app.service.mono.ledger.interceptors;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -26,8 +27,12 @@ import com.hedera.node.app.service.mono.ledger.CommitInterceptor;
 import com.hedera.node.app.service.mono.ledger.EntityChangeSet;
 import com.hedera.node.app.service.mono.ledger.properties.TokenProperty;
 import com.hedera.node.app.service.mono.state.merkle.MerkleToken;
+import com.hedera.node.app.service.mono.state.submerkle.EntityId;
+import com.hedera.node.app.service.mono.state.submerkle.FcCustomFee;
 import com.hedera.node.app.service.mono.state.validation.UsageLimits;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hederahashgraph.api.proto.java.TokenID;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,27 +43,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class TokensCommitInterceptorTest {
     @Mock private UsageLimits usageLimits;
+    @Mock private CustomFeeScheduleVersions feeScheduleVersions;
 
     private TokensCommitInterceptor subject;
 
     @BeforeEach
     void setUp() {
-        subject = new TokensCommitInterceptor(usageLimits);
+        subject = new TokensCommitInterceptor(usageLimits, feeScheduleVersions);
     }
 
     @Test
     void noCreationsMeansNoRefresh() {
-        final var subject = new TokensCommitInterceptor(usageLimits);
+        final var subject = new TokensCommitInterceptor(usageLimits, feeScheduleVersions);
 
         subject.preview(pendingChanges(false));
         subject.postCommit();
 
         verifyNoInteractions(usageLimits);
+        verifyNoInteractions(feeScheduleVersions);
     }
 
     @Test
     void refreshesOnCreation() {
-        final var subject = new TokensCommitInterceptor(usageLimits);
+        final var subject = new TokensCommitInterceptor(usageLimits, feeScheduleVersions);
 
         subject.preview(pendingChanges(true));
         subject.postCommit();
@@ -66,6 +73,37 @@ class TokensCommitInterceptorTest {
         subject.postCommit();
 
         verify(usageLimits, times(1)).refreshTokens();
+        verify(feeScheduleVersions, times(1)).markChanged(1234);
+    }
+
+    @Test
+    void stampsOnlyTokensWithChangedFeeMeta() {
+        final var treasury = new EntityId(0, 0, 2);
+        final var token = new MerkleToken();
+        token.setTreasury(treasury);
+        final var fees =
+                List.of(FcCustomFee.fixedFee(1L, null, new EntityId(0, 0, 3), false));
+        final EntityChangeSet<TokenID, MerkleToken, TokenProperty> pendingChanges =
+                new EntityChangeSet<>();
+        pendingChanges.include(
+                TokenID.newBuilder().setTokenNum(1).build(),
+                token,
+                Map.of(TokenProperty.TREASURY, treasury, TokenProperty.TOTAL_SUPPLY, 100L));
+        pendingChanges.include(
+                TokenID.newBuilder().setTokenNum(2).build(),
+                token,
+                Map.of(TokenProperty.TREASURY, new EntityId(0, 0, 4)));
+        pendingChanges.include(
+                TokenID.newBuilder().setTokenNum(3).build(),
+                token,
+                Map.of(TokenProperty.FEE_SCHEDULE, fees));
+
+        subject.preview(pendingChanges);
+        subject.postCommit();
+
+        verify(feeScheduleVersions, never()).markChanged(1);
+        verify(feeScheduleVersions).markChanged(2);
+        verify(feeScheduleVersions).markChanged(3);
     }
 
     @Test
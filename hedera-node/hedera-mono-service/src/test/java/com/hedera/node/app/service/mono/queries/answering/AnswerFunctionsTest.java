@@ -31,6 +31,7 @@ import static org.mockito.BDDMockito.verify;
 import com.hedera.node.app.service.mono.context.MutableStateChildren;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
+import com.hedera.node.app.service.mono.records.GrpcRecordCache;
 import com.hedera.node.app.service.mono.records.RecordCache;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
 import com.hedera.node.app.service.mono.state.migration.AccountStorageAdapter;
@@ -66,7 +67,7 @@ class AnswerFunctionsTest {
 
     @BeforeEach
     void setUp() {
-        subject = new AnswerFunctions(dynamicProperties);
+        subject = new AnswerFunctions(dynamicProperties, new GrpcRecordCache());
     }
 
     @Test
@@ -37,6 +37,7 @@ import com.hedera.node.app.hapi.utils.fee.FeeObject;
 import com.hedera.node.app.service.mono.context.domain.process.TxnValidityAndFeeReq;
 import com.hedera.node.app.service.mono.context.domain.security.HapiOpPermissions;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
 import com.hedera.node.app.service.mono.fees.FeeCalculator;
 import com.hedera.node.app.service.mono.fees.calculation.UsagePricesProvider;
 import com.hedera.node.app.service.mono.queries.AnswerService;
@@ -307,6 +308,27 @@ class StakedAnswerFlowTest {
         assertEquals(response, actual);
     }
 
+    @Test
+    void refusesBusyQueryBeforeSubmittingPayment() {
+        setupServiceResponse(BUSY);
+        givenValidHeader();
+        givenExtractablePayment();
+        givenValidExtraction();
+        givenPaymentIsRequired();
+        givenAvailFunction();
+        givenPermission();
+        givenCapacity();
+        givenHappyService();
+        givenAvailableResourcePrices();
+        given(fees.computePayment(eq(query), eq(usagePrices), eq(stateView), eq(now), any()))
+                .willThrow(new ResourceLimitException(BUSY));
+
+        final var actual = subject.satisfyUsing(service, query);
+
+        assertEquals(response, actual);
+        verify(submissionManager, never()).trySubmission(paymentAccessor);
+    }
+
     @Test
     void abortsIfNodePaymentSubmissionFails() {
         setupCostAwareFailedServiceResponse(PLATFORM_TRANSACTION_NOT_CREATED);
@@ -44,8 +44,10 @@ import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
 import com.hedera.node.app.service.mono.contracts.execution.CallLocalEvmTxProcessor;
+import com.hedera.node.app.service.mono.contracts.execution.CallLocalGateway;
 import com.hedera.node.app.service.mono.contracts.execution.StaticBlockMetaProvider;
 import com.hedera.node.app.service.mono.contracts.execution.TransactionProcessingResult;
+import com.hedera.node.app.service.mono.exceptions.ResourceLimitException;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.ledger.ids.EntityIdSource;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
@@ -102,6 +104,7 @@ class ContractCallLocalAnswerTest {
     @Mock private AliasManager aliasManager;
     @Mock private StaticBlockMetaProvider blockMetaProvider;
     @Mock private BlockMetaSource blockMetaSource;
+    @Mock private CallLocalGateway gateway;
 
     private ContractCallLocalAnswer subject;
 
@@ -117,7 +120,8 @@ class ContractCallLocalAnswerTest {
                         dynamicProperties,
                         nodeLocalProperties,
                         () -> evmTxProcessor,
-                        blockMetaProvider);
+                        blockMetaProvider,
+                        new CallLocalGateway(nodeLocalProperties));
     }
 
     @Test
@@ -325,6 +329,35 @@ class ContractCallLocalAnswerTest {
         assertEquals(FAIL_INVALID, opResponse.getHeader().getNodeTransactionPrecheckCode());
     }
 
+    @Test
+    void answersBusyWhenGatewayHasNoPermitWithoutCtx() throws Throwable {
+        // setup:
+        final Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
+        given(blockMetaProvider.getSource()).willReturn(Optional.of(blockMetaSource));
+        given(gateway.execute(any(), any(), any())).willThrow(new ResourceLimitException(BUSY));
+        subject =
+                new ContractCallLocalAnswer(
+                        ids,
+                        aliasManager,
+                        accountStore,
+                        validator,
+                        entityAccess,
+                        dynamicProperties,
+                        nodeLocalProperties,
+                        () -> evmTxProcessor,
+                        blockMetaProvider,
+                        gateway);
+
+        // when:
+        final Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
+
+        // then:
+        final var opResponse = response.getContractCallLocal();
+        assertTrue(opResponse.hasHeader(), "Missing response header!");
+        assertEquals(BUSY, opResponse.getHeader().getNodeTransactionPrecheckCode());
+        verify(evmTxProcessor, never()).execute(any(), any(), anyLong(), anyLong(), any());
+    }
+
     @Test
     void respectsMetaValidity() throws Throwable {
         // given:
@@ -41,6 +41,7 @@ import com.hedera.node.app.service.mono.context.MutableStateChildren;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperties;
 import com.hedera.node.app.service.mono.queries.answering.AnswerFunctions;
+import com.hedera.node.app.service.mono.records.GrpcRecordCache;
 import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
 import com.hedera.node.app.service.mono.state.migration.AccountStorageAdapter;
 import com.hedera.node.app.service.mono.state.migration.QueryableRecords;
@@ -108,7 +109,8 @@ class GetAccountRecordsAnswerTest {
 
         subject =
                 new GetAccountRecordsAnswer(
-                        new AnswerFunctions(dynamicProperties), optionValidator);
+                        new AnswerFunctions(dynamicProperties, new GrpcRecordCache()),
+                        optionValidator);
     }
 
     @Test
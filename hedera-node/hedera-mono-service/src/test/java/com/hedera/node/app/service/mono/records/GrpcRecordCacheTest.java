@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.records;
+
+import static com.hedera.node.app.service.mono.records.GrpcRecordCache.MAX_CACHED_RECORDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.node.app.service.mono.state.submerkle.ExpirableTxnRecord;
+import com.hedera.node.app.service.mono.state.submerkle.RichInstant;
+import com.hedera.node.app.service.mono.state.submerkle.TxnId;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class GrpcRecordCacheTest {
+    private final GrpcRecordCache subject = new GrpcRecordCache();
+
+    @Test
+    void reusesCachedGrpcForm() {
+        final var txnRecord = recordWithMemo("Cached");
+
+        final var grpcForm = subject.grpcFormOf(txnRecord);
+
+        assertEquals(txnRecord.asGrpc(), grpcForm);
+        assertSame(grpcForm, subject.grpcFormOf(txnRecord));
+    }
+
+    @Test
+    void keysByIdentityNotEquality() {
+        final var txnRecord = recordWithMemo("Same");
+        final var equalRecord = recordWithMemo("Same");
+
+        final var grpcForm = subject.grpcFormOf(txnRecord);
+
+        assertEquals(txnRecord, equalRecord);
+        assertNotSame(grpcForm, subject.grpcFormOf(equalRecord));
+        assertEquals(2, subject.size());
+    }
+
+    @Test
+    void keepsAtMostMaxGrpcRecordCache() {
+        final var records = new ArrayList<ExpirableTxnRecord>();
+        for (int i = 0; i <= MAX_CACHED_RECORDS; i++) {
+            final var txnRecord = recordWithMemo("Record #" + i);
+            records.add(txnRecord);
+            subject.grpcFormOf(txnRecord);
+        }
+
+        assertTrue(subject.size() <= MAX_CACHED_RECORDS);
+    }
+
+    private static ExpirableTxnRecord recordWithMemo(final String memo) {
+        return ExpirableTxnRecord.newBuilder()
+                .setTxnId(TxnId.fromGrpc(TransactionID.getDefaultInstance()))
+                .setMemo(memo)
+                .setConsensusTime(new RichInstant(1_234_567L, 890))
+                .build();
+    }
+}
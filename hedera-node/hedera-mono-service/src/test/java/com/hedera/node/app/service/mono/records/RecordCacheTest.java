@@ -77,7 +77,7 @@ class RecordCacheTest {
 
     @BeforeEach
     void setup() {
-        subject = new RecordCache(receiptCache, histories);
+        subject = new RecordCache(receiptCache, histories, new GrpcRecordCache());
 
         subject.setCreator(creator);
     }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.sigs;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
+import com.hedera.node.app.service.mono.sigs.order.LinkedRefs;
+import com.hedera.node.app.service.mono.sigs.order.SigRequirements;
+import com.hedera.node.app.service.mono.sigs.sourcing.PubKeyToSigBytes;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
+import com.hedera.node.app.service.mono.utils.accessors.SwirldsTxnAccessor;
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import com.hedera.test.extensions.LoggingTarget;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.system.transaction.ConsensusTransaction;
+import java.time.Instant;
+import java.util.List;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class, LogCaptureExtension.class})
+class LookAheadExpansionTest {
+    private static final Instant expandedAt = Instant.ofEpochSecond(1_234_567L, 891);
+
+    @Mock private Cryptography engine;
+    @Mock private MiscSpeedometers speedometers;
+    @Mock private ExpansionHelper expansionHelper;
+    @Mock private SigImpactHistorian sigImpactHistorian;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+    @Mock private SigRequirements workingSigReqs;
+    @Mock private ConsensusTransaction aTxn;
+    @Mock private ConsensusTransaction bTxn;
+    @Mock private ConsensusTransaction cTxn;
+    @Mock private ConsensusTransaction dTxn;
+    @Mock private SwirldsTxnAccessor bAccessor;
+    @Mock private SwirldsTxnAccessor cAccessor;
+    @Mock private LinkedRefs bLinkedRefs;
+    @Mock private LinkedRefs cLinkedRefs;
+    @Mock private PubKeyToSigBytes pkToSigFn;
+    @Mock private List<TransactionSignature> cryptoSigs;
+
+    @LoggingTarget private LogCaptor logCaptor;
+    @LoggingSubject private LookAheadExpansion subject;
+
+    @Test
+    void doesNothingIfDisabled() {
+        givenSubjectWith(0);
+
+        subject.reExpandInvalidated(List.of(aTxn, bTxn), 0);
+
+        verifyNoInteractions(aTxn, bTxn, sigImpactHistorian, expansionHelper);
+    }
+
+    @Test
+    void doesNothingWithoutChangeTime() {
+        givenSubjectWith(2);
+
+        subject.reExpandInvalidated(List.of(aTxn, bTxn), 0);
+
+        verifyNoInteractions(aTxn, bTxn, expansionHelper);
+    }
+
+    @Test
+    void reExpandsOnlyInvalidatedTxnsInWindow() {
+        givenSubjectWith(2);
+        given(sigImpactHistorian.workingStateSignedAt()).willReturn(expandedAt);
+        given(bTxn.getMetadata()).willReturn(bAccessor);
+        given(cTxn.getMetadata()).willReturn(cAccessor);
+        given(bAccessor.getLinkedRefs()).willReturn(bLinkedRefs);
+        given(cAccessor.getLinkedRefs()).willReturn(cLinkedRefs);
+        given(cLinkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)).willReturn(true);
+        given(bAccessor.getPkToSigsFn()).willReturn(pkToSigFn);
+        given(bAccessor.getCryptoSigs()).willReturn(cryptoSigs);
+
+        subject.reExpandInvalidated(List.of(aTxn, bTxn, cTxn, dTxn), 1);
+
+        verify(pkToSigFn).resetAllSigsToUnused();
+        verify(expansionHelper).expandIn(bAccessor, workingSigReqs, pkToSigFn);
+        verify(bLinkedRefs).setSourceSignedAt(expandedAt);
+        verify(engine).verifyAsync(cryptoSigs);
+        verify(speedometers).cycleLookAheadVerifications();
+        verify(expansionHelper, never()).expandIn(cAccessor, workingSigReqs, pkToSigFn);
+        verifyNoInteractions(aTxn, dTxn);
+    }
+
+    @Test
+    void warnsOnFailedReExpansion() {
+        givenSubjectWith(1);
+        given(sigImpactHistorian.workingStateSignedAt()).willReturn(expandedAt);
+        given(bTxn.getMetadata()).willReturn(bAccessor);
+        given(bAccessor.getLinkedRefs()).willReturn(bLinkedRefs);
+        given(bAccessor.getPkToSigsFn()).willReturn(pkToSigFn);
+        willThrow(IllegalStateException.class)
+                .given(expansionHelper)
+                .expandIn(any(), any(), any());
+
+        subject.reExpandInvalidated(List.of(bTxn), 0);
+
+        verifyNoInteractions(engine, speedometers);
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(Matchers.startsWith("Unable to re-expand signatures ahead of handle")));
+    }
+
+    private void givenSubjectWith(final int lookAheadTxns) {
+        given(nodeLocalProperties.sigsLookAheadTxns()).willReturn(lookAheadTxns);
+        subject =
+                new LookAheadExpansion(
+                        engine,
+                        speedometers,
+                        expansionHelper,
+                        sigImpactHistorian,
+                        nodeLocalProperties,
+                        workingSigReqs);
+    }
+}
@@ -110,6 +110,7 @@ class RationalizationTest {
         assertTrue(subject.getRealOtherPartySigs().isEmpty());
         // and:
         assertFalse(subject.usedSyncVerification());
+        assertFalse(subject.reusedExpansion());
         assertNull(subject.finalStatus());
         assertNull(subject.getReqPayerSig());
         assertNull(subject.getReqOthersSigs());
@@ -131,6 +132,7 @@ class RationalizationTest {
         verifyNoMoreInteractions(txnAccessor);
         assertEquals(KEY_PREFIX_MISMATCH, subject.finalStatus());
         assertFalse(subject.usedSyncVerification());
+        assertTrue(subject.reusedExpansion());
     }
 
     @Test
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MonotonicLongQueueExpiriesTest {
+    long k1 = 1L, k2 = 2L, k3 = 3L;
+    long expiry1 = 50, expiry2 = 100, expiry3 = 1000;
+
+    MonotonicLongQueueExpiries subject;
+
+    @BeforeEach
+    void setup() {
+        subject = new MonotonicLongQueueExpiries();
+    }
+
+    @Test
+    void throwsOnNonMonotonicClock() {
+        subject.track(k1, expiry1);
+
+        assertThrows(IllegalArgumentException.class, () -> subject.track(k2, expiry1 - 1));
+    }
+
+    @Test
+    void throwsIfExpiryCannotBeOffsetFromQueued() {
+        subject.track(k1, expiry1);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> subject.track(k2, expiry1 + Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    void behavesWithValidOps() {
+        subject.track(k1, expiry1);
+        subject.track(k2, expiry2);
+        subject.track(k3, expiry3);
+
+        assertTrue(subject.hasExpiringAt(expiry1 + 1));
+        assertFalse(subject.hasExpiringAt(expiry1 - 1));
+        assertEquals(expiry3, subject.getNow());
+
+        final var firstExpired = subject.expireNextAt(expiry1);
+        final var secondExpired = subject.expireNextAt(expiry2);
+
+        assertEquals(k1, firstExpired);
+        assertEquals(k2, secondExpired);
+        assertEquals(1, subject.size());
+        assertFalse(subject.hasExpiringAt(expiry2));
+        assertTrue(subject.hasExpiringAt(expiry3));
+    }
+
+    @Test
+    void growsAndWrapsInInsertionOrder() {
+        final var n = 5_000;
+        for (int i = 0; i < n / 2; i++) {
+            subject.track(i, expiry1 + i);
+        }
+        for (int i = 0; i < n / 4; i++) {
+            assertEquals(i, subject.expireNextAt(expiry1 + i));
+        }
+        for (int i = n / 2; i < n; i++) {
+            subject.track(i, expiry1 + i);
+        }
+
+        assertEquals(n - n / 4, subject.size());
+        for (int i = n / 4; i < n; i++) {
+            assertEquals(i, subject.expireNextAt(expiry1 + i));
+        }
+        assertFalse(subject.hasExpiringAt(Long.MAX_VALUE));
+    }
+
+    @Test
+    void rebasesOnceEmpty() {
+        subject.track(k1, expiry1);
+        subject.expireNextAt(expiry1);
+
+        subject.track(k2, expiry1 + Integer.MAX_VALUE + 1L);
+
+        assertFalse(subject.hasExpiringAt(expiry1 + Integer.MAX_VALUE));
+        assertEquals(k2, subject.expireNextAt(expiry1 + Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    void resetWorks() {
+        subject.track(k1, expiry1);
+
+        subject.reset();
+
+        assertEquals(0, subject.size());
+        assertEquals(0L, subject.getNow());
+    }
+
+    @Test
+    void throwsIfNextExpiryIsFuture() {
+        subject.track(k1, expiry1);
+
+        assertThrows(IllegalArgumentException.class, () -> subject.expireNextAt(expiry1 - 1));
+    }
+
+    @Test
+    void throwsIfNoPossibleExpiries() {
+        assertThrows(IllegalStateException.class, () -> subject.expireNextAt(expiry1));
+    }
+
+    @Test
+    void noExpiringIfEmpty() {
+        assertFalse(subject.hasExpiringAt(expiry1));
+    }
+}
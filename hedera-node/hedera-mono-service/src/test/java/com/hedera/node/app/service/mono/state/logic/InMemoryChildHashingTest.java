@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.logic;
+
+import static com.hedera.node.app.service.mono.state.logic.InMemoryChildHashing.TRACKED_CHILDREN;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.service.mono.ServicesState;
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.state.migration.StateChildIndices;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import com.swirlds.virtualmap.VirtualMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryChildHashingTest {
+    @Mock private NodeLocalProperties properties;
+    @Mock private Platform platform;
+    @Mock private Metrics metrics;
+    @Mock private RunningAverageMetric runningAvg;
+    @Mock private ServicesState state;
+    @Mock private MerkleInternal topics;
+    @Mock private MerkleLeaf dirtyTopic;
+    @Mock private MerkleLeaf cleanTopic;
+    @Mock private VirtualMap<?, ?> tokens;
+
+    private InMemoryChildHashing subject;
+
+    @Test
+    void countsDirtyNodesOnceRegistered() {
+        givenSubject();
+        givenRegisteredMetrics();
+        givenDirtyTopics();
+        given(state.getChild(StateChildIndices.TOKENS)).willReturn(tokens);
+
+        subject.registerWith(platform);
+        subject.finishRound(state);
+
+        verify(metrics, times(TRACKED_CHILDREN.length + 1))
+                .getOrCreate(any(RunningAverageMetric.Config.class));
+        verify(runningAvg).update(2L);
+    }
+
+    @Test
+    void doesNotCountWithoutRegisteredMetrics() {
+        givenSubject();
+
+        subject.finishRound(state);
+
+        verifyNoInteractions(state);
+    }
+
+    @Test
+    void skipsChildrenMissingFromOlderStates() {
+        givenSubject();
+        givenRegisteredMetrics();
+        given(state.getNumberOfChildren()).willReturn(StateChildIndices.NUM_025X_CHILDREN);
+
+        subject.registerWith(platform);
+        assertDoesNotThrow(() -> subject.finishRound(state));
+
+        verify(state, never()).getChild(StateChildIndices.STAKING_INFO);
+        verify(state, never()).getChild(StateChildIndices.PAYER_RECORDS);
+    }
+
+    @Test
+    void recordsStateHashLatencyOnlyOnceRegistered() {
+        givenSubject();
+        givenRegisteredMetrics();
+
+        subject.recordStateHashed(System.nanoTime());
+        subject.registerWith(platform);
+        subject.recordStateHashed(System.nanoTime());
+
+        verify(runningAvg).update(anyDouble());
+    }
+
+    @Test
+    void neverDescendsBelowHashedNodes() {
+        given(topics.getHash()).willReturn(new Hash());
+
+        assertEquals(0, InMemoryChildHashing.dirtyNodesIn(null));
+        assertEquals(0, InMemoryChildHashing.dirtyNodesIn(topics));
+        verify(topics, never()).asInternal();
+    }
+
+    private void givenSubject() {
+        given(properties.statsRunningAvgHalfLifeSecs()).willReturn(10.0);
+        subject = new InMemoryChildHashing(properties);
+    }
+
+    private void givenRegisteredMetrics() {
+        given(platform.getMetrics()).willReturn(metrics);
+        given(metrics.getOrCreate(any(RunningAverageMetric.Config.class))).willReturn(runningAvg);
+    }
+
+    private void givenDirtyTopics() {
+        given(state.getNumberOfChildren()).willReturn(StateChildIndices.NUM_032X_CHILDREN);
+        given(state.getChild(StateChildIndices.TOPICS)).willReturn(topics);
+        given(topics.asInternal()).willReturn(topics);
+        given(topics.getNumberOfChildren()).willReturn(2);
+        given(topics.getChild(0)).willReturn(dirtyTopic);
+        given(topics.getChild(1)).willReturn(cleanTopic);
+        given(dirtyTopic.isLeaf()).willReturn(true);
+        given(cleanTopic.getHash()).willReturn(new Hash());
+    }
+}
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
@@ -47,7 +48,9 @@ import com.hedera.node.app.service.mono.stats.HapiOpCounters;
 import com.hedera.node.app.service.mono.stats.MiscRunningAvgs;
 import com.hedera.node.app.service.mono.throttling.ExpiryThrottle;
 import com.hedera.node.app.service.mono.throttling.FunctionalityThrottling;
+import com.hedera.node.app.service.mono.throttling.GasUsageEstimates;
 import com.hedera.node.app.service.mono.utils.accessors.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.TransactionBody;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.function.BiPredicate;
@@ -81,6 +84,7 @@ class NetworkCtxManagerTest {
     @Mock private EndOfStakingPeriodCalculator endOfStakingPeriodCalculator;
     @Mock private PropertySource propertySource;
     @Mock private ExpiryThrottle expiryThrottle;
+    @Mock private GasUsageEstimates gasUsageEstimates;
 
     private NetworkCtxManager subject;
 
@@ -104,7 +108,8 @@ class NetworkCtxManagerTest {
                         txnCtx,
                         runningAvgs,
                         endOfStakingPeriodCalculator,
-                        propertySource);
+                        propertySource,
+                        gasUsageEstimates);
     }
 
     @Test
@@ -122,12 +127,38 @@ class NetworkCtxManagerTest {
     void updatesGasUsedForContractOperations() {
         given(txnCtx.getGasUsedForContractTxn()).willReturn(someGasUsage);
         given(txnCtx.hasContractResult()).willReturn(true);
+        given(txnCtx.accessor()).willReturn(txnAccessor);
 
         subject.finishIncorporating(ContractCall);
 
         assertEquals(someGasUsage, subject.getGasUsedThisConsSec());
     }
 
+    @Test
+    void observesGasUsedAgainstDeclaredLimit() {
+        final var txn = TransactionBody.getDefaultInstance();
+        given(txnAccessor.getGasLimitForContractTx()).willReturn(10_000L);
+        given(txnAccessor.getTxn()).willReturn(txn);
+        given(txnCtx.accessor()).willReturn(txnAccessor);
+        given(txnCtx.hasContractResult()).willReturn(true);
+        given(txnCtx.getGasUsedForContractTxn()).willReturn(2_500L);
+
+        subject.finishIncorporating(ContractCall);
+
+        verify(runningAvgs).recordGasUsedPctOfLimit(25.0);
+        verify(gasUsageEstimates).observe(txn, 10_000L, 2_500L);
+    }
+
+    @Test
+    void doesntRecordPctOfZeroGasLimit() {
+        given(txnCtx.accessor()).willReturn(txnAccessor);
+        given(txnCtx.hasContractResult()).willReturn(true);
+
+        subject.finishIncorporating(ContractCall);
+
+        verify(runningAvgs, never()).recordGasUsedPctOfLimit(anyDouble());
+    }
+
     @Test
     void doesntInitObservableSysFilesIfAlreadyLoaded() {
         given(systemFilesManager.areObservableFilesLoaded()).willReturn(true);
@@ -497,7 +528,8 @@ class NetworkCtxManagerTest {
                         txnCtx,
                         runningAvgs,
                         endOfStakingPeriodCalculator,
-                        propertySource);
+                        propertySource,
+                        gasUsageEstimates);
 
         final BiPredicate<Instant, Instant> updateTest = subject::isNextPeriod;
 
@@ -286,6 +286,17 @@ class SigsAndPayerKeyScreenTest {
         verify(speedometers).cycleSyncVerifications();
     }
 
+    @Test
+    void cyclesReusedWhenExpansionReused() {
+        givenOkRationalization();
+        given(rationalization.reusedExpansion()).willReturn(true);
+        given(accessor.getSigMeta()).willReturn(sigMeta);
+
+        subject.applyTo(accessor);
+
+        verify(speedometers).cycleSigsReused();
+    }
+
     @Test
     void doesntCyclesAsyncAnymore() {
         givenOkRationalization();
@@ -20,6 +20,7 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -31,6 +32,7 @@ import com.hedera.node.app.service.mono.context.TransactionContext;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
 import com.hedera.node.app.service.mono.records.ConsensusTimeTracker;
+import com.hedera.node.app.service.mono.sigs.LookAheadExpansion;
 import com.hedera.node.app.service.mono.state.expiry.EntityAutoExpiry;
 import com.hedera.node.app.service.mono.state.expiry.ExpiryManager;
 import com.hedera.node.app.service.mono.stats.ExecutionTimeTracker;
@@ -42,7 +44,12 @@ import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
+import com.swirlds.common.system.Round;
+import com.swirlds.common.system.events.ConsensusEvent;
+import com.swirlds.common.system.transaction.ConsensusTransaction;
 import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,6 +81,11 @@ class StandardProcessLogicTest {
     @Mock private RecordStreaming recordStreaming;
     @Mock private ScheduleProcessing scheduleProcessing;
     @Mock private StateView workingView;
+    @Mock private LookAheadExpansion lookAheadExpansion;
+    @Mock private Round round;
+    @Mock private ConsensusEvent event;
+    @Mock private ConsensusTransaction aTxn;
+    @Mock private ConsensusTransaction bTxn;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private StandardProcessLogic subject;
@@ -93,7 +105,8 @@ class StandardProcessLogicTest {
                         scheduleProcessing,
                         executionTimeTracker,
                         recordStreaming,
-                        workingView);
+                        workingView,
+                        lookAheadExpansion);
     }
 
     @Test
@@ -214,6 +227,33 @@ class StandardProcessLogicTest {
                 contains(Matchers.startsWith("Consensus platform txn was not gRPC!")));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void looksAheadAfterEachTxnInRound() throws InvalidProtocolBufferException {
+        given(event.getCreatorId()).willReturn(member);
+        doAnswer(
+                        invocationOnMock -> {
+                            final var observer =
+                                    (BiConsumer<ConsensusEvent, ConsensusTransaction>)
+                                            invocationOnMock.getArgument(0);
+                            observer.accept(event, aTxn);
+                            observer.accept(event, bTxn);
+                            return null;
+                        })
+                .when(round)
+                .forEachEventTransaction(any());
+        given(expandHandleSpan.accessorFor(any())).willThrow(InvalidProtocolBufferException.class);
+
+        subject.incorporateConsensus(round);
+
+        final var inOrder = inOrder(expandHandleSpan, lookAheadExpansion);
+        final var roundTxns = List.of(aTxn, bTxn);
+        inOrder.verify(expandHandleSpan).accessorFor(aTxn);
+        inOrder.verify(lookAheadExpansion).reExpandInvalidated(roundTxns, 1);
+        inOrder.verify(expandHandleSpan).accessorFor(bTxn);
+        inOrder.verify(lookAheadExpansion).reExpandInvalidated(roundTxns, 2);
+    }
+
     @Test
     void logsAtErrorForUnhandledInternalProcessFailure() throws InvalidProtocolBufferException {
         given(expandHandleSpan.accessorFor(null)).willThrow(IllegalStateException.class);
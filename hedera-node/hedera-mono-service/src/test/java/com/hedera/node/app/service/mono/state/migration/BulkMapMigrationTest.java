@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.migration;
+
+import static com.hedera.node.app.service.mono.state.migration.BulkMapMigration.BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.node.app.service.mono.state.merkle.MerkleTokenRelStatus;
+import com.hedera.node.app.service.mono.state.virtual.EntityNumVirtualKey;
+import com.hedera.node.app.service.mono.state.virtual.entities.OnDiskTokenRel;
+import com.hedera.node.app.service.mono.utils.EntityNumPair;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.merkle.map.MerkleMap;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BulkMapMigrationTest {
+    private final MerkleMap<EntityNumPair, MerkleTokenRelStatus> source = new MerkleMap<>();
+
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> target;
+    @Mock private VirtualMap<EntityNumVirtualKey, OnDiskTokenRel> targetCopy;
+
+    @BeforeEach
+    void setUp() throws ConstructableRegistryException {
+        ReleaseThirtyMigrationTest.registerForTokenRelsMerkleMap();
+    }
+
+    @Test
+    void migratesAllLeavesAcrossBatches() {
+        final var n = BATCH_SIZE + 1;
+        for (int i = 1; i <= n; i++) {
+            final var rel = new MerkleTokenRelStatus();
+            rel.setBalance(i);
+            source.put(new EntityNumPair(i), rel);
+        }
+        given(target.copy()).willReturn(targetCopy);
+        final Set<EntityNumPair> seen = new HashSet<>();
+
+        final var result =
+                BulkMapMigration.migrate(
+                        source,
+                        target,
+                        EntityNumVirtualKey::fromPair,
+                        rel -> new OnDiskTokenRel(),
+                        (numPair, rel) -> seen.add(numPair),
+                        BATCH_SIZE,
+                        "test migration");
+
+        assertSame(targetCopy, result);
+        assertEquals(n, seen.size());
+        verify(target, times(BATCH_SIZE)).put(any(), any());
+        verify(targetCopy).put(any(), any());
+        verify(targetCopy, never()).copy();
+    }
+
+    @Test
+    void migratesEmptyMap() {
+        final var result =
+                BulkMapMigration.migrate(
+                        source,
+                        target,
+                        EntityNumVirtualKey::fromPair,
+                        rel -> new OnDiskTokenRel(),
+                        1,
+                        "test migration");
+
+        assertSame(target, result);
+        verify(target, never()).put(any(), any());
+    }
+
+    @Test
+    void propagatesConversionFailures() {
+        source.put(new EntityNumPair(1L), new MerkleTokenRelStatus());
+
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        BulkMapMigration.migrate(
+                                source,
+                                target,
+                                EntityNumVirtualKey::fromPair,
+                                rel -> {
+                                    throw new IllegalStateException("Unconvertible");
+                                },
+                                1,
+                                "test migration"));
+        verify(target, never()).put(any(), any());
+    }
+}
@@ -19,6 +19,7 @@ import static com.hedera.node.app.service.mono.state.migration.StateChildIndices
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.node.app.service.mono.ServicesState;
+import com.hedera.node.app.service.mono.context.properties.BootstrapProperties;
 import com.hedera.node.app.service.mono.state.merkle.MerkleUniqueToken;
 import com.hedera.node.app.service.mono.state.submerkle.EntityId;
 import com.hedera.node.app.service.mono.state.submerkle.RichInstant;
@@ -35,6 +36,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class UniqueTokensMigratorTest {
+    private final VirtualMapFactory virtualMapFactory =
+            new VirtualMapFactory(JasperDbBuilder::new, new BootstrapProperties());
     private ServicesState state;
     private final MerkleMap<EntityNumPair, MerkleUniqueToken> legacyTokens = new MerkleMap<>();
 
@@ -46,7 +49,7 @@ class UniqueTokensMigratorTest {
 
     @Test
     void givenEmptyDataSetToMigrate_properlyMigrated() {
-        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state);
+        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state, virtualMapFactory);
         final VirtualMap<UniqueTokenKey, UniqueTokenValue> result = state.getChild(UNIQUE_TOKENS);
         assertThat(result.isEmpty()).isTrue();
     }
@@ -77,7 +80,7 @@ class UniqueTokensMigratorTest {
                         "hello 3".getBytes(),
                         RichInstant.fromJava(Instant.ofEpochSecond(5555L, 5L))));
 
-        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state);
+        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state, virtualMapFactory);
 
         final VirtualMap<UniqueTokenKey, UniqueTokenValue> result = state.getChild(UNIQUE_TOKENS);
         assertThat(result.size()).isEqualTo(3);
@@ -116,12 +119,11 @@ class UniqueTokensMigratorTest {
 
     @Test
     void givenDataAlreadyMigrated_noMigration() {
-        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state);
-        final var virtualMap =
-                new VirtualMapFactory(JasperDbBuilder::new).newVirtualizedUniqueTokenStorage();
+        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state, virtualMapFactory);
+        final var virtualMap = virtualMapFactory.newVirtualizedUniqueTokenStorage();
         state.setChild(UNIQUE_TOKENS, virtualMap);
 
-        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state);
+        UniqueTokensMigrator.migrateFromUniqueTokenMerkleMap(state, virtualMapFactory);
         final VirtualMap<UniqueTokenKey, UniqueTokenValue> result = state.getChild(UNIQUE_TOKENS);
         assertThat(result.isEmpty()).isTrue();
         assertThat(result).isSameAs(virtualMap);
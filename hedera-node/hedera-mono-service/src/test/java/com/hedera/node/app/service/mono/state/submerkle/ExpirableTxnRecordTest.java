@@ -44,6 +44,11 @@ import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TokenTransferList;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -277,6 +282,21 @@ class ExpirableTxnRecordTest {
         assertEquals(List.of(expected, expected), multiple);
     }
 
+    @Test
+    void grpcFormSurvivesSerdeRoundTrip() throws IOException {
+        final var baos = new ByteArrayOutputStream();
+        final var out = new SerializableDataOutputStream(baos);
+        subject.serialize(out);
+        out.flush();
+        final var in =
+                new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        final var copy = new ExpirableTxnRecord();
+
+        copy.deserialize(in, ExpirableTxnRecord.CURRENT_VERSION);
+
+        assertEquals(subject.asGrpc(), copy.asGrpc());
+    }
+
     @Test
     void nullEqualsWorks() {
         final var sameButDifferent = subject;
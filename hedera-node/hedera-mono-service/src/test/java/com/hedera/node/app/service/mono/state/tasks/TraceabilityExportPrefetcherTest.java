@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.tasks;
+
+import static com.hedera.node.app.service.mono.state.tasks.TraceabilityExportPrefetcher.NUM_SHARDS;
+import static com.hedera.node.app.service.mono.state.tasks.TraceabilityExportPrefetcher.READ_AHEAD_ENTITIES;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.service.mono.context.StateChildren;
+import com.hedera.node.app.service.mono.context.primitives.SignedStateViewFactory;
+import com.hedera.node.app.service.mono.state.merkle.MerkleAccount;
+import com.hedera.node.app.service.mono.state.migration.AccountStorageAdapter;
+import com.hedera.node.app.service.mono.state.virtual.ContractKey;
+import com.hedera.node.app.service.mono.state.virtual.IterableContractValue;
+import com.hedera.node.app.service.mono.state.virtual.VirtualBlobKey;
+import com.hedera.node.app.service.mono.state.virtual.VirtualBlobValue;
+import com.hedera.node.app.service.mono.utils.EntityNum;
+import com.swirlds.virtualmap.VirtualMap;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TraceabilityExportPrefetcherTest {
+    private static final long CONTRACT_NUM = 3L;
+    private static final long SEQ_NO_POST_UPGRADE = 10_000L;
+
+    @Mock private Executor executor;
+    @Mock private StateChildren children;
+    @Mock private AccountStorageAdapter accounts;
+    @Mock private SignedStateViewFactory stateViewFactory;
+    @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs;
+    @Mock private VirtualMap<ContractKey, IterableContractValue> contractStorage;
+
+    private TraceabilityExportPrefetcher subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new TraceabilityExportPrefetcher(stateViewFactory, Runnable::run);
+    }
+
+    @Test
+    void doesNothingWithoutSignedState() {
+        given(stateViewFactory.childrenOfLatestSignedState()).willReturn(Optional.empty());
+
+        subject.readAheadOf(1L, SEQ_NO_POST_UPGRADE);
+
+        assertEquals(0L, subject.getPrefetchedThrough());
+    }
+
+    @Test
+    void doesNothingPastLastPreExistingEntity() {
+        subject.readAheadOf(SEQ_NO_POST_UPGRADE - 1, SEQ_NO_POST_UPGRADE);
+
+        verifyNoInteractions(stateViewFactory);
+    }
+
+    @Test
+    void submitsOneTaskPerShardAndOnlyRefillsWhenWindowHalfUsed() {
+        subject = new TraceabilityExportPrefetcher(stateViewFactory, executor);
+        given(stateViewFactory.childrenOfLatestSignedState()).willReturn(Optional.of(children));
+
+        subject.readAheadOf(1L, SEQ_NO_POST_UPGRADE);
+        assertEquals(1L + READ_AHEAD_ENTITIES, subject.getPrefetchedThrough());
+        subject.readAheadOf(2L, SEQ_NO_POST_UPGRADE);
+        subject.readAheadOf(1L + READ_AHEAD_ENTITIES / 2, SEQ_NO_POST_UPGRADE);
+        verify(executor, times(NUM_SHARDS)).execute(any());
+
+        subject.readAheadOf(2L + READ_AHEAD_ENTITIES / 2, SEQ_NO_POST_UPGRADE);
+        verify(executor, times(2 * NUM_SHARDS)).execute(any());
+        assertEquals(
+                2L + READ_AHEAD_ENTITIES + READ_AHEAD_ENTITIES / 2,
+                subject.getPrefetchedThrough());
+    }
+
+    @Test
+    void restartsWindowWhenScanWrapsAround() {
+        subject = new TraceabilityExportPrefetcher(stateViewFactory, executor);
+        given(stateViewFactory.childrenOfLatestSignedState()).willReturn(Optional.of(children));
+
+        subject.readAheadOf(5_000L, SEQ_NO_POST_UPGRADE);
+        subject.readAheadOf(1L, SEQ_NO_POST_UPGRADE);
+
+        verify(executor, times(2 * NUM_SHARDS)).execute(any());
+        assertEquals(1L + READ_AHEAD_ENTITIES, subject.getPrefetchedThrough());
+    }
+
+    @Test
+    void walksBytecodeAndStorageOfContracts() {
+        final var contract = mock(MerkleAccount.class);
+        final var firstKey = ContractKey.from(CONTRACT_NUM, UInt256.ONE);
+        final var secondKey = ContractKey.from(CONTRACT_NUM, UInt256.valueOf(2));
+        final var firstValue = mock(IterableContractValue.class);
+        final var secondValue = mock(IterableContractValue.class);
+        given(stateViewFactory.childrenOfLatestSignedState()).willReturn(Optional.of(children));
+        given(children.accounts()).willReturn(accounts);
+        given(children.storage()).willReturn(blobs);
+        given(children.contractStorage()).willReturn(contractStorage);
+        given(accounts.get(EntityNum.fromLong(CONTRACT_NUM))).willReturn(contract);
+        given(contract.isSmartContract()).willReturn(true);
+        given(contract.getFirstContractStorageKey()).willReturn(firstKey);
+        given(contract.getNumContractKvPairs()).willReturn(2);
+        given(contractStorage.get(firstKey)).willReturn(firstValue);
+        given(firstValue.getNextKeyScopedTo(CONTRACT_NUM)).willReturn(secondKey);
+        given(contractStorage.get(secondKey)).willReturn(secondValue);
+
+        subject.readAheadOf(CONTRACT_NUM - 1, CONTRACT_NUM + 1);
+
+        verify(blobs).get(any());
+        verify(contractStorage).get(secondKey);
+    }
+
+    @Test
+    void swallowsFailuresOfReleasedState() {
+        given(stateViewFactory.childrenOfLatestSignedState()).willReturn(Optional.of(children));
+        given(children.accounts()).willThrow(IllegalStateException.class);
+
+        assertDoesNotThrow(() -> subject.readAheadOf(1L, SEQ_NO_POST_UPGRADE));
+    }
+}
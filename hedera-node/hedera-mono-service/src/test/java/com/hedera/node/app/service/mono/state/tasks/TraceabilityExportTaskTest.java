@@ -68,6 +68,7 @@ class TraceabilityExportTaskTest {
     private static final MerkleAccount AN_ACCOUNT = MerkleAccountFactory.newAccount().get();
 
     @Mock private TraceabilityRecordsHelper recordsHelper;
+    @Mock private TraceabilityExportPrefetcher prefetcher;
     @Mock private AccountStorageAdapter accounts;
     @Mock private EntityAccess entityAccess;
     @Mock private ExpiryThrottle expiryThrottle;
@@ -86,6 +87,7 @@ class TraceabilityExportTaskTest {
                         expiryThrottle,
                         dynamicProperties,
                         recordsHelper,
+                        prefetcher,
                         throttling,
                         () -> accounts,
                         () -> contractStorage);
@@ -225,13 +227,14 @@ class TraceabilityExportTaskTest {
                 .willReturn(Bytes.of(runtimeBytes));
         given(accounts.get(entityNum1)).willReturn(contract1);
         given(throttling.gasLimitThrottle()).willReturn(gasThrottle);
-        subject.setExportsCompleted(999);
+        given(networkCtx.seqNoPostUpgrade()).willReturn(1001L);
 
         // when:
         final var result = subject.process(entityNum1.longValue(), NOW, networkCtx);
         assertEquals(SystemTaskResult.DONE, result);
 
         // then:
+        verify(prefetcher).readAheadOf(entityNum1.longValue(), 1001L);
         verify(recordsHelper)
                 .exportSidecarsViaSynthUpdate(eq(entityNum1.longValue()), captor.capture());
         final var sidecarRecords = captor.getValue();
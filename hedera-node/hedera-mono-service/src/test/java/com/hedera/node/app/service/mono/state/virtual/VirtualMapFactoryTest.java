@@ -15,9 +15,17 @@
  */
 package com.hedera.node.app.service.mono.state.virtual;
 
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS;
+import static com.hedera.node.app.service.mono.context.properties.PropertyNames.VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
+import com.hedera.node.app.service.mono.context.properties.BootstrapProperties;
+import com.hedera.node.app.service.mono.context.properties.PropertySource;
 import com.hedera.node.app.service.mono.state.submerkle.RichInstant;
 import com.swirlds.jasperdb.JasperDbBuilder;
 import com.swirlds.virtualmap.VirtualKey;
@@ -66,6 +74,38 @@ class VirtualMapFactoryTest {
         assertThat(value.getMetadata()).isEqualTo("hello world".getBytes());
     }
 
+    @Test
+    void defaultTuningsMatchBootstrapDefaults() {
+        final var bootstrapProps = new BootstrapProperties();
+
+        final var tunedSubject = new VirtualMapFactory(jdbFactory, bootstrapProps);
+
+        assertEquals(subject.tunings(), tunedSubject.tunings());
+    }
+
+    @Test
+    void usesConfiguredTuningsWithDefaultFallbacks() {
+        final var properties = mock(PropertySource.class);
+        given(properties.containsProperty(VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS)).willReturn(true);
+        given(properties.getLongProperty(VIRTUAL_MAPS_ACCOUNTS_MAX_NUM_OF_KEYS)).willReturn(1_000L);
+        given(properties.containsProperty(VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES))
+                .willReturn(true);
+        given(properties.getBooleanProperty(VIRTUAL_MAPS_NFTS_PREFER_DISK_BASED_INDEXES))
+                .willReturn(true);
+
+        final var tunings = new VirtualMapFactory(jdbFactory, properties).tunings();
+
+        assertEquals(new VirtualMapTuning(1_000L, 0, false), tunings.get("accountStore"));
+        assertEquals(
+                new VirtualMapTuning(500_000_000L, 0, true), tunings.get("uniqueTokenStore"));
+        assertEquals(subject.tunings().get("tokenRelStore"), tunings.get("tokenRelStore"));
+    }
+
+    @Test
+    void canLogTuningReport() {
+        assertDoesNotThrow(subject::logTuningReport);
+    }
+
     private static class ThrowingJdbFactoryBuilder
             implements VirtualMapFactory.JasperDbBuilderFactory {
         @Override
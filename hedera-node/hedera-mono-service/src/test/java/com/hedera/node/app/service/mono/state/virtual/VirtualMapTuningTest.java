@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.virtual;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.node.app.service.mono.context.properties.PropertySource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualMapTuningTest {
+    private static final String MAX_NUM_OF_KEYS = "virtualMaps.test.maxNumOfKeys";
+    private static final String THRESHOLD = "virtualMaps.test.internalHashesRamToDiskThreshold";
+    private static final String DISK_INDEXES = "virtualMaps.test.preferDiskBasedIndexes";
+    private static final VirtualMapTuning DEFAULTS = new VirtualMapTuning(1_000L, 0, false);
+
+    @Mock private PropertySource properties;
+
+    @Test
+    void rejectsNonsenseSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualMapTuning(0, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> new VirtualMapTuning(1, -1, false));
+    }
+
+    @Test
+    void usesDefaultsForMissingProperties() {
+        assertEquals(
+                DEFAULTS,
+                VirtualMapTuning.from(
+                        properties, MAX_NUM_OF_KEYS, THRESHOLD, DISK_INDEXES, DEFAULTS));
+    }
+
+    @Test
+    void usesPresentProperties() {
+        given(properties.containsProperty(MAX_NUM_OF_KEYS)).willReturn(true);
+        given(properties.getLongProperty(MAX_NUM_OF_KEYS)).willReturn(2_000L);
+        given(properties.containsProperty(THRESHOLD)).willReturn(true);
+        given(properties.getLongProperty(THRESHOLD)).willReturn(100L);
+        given(properties.containsProperty(DISK_INDEXES)).willReturn(true);
+        given(properties.getBooleanProperty(DISK_INDEXES)).willReturn(true);
+
+        final var tuning =
+                VirtualMapTuning.from(
+                        properties, MAX_NUM_OF_KEYS, THRESHOLD, DISK_INDEXES, DEFAULTS);
+
+        assertEquals(new VirtualMapTuning(2_000L, 100L, true), tuning);
+    }
+
+    @Test
+    void estimatesRamAtCapacity() {
+        assertEquals(16_000L, new VirtualMapTuning(1_000L, 0, false).estimatedRamBytesAtCapacity());
+        assertEquals(4_800L, new VirtualMapTuning(1_000L, 100, true).estimatedRamBytesAtCapacity());
+        assertEquals(
+                16_000L + 48_000L,
+                new VirtualMapTuning(1_000L, Long.MAX_VALUE, false).estimatedRamBytesAtCapacity());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.state.virtual.entities;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.hedera.test.utils.SeededPropertySource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class OnDiskAccountLazyDecodingTest {
+    private static final int[] firstStorageKey = {0, 0, 0, 0, 0, 0, 1, 2};
+
+    private final SeededPropertySource source = SeededPropertySource.forSerdeTest(1, 1);
+
+    @Test
+    void reserializesUndecodedAccountUnchanged() throws IOException {
+        final var account = source.nextOnDiskAccount();
+        final var serialized = serialized(account);
+
+        final var subject = deserialized(serialized);
+
+        assertArrayEquals(serialized, serialized(subject));
+        assertEquals(account, subject);
+    }
+
+    @Test
+    void reserializesModifiedCopyWithNewValues() throws IOException {
+        final var account = source.nextOnDiskAccount();
+        final var original = deserialized(serialized(account));
+
+        final var copy = original.copy();
+        copy.setMemo("Something else");
+        copy.setHbarBalance(account.getHbarBalance() + 1);
+        final var reread = deserialized(serialized(copy));
+
+        assertEquals("Something else", reread.getMemo());
+        assertEquals(account.getHbarBalance() + 1, reread.getHbarBalance());
+        assertEquals(account.getAlias(), reread.getAlias());
+        assertEquals(account.getMemo(), original.getMemo());
+    }
+
+    @Test
+    void copiesKeepFirstStorageKey() throws IOException {
+        final var contract = new OnDiskAccount();
+        contract.setIsContract(true);
+        contract.setFirstStorageKey(firstStorageKey);
+
+        final var decodedCopy = new OnDiskAccount(contract);
+        final var undecodedCopy = new OnDiskAccount(deserialized(serialized(contract)));
+
+        assertArrayEquals(firstStorageKey, decodedCopy.getFirstStorageKey());
+        assertArrayEquals(firstStorageKey, undecodedCopy.getFirstStorageKey());
+        assertEquals(
+                contract.getFirstStorageKeyNonZeroBytes(),
+                undecodedCopy.getFirstStorageKeyNonZeroBytes());
+    }
+
+    @Test
+    void decodesWithOriginalContractFlagBeforeChangingIt() throws IOException {
+        final var contract = new OnDiskAccount();
+        contract.setIsContract(true);
+        contract.setFirstStorageKey(firstStorageKey);
+        contract.setMemo("Still here");
+        final var subject = deserialized(serialized(contract));
+
+        subject.setIsContract(false);
+        final var reread = deserialized(serialized(subject));
+
+        assertFalse(reread.isContract());
+        assertEquals("Still here", reread.getMemo());
+        assertNull(reread.getFirstStorageKey());
+    }
+
+    private static byte[] serialized(final OnDiskAccount account) throws IOException {
+        final var buffer = ByteBuffer.allocate(8192);
+        account.serialize(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static OnDiskAccount deserialized(final byte[] serialized) throws IOException {
+        final var account = new OnDiskAccount();
+        account.deserialize(ByteBuffer.wrap(serialized), account.getVersion());
+        return account;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EvmProfilerTest {
+    private static final int SLOAD = 0x54;
+
+    @Mock private NodeLocalProperties properties;
+    @Mock private Platform platform;
+    @Mock private Metrics metrics;
+    @Mock private SpeedometerMetric speedometer;
+    @Mock private RunningAverageMetric runningAvg;
+
+    private EvmProfiler subject;
+
+    @Test
+    void neverProfilesOrRegistersIfDisabled() {
+        givenSubjectSampling(0);
+
+        assertFalse(subject.isEnabled());
+        assertFalse(subject.shouldProfileNext());
+        subject.registerWith(platform);
+
+        assertEquals(0, subject.getEvmTxnsSeen());
+        verifyNoInteractions(platform);
+    }
+
+    @Test
+    void profilesOneInEveryN() {
+        givenSubjectSampling(3);
+
+        int profiled = 0;
+        for (int i = 0; i < 9; i++) {
+            if (subject.shouldProfileNext()) {
+                profiled++;
+            }
+        }
+
+        assertEquals(3, profiled);
+        assertEquals(9, subject.getEvmTxnsSeen());
+    }
+
+    @Test
+    void registersAndUpdatesMetrics() {
+        givenSubjectSampling(1);
+        given(platform.getMetrics()).willReturn(metrics);
+        given(metrics.getOrCreate(any(SpeedometerMetric.Config.class))).willReturn(speedometer);
+        given(metrics.getOrCreate(any(RunningAverageMetric.Config.class))).willReturn(runningAvg);
+
+        subject.registerWith(platform);
+        assertTrue(subject.shouldProfileNext());
+        subject.recordOp(SLOAD, 1_000L);
+        subject.recordStorageAccess(false, true, 1_000L);
+        subject.recordPrecompile("0x167:49146bde", 50_000L);
+
+        verify(metrics).getOrCreate(any(SpeedometerMetric.Config.class));
+        verify(metrics, times(6)).getOrCreate(any(RunningAverageMetric.Config.class));
+        verify(speedometer).cycle();
+        verify(runningAvg, times(2)).update(1_000L);
+        verify(runningAvg).update(50_000L);
+    }
+
+    @Test
+    void summarizesAndResetsRecordedTimings() {
+        givenSubjectSampling(1);
+
+        subject.recordOp(SLOAD, 100L);
+        subject.recordOp(SLOAD, 300L);
+        subject.recordStorageAccess(false, true, 300L);
+        subject.recordStorageAccess(true, false, 50L);
+        subject.recordPrecompile("0x167:49146bde", 10_000L);
+
+        final var summary = subject.drainSummary();
+
+        assertTrue(summary.contains("op 0x54      count=2, meanNs=200, p50Ns<=128, p99Ns<=512"));
+        assertTrue(summary.contains("histogram={<128ns=1, <512ns=1}"));
+        assertTrue(summary.contains("SLOAD (cold)  count=1, meanNs=300"));
+        assertTrue(summary.contains("SSTORE (warm) count=1, meanNs=50"));
+        assertTrue(summary.contains("precompile 0x167:49146bde count=1, meanNs=10000"));
+        assertFalse(summary.contains("SLOAD (warm)"));
+        assertEquals("", subject.drainSummary());
+    }
+
+    @Test
+    void boundsDistinctPrecompileKeys() {
+        givenSubjectSampling(1);
+
+        for (int i = 0; i <= EvmProfiler.MAX_PRECOMPILE_KEYS; i++) {
+            subject.recordPrecompile("0x167:" + i, 1L);
+        }
+        subject.recordPrecompile("0x167:0", 1L);
+
+        final var summary = subject.drainSummary();
+        assertTrue(summary.contains("precompile 0x167:0 count=2, meanNs=1"));
+        assertTrue(summary.contains("precompile other count=1, meanNs=1"));
+
+        subject.recordPrecompile("0x167:" + EvmProfiler.MAX_PRECOMPILE_KEYS, 1L);
+        assertEquals(
+                "  precompile 0x167:" + EvmProfiler.MAX_PRECOMPILE_KEYS + " count=1, meanNs=1\n",
+                subject.drainSummary().replace(System.lineSeparator(), "\n"));
+    }
+
+    @Test
+    void dumpsOnlyOnceIntervalPasses() {
+        givenSubjectSampling(1);
+        subject.recordOp(SLOAD, 100L);
+
+        subject.dumpIfDueAt(59_999L);
+        assertFalse(subject.drainSummary().isEmpty());
+
+        subject.recordOp(SLOAD, 100L);
+        subject.dumpIfDueAt(60_000L);
+        assertEquals("", subject.drainSummary());
+    }
+
+    @Test
+    void bucketsAreLog2OfNanos() {
+        assertEquals(0, EvmProfiler.bucketFor(0L));
+        assertEquals(0, EvmProfiler.bucketFor(1L));
+        assertEquals(1, EvmProfiler.bucketFor(2L));
+        assertEquals(1, EvmProfiler.bucketFor(3L));
+        assertEquals(10, EvmProfiler.bucketFor(1_024L));
+        assertEquals(EvmProfiler.NUM_BUCKETS - 1, EvmProfiler.bucketFor(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentileOfOverflowBucketIsUnbounded() {
+        final var histogram = new long[EvmProfiler.NUM_BUCKETS];
+        histogram[EvmProfiler.NUM_BUCKETS - 1] = 1;
+
+        assertEquals(Long.MAX_VALUE, EvmProfiler.upperBoundOfPercentile(histogram, 1, 0.5));
+    }
+
+    @Test
+    void doesNotDumpIfDisabled() {
+        givenSubjectSampling(0);
+        subject.recordOp(SLOAD, 100L);
+
+        subject.dumpIfDue();
+
+        assertFalse(subject.drainSummary().isEmpty());
+        verify(platform, never()).getMetrics();
+    }
+
+    private void givenSubjectSampling(final int sampleOneInN) {
+        given(properties.evmProfilingSampleOneInN()).willReturn(sampleOneInN);
+        given(properties.evmProfilingDumpIntervalSecs()).willReturn(60);
+        given(properties.statsRunningAvgHalfLifeSecs()).willReturn(10.0);
+        subject = new EvmProfiler(properties);
+    }
+}
@@ -39,6 +39,7 @@ class MiscRunningAvgsTest {
     @Mock private RunningAverageMetric submitSizes;
     @Mock private RunningAverageMetric queueSize;
     @Mock private RunningAverageMetric hashS;
+    @Mock private RunningAverageMetric gasUsedPctOfLimit;
     @Mock private Metrics metrics;
     private MiscRunningAvgs subject;
 
@@ -54,7 +55,7 @@ class MiscRunningAvgsTest {
 
         subject.registerWith(platform);
 
-        verify(metrics, times(4)).getOrCreate(any());
+        verify(metrics, times(5)).getOrCreate(any());
     }
 
     @Test
@@ -65,11 +66,13 @@ class MiscRunningAvgsTest {
         subject.writeQueueSizeRecordStream(4);
         subject.hashQueueSizeRecordStream(5);
         subject.recordGasPerConsSec(6L);
+        subject.recordGasUsedPctOfLimit(7.5);
 
         verify(submitSizes).update(3.0);
         verify(queueSize).update(4.0);
         verify(hashS).update(5);
         verify(gasPerSec).update(6L);
+        verify(gasUsedPctOfLimit).update(7.5);
     }
 
     private void setMocks() {
@@ -77,5 +80,6 @@ class MiscRunningAvgsTest {
         subject.setWriteQueueSizeRecordStream(queueSize);
         subject.setHashQueueSizeRecordStream(hashS);
         subject.setGasPerConsSec(gasPerSec);
+        subject.setGasUsedPctOfLimit(gasUsedPctOfLimit);
     }
 }
@@ -37,6 +37,13 @@ class MiscSpeedometersTest {
     @Mock private Platform platform;
     @Mock private SpeedometerMetric syncVerifies;
     @Mock private SpeedometerMetric txnRejections;
+    @Mock private SpeedometerMetric xfersReused;
+    @Mock private SpeedometerMetric xfersRecomputed;
+    @Mock private SpeedometerMetric sigsReused;
+    @Mock private SpeedometerMetric lookAheadVerifies;
+    @Mock private SpeedometerMetric ethExpansionsReused;
+    @Mock private SpeedometerMetric ethExpansionsRecomputed;
+    @Mock private SpeedometerMetric feesComputed;
     @Mock private Metrics metrics;
 
     private MiscSpeedometers subject;
@@ -45,7 +52,16 @@ class MiscSpeedometersTest {
     void setup() {
         platform = mock(Platform.class);
         given(platform.getMetrics()).willReturn(metrics);
-        given(metrics.getOrCreate(any())).willReturn(syncVerifies).willReturn(txnRejections);
+        given(metrics.getOrCreate(any()))
+                .willReturn(syncVerifies)
+                .willReturn(txnRejections)
+                .willReturn(xfersReused)
+                .willReturn(xfersRecomputed)
+                .willReturn(sigsReused)
+                .willReturn(lookAheadVerifies)
+                .willReturn(ethExpansionsReused)
+                .willReturn(ethExpansionsRecomputed)
+                .willReturn(feesComputed);
 
         subject = new MiscSpeedometers(halfLife);
     }
@@ -54,10 +70,17 @@ class MiscSpeedometersTest {
     void registersExpectedStatEntries() {
         subject.setSyncVerifications(syncVerifies);
         subject.setPlatformTxnRejections(txnRejections);
+        subject.setImpliedXfersReused(xfersReused);
+        subject.setImpliedXfersRecomputed(xfersRecomputed);
+        subject.setSigsReused(sigsReused);
+        subject.setLookAheadVerifications(lookAheadVerifies);
+        subject.setEthTxExpansionsReused(ethExpansionsReused);
+        subject.setEthTxExpansionsRecomputed(ethExpansionsRecomputed);
+        subject.setFeesComputed(feesComputed);
 
         subject.registerWith(platform);
 
-        verify(metrics, times(2)).getOrCreate(any());
+        verify(metrics, times(10)).getOrCreate(any());
     }
 
     @Test
@@ -66,8 +89,22 @@ class MiscSpeedometersTest {
 
         subject.cycleSyncVerifications();
         subject.cyclePlatformTxnRejections();
+        subject.cycleImpliedXfersReused();
+        subject.cycleImpliedXfersRecomputed();
+        subject.cycleSigsReused();
+        subject.cycleLookAheadVerifications();
+        subject.cycleEthTxExpansionsReused();
+        subject.cycleEthTxExpansionsRecomputed();
+        subject.cycleFeesComputed();
 
         verify(syncVerifies).cycle();
         verify(txnRejections).cycle();
+        verify(xfersReused).cycle();
+        verify(xfersRecomputed).cycle();
+        verify(sigsReused).cycle();
+        verify(lookAheadVerifies).cycle();
+        verify(ethExpansionsReused).cycle();
+        verify(ethExpansionsRecomputed).cycle();
+        verify(feesComputed).cycle();
     }
 }
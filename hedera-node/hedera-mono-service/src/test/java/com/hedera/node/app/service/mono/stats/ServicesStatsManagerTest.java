@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
 import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.node.app.service.mono.state.logic.InMemoryChildHashing;
 import com.hedera.node.app.service.mono.state.virtual.ContractKey;
 import com.hedera.node.app.service.mono.state.virtual.IterableContractValue;
 import com.hedera.node.app.service.mono.state.virtual.VirtualBlobKey;
@@ -60,6 +61,8 @@ class ServicesStatsManagerTest {
     @Mock private ThrottleGauges throttleGauges;
     @Mock private EntityUtilGauges entityUtilGauges;
     @Mock private ExpiryStats expiryStats;
+    @Mock private EvmProfiler evmProfiler;
+    @Mock private InMemoryChildHashing childHashing;
 
     ServicesStatsManager subject;
 
@@ -86,7 +89,9 @@ class ServicesStatsManagerTest {
                         speedometers,
                         properties,
                         () -> storage,
-                        () -> bytecode);
+                        () -> bytecode,
+                        evmProfiler,
+                        childHashing);
     }
 
     @AfterEach
@@ -122,6 +127,8 @@ class ServicesStatsManagerTest {
         verify(runningAvgs).registerWith(platform);
         verify(throttleGauges).registerWith(platform);
         verify(entityUtilGauges).registerWith(platform);
+        verify(evmProfiler).registerWith(platform);
+        verify(childHashing).registerWith(platform);
         verify(storage).registerMetrics(any());
         verify(bytecode).registerMetrics(any());
         // and:
@@ -137,5 +144,6 @@ class ServicesStatsManagerTest {
         verify(speedometers, times(6)).updateAll();
         verify(throttleGauges, times(3)).updateAll();
         verify(entityUtilGauges, times(2)).updateAll();
+        verify(evmProfiler, times(6)).dumpIfDue();
     }
 }
@@ -318,6 +318,33 @@ class SizeLimitedStorageTest {
         assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
     }
 
+    @Test
+    void repeatedReadsAreServedFromSessionCache() {
+        given(storage.get(firstAKey)).willReturn(aValue);
+
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
+        assertEquals(UInt256.ZERO, subject.getStorage(firstAccount, bLiteralKey));
+
+        verify(storage, times(1)).get(firstAKey);
+        assertEquals(2, subject.getWarmReads());
+        assertEquals(2, subject.getColdReads());
+        assertEquals(2, subject.getVirtualMapReads());
+    }
+
+    @Test
+    void newSessionDropsCachedValuesAndCounts() {
+        given(storage.get(firstAKey)).willReturn(aValue, bValue);
+
+        assertEquals(aLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        subject.beginSession();
+
+        assertEquals(bLiteralValue, subject.getStorage(firstAccount, aLiteralKey));
+        assertEquals(0, subject.getWarmReads());
+        assertEquals(1, subject.getColdReads());
+    }
+
     @Test
     void resetsPendingChangesAsExpected() {
         given(storage.containsKey(firstAKey)).willReturn(true);
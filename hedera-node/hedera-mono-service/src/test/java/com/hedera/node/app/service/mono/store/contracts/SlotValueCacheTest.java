@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.store.contracts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+
+class SlotValueCacheTest {
+    private static final UInt256 slot = UInt256.valueOf(7);
+    private static final UInt256 highSlot = UInt256.MAX_VALUE.subtract(7);
+    private static final UInt256 value = UInt256.valueOf(42);
+    private static final UInt256 otherValue = UInt256.valueOf(43);
+
+    private SlotValueCache subject = new SlotValueCache(4);
+
+    @Test
+    void rejectsCapacityNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new SlotValueCache(3));
+    }
+
+    @Test
+    void distinguishesContractsAndSlots() {
+        subject.put(1L, slot, value);
+        subject.put(2L, slot, otherValue);
+
+        assertSame(value, subject.get(1L, slot));
+        assertSame(otherValue, subject.get(2L, slot));
+        assertNull(subject.get(1L, highSlot));
+        assertNull(subject.get(3L, slot));
+    }
+
+    @Test
+    void replacesExistingValue() {
+        subject.put(1L, slot, value);
+        subject.put(1L, UInt256.valueOf(7), otherValue);
+
+        assertSame(otherValue, subject.get(1L, slot));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void growsAndShrinksBackWhenCleared() {
+        for (int i = 0; i < 100; i++) {
+            subject.put(i, highSlot.subtract(i), UInt256.valueOf(i));
+        }
+
+        assertEquals(100, subject.size());
+        assertEquals(256, subject.capacity());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(UInt256.valueOf(i), subject.get(i, highSlot.subtract(i)));
+        }
+
+        subject.clear();
+
+        assertEquals(0, subject.size());
+        assertEquals(4, subject.capacity());
+        assertNull(subject.get(0L, highSlot));
+    }
+
+    @Test
+    void clearingKeepsCapacityIfNotGrown() {
+        subject = new SlotValueCache();
+        subject.put(1L, slot, value);
+
+        subject.clear();
+        subject.clear();
+
+        assertNull(subject.get(1L, slot));
+        assertEquals(256, subject.capacity());
+    }
+}
@@ -121,6 +121,7 @@ class DeterministicThrottlingTest {
     @Mock private ContractCallLocalQuery callLocalQuery;
     @Mock private AliasManager aliasManager;
     @Mock private ScheduleStore scheduleStore;
+    @Mock private GasUsageEstimates gasUsageEstimates;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private DeterministicThrottling subject;
@@ -1631,6 +1632,53 @@ class DeterministicThrottlingTest {
         miscUtilsHandle.close();
     }
 
+    @Test
+    void onlyHapiThrottlingMayUseGasEstimates() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new DeterministicThrottling(
+                                () -> n,
+                                aliasManager,
+                                dynamicProperties,
+                                CONSENSUS,
+                                scheduleStore,
+                                gasUsageEstimates));
+    }
+
+    @Test
+    void frontendReservesEstimatedGasWhenAvailable() {
+        Instant now = Instant.now();
+        final var txn =
+                TransactionBody.newBuilder()
+                        .setContractCall(ContractCallTransactionBody.newBuilder().setGas(11L))
+                        .build();
+        subject =
+                new DeterministicThrottling(
+                        () -> n,
+                        aliasManager,
+                        dynamicProperties,
+                        HAPI,
+                        scheduleStore,
+                        gasUsageEstimates);
+
+        // setup:
+        givenFunction(ContractCall);
+        given(accessor.getTxn()).willReturn(txn);
+        given(accessor.getGasLimitForContractTx()).willReturn(11L);
+        given(gasUsageEstimates.gasToReserve(txn, 11L)).willReturn(6L);
+        given(dynamicProperties.shouldThrottleByGas()).willReturn(true);
+        given(dynamicProperties.maxGasPerSec()).willReturn(10L);
+        subject.applyGasConfig();
+
+        // when:
+        subject.shouldThrottleTxn(accessor, now);
+
+        // then:
+        assertFalse(subject.wasLastTxnGasThrottled());
+        assertFalse(subject.gasLimitThrottle().allow(now, 6L));
+    }
+
     @Test
     void verifyLeakUnusedGas() {
         Instant now = Instant.now();
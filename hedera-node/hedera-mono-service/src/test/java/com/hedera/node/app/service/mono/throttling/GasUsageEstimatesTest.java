@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.throttling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.node.app.service.mono.context.properties.NodeLocalProperties;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.ContractCallTransactionBody;
+import com.hederahashgraph.api.proto.java.EthereumTransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GasUsageEstimatesTest {
+    private static final long declaredGas = 100_000L;
+    private static final TransactionBody callFromPayer =
+            TransactionBody.newBuilder()
+                    .setTransactionID(
+                            TransactionID.newBuilder()
+                                    .setAccountID(IdUtils.asAccount("0.0.1234")))
+                    .setContractCall(
+                            ContractCallTransactionBody.newBuilder()
+                                    .setContractID(IdUtils.asContract("0.0.5678")))
+                    .build();
+    private static final TransactionBody ethTxFromPayer =
+            TransactionBody.newBuilder()
+                    .setTransactionID(callFromPayer.getTransactionID())
+                    .setEthereumTransaction(EthereumTransactionBody.getDefaultInstance())
+                    .build();
+
+    @Mock private NodeLocalProperties properties;
+
+    private GasUsageEstimates subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new GasUsageEstimates(properties);
+    }
+
+    @Test
+    void firstObservationSeedsPayerAndContractEstimates() {
+        subject.observe(callFromPayer, declaredGas, 25_000L);
+
+        assertEquals(0.25, subject.payerEstimate(1234L));
+        assertEquals(0.25, subject.contractEstimate(5678L));
+    }
+
+    @Test
+    void laterObservationsAreBlended() {
+        subject.observe(callFromPayer, declaredGas, 25_000L);
+        subject.observe(callFromPayer, declaredGas, 75_000L);
+
+        assertEquals(0.35, subject.payerEstimate(1234L), 1e-9);
+    }
+
+    @Test
+    void ignoresZeroDeclaredGasAndCapsRatioAtOne() {
+        subject.observe(callFromPayer, 0L, 25_000L);
+        assertNull(subject.payerEstimate(1234L));
+
+        subject.observe(callFromPayer, declaredGas, 2 * declaredGas);
+        assertEquals(1.0, subject.payerEstimate(1234L));
+    }
+
+    @Test
+    void onlyTracksContractsOfContractCalls() {
+        subject.observe(ethTxFromPayer, declaredGas, 25_000L);
+
+        assertEquals(0.25, subject.payerEstimate(1234L));
+        assertNull(subject.contractEstimate(0L));
+    }
+
+    @Test
+    void reservesDeclaredGasByDefault() {
+        given(properties.gasEstimatesMinUsedRatio()).willReturn(1.0);
+        subject.observe(callFromPayer, declaredGas, 25_000L);
+
+        assertEquals(declaredGas, subject.gasToReserve(callFromPayer, declaredGas));
+    }
+
+    @Test
+    void reservesDeclaredGasForUnknownPayer() {
+        given(properties.gasEstimatesMinUsedRatio()).willReturn(0.1);
+
+        assertEquals(declaredGas, subject.gasToReserve(callFromPayer, declaredGas));
+    }
+
+    @Test
+    void reservesEstimatedGasNoLessThanMinimumRatio() {
+        given(properties.gasEstimatesMinUsedRatio()).willReturn(0.5);
+        subject.observe(ethTxFromPayer, declaredGas, 25_000L);
+
+        assertEquals(50_000L, subject.gasToReserve(ethTxFromPayer, declaredGas));
+    }
+
+    @Test
+    void reservesLargerOfPayerAndContractEstimates() {
+        given(properties.gasEstimatesMinUsedRatio()).willReturn(0.1);
+        subject.observe(callFromPayer, declaredGas, 60_000L);
+        subject.observe(ethTxFromPayer, declaredGas, 10_000L);
+        subject.observe(ethTxFromPayer, declaredGas, 10_000L);
+
+        // payer estimate has decayed below the contract's 0.6
+        assertEquals(60_000L, subject.gasToReserve(callFromPayer, declaredGas));
+        assertEquals(
+                (long) Math.ceil(declaredGas * subject.payerEstimate(1234L)),
+                subject.gasToReserve(ethTxFromPayer, declaredGas));
+    }
+}
@@ -37,12 +37,17 @@ class ThrottlingModuleTest {
     @Mock private AliasManager aliasManager;
     @Mock private TransactionContext txnCtx;
     @Mock private ScheduleStore scheduleStore;
+    @Mock private GasUsageEstimates gasUsageEstimates;
 
     @Test
     void constructsHapiAndHandleThrottlesAsExpected() {
         final var hapiThrottle =
                 ThrottlingModule.provideHapiThrottling(
-                        aliasManager, () -> addressBook, dynamicProperties, scheduleStore);
+                        aliasManager,
+                        () -> addressBook,
+                        dynamicProperties,
+                        scheduleStore,
+                        gasUsageEstimates);
         final var handleThrottle =
                 ThrottlingModule.provideHandleThrottling(
                         aliasManager, txnCtx, dynamicProperties, scheduleStore);
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.txns.customfees;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CustomFeeScheduleVersionsTest {
+    private static final long A_TOKEN_NUM = 1234L;
+    private static final long B_TOKEN_NUM = 2345L;
+
+    private final CustomFeeScheduleVersions subject = new CustomFeeScheduleVersions();
+
+    @Test
+    void unstampedTokensAreUnchangedSinceAnyValidGeneration() {
+        final var then = subject.currentGeneration();
+
+        assertTrue(subject.isUnchangedSince(then, A_TOKEN_NUM));
+        assertFalse(subject.isUnchangedSince(-1, A_TOKEN_NUM));
+    }
+
+    @Test
+    void onlyStampedTokenIsChanged() {
+        final var then = subject.currentGeneration();
+
+        subject.markChanged(A_TOKEN_NUM);
+
+        assertFalse(subject.isUnchangedSince(then, A_TOKEN_NUM));
+        assertTrue(subject.isUnchangedSince(then, B_TOKEN_NUM));
+        assertTrue(subject.isUnchangedSince(subject.currentGeneration(), A_TOKEN_NUM));
+        assertEquals(1, subject.numStamped());
+    }
+
+    @Test
+    void invalidationForgetsStampsAndEarlierGenerations() {
+        final var then = subject.currentGeneration();
+        subject.markChanged(A_TOKEN_NUM);
+
+        subject.invalidate();
+
+        assertEquals(0, subject.numStamped());
+        assertFalse(subject.isUnchangedSince(then, B_TOKEN_NUM));
+        assertTrue(subject.isUnchangedSince(subject.currentGeneration(), A_TOKEN_NUM));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.node.app.service.mono.txns.ethereum;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
+import com.hedera.node.app.hapi.utils.ethereum.EthTxSigs;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EthTxSigsCacheTest {
+    private static final int MAX_SIZE = 2;
+    private static final byte[] hash = "abcdefghijklmnopqrstuvwxyz012345".getBytes();
+    private static final byte[] otherHash = "543210zyxwvutsrqponmlkjihgfedcba".getBytes();
+
+    @Mock private EthTxData ethTxData;
+    @Mock private EthTxData otherEthTxData;
+    @Mock private EthTxSigs ethTxSigs;
+    @Mock private EthTxSigs otherEthTxSigs;
+    @Mock private Function<EthTxData, EthTxSigs> sigsFunction;
+
+    private EthTxSigsCache subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new EthTxSigsCache(sigsFunction, MAX_SIZE);
+    }
+
+    @Test
+    void recoversSignerOnlyOncePerHash() {
+        given(ethTxData.getEthereumHash()).willReturn(hash);
+        given(sigsFunction.apply(ethTxData)).willReturn(ethTxSigs);
+
+        assertSame(ethTxSigs, subject.apply(ethTxData));
+        assertSame(ethTxSigs, subject.apply(ethTxData));
+
+        verify(sigsFunction, times(1)).apply(ethTxData);
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void distinguishesDifferentHashes() {
+        given(ethTxData.getEthereumHash()).willReturn(hash);
+        given(otherEthTxData.getEthereumHash()).willReturn(otherHash);
+        given(sigsFunction.apply(ethTxData)).willReturn(ethTxSigs);
+        given(sigsFunction.apply(otherEthTxData)).willReturn(otherEthTxSigs);
+
+        assertSame(ethTxSigs, subject.apply(ethTxData));
+        assertSame(otherEthTxSigs, subject.apply(otherEthTxData));
+
+        assertEquals(2, subject.size());
+    }
+
+    @Test
+    void doesNotCacheFailedRecovery() {
+        given(ethTxData.getEthereumHash()).willReturn(hash);
+        given(sigsFunction.apply(ethTxData)).willThrow(IllegalArgumentException.class);
+
+        assertThrows(IllegalArgumentException.class, () -> subject.apply(ethTxData));
+        assertThrows(IllegalArgumentException.class, () -> subject.apply(ethTxData));
+
+        verify(sigsFunction, times(2)).apply(ethTxData);
+        assertEquals(0, subject.size());
+    }
+
+    @Test
+    void bypassesCacheIfHashCannotBeComputed() {
+        given(ethTxData.getEthereumHash()).willThrow(IllegalStateException.class);
+        given(sigsFunction.apply(ethTxData)).willReturn(ethTxSigs);
+
+        assertSame(ethTxSigs, subject.apply(ethTxData));
+        assertSame(ethTxSigs, subject.apply(ethTxData));
+
+        verify(sigsFunction, times(2)).apply(ethTxData);
+        assertEquals(0, subject.size());
+    }
+}
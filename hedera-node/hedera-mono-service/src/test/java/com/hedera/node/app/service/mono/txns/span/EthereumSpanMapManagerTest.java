@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.node.app.hapi.utils.ethereum.EthTxData;
@@ -40,16 +41,16 @@ import com.hedera.node.app.service.mono.legacy.core.jproto.JKeyList;
 import com.hedera.node.app.service.mono.sigs.order.LinkedRefs;
 import com.hedera.node.app.service.mono.state.virtual.VirtualBlobKey;
 import com.hedera.node.app.service.mono.state.virtual.VirtualBlobValue;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.store.contracts.precompile.SyntheticTxnFactory;
 import com.hedera.node.app.service.mono.txns.contract.ContractCallTransitionLogic;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hedera.node.app.service.mono.txns.customfees.CustomFeeSchedules;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.*;
 import com.swirlds.virtualmap.VirtualMap;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import org.bouncycastle.util.encoders.Hex;
@@ -77,8 +78,10 @@ class EthereumSpanMapManagerTest {
     @Mock private MutableStateChildren workingState;
     @Mock private SigImpactHistorian sigImpactHistorian;
     @Mock private SyntheticTxnFactory syntheticTxnFactory;
+    @Mock private CustomFeeScheduleVersions feeScheduleVersions;
+    @Mock private MiscSpeedometers speedometers;
 
-    private final Map<String, Object> spanMap = new HashMap<>();
+    private final SpanMap spanMap = new SpanMap();
     private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 
     private SpanMapManager subject;
@@ -95,6 +98,8 @@ class EthereumSpanMapManagerTest {
                         stateViewFactory,
                         syntheticTxnFactory,
                         customFeeSchedules,
+                        feeScheduleVersions,
+                        speedometers,
                         sigImpactHistorian,
                         workingState,
                         aliasManager);
@@ -112,16 +117,43 @@ class EthereumSpanMapManagerTest {
     }
 
     @Test
-    void expansionIsNoopIfNoStateChildrenAvailable() {
+    void expansionOnlyRecoversSignerIfNoStateChildrenAvailable() {
+        givenUsableAccessor(bodyWithoutCallData);
+
+        subject.expandEthereumSpan(accessor);
+
+        assertNull(spanMapAccessor.getEthTxExpansion(accessor));
+        assertNull(spanMapAccessor.getEthTxSigsMeta(accessor));
+        verify(sigsFunction).apply(ethTxData);
+    }
+
+    @Test
+    void signerRecoveryWithoutStateChildrenToleratesInvalidSignature() {
+        givenUsableAccessor(bodyWithoutCallData);
+        given(sigsFunction.apply(ethTxData)).willThrow(IllegalArgumentException.class);
+
+        assertDoesNotThrow(() -> subject.expandEthereumSpan(accessor));
+
+        assertNull(spanMapAccessor.getEthTxExpansion(accessor));
+    }
+
+    @Test
+    void signerIsNotRecoveredWithoutStateChildrenIfCallDataInFile() {
+        givenUsableAccessor(bodyWithCallData);
+
         subject.expandEthereumSpan(accessor);
 
         assertNull(spanMapAccessor.getEthTxExpansion(accessor));
+        verify(sigsFunction, never()).apply(any());
     }
 
     @Test
     void expansionIsNoopIfSpanMapIsImmutable() {
         given(accessor.getFunction()).willReturn(EthereumTransaction);
-        given(accessor.getSpanMap()).willReturn(Map.of("ethTxDataMeta", ethTxData));
+        final var immutableSpanMap = new SpanMap();
+        spanMapAccessor.setEthTxDataMeta(immutableSpanMap, ethTxData);
+        immutableSpanMap.freeze();
+        given(accessor.getSpanMap()).willReturn(immutableSpanMap);
         txn = TransactionBody.newBuilder().setEthereumTransaction(bodyWithoutCallData).build();
         given(accessor.getTxn()).willReturn(txn);
         given(stateViewFactory.childrenOfLatestSignedState())
@@ -263,8 +295,7 @@ class EthereumSpanMapManagerTest {
                 .willReturn(Optional.of(synthCallBody));
         willAnswer(
                         invocationOnMock -> {
-                            final Map<String, Object> rationalizedMap =
-                                    invocationOnMock.getArgument(0);
+                            final SpanMap rationalizedMap = invocationOnMock.getArgument(0);
                             given(accessor.getSpanMap()).willReturn(rationalizedMap);
                             return null;
                         })
@@ -276,6 +307,7 @@ class EthereumSpanMapManagerTest {
 
         assertExpansionHasNullLinkRefsAnd(OK);
         verify(ethTxData).replaceCallData(unhexedCallData);
+        verify(speedometers).cycleEthTxExpansionsRecomputed();
     }
 
     @Test
@@ -291,8 +323,7 @@ class EthereumSpanMapManagerTest {
                 .willReturn(Optional.of(synthCallBody));
         willAnswer(
                         invocationOnMock -> {
-                            final Map<String, Object> rationalizedMap =
-                                    invocationOnMock.getArgument(0);
+                            final SpanMap rationalizedMap = invocationOnMock.getArgument(0);
                             given(accessor.getSpanMap()).willReturn(rationalizedMap);
                             return null;
                         })
@@ -304,6 +335,7 @@ class EthereumSpanMapManagerTest {
 
         assertExpansionHasNullLinkRefsAnd(OK);
         verify(ethTxData).replaceCallData(unhexedCallData);
+        verify(speedometers).cycleEthTxExpansionsRecomputed();
     }
 
     @Test
@@ -317,6 +349,7 @@ class EthereumSpanMapManagerTest {
         subject.rationalizeSpan(accessor);
 
         assertSame(curExpansion, spanMapAccessor.getEthTxExpansion(accessor));
+        verify(speedometers).cycleEthTxExpansionsReused();
     }
 
     private void assertExpansionHasNullLinkRefsAnd(final ResponseCodeEnum status) {
@@ -33,8 +33,6 @@ import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import java.math.BigInteger;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,7 +42,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class ExpandHandleSpanMapAccessorTest {
-    private final Map<String, Object> span = new HashMap<>();
+    private final SpanMap span = new SpanMap();
 
     @Mock private TxnAccessor accessor;
 
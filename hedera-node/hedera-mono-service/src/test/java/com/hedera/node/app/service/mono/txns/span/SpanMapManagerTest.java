@@ -43,18 +43,18 @@ import com.hedera.node.app.service.mono.grpc.marshalling.ImpliedTransfersMeta;
 import com.hedera.node.app.service.mono.ledger.SigImpactHistorian;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.state.submerkle.FcCustomFee;
+import com.hedera.node.app.service.mono.stats.MiscSpeedometers;
 import com.hedera.node.app.service.mono.store.contracts.precompile.SyntheticTxnFactory;
 import com.hedera.node.app.service.mono.store.models.Id;
 import com.hedera.node.app.service.mono.txns.contract.ContractCallTransitionLogic;
+import com.hedera.node.app.service.mono.txns.customfees.CustomFeeScheduleVersions;
 import com.hedera.node.app.service.mono.txns.customfees.CustomFeeSchedules;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -166,10 +166,11 @@ class SpanMapManagerTest {
                     assessedCustomFeesWrappers);
 
     private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+    private final CustomFeeScheduleVersions feeScheduleVersions = new CustomFeeScheduleVersions();
 
     private final CryptoTransferMeta xferMeta = new CryptoTransferMeta(1, 1, 1, 0);
 
-    private final Map<String, Object> span = new HashMap<>();
+    private final SpanMap span = new SpanMap();
 
     @Mock private TxnAccessor accessor;
     @Mock private ImpliedTransfersMarshal impliedTransfersMarshal;
@@ -183,6 +184,7 @@ class SpanMapManagerTest {
     @Mock private MutableStateChildren workingState;
     @Mock private SigImpactHistorian sigImpactHistorian;
     @Mock private SyntheticTxnFactory syntheticTxnFactory;
+    @Mock private MiscSpeedometers speedometers;
 
     private SpanMapManager subject;
 
@@ -198,6 +200,8 @@ class SpanMapManagerTest {
                         stateViewFactory,
                         syntheticTxnFactory,
                         customFeeSchedules,
+                        feeScheduleVersions,
+                        speedometers,
                         sigImpactHistorian,
                         workingState,
                         aliasManager);
@@ -277,6 +281,68 @@ class SpanMapManagerTest {
         // then:
         verify(impliedTransfersMarshal, never()).unmarshalFromGrpc(any(), eq(payer));
         assertSame(someImpliedXfers, spanMapAccessor.getImpliedTransfers(accessor));
+        verify(speedometers).cycleImpliedXfersReused();
+    }
+
+    @Test
+    void doesntLookupCustomFeeMetaIfVersionUnchanged() {
+        given(accessor.getSpanMap()).willReturn(span);
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
+        givenMatchingValidationProps();
+        spanMapAccessor.setImpliedTransfers(accessor, validImpliedTransfers);
+        spanMapAccessor.setFeeSchedulesGeneration(
+                accessor, feeScheduleVersions.currentGeneration());
+
+        subject.rationalizeSpan(accessor);
+
+        verify(customFeeSchedules, never()).lookupMetaFor(any());
+        verify(impliedTransfersMarshal, never()).unmarshalFromGrpc(any(), eq(payer));
+        assertSame(validImpliedTransfers, spanMapAccessor.getImpliedTransfers(accessor));
+        verify(speedometers).cycleImpliedXfersReused();
+    }
+
+    @Test
+    void looksUpCustomFeeMetaOnlyIfVersionChanged() {
+        given(accessor.getSpanMap()).willReturn(span);
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
+        givenMatchingValidationProps();
+        spanMapAccessor.setImpliedTransfers(accessor, validImpliedTransfers);
+        spanMapAccessor.setFeeSchedulesGeneration(
+                accessor, feeScheduleVersions.currentGeneration());
+        feeScheduleVersions.markChanged(customFeeToken.num());
+        given(customFeeSchedules.lookupMetaFor(customFeeToken)).willReturn(entityCustomFees.get(0));
+
+        subject.rationalizeSpan(accessor);
+
+        verify(impliedTransfersMarshal, never()).unmarshalFromGrpc(any(), eq(payer));
+        assertSame(validImpliedTransfers, spanMapAccessor.getImpliedTransfers(accessor));
+        verify(speedometers).cycleImpliedXfersReused();
+    }
+
+    @Test
+    void recomputesIfCustomFeeMetaChangedSinceGeneration() {
+        given(accessor.getPayer()).willReturn(payer);
+        given(accessor.getTxn()).willReturn(pretendXferTxn);
+        given(accessor.getSpanMap()).willReturn(span);
+        given(accessor.getFunction()).willReturn(CryptoTransfer);
+        given(accessor.availXferUsageMeta()).willReturn(xferMeta);
+        givenMatchingValidationProps();
+        spanMapAccessor.setImpliedTransfers(accessor, validImpliedTransfers);
+        spanMapAccessor.setFeeSchedulesGeneration(
+                accessor, feeScheduleVersions.currentGeneration());
+        feeScheduleVersions.markChanged(customFeeToken.num());
+        given(customFeeSchedules.lookupMetaFor(customFeeToken))
+                .willReturn(newCustomFeeChanges.get(0));
+        given(impliedTransfersMarshal.unmarshalFromGrpc(pretendXferTxn.getCryptoTransfer(), payer))
+                .willReturn(feeChangedImpliedTransfers);
+
+        subject.rationalizeSpan(accessor);
+
+        assertSame(feeChangedImpliedTransfers, spanMapAccessor.getImpliedTransfers(accessor));
+        assertEquals(
+                feeScheduleVersions.currentGeneration(),
+                spanMapAccessor.getFeeSchedulesGeneration(accessor));
+        verify(speedometers).cycleImpliedXfersRecomputed();
     }
 
     @Test
@@ -321,5 +387,17 @@ class SpanMapManagerTest {
         verify(impliedTransfersMarshal)
                 .unmarshalFromGrpc(pretendXferTxn.getCryptoTransfer(), payer);
         assertSame(feeChangedImpliedTransfers, spanMapAccessor.getImpliedTransfers(accessor));
+        verify(speedometers).cycleImpliedXfersRecomputed();
+    }
+
+    private void givenMatchingValidationProps() {
+        given(dynamicProperties.maxTransferListSize()).willReturn(maxHbarAdjusts);
+        given(dynamicProperties.maxTokenTransferListSize()).willReturn(maxTokenAdjusts);
+        given(dynamicProperties.maxNftTransfersLen()).willReturn(maxOwnershipChanges);
+        given(dynamicProperties.maxXferBalanceChanges()).willReturn(maxBalanceChanges);
+        given(dynamicProperties.maxCustomFeeDepth()).willReturn(maxFeeNesting);
+        given(dynamicProperties.isAutoCreationEnabled()).willReturn(autoCreationEnabled);
+        given(dynamicProperties.isLazyCreationEnabled()).willReturn(lazyCreationEnabled);
+        given(dynamicProperties.areAllowancesEnabled()).willReturn(areAllowancesEnabled);
     }
 }
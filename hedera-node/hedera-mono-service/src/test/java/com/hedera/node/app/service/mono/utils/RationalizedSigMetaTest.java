@@ -40,6 +40,7 @@ import com.hedera.node.app.service.mono.legacy.core.jproto.JHollowKey;
 import com.hedera.node.app.service.mono.legacy.core.jproto.JKey;
 import com.hedera.node.app.service.mono.sigs.utils.MiscCryptoUtils;
 import com.hedera.node.app.service.mono.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.node.app.service.mono.txns.span.SpanMap;
 import com.hedera.node.app.service.mono.utils.accessors.TxnAccessor;
 import com.hedera.test.factories.keys.KeyFactory;
 import com.hedera.test.factories.keys.KeyTree;
@@ -50,9 +51,7 @@ import com.hederahashgraph.api.proto.java.SignaturePair;
 import com.swirlds.common.crypto.TransactionSignature;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.apache.tuweni.bytes.Bytes;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.hyperledger.besu.datatypes.Hash;
@@ -66,7 +65,7 @@ class RationalizedSigMetaTest {
     @Mock private EthTxSigs ethTxSigs;
     @Mock private TxnAccessor accessor;
 
-    private final Map<String, Object> spanMap = new HashMap<>();
+    private final SpanMap spanMap = new SpanMap();
 
     private final JKey payerKey = TxnHandlingScenario.MISC_ACCOUNT_KT.asJKeyUnchecked();
     private final List<JKey> othersKeys =
@@ -41,6 +41,7 @@ import com.hedera.node.app.hapi.utils.CommonUtils;
 import com.hedera.node.app.service.mono.context.primitives.StateView;
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.sigs.order.LinkedRefs;
+import com.hedera.node.app.service.mono.txns.span.SpanMap;
 import com.hedera.node.app.service.mono.utils.RationalizedSigMeta;
 import com.hedera.test.utils.IdUtils;
 import com.hedera.test.utils.TxnUtils;
@@ -55,9 +56,7 @@ import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.apache.commons.codec.binary.StringUtils;
 import org.junit.jupiter.api.Test;
 
@@ -75,7 +74,7 @@ class PlatformTxnAccessorTest {
         final var delegate = mock(TxnAccessor.class);
         given(delegate.getSigMap()).willReturn(SignatureMap.getDefaultInstance());
         final var subject = new PlatformTxnAccessor(delegate);
-        final var newMap = Map.of("1", new Object());
+        final var newMap = new SpanMap();
         subject.setRationalizedSpanMap(newMap);
         verify(delegate).setRationalizedSpanMap(newMap);
     }
@@ -97,7 +96,7 @@ class PlatformTxnAccessorTest {
         final PlatformTxnAccessor subject = PlatformTxnAccessor.from(contents);
 
         // expect:
-        assertThat(subject.getSpanMap(), instanceOf(HashMap.class));
+        assertThat(subject.getSpanMap(), instanceOf(SpanMap.class));
     }
 
     @Test
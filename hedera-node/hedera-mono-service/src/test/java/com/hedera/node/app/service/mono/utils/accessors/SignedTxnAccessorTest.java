@@ -59,6 +59,7 @@ import com.hedera.node.app.service.mono.context.properties.GlobalDynamicProperti
 import com.hedera.node.app.service.mono.ledger.accounts.AliasManager;
 import com.hedera.node.app.service.mono.state.submerkle.EntityId;
 import com.hedera.node.app.service.mono.state.submerkle.FcCustomFee;
+import com.hedera.node.app.service.mono.txns.span.SpanMap;
 import com.hedera.node.app.service.mono.utils.EntityNum;
 import com.hedera.node.app.service.mono.utils.RationalizedSigMeta;
 import com.hedera.test.utils.IdUtils;
@@ -306,12 +307,15 @@ class SignedTxnAccessorTest {
     void usesUnmodifiableFormOfRationalizedSpanMap() {
         final var subject = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
 
-        final var newMap = new HashMap<String, Object>();
-        newMap.put("1", new Object());
+        final var newMap = new SpanMap();
         subject.setRationalizedSpanMap(newMap);
 
         final var rationalizedMap = subject.getSpanMap();
-        assertThrows(UnsupportedOperationException.class, () -> rationalizedMap.put("2", 3));
+        assertSame(newMap, rationalizedMap);
+        assertTrue(rationalizedMap.isFrozen());
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> subject.getSpanMapAccessor().setFeeSchedulesGeneration(subject, 2L));
     }
 
     @Test
@@ -40,8 +40,13 @@ import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Provides read-only methods for interacting with the underlying data storage mechanisms for
@@ -126,6 +131,31 @@ public class ReadableAccountStore implements AccountKeyLookup {
         return PRESENT_BUT_NOT_REQUIRED;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resolves any aliases with one batch of alias lookups, and then reads all the accounts with
+     * one batch of account lookups.
+     */
+    @Override
+    public void warm(@NonNull final Collection<AccountID> idsOrAliases) {
+        final List<String> aliasKeys = new ArrayList<>();
+        for (final var idOrAlias : idsOrAliases) {
+            if (isAlias(idOrAlias) && !isMirrorAlias(idOrAlias.getAlias())) {
+                aliasKeys.add(idOrAlias.getAlias().toStringUtf8());
+            }
+        }
+        aliases.warm(aliasKeys);
+        final Set<Long> accountNums = new HashSet<>();
+        for (final var idOrAlias : idsOrAliases) {
+            final var accountNum = getAccountNum(idOrAlias);
+            if (!accountNum.equals(MISSING_NUM)) {
+                accountNums.add(accountNum);
+            }
+        }
+        accountState.warm(accountNums);
+    }
+
     /**
      * Returns the {@link Account} for a given {@link AccountID}
      *
@@ -175,11 +205,8 @@ public class ReadableAccountStore implements AccountKeyLookup {
     private Long getAccountNum(@NonNull final AccountID idOrAlias) {
         if (isAlias(idOrAlias)) {
             final var alias = idOrAlias.getAlias();
-            if (alias.size() == EVM_ADDRESS_SIZE) {
-                final var evmAddress = alias.toByteArray();
-                if (isMirror(evmAddress)) {
-                    return fromMirror(evmAddress);
-                }
+            if (isMirrorAlias(alias)) {
+                return fromMirror(alias.toByteArray());
             }
 
             final var ret = aliases.get(alias.toStringUtf8());
@@ -188,6 +215,10 @@ public class ReadableAccountStore implements AccountKeyLookup {
         return idOrAlias.getAccountNum();
     }
 
+    private static boolean isMirrorAlias(@NonNull final ByteString alias) {
+        return alias.size() == EVM_ADDRESS_SIZE && isMirror(alias.toByteArray());
+    }
+
     /**
      * Returns the contract leaf for the given contract id. If the contract doesn't exist returns
      * {@code Optional.empty()}
@@ -32,8 +32,10 @@ import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.NftTransfer;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * This class contains all workflow-related functionality regarding {@link
@@ -60,6 +62,7 @@ public class CryptoTransferHandler implements TransactionHandler {
             @NonNull final AccountKeyLookup keyLookup,
             @NonNull final ReadableTokenStore tokenStore) {
         final var op = Objects.requireNonNull(txn).getCryptoTransfer();
+        keyLookup.warm(accountsReferencedBy(op));
         final var meta =
                 new SigTransactionMetadataBuilder(keyLookup).payerKeyFor(payer).txnBody(txn);
         for (final var transfers : op.getTokenTransfersList()) {
@@ -88,6 +91,23 @@ public class CryptoTransferHandler implements TransactionHandler {
         throw new UnsupportedOperationException("Not implemented");
     }
 
+    private Set<AccountID> accountsReferencedBy(final CryptoTransferTransactionBody op) {
+        final Set<AccountID> accounts = new LinkedHashSet<>();
+        for (final var accountAmount : op.getTransfers().getAccountAmountsList()) {
+            accounts.add(accountAmount.getAccountID());
+        }
+        for (final var transfers : op.getTokenTransfersList()) {
+            for (final var accountAmount : transfers.getTransfersList()) {
+                accounts.add(accountAmount.getAccountID());
+            }
+            for (final var nftTransfer : transfers.getNftTransfersList()) {
+                accounts.add(nftTransfer.getSenderAccountID());
+                accounts.add(nftTransfer.getReceiverAccountID());
+            }
+        }
+        return accounts;
+    }
+
     private void handleTokenTransfers(
             final List<AccountAmount> transfers,
             final SigTransactionMetadataBuilder meta,
@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
 import com.hedera.node.app.service.mono.legacy.core.jproto.JContractIDKey;
@@ -43,7 +44,9 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.Key;
 import com.swirlds.common.utility.CommonUtils;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.bouncycastle.util.encoders.Hex;
 import org.hyperledger.besu.datatypes.Address;
 import org.junit.jupiter.api.BeforeEach;
@@ -588,4 +591,15 @@ class ReadableAccountStoreTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void warmsAliasesThenAccounts() {
+        final var alias = payerAlias.getAlias().toStringUtf8();
+        given(aliases.get(alias)).willReturn(payerNum);
+
+        subject.warm(List.of(payerAlias, payer, asAccount("0.0.1234")));
+
+        verify(aliases).warm(List.of(alias));
+        verify(accounts).warm(Set.of(payerNum, 1234L));
+    }
 }